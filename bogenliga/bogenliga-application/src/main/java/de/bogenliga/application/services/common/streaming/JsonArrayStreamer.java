@@ -0,0 +1,84 @@
+package de.bogenliga.application.services.common.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * I write a streamed list of data transfer objects as JSON array directly to the response.
+ *
+ * Each element is serialized while it is read from the database, so the response of a full table is written with
+ * constant memory. The JSON is the same as for a returned {@link java.util.List}.
+ */
+@Component
+public class JsonArrayStreamer {
+
+    private final ObjectMapper objectMapper;
+    // the response is flushed by the servlet container, not after every element
+    private final ObjectWriter objectWriter;
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param objectMapper with the JSON configuration of the application
+     */
+    @Autowired
+    public JsonArrayStreamer(final ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+
+    /**
+     * Return a response, which writes all elements of the producer as JSON array.
+     *
+     * The producer is called after the service method returned, when the response is written.
+     *
+     * @param producer passes each element to the given consumer, e.g.
+     *                 {@code consumer -> component.streamAll(element -> consumer.accept(mapper.apply(element)))}
+     * @param <T>      type of the data transfer object
+     *
+     * @return JSON response
+     */
+    public <T> ResponseEntity<StreamingResponseBody> stream(final Consumer<Consumer<T>> producer) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON_UTF8)
+                .body(outputStream -> writeTo(outputStream, producer));
+    }
+
+
+    <T> void writeTo(final OutputStream outputStream, final Consumer<Consumer<T>> producer) throws IOException {
+        final JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        // the response stream is closed by the servlet container
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // after an error the array is not closed, so the client does not accept an incomplete list
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+        try {
+            generator.writeStartArray();
+            producer.accept(element -> {
+                try {
+                    objectWriter.writeValue(generator, element);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            generator.close();
+        }
+    }
+}
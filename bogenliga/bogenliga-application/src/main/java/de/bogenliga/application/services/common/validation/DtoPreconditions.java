@@ -0,0 +1,111 @@
+package de.bogenliga.application.services.common.validation;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import de.bogenliga.application.common.service.types.DataTransferObject;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * I check the ids of a data transfer object before it is saved.
+ *
+ * Each configured getter must return a value and a returned {@link Long} must not be negative. The getters are
+ * resolved once for each data transfer object class and called by generated accessor functions, so a check does not
+ * use reflection.
+ */
+public class DtoPreconditions {
+    private static final Logger LOG = LoggerFactory.getLogger(DtoPreconditions.class);
+
+    private static final MethodType GETTER_FUNCTION = MethodType.methodType(Function.class);
+    private static final MethodType GETTER_SIGNATURE = MethodType.methodType(Object.class, Object.class);
+
+    private final Map<String, String> conditionErrors;
+    private final ClassValue<List<Condition>> conditions = new ClassValue<List<Condition>>() {
+        @Override
+        protected List<Condition> computeValue(final Class<?> type) {
+            return resolveConditions(type);
+        }
+    };
+
+
+    /**
+     * Constructor
+     *
+     * @param conditionErrors getter names of the data transfer objects mapped to the error message of the precondition
+     */
+    public DtoPreconditions(final Map<String, String> conditionErrors) {
+        this.conditionErrors = Collections.unmodifiableMap(new HashMap<>(conditionErrors));
+    }
+
+
+    /**
+     * Check the preconditions of a data transfer object.
+     *
+     * @param dto to check
+     *
+     * @throws de.bogenliga.application.common.errorhandling.exception.BusinessException with the configured error
+     *                                                                                   message, if a getter returns
+     *                                                                                   null or a negative id
+     */
+    public void check(final DataTransferObject dto) {
+        for (Condition condition : conditions.get(dto.getClass())) {
+            final Object value = condition.getter.apply(dto);
+
+            Preconditions.checkNotNull(value, condition.errorMessage);
+            if (value instanceof Long) {
+                Preconditions.checkArgument((Long) value >= 0, condition.errorMessage);
+            }
+        }
+    }
+
+
+    private List<Condition> resolveConditions(final Class<?> type) {
+        final List<Condition> result = new ArrayList<>();
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        for (Method method : type.getDeclaredMethods()) {
+            final String errorMessage = conditionErrors.get(method.getName());
+
+            if (errorMessage != null && method.getParameterCount() == 0) {
+                try {
+                    final MethodHandle getter = lookup.unreflect(method);
+                    final CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", GETTER_FUNCTION,
+                            GETTER_SIGNATURE, getter, getter.type().wrap());
+
+                    @SuppressWarnings("unchecked") final Function<Object, Object> function =
+                            (Function<Object, Object>) callSite.getTarget().invoke();
+                    result.add(new Condition(function, errorMessage));
+
+                } catch (Throwable e) {
+                    LOG.debug("Couldn't check precondition on class {} for method {}", type.getSimpleName(),
+                            method.getName(), e);
+                }
+            }
+        }
+
+        return Collections.unmodifiableList(result);
+    }
+
+
+    private static final class Condition {
+        private final Function<Object, Object> getter;
+        private final String errorMessage;
+
+
+        private Condition(final Function<Object, Object> getter, final String errorMessage) {
+            this.getter = getter;
+            this.errorMessage = errorMessage;
+        }
+    }
+}
@@ -3,28 +3,44 @@ package de.bogenliga.application.services.v1.download;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampfbundle.api.WettkampfBundleComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import de.bogenliga.application.business.bogenkontrollliste.api.BogenkontrolllisteComponent;
+import de.bogenliga.application.business.datenstand.api.DatenstandComponent;
 import de.bogenliga.application.business.meldezettel.api.MeldezettelComponent;
 import de.bogenliga.application.business.schusszettel.api.SchusszettelComponent;
 import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
 import de.bogenliga.application.business.lizenz.api.LizenzComponent;
 import de.bogenliga.application.business.rueckennummern.api.RueckennummernComponent;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.v1.download.model.PdfJobDTO;
 import de.bogenliga.application.services.v1.setzliste.service.SetzlisteService;
 
 
@@ -50,6 +66,10 @@ public class DownloadService implements ServiceFacade {
     private static final Logger LOG = LoggerFactory.getLogger(DownloadService.class);
 
     private static final String PRECONDITION_WETTKAMPFID = "WettkampfID cannot be negative";
+    private static final String PRECONDITION_MANNSCHAFTID = "MannschaftID cannot be negative";
+    private static final String APPLICATION_ZIP_VALUE = "application/zip";
+    private static final String PRECONDITION_JOB_PARAMETER = "Parameter '%s' must be a non-negative number";
+    private static final String PRECONDITION_JOB_PARAMETER_INT = "Parameter '%s' must not exceed " + Integer.MAX_VALUE;
 
     /*
      * Business components
@@ -63,6 +83,12 @@ public class DownloadService implements ServiceFacade {
     private final BogenkontrolllisteComponent bogenkontrolllisteComponent;
     private final RueckennummernComponent rueckennummernComponent;
     private final WettkampfComponent wettkampfComponent;
+    private final DatenstandComponent datenstandComponent;
+    private final WettkampfBundleComponent wettkampfBundleComponent;
+    private final WettkampfDokumentComponent wettkampfDokumentComponent;
+
+    private final PdfCache pdfCache;
+    private final PdfJobQueue pdfJobQueue;
 
 
     /**
@@ -74,7 +100,12 @@ public class DownloadService implements ServiceFacade {
                            final MeldezettelComponent meldezettelComponent,
                            final BogenkontrolllisteComponent bogenkontrolllisteComponent,
                            final RueckennummernComponent rueckennummernComponent,
-                           final WettkampfComponent wettkampfComponent) {
+                           final WettkampfComponent wettkampfComponent,
+                           final DatenstandComponent datenstandComponent,
+                           final WettkampfBundleComponent wettkampfBundleComponent,
+                           final WettkampfDokumentComponent wettkampfDokumentComponent,
+                           final PdfCache pdfCache,
+                           final PdfJobQueue pdfJobQueue) {
         this.lizenzComponent = lizenzComponent;
         this.setzlisteComponent = setzlisteComponent;
         this.schusszettelComponent = schusszettelComponent;
@@ -82,42 +113,53 @@ public class DownloadService implements ServiceFacade {
         this.bogenkontrolllisteComponent = bogenkontrolllisteComponent;
         this.rueckennummernComponent = rueckennummernComponent;
         this.wettkampfComponent = wettkampfComponent;
+        this.datenstandComponent = datenstandComponent;
+        this.wettkampfBundleComponent = wettkampfBundleComponent;
+        this.wettkampfDokumentComponent = wettkampfDokumentComponent;
+        this.pdfCache = pdfCache;
+        this.pdfJobQueue = pdfJobQueue;
     }
   
     /**
      * returns the Setzliste as pdf file for client download
      * <p>
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param ifNoneMatch  from GET-Request: ETag of the cached pdf file of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/setzliste?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @GetMapping(
             path = "pdf/setzliste",
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = false)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadSetzlistePdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadSetzlistePdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                             @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                             final String ifNoneMatch) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
+        // the matches are generated before the Datenstand is read
         SetzlisteService setzlisteService = new SetzlisteService(setzlisteComponent);
         setzlisteService.generateSetzliste(wettkampfid);
 
-        final byte[] fileBloB = setzlisteComponent.getPDFasByteArray(wettkampfid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedStream("setzliste/" + wettkampfid,
+                datenstandComponent.getWettkampfDatenstand(wettkampfid), ifNoneMatch,
+                () -> outputStream -> setzlisteComponent.writePDF(wettkampfid, outputStream));
     }
 
     /**
      * returns the Schusszettel as pdf file for client download
      * <p>
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param ifNoneMatch  from GET-Request: ETag of the cached pdf file of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/schusszettel?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @GetMapping(
@@ -125,12 +167,17 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadSchusszettelPdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadSchusszettelPdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                               final String ifNoneMatch) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        final byte[] fileBloB = schusszettelComponent.getAllSchusszettelPDFasByteArray(wettkampfid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedStream("schusszettel/" + wettkampfid,
+                datenstandComponent.getWettkampfDatenstand(wettkampfid), ifNoneMatch,
+                () -> {
+                    final WettkampfDokumentContextDO context = getContext(wettkampfid);
+                    return outputStream -> schusszettelComponent.writeAllSchusszettelPDF(context, outputStream);
+                });
     }
 
     /**
@@ -158,10 +205,11 @@ public class DownloadService implements ServiceFacade {
      * returns the Meldezettel as pdf file for client download
      * <p>
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param ifNoneMatch  from GET-Request: ETag of the cached pdf file of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/meldezettel?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @GetMapping(
@@ -169,22 +217,28 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadMeldezettelPdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadMeldezettelPdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                              final String ifNoneMatch) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        final byte[] fileBloB = meldezettelComponent.getMeldezettelPDFasByteArray(wettkampfid);
-
-        return generateInputStream(fileBloB);
+        return generateCachedStream("meldezettel/" + wettkampfid,
+                datenstandComponent.getWettkampfDatenstand(wettkampfid), ifNoneMatch,
+                () -> {
+                    final WettkampfDokumentContextDO context = getContext(wettkampfid);
+                    return outputStream -> meldezettelComponent.writeMeldezettelPDF(context, outputStream);
+                });
     }
 
     /**
      * returns the bogenkontrollliste as pdf file for client download
      * <p>
      * @param wettkampfid  from GET-Request: ID for the competition
+     * @param ifNoneMatch  from GET-Request: ETag of the cached pdf file of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/bogenkontrollliste?wettkampfid=x}</pre>
      *
-     * @return PDF as InputStreamResource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @GetMapping(
@@ -192,12 +246,49 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadbogenkontrolllistePdf(@RequestParam("wettkampfid") final long wettkampfid) {
+    ResponseEntity<StreamingResponseBody> downloadbogenkontrolllistePdf(@RequestParam("wettkampfid") final long wettkampfid,
+                                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                                     final String ifNoneMatch) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        final byte[] fileBloB = bogenkontrolllisteComponent.getBogenkontrolllistePDFasByteArray(wettkampfid);
+        return generateCachedStream("bogenkontrollliste/" + wettkampfid,
+                datenstandComponent.getWettkampfDatenstand(wettkampfid), ifNoneMatch,
+                () -> {
+                    final WettkampfDokumentContextDO context = getContext(wettkampfid);
+                    return outputStream -> bogenkontrolllisteComponent.writeBogenkontrolllistePDF(context, outputStream);
+                });
+    }
+
 
-        return generateInputStream(fileBloB);
+    /**
+     * returns the Setzliste, Schusszettel, Meldezettel and Bogenkontrollliste of the competition and the
+     * Rueckennummern and Lizenzen of each mannschaft as zip file for client download
+     * <p>
+     * @param wettkampfid  from GET-Request: ID for the competition
+     * Usage:
+     * <pre>{@code Request: GET /v1/download/zip/wettkampf?wettkampfid=x}</pre>
+     *
+     * @return ZIP as StreamingResponseBody
+     */
+    @CrossOrigin(maxAge = 0)
+    @GetMapping(
+            path = "zip/wettkampf",
+            produces = APPLICATION_ZIP_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = false)
+    public @ResponseBody
+    ResponseEntity<StreamingResponseBody> downloadWettkampfZip(@RequestParam("wettkampfid") final long wettkampfid) {
+        Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
+
+        // the matches are generated and committed before the documents are generated
+        SetzlisteService setzlisteService = new SetzlisteService(setzlisteComponent);
+        setzlisteService.generateSetzliste(wettkampfid);
+        final WettkampfDokumentContextDO context = getContext(wettkampfid);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"wettkampf-" + wettkampfid + ".zip\"")
+                .contentType(MediaType.parseMediaType(APPLICATION_ZIP_VALUE))
+                .body(outputStream -> wettkampfBundleComponent.writeWettkampfBundle(context, outputStream));
     }
 
 
@@ -208,7 +299,7 @@ public class DownloadService implements ServiceFacade {
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/rueckennummern?mannschaftid=x}</pre>
      *
-     * @return pdf as InputStreamRessource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @GetMapping(
@@ -216,12 +307,11 @@ public class DownloadService implements ServiceFacade {
                     produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadRueckennummernPdf(@RequestParam("mannschaftid") final long mannschaftid) {
-
-
-        final byte[] fileBloB = rueckennummernComponent.getMannschaftsRueckennummernPDFasByteArray(mannschaftid);
+    ResponseEntity<StreamingResponseBody> downloadRueckennummernPdf(@RequestParam("mannschaftid") final long mannschaftid) {
+        Preconditions.checkArgument(mannschaftid >= 0, PRECONDITION_MANNSCHAFTID);
 
-        return generateInputStream(fileBloB);
+        return generateStream(
+                outputStream -> rueckennummernComponent.writeMannschaftsRueckennummernPDF(mannschaftid, outputStream));
     }
 
 
@@ -268,6 +358,108 @@ public class DownloadService implements ServiceFacade {
             throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "PDF download failed", e);
         }
     }
+
+    /**
+     * streams the pdf file to the client while it is generated
+     *
+     * @param pdfWriter to generate the pdf file into the output stream of the response
+     *
+     * @return PDF as StreamingResponseBody
+     */
+    private static ResponseEntity<StreamingResponseBody> generateStream(final Consumer<OutputStream> pdfWriter) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .body(pdfWriter::accept);
+    }
+
+    /**
+     * returns the pdf file from the cache or streams it to the client while it is generated, if the Datenstand
+     * of the pdf file has changed
+     *
+     * @param key          type and ids of the pdf file
+     * @param datenstand   fingerprint of the data of the pdf file
+     * @param ifNoneMatch  ETag of the cached pdf file of the client
+     * @param pdfWriter    to load and check the data on the request thread, before the response is committed;
+     *                     returns the writer, which generates the pdf file into the output stream of the response
+     *
+     * @return PDF as StreamingResponseBody; NOT_MODIFIED without PDF, if the client has the current pdf file
+     */
+    private ResponseEntity<StreamingResponseBody> generateCachedStream(final String key, final String datenstand,
+                                                                       final String ifNoneMatch,
+                                                                       final Supplier<Consumer<OutputStream>> pdfWriter) {
+        final String eTag = pdfCache.getETag(key, datenstand);
+
+        if (isNotModified(ifNoneMatch, eTag)) {
+            LOG.debug("PDF {} not modified", key);
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_PDF);
+
+        final byte[] cachedPdf = pdfCache.get(key, datenstand);
+        if (cachedPdf != null) {
+            return response.contentLength(cachedPdf.length)
+                    .body(outputStream -> outputStream.write(cachedPdf));
+        }
+
+        // errors of the data are reported with their status, the body is written after the status is sent
+        final Consumer<OutputStream> checkedPdfWriter = pdfWriter.get();
+
+        // the length of a generated pdf file is unknown until it is written completely
+        return response.body(outputStream -> pdfCache.write(key, datenstand, outputStream, checkedPdfWriter));
+    }
+
+
+    /**
+     * loads the data of the Wettkampf documents on the request thread
+     *
+     * @param wettkampfid ID of the competition
+     *
+     * @return data of the competition
+     *
+     * @throws BusinessException if the matches of the competition are not generated yet
+     */
+    private WettkampfDokumentContextDO getContext(final long wettkampfid) {
+        final WettkampfDokumentContextDO context = wettkampfDokumentComponent.getContext(wettkampfid);
+
+        if (context.getMatches().isEmpty()) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Matches für den Wettkampf noch nicht erzeugt");
+        }
+        return context;
+    }
+
+
+    /**
+     * @param ifNoneMatch list of ETags from the If-None-Match header
+     * @param eTag current ETag of the pdf file
+     *
+     * @return true, if the client has the current pdf file
+     */
+    private static boolean isNotModified(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+
+        for (String clientETag : ifNoneMatch.split(",")) {
+            clientETag = clientETag.trim();
+            // weak comparison, see RFC 7232 section 3.2
+            if (clientETag.startsWith("W/")) {
+                clientETag = clientETag.substring(2);
+            }
+            if ("*".equals(clientETag) || eTag.equals(clientETag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
     @CrossOrigin(maxAge = 0)
     @GetMapping(
             path = "pdf/schuetzenlizenz/{dsbMitgliedId}/{teamId}",
@@ -286,10 +478,11 @@ public class DownloadService implements ServiceFacade {
      * return the Lizenzen of a mannschaft as pdf file for client download
      *
      * @param mannschaftid from GET-request: ID of the mannschaft
+     * @param ifNoneMatch from GET-Request: ETag of the cached pdf file of the client
      * Usage:
      * <pre>{@code Request: GET /v1/download/pdf/lizenzen/?mannschaftid=x}</pre>
      *
-     * @return pdf as InputStreamRessource
+     * @return PDF as StreamingResponseBody
      */
     @CrossOrigin(maxAge = 0)
     @GetMapping(
@@ -297,12 +490,14 @@ public class DownloadService implements ServiceFacade {
             produces = MediaType.APPLICATION_PDF_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
     public @ResponseBody
-    ResponseEntity<InputStreamResource> downloadLizenzenPdf(@RequestParam("mannschaftid") final long mannschaftid) {
-
-
-        final byte[] fileBloB = lizenzComponent.getMannschaftsLizenzenPDFasByteArray(mannschaftid);
-
-        return generateInputStream(fileBloB);
+    ResponseEntity<StreamingResponseBody> downloadLizenzenPdf(@RequestParam("mannschaftid") final long mannschaftid,
+                                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                            final String ifNoneMatch) {
+        Preconditions.checkArgument(mannschaftid >= 0, PRECONDITION_MANNSCHAFTID);
+
+        return generateCachedStream("lizenzen/" + mannschaftid,
+                datenstandComponent.getMannschaftDatenstand(mannschaftid), ifNoneMatch,
+                () -> outputStream -> lizenzComponent.writeMannschaftsLizenzenPDF(mannschaftid, outputStream));
     }
 
     /**
@@ -375,4 +570,164 @@ public class DownloadService implements ServiceFacade {
         return generateInputStream(fileBloB);
     }
 
+
+    /**
+     * queues the generation of a pdf file, the pdf file is generated in the background and can be downloaded,
+     * as soon as the job is done. The request only queues the job, the queries of the job run on its worker.
+     *
+     * @param type   of the pdf file, e.g. "Gesamtstatistik"
+     * @param params from POST-Request: the request parameters of the download of the pdf file
+     * Usage:
+     * <pre>{@code Request: POST /v1/download/jobs/Gesamtstatistik?veranstaltungsid=x&manschaftsid=y&jahr=z}</pre>
+     *
+     * @return status of the queued job
+     */
+    @CrossOrigin(maxAge = 0)
+    @PostMapping(
+            path = "jobs/{type}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PdfJobDTO submitPdfJob(@PathVariable("type") final String type,
+                                  @RequestParam final Map<String, String> params) {
+        // the parameters are checked before the job is queued
+        return pdfJobQueue.submit(type, getPdfWriter(type, params));
+    }
+
+
+    /**
+     * returns the status of a pdf job
+     * Usage:
+     * <pre>{@code Request: GET /v1/download/jobs/{jobId}}</pre>
+     *
+     * @return status of the job
+     */
+    @CrossOrigin(maxAge = 0)
+    @GetMapping(
+            path = "jobs/{jobId}",
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PdfJobDTO getPdfJob(@PathVariable("jobId") final String jobId) {
+        return pdfJobQueue.get(jobId);
+    }
+
+
+    /**
+     * returns the pdf file of a finished pdf job for client download
+     * Usage:
+     * <pre>{@code Request: GET /v1/download/jobs/{jobId}/pdf}</pre>
+     *
+     * @return PDF as StreamingResponseBody
+     */
+    @CrossOrigin(maxAge = 0)
+    @GetMapping(
+            path = "jobs/{jobId}/pdf",
+            produces = MediaType.APPLICATION_PDF_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public @ResponseBody
+    ResponseEntity<StreamingResponseBody> downloadPdfJob(@PathVariable("jobId") final String jobId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_PDF)
+                .contentLength(pdfJobQueue.getSize(jobId))
+                .body(outputStream -> pdfJobQueue.write(jobId, outputStream));
+    }
+
+
+    /**
+     * The pdf writer of a job runs outside of the unit of work of the request, so the data access objects
+     * acquire a connection for each query.
+     *
+     * @param type   of the pdf file
+     * @param params of the download of the pdf file
+     *
+     * @return pdf writer of the job
+     */
+    private Consumer<OutputStream> getPdfWriter(final String type, final Map<String, String> params) {
+        switch (type) {
+            case "setzliste": {
+                final long wettkampfid = getJobParameter(params, "wettkampfid");
+                return outputStream -> {
+                    new SetzlisteService(setzlisteComponent).generateSetzliste(wettkampfid);
+                    setzlisteComponent.writePDF(wettkampfid, outputStream);
+                };
+            }
+            case "schusszettel": {
+                final long wettkampfid = getJobParameter(params, "wettkampfid");
+                return outputStream -> schusszettelComponent.writeAllSchusszettelPDF(wettkampfid, outputStream);
+            }
+            case "schusszettel_matches": {
+                final long matchId1 = getJobParameter(params, "matchId1");
+                final long matchId2 = getJobParameter(params, "matchId2");
+                return outputStream -> writeBytes(
+                        schusszettelComponent.getFilledSchusszettelPDFasByteArray(matchId1, matchId2), outputStream);
+            }
+            case "meldezettel": {
+                final long wettkampfid = getJobParameter(params, "wettkampfid");
+                return outputStream -> meldezettelComponent.writeMeldezettelPDF(wettkampfid, outputStream);
+            }
+            case "bogenkontrollliste": {
+                final long wettkampfid = getJobParameter(params, "wettkampfid");
+                return outputStream -> bogenkontrolllisteComponent.writeBogenkontrolllistePDF(wettkampfid,
+                        outputStream);
+            }
+            case "rueckennummern": {
+                final long mannschaftid = getJobParameter(params, "mannschaftid");
+                return outputStream -> rueckennummernComponent.writeMannschaftsRueckennummernPDF(mannschaftid,
+                        outputStream);
+            }
+            case "rueckennummer": {
+                final long mannschaftid = getJobParameter(params, "mannschaftid");
+                final long dsbmitgliedid = getJobParameter(params, "dsbmitgliedid");
+                return outputStream -> writeBytes(
+                        rueckennummernComponent.getRueckennummerPDFasByteArray(mannschaftid, dsbmitgliedid),
+                        outputStream);
+            }
+            case "lizenzen": {
+                final long mannschaftid = getJobParameter(params, "mannschaftid");
+                return outputStream -> lizenzComponent.writeMannschaftsLizenzenPDF(mannschaftid, outputStream);
+            }
+            case "Einzelstatistik":
+            case "Gesamtstatistik": {
+                final long veranstaltungsid = getJobParameter(params, "veranstaltungsid");
+                final long manschaftsid = getJobParameter(params, "manschaftsid");
+                final int jahr = getIntJobParameter(params, "jahr");
+                return outputStream -> writeBytes(
+                        wettkampfComponent.getPDFasByteArray(type, veranstaltungsid, manschaftsid, jahr),
+                        outputStream);
+            }
+            case "Uebersicht": {
+                final long veranstaltungsid = getJobParameter(params, "veranstaltungsid");
+                final long wettkampftag = getJobParameter(params, "wettkampftag");
+                return outputStream -> writeBytes(
+                        wettkampfComponent.getUebersichtPDFasByteArray(veranstaltungsid, wettkampftag),
+                        outputStream);
+            }
+            default:
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
+                        String.format("Unknown PDF job type '%s'", type));
+        }
+    }
+
+
+    private static long getJobParameter(final Map<String, String> params, final String name) {
+        final String value = params.get(name);
+        Preconditions.checkArgument(value != null && value.matches("\\d{1,18}"),
+                String.format(PRECONDITION_JOB_PARAMETER, name));
+        return Long.parseLong(value);
+    }
+
+
+    private static int getIntJobParameter(final Map<String, String> params, final String name) {
+        final long value = getJobParameter(params, name);
+        Preconditions.checkArgument(value <= Integer.MAX_VALUE, String.format(PRECONDITION_JOB_PARAMETER_INT, name));
+        return (int) value;
+    }
+
+
+    private static void writeBytes(final byte[] fileBloB, final OutputStream outputStream) {
+        try {
+            outputStream.write(fileBloB);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,241 @@
+package de.bogenliga.application.services.v1.download;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.PdfCacheConfiguration;
+
+/**
+ * I keep the recently downloaded PDF documents in memory.
+ *
+ * A document is identified by its type and ids, e.g. "schusszettel/12", and is reused as long as the
+ * Datenstand (fingerprint of the data of the document) is unchanged. The documents are kept in a
+ * {@link ReferenceDataCache} without time to live, which removes the least recently used documents if the maximum
+ * number of documents or bytes is exceeded.
+ *
+ * The entity tag of a document also contains the version of the build, so a client does not keep a document rendered
+ * by a previous release.
+ *
+ * Documents are streamed to the client while they are generated. Only documents up to the maximum document size
+ * are buffered for the cache, so the memory per download is bounded regardless of the document size.
+ */
+@Component
+public class PdfCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PdfCache.class);
+
+    private static final String CACHE_NAME = "pdf";
+    private static final String DEFAULT_VERSION = "dev";
+
+    private final String version;
+    private final int maxDocumentBytes;
+    private final ReferenceDataCache<String, CachedPdf> documents;
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param pdfCacheConfiguration     with the size limits of the cache and the version of the documents
+     * @param referenceDataCacheManager to create the cache of the documents
+     * @param buildProperties           with the version and time of the build, if the build info is available
+     */
+    @Autowired
+    public PdfCache(final PdfCacheConfiguration pdfCacheConfiguration,
+                    final ReferenceDataCacheManager referenceDataCacheManager,
+                    final ObjectProvider<BuildProperties> buildProperties) {
+        this(pdfCacheConfiguration, referenceDataCacheManager, buildProperties.getIfAvailable());
+    }
+
+
+    /**
+     * Package-private constructor with all dependencies
+     *
+     * @param pdfCacheConfiguration     with the size limits of the cache and the version of the documents
+     * @param referenceDataCacheManager to create the cache of the documents
+     * @param buildProperties           with the version and time of the build or null, if the build info is missing
+     */
+    PdfCache(final PdfCacheConfiguration pdfCacheConfiguration,
+             final ReferenceDataCacheManager referenceDataCacheManager, final BuildProperties buildProperties) {
+        this.version = getVersion(pdfCacheConfiguration.getVersion(), buildProperties);
+        this.maxDocumentBytes = pdfCacheConfiguration.getMaxDocumentBytes();
+        this.documents = referenceDataCacheManager.getCache(CACHE_NAME, pdfCacheConfiguration.getMaxEntries(),
+                pdfCacheConfiguration.getMaxBytes(), Long.MAX_VALUE, (CachedPdf cachedPdf) -> cachedPdf.pdf.length);
+    }
+
+
+    /**
+     * The entity tag of a document changes with its Datenstand and with the version of the build, so a client can
+     * revalidate its copy without downloading the document again.
+     *
+     * @param key        type and ids of the document
+     * @param datenstand fingerprint of the data of the document
+     *
+     * @return quoted entity tag for the ETag header
+     */
+    public String getETag(final String key, final String datenstand) {
+        return "\"" + key.replace('/', '-') + "-" + datenstand + "-" + version + "\"";
+    }
+
+
+    /**
+     * Return the cached document, if the Datenstand of the document is unchanged.
+     *
+     * @param key        type and ids of the document
+     * @param datenstand fingerprint of the data of the document
+     *
+     * @return PDF document or null, if the document has to be generated
+     */
+    public byte[] get(final String key, final String datenstand) {
+        final CachedPdf cachedPdf = documents.getIfPresent(key);
+
+        if (cachedPdf != null && cachedPdf.datenstand.equals(datenstand)) {
+            LOG.debug("PDF {} with Datenstand {} from cache", key, datenstand);
+            return cachedPdf.pdf;
+        }
+        return null;
+    }
+
+
+    /**
+     * Write the cached document or generate it, if the document is unknown or its Datenstand has changed.
+     * <p>
+     * A generated document is written to the output stream while it is generated and is only cached, if it does
+     * not exceed the maximum document size.
+     * <p>
+     * The Datenstand has to be read before the document is generated. A document generated from newer data is
+     * regenerated with the next request, but a document is never served for a newer Datenstand.
+     *
+     * @param key          type and ids of the document
+     * @param datenstand   fingerprint of the data of the document
+     * @param outputStream for the document, not closed after writing
+     * @param pdfWriter    to generate the document into the given output stream
+     *
+     * @throws IOException if the document cannot be written to the output stream
+     */
+    public void write(final String key, final String datenstand, final OutputStream outputStream,
+                      final Consumer<OutputStream> pdfWriter) throws IOException {
+        final byte[] cachedPdf = get(key, datenstand);
+
+        if (cachedPdf != null) {
+            outputStream.write(cachedPdf);
+            return;
+        }
+
+        // generated outside of the cache, concurrent downloads of other documents are not blocked
+        final CachingOutputStream cachingOutputStream = new CachingOutputStream(outputStream, maxDocumentBytes);
+        pdfWriter.accept(cachingOutputStream);
+        cachingOutputStream.flush();
+
+        final byte[] pdf = cachingOutputStream.toByteArray();
+        if (pdf == null) {
+            LOG.debug("PDF {} exceeds the maximum document size of {} bytes", key, maxDocumentBytes);
+        } else if (!documents.put(key, new CachedPdf(datenstand, pdf))) {
+            LOG.debug("PDF {} with {} bytes exceeds the cache size", key, pdf.length);
+        }
+    }
+
+
+    /**
+     * A configured version is used, e.g. to invalidate the documents of the clients without a new build. Otherwise
+     * every build changes the version, because the rendering of the documents may have changed.
+     *
+     * @return version for the entity tags, which contains only characters allowed in an entity tag
+     */
+    private static String getVersion(final String configuredVersion, final BuildProperties buildProperties) {
+        final String version;
+
+        if (configuredVersion != null && !configuredVersion.isEmpty()) {
+            version = configuredVersion;
+        } else if (buildProperties != null && buildProperties.getTime() != null) {
+            version = buildProperties.getVersion() + "-" + buildProperties.getTime().toEpochMilli();
+        } else {
+            version = DEFAULT_VERSION;
+        }
+        return version.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+
+    /**
+     * generated document with the Datenstand of its data
+     */
+    private static final class CachedPdf {
+        private final String datenstand;
+        private final byte[] pdf;
+
+
+        private CachedPdf(final String datenstand, final byte[] pdf) {
+            this.datenstand = datenstand;
+            this.pdf = pdf;
+        }
+    }
+
+
+    /**
+     * writes to the output stream of the client and keeps a copy of the document up to the maximum document size
+     */
+    private static final class CachingOutputStream extends FilterOutputStream {
+        private final int maxDocumentBytes;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+
+        private CachingOutputStream(final OutputStream outputStream, final int maxDocumentBytes) {
+            super(outputStream);
+            this.maxDocumentBytes = maxDocumentBytes;
+        }
+
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            copy(new byte[]{(byte) b}, 0, 1);
+        }
+
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            copy(b, off, len);
+        }
+
+
+        /**
+         * the output stream of the client is closed by the caller
+         */
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+
+        /**
+         * @return the written document or null, if the document exceeds the maximum document size
+         */
+        private byte[] toByteArray() {
+            return copy == null ? null : copy.toByteArray();
+        }
+
+
+        private void copy(final byte[] b, final int off, final int len) {
+            if (copy == null) {
+                return;
+            }
+
+            if (copy.size() + len > maxDocumentBytes) {
+                // the copy is dropped, the document is still written to the client
+                copy = null;
+            } else {
+                copy.write(b, off, len);
+            }
+        }
+    }
+}
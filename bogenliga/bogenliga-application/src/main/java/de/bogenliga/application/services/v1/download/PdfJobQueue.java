@@ -0,0 +1,305 @@
+package de.bogenliga.application.services.v1.download;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.configuration.PdfJobConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.services.v1.download.model.PdfJobDTO;
+
+/**
+ * I generate heavy PDF documents asynchronously.
+ *
+ * A job is executed by one of the configured workers, so neither a request thread nor a database connection is held
+ * while the document is generated. The data access objects called by a worker are not part of a unit of work and
+ * acquire a connection of the primary database for each query. The finished document is stored as file in the configured directory.
+ *
+ * If all workers are busy and the queue is full, further jobs are rejected. Finished jobs and their files are deleted
+ * after the configured time to live. The expired jobs are removed with the next submitted or requested job.
+ */
+@Component
+public class PdfJobQueue {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PdfJobQueue.class);
+
+    private static final String PDF_SUFFIX = ".pdf";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final long timeToLive;
+    private final Path directory;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, PdfJob> jobs = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param pdfJobConfiguration with the number of workers, the queue capacity, the time to live and the directory
+     */
+    @Autowired
+    public PdfJobQueue(final PdfJobConfiguration pdfJobConfiguration) {
+        this.timeToLive = pdfJobConfiguration.getTimeToLive();
+        this.directory = Paths.get(pdfJobConfiguration.getDirectory());
+        this.executor = new ThreadPoolExecutor(pdfJobConfiguration.getWorkers(), pdfJobConfiguration.getWorkers(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(pdfJobConfiguration.getQueueCapacity()),
+                new WorkerThreadFactory());
+
+        deleteFilesOfPreviousRun();
+    }
+
+
+    /**
+     * Queue a job to generate a document.
+     *
+     * @param type      of the document, e.g. "Gesamtstatistik"
+     * @param pdfWriter to generate the document into the given output stream
+     *
+     * @return status of the queued job
+     *
+     * @throws BusinessException if all workers are busy and the queue is full
+     */
+    public PdfJobDTO submit(final String type, final Consumer<OutputStream> pdfWriter) {
+        removeExpiredJobs();
+
+        final PdfJob job = new PdfJob(UUID.randomUUID().toString(), type);
+        jobs.put(job.id, job);
+
+        try {
+            executor.execute(() -> run(job, pdfWriter));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new BusinessException(ErrorCode.ENTITY_CONFLICT_ERROR,
+                    "Too many PDF jobs, please try again later", e);
+        }
+
+        LOG.debug("PDF job {} for {} queued", job.id, type);
+        return job.toDTO();
+    }
+
+
+    /**
+     * Return the status of a job.
+     *
+     * @param jobId of the job
+     *
+     * @return status of the job
+     *
+     * @throws BusinessException if the job is unknown or expired
+     */
+    public PdfJobDTO get(final String jobId) {
+        return getJob(jobId).toDTO();
+    }
+
+
+    /**
+     * Write the document of a finished job.
+     *
+     * @param jobId        of the job
+     * @param outputStream for the document, not closed after writing
+     *
+     * @throws BusinessException if the job is unknown, expired or not finished successfully
+     * @throws IOException       if the document cannot be written to the output stream
+     */
+    public void write(final String jobId, final OutputStream outputStream) throws IOException {
+        Files.copy(getFile(jobId), outputStream);
+    }
+
+
+    /**
+     * Return the size of the document of a finished job.
+     *
+     * @param jobId of the job
+     *
+     * @return size in bytes
+     *
+     * @throws BusinessException if the job is unknown, expired or not finished successfully
+     */
+    public long getSize(final String jobId) {
+        try {
+            return Files.size(getFile(jobId));
+        } catch (IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "PDF job " + jobId + " has no document", e);
+        }
+    }
+
+
+    /**
+     * Stop the workers on shutdown
+     */
+    @PreDestroy
+    public void close() {
+        LOG.info("Stop PDF job workers.");
+        executor.shutdownNow();
+    }
+
+
+    /**
+     * Delete the finished jobs and their documents after the time to live.
+     */
+    void removeExpiredJobs() {
+        final long now = System.currentTimeMillis();
+
+        for (Iterator<PdfJob> iterator = jobs.values().iterator(); iterator.hasNext(); ) {
+            final PdfJob job = iterator.next();
+            final Long finishedAt = job.finishedAt;
+
+            if (finishedAt != null && now - finishedAt > timeToLive) {
+                iterator.remove();
+                deleteFile(getPath(job.id, PDF_SUFFIX));
+                LOG.debug("PDF job {} expired", job.id);
+            }
+        }
+    }
+
+
+    private PdfJob getJob(final String jobId) {
+        removeExpiredJobs();
+
+        final PdfJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                    String.format("No PDF job found with ID '%s'", jobId));
+        }
+        return job;
+    }
+
+
+    private Path getFile(final String jobId) {
+        final PdfJob job = getJob(jobId);
+
+        if (job.status != Status.DONE) {
+            throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
+                    String.format("PDF job '%s' is %s", jobId, job.status));
+        }
+        return getPath(job.id, PDF_SUFFIX);
+    }
+
+
+    private void run(final PdfJob job, final Consumer<OutputStream> pdfWriter) {
+        job.status = Status.RUNNING;
+        final Path tmpFile = getPath(job.id, TMP_SUFFIX);
+
+        try {
+            Files.createDirectories(directory);
+
+            try (OutputStream outputStream = Files.newOutputStream(tmpFile)) {
+                pdfWriter.accept(outputStream);
+            }
+            // the document can be downloaded, as soon as it is written completely
+            Files.move(tmpFile, getPath(job.id, PDF_SUFFIX), StandardCopyOption.REPLACE_EXISTING);
+            job.finish(Status.DONE, null);
+            LOG.debug("PDF job {} for {} done", job.id, job.type);
+
+        } catch (IOException | RuntimeException e) {
+            deleteFile(tmpFile);
+            job.finish(Status.FAILED, e.getMessage());
+            LOG.warn("PDF job {} for {} failed", job.id, job.type, e);
+
+        } catch (Error e) {
+            // e.g. an OutOfMemoryError of a large document, the job must not stay running
+            deleteFile(tmpFile);
+            job.finish(Status.FAILED, e.toString());
+            LOG.error("PDF job {} for {} failed", job.id, job.type, e);
+            throw e;
+        }
+    }
+
+
+    private Path getPath(final String jobId, final String suffix) {
+        return directory.resolve(jobId + suffix);
+    }
+
+
+    private void deleteFilesOfPreviousRun() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        // the jobs are only kept in memory, the files of a previous run cannot be downloaded anymore
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*{" + PDF_SUFFIX + "," + TMP_SUFFIX + "}")) {
+            files.forEach(PdfJobQueue::deleteFile);
+        } catch (IOException e) {
+            LOG.warn("Couldn't delete the PDF job files in {}", directory, e);
+        }
+    }
+
+
+    private static void deleteFile(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LOG.warn("Couldn't delete the PDF job file {}", file, e);
+        }
+    }
+
+
+    private enum Status {
+        QUEUED, RUNNING, DONE, FAILED
+    }
+
+
+    /**
+     * state of a job, which is changed by its worker
+     */
+    private static final class PdfJob {
+        private final String id;
+        private final String type;
+        private volatile Status status = Status.QUEUED;
+        private volatile String errorMessage;
+        private volatile Long finishedAt;
+
+
+        private PdfJob(final String id, final String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+
+        private void finish(final Status status, final String errorMessage) {
+            this.errorMessage = errorMessage;
+            this.status = status;
+            this.finishedAt = System.currentTimeMillis();
+        }
+
+
+        private PdfJobDTO toDTO() {
+            return new PdfJobDTO(id, type, status.name(), finishedAt, errorMessage);
+        }
+    }
+
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "pdf-job-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package de.bogenliga.application.services.v1.download.model;
+
+import de.bogenliga.application.common.service.types.DataTransferObject;
+
+/**
+ * I'm the data transfer object of an asynchronous PDF job.
+ * <p>
+ * I define the payload for the status requests of a job. The document of the job can be downloaded, as soon as the
+ * status is {@code DONE}.
+ */
+public class PdfJobDTO implements DataTransferObject {
+    private static final long serialVersionUID = -4182645330169272519L;
+
+    private final String id;
+    private final String type;
+    private final String status;
+    private final Long finishedAt;
+    private final String errorMessage;
+
+
+    /**
+     * Constructor
+     *
+     * @param id           of the job
+     * @param type         of the document, e.g. "Gesamtstatistik"
+     * @param status       QUEUED, RUNNING, DONE or FAILED
+     * @param finishedAt   time in ms, when the job was finished, null while the job is not finished
+     * @param errorMessage of a failed job
+     */
+    public PdfJobDTO(final String id, final String type, final String status, final Long finishedAt,
+                     final String errorMessage) {
+        this.id = id;
+        this.type = type;
+        this.status = status;
+        this.finishedAt = finishedAt;
+        this.errorMessage = errorMessage;
+    }
+
+
+    public String getId() {
+        return id;
+    }
+
+
+    public String getType() {
+        return type;
+    }
+
+
+    public String getStatus() {
+        return status;
+    }
+
+
+    public Long getFinishedAt() {
+        return finishedAt;
+    }
+
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.*;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.common.service.ServiceFacade;
+import de.bogenliga.application.common.service.types.PageDTO;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
 import de.bogenliga.application.services.v1.dsbmannschaft.mapper.DsbMannschaftDTOMapper;
@@ -22,6 +23,7 @@ import de.bogenliga.application.springconfiguration.security.permissions.Require
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 
 /**
  *
@@ -105,6 +107,27 @@ public class DsbMannschaftService implements ServiceFacade {
     }
 
 
+    /**
+     * I return one page of dsbmannschaften in the order of the id.
+     *
+     * Usage:
+     * <pre>{@code Request: GET /v1/dsbmannschaft/page?cursor=1234&limit=100}</pre>
+     * The first page is requested without cursor, the next page with the nextCursor of the previous page.
+     *
+     * @param cursor nextCursor of the previous page
+     * @param limit  maximum number of dsbmannschaften on the page
+     *
+     * @return page of {@link DsbMannschaftDTO} as JSON
+     */
+    @GetMapping(value = "page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PageDTO<DsbMannschaftDTO> getPage(
+            @RequestParam(value = "cursor", required = false) final Long cursor,
+            @RequestParam(value = "limit", defaultValue = PageDTO.DEFAULT_LIMIT) final int limit) {
+        return PageDTO.of(dsbMannschaftComponent.getPage(cursor, limit), DsbMannschaftDTOMapper.toDTO);
+    }
+
+
     /**
      * I return the dsbMannschaft entries of the database with the given vereinsId.
      *
@@ -241,6 +264,7 @@ public class DsbMannschaftService implements ServiceFacade {
     @GetMapping(value = "byLastVeranstaltungsID/{lastVeranstaltungsId}/{currentVeranstaltungsId}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresOnePermissions(perm = {UserPermission.CAN_CREATE_MANNSCHAFT,UserPermission.CAN_MODIFY_MY_VEREIN})
+    @UnitOfWork(readOnly = false)
     public void copyMannschaftFromVeranstaltung(@PathVariable("lastVeranstaltungsId") final long lastVeranstaltungsId,
                                               @PathVariable("currentVeranstaltungsId") final long currentVeranstaltungsId,
                                               final Principal principal) {
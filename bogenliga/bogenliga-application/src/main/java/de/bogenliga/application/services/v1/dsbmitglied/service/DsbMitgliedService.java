@@ -9,18 +9,23 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.common.service.ServiceFacade;
+import de.bogenliga.application.common.service.types.PageDTO;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.streaming.JsonArrayStreamer;
 import de.bogenliga.application.services.v1.dsbmitglied.mapper.DsbMitgliedDTOMapper;
 import de.bogenliga.application.services.v1.dsbmitglied.model.DsbMitgliedDTO;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissionAspect;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 
 /**
  * I´m a REST resource and handle dsbMitglied CRUD requests over the HTTP protocol.
@@ -62,18 +67,22 @@ public class DsbMitgliedService implements ServiceFacade {
      */
     private final DsbMitgliedComponent dsbMitgliedComponent;
     private final RequiresOnePermissionAspect requiresOnePermissionAspect;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
 
     /**
      * Constructor with dependency injection
      *
      * @param dsbMitgliedComponent to handle the database CRUD requests
+     * @param jsonArrayStreamer    to write all dsbmitglieder without loading them into the memory
      */
     @Autowired
     public DsbMitgliedService(final DsbMitgliedComponent dsbMitgliedComponent,
-                              final RequiresOnePermissionAspect requiresOnePermissionAspect) {
+                              final RequiresOnePermissionAspect requiresOnePermissionAspect,
+                              final JsonArrayStreamer jsonArrayStreamer) {
         this.dsbMitgliedComponent = dsbMitgliedComponent;
         this.requiresOnePermissionAspect = requiresOnePermissionAspect;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
 
@@ -100,9 +109,31 @@ public class DsbMitgliedService implements ServiceFacade {
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DSBMITGLIEDER)
-    public List<DsbMitgliedDTO> findAll() {
-        final List<DsbMitgliedDO> dsbMitgliedDOList = dsbMitgliedComponent.findAll();
-        return dsbMitgliedDOList.stream().map(DsbMitgliedDTOMapper.toDTO).collect(Collectors.toList());
+    public ResponseEntity<StreamingResponseBody> findAll() {
+        // the dsbmitglieder are written while they are read from the database
+        return jsonArrayStreamer.<DsbMitgliedDTO>stream(consumer -> dsbMitgliedComponent.streamAll(
+                dsbMitgliedDO -> consumer.accept(DsbMitgliedDTOMapper.toDTO.apply(dsbMitgliedDO))));
+    }
+
+
+    /**
+     * I return one page of dsbmitglieder in the order of the id.
+     *
+     * Usage:
+     * <pre>{@code Request: GET /v1/dsbmitglied/page?cursor=1234&limit=100}</pre>
+     * The first page is requested without cursor, the next page with the nextCursor of the previous page.
+     *
+     * @param cursor nextCursor of the previous page
+     * @param limit  maximum number of dsbmitglieder on the page
+     *
+     * @return page of {@link DsbMitgliedDTO} as JSON
+     */
+    @GetMapping(value = "page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DSBMITGLIEDER)
+    public PageDTO<DsbMitgliedDTO> getPage(
+            @RequestParam(value = "cursor", required = false) final Long cursor,
+            @RequestParam(value = "limit", defaultValue = PageDTO.DEFAULT_LIMIT) final int limit) {
+        return PageDTO.of(dsbMitgliedComponent.getPage(cursor, limit), DsbMitgliedDTOMapper.toDTO);
     }
 
 
@@ -176,6 +207,7 @@ public class DsbMitgliedService implements ServiceFacade {
      */
     @GetMapping(value = "/{id}/{dsbuserid}", produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_MODIFY_STAMMDATEN)
+    @UnitOfWork(readOnly = false)
     public DsbMitgliedDTO insertUserId(@PathVariable("id") final long id, @PathVariable("dsbuserid") final long dsbuserid, final Principal principal) {
         Preconditions.checkArgument(id > 0, PRECONDITION_MSG_ID_NEGATIVE);
         final long userId = UserProvider.getCurrentUserId(principal);
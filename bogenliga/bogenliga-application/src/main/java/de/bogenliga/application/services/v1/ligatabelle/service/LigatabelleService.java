@@ -9,6 +9,7 @@ import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.validation.Preconditions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -55,6 +56,7 @@ public class LigatabelleService implements ServiceFacade {
             value = "veranstaltung={id}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = true)
     public List<LigatabelleDTO> getLigatabelleVeranstaltung(@PathVariable("id") final long id) {
 
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_VERANSTALTUNG_ID);
@@ -74,6 +76,7 @@ public class LigatabelleService implements ServiceFacade {
             value = "wettkampf={id}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = true)
     public List<LigatabelleDTO> getLigatabelleWettkampf(@PathVariable("id") final long id) {
 
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_WETTKAMPF_ID);
@@ -8,13 +8,16 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.common.service.ServiceFacade;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.streaming.JsonArrayStreamer;
 import de.bogenliga.application.services.v1.mannschaftsmitglied.mapper.MannschaftsMitgliedDTOMapper;
 import de.bogenliga.application.services.v1.mannschaftsmitglied.model.MannschaftsMitgliedDTO;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
@@ -46,24 +49,29 @@ public class MannschaftsMitgliedService implements ServiceFacade {
     private final MannschaftsmitgliedComponent mannschaftsMitgliedComponent;
     private final DsbMannschaftComponent dsbMannschaftComponent;
     private final RequiresOnePermissionAspect requiresOnePermissionAspect;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
 
     @Autowired
     public MannschaftsMitgliedService(MannschaftsmitgliedComponent mannschaftsMitgliedComponent,
                                       DsbMannschaftComponent dsbMannschaftComponent,
-                                      final RequiresOnePermissionAspect requiresOnePermissionAspect) {
+                                      final RequiresOnePermissionAspect requiresOnePermissionAspect,
+                                      final JsonArrayStreamer jsonArrayStreamer) {
         this.mannschaftsMitgliedComponent = mannschaftsMitgliedComponent;
 
         this.dsbMannschaftComponent = dsbMannschaftComponent;
         this.requiresOnePermissionAspect = requiresOnePermissionAspect;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
 
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
-    public List<MannschaftsMitgliedDTO> findAll() {
-        final List<MannschaftsmitgliedDO> mannschaftmitgliedDOList = mannschaftsMitgliedComponent.findAll();
-        return mannschaftmitgliedDOList.stream().map(MannschaftsMitgliedDTOMapper.toDTO).collect(Collectors.toList());
+    public ResponseEntity<StreamingResponseBody> findAll() {
+        // the mannschaftsmitglieder are written while they are read from the database
+        return jsonArrayStreamer.<MannschaftsMitgliedDTO>stream(consumer -> mannschaftsMitgliedComponent.streamAll(
+                mannschaftsmitgliedDO -> consumer.accept(
+                        MannschaftsMitgliedDTOMapper.toDTO.apply(mannschaftsmitgliedDO))));
     }
 
 
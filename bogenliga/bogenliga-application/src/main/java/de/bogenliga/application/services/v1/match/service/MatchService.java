@@ -1,14 +1,14 @@
 package de.bogenliga.application.services.v1.match.service;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.naming.NoPermissionException;
@@ -38,10 +38,15 @@ import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampftyp.api.WettkampfTypComponent;
 import de.bogenliga.application.business.wettkampftyp.api.types.WettkampfTypDO;
+import de.bogenliga.application.common.cache.BatchLoader;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.service.ServiceFacade;
+import de.bogenliga.application.common.service.types.PageDTO;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.service.types.DataTransferObject;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.validation.DtoPreconditions;
 import de.bogenliga.application.services.v1.match.mapper.MatchDTOMapper;
 import de.bogenliga.application.services.v1.match.model.MatchDTO;
 import de.bogenliga.application.services.v1.passe.mapper.PasseDTOMapper;
@@ -70,8 +75,8 @@ public class MatchService implements ServiceFacade {
     private static final String ERR_SIZE_TEMPLATE = "MatchService: %s: %s must have a size of %d.";
 
     // a simple map mapping DTO's methods to related error messages
-    // used in checkPreconditions
-    static final Map<String, String> matchConditionErrors = new HashMap<>();
+    // used in checkPreconditions by the DtoPreconditions
+    private static final Map<String, String> matchConditionErrors = new HashMap<>();
 
     static {
         matchConditionErrors.put("getBegegnung", MatchComponentImpl.PRECONDITION_MSG_BEGEGNUNG);
@@ -81,7 +86,7 @@ public class MatchService implements ServiceFacade {
         matchConditionErrors.put("getNr", MatchComponentImpl.PRECONDITION_MSG_MATCH_NR);
     }
 
-    public static final Map<String, String> passeConditionErrors = new HashMap<>();
+    private static final Map<String, String> passeConditionErrors = new HashMap<>();
 
     static {
         passeConditionErrors.put("getLfdNr", PasseComponentImpl.PRECONDITION_MSG_LFD_NR);
@@ -90,6 +95,10 @@ public class MatchService implements ServiceFacade {
         passeConditionErrors.put("getMatchNr", PasseComponentImpl.PRECONDITION_MSG_MATCH_NR);
     }
 
+    // the getters of each DTO class are resolved only once for all save requests
+    static final DtoPreconditions matchPreconditions = new DtoPreconditions(matchConditionErrors);
+    public static final DtoPreconditions passePreconditions = new DtoPreconditions(passeConditionErrors);
+
     private static final String SERVICE_FIND_BY_ID = "findById";
     private static final String SERVICE_FIND_MATCHES_BY_IDS = "findMatchesByIds";
     private static final String SERVICE_FIND_BY_MANNSCHAFT_ID = "findByMannschaftId";
@@ -152,6 +161,27 @@ public class MatchService implements ServiceFacade {
         return matchDOList.stream().map(MatchDTOMapper.toDTO).collect(Collectors.toList());
     }
 
+
+    /**
+     * I return one page of matches in the order of the id.
+     *
+     * Usage:
+     * <pre>{@code Request: GET /v1/match/page?cursor=1234&limit=100}</pre>
+     * The first page is requested without cursor, the next page with the nextCursor of the previous page.
+     *
+     * @param cursor nextCursor of the previous page
+     * @param limit  maximum number of matches on the page
+     *
+     * @return page of {@link MatchDTO} as JSON
+     */
+    @GetMapping(value = "page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PageDTO<MatchDTO> getPage(
+            @RequestParam(value = "cursor", required = false) final Long cursor,
+            @RequestParam(value = "limit", defaultValue = PageDTO.DEFAULT_LIMIT) final int limit) {
+        return PageDTO.of(matchComponent.getPage(cursor, limit), MatchDTOMapper.toDTO);
+    }
+
     /**
      * Finds matche by the given match id
      * @param matchId id des Matches, das gelsenden werden soll
@@ -198,10 +228,26 @@ public class MatchService implements ServiceFacade {
 
             final List<MatchDTO> matchDTOs = new ArrayList<>();
 
+            // load the mannschaften and vereine of all matches with one query each
+            final Map<Long, DsbMannschaftDO> mannschaften =
+                    new BatchLoader<>(mannschaftComponent::findByIds, DsbMannschaftDO::getId)
+                            .getAll(wettkampfMatches.stream().map(MatchDO::getMannschaftId).collect(Collectors.toList()));
+            final Map<Long, VereinDO> vereine =
+                    new BatchLoader<>(vereinComponent::findByIds, VereinDO::getId)
+                            .getAll(mannschaften.values().stream().map(DsbMannschaftDO::getVereinId).collect(Collectors.toList()));
+
             for( MatchDO einmatch: wettkampfMatches) {
                 MatchDTO matchDTO = MatchDTOMapper.toDTO.apply(einmatch);
-                DsbMannschaftDO mannschaftDO = mannschaftComponent.findById(matchDTO.getMannschaftId());
-                VereinDO vereinDO = vereinComponent.findById(mannschaftDO.getVereinId());
+                DsbMannschaftDO mannschaftDO = mannschaften.get(matchDTO.getMannschaftId());
+                if (mannschaftDO == null) {
+                    throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                            String.format("No result found for mannschaft with id '%s'", matchDTO.getMannschaftId()));
+                }
+                VereinDO vereinDO = vereine.get(mannschaftDO.getVereinId());
+                if (vereinDO == null) {
+                    throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                            String.format("No result found for verein with id '%s'", mannschaftDO.getVereinId()));
+                }
                 matchDTO.setMannschaftName(vereinDO.getName() + '-' + mannschaftDO.getNummer());
                 matchDTOs.add(matchDTO);
             }
@@ -232,8 +278,8 @@ public class MatchService implements ServiceFacade {
         MatchDTO matchDTO1 = getMatchFromId(matchId1, true);
         MatchDTO matchDTO2 = getMatchFromId(matchId2, true);
 
-        checkPreconditions(matchDTO1, matchConditionErrors);
-        checkPreconditions(matchDTO2, matchConditionErrors);
+        checkPreconditions(matchDTO1, matchPreconditions);
+        checkPreconditions(matchDTO2, matchPreconditions);
 
         List<MatchDTO> matches = new ArrayList<>();
         matches.add(matchDTO1);
@@ -327,8 +373,8 @@ public class MatchService implements ServiceFacade {
         MatchDTO matchDTO1 = matchDTOs.get(0);
         MatchDTO matchDTO2 = matchDTOs.get(1);
 
-        checkPreconditions(matchDTO1, matchConditionErrors);
-        checkPreconditions(matchDTO2, matchConditionErrors);
+        checkPreconditions(matchDTO1, matchPreconditions);
+        checkPreconditions(matchDTO2, matchPreconditions);
 
         // make sure the matches are from the same wettkampf, begegnung and have the same number.
         // checkout the Setzliste example for more information
@@ -342,19 +388,25 @@ public class MatchService implements ServiceFacade {
         this.log(matchDTO1, SERVICE_SAVE_MATCHES);
         this.log(matchDTO2, SERVICE_SAVE_MATCHES);
 
-        saveMatch(matchDTO1, userId);
-        saveMatch(matchDTO2, userId);
+        // the passen of both matches are written with one batch
+        final List<PasseDO> passeDOList = new ArrayList<>();
+        final Set<Long> eingesetzteMitgliedIds = new HashSet<>();
+        passeDOList.addAll(saveMatch(matchDTO1, userId, eingesetzteMitgliedIds));
+        passeDOList.addAll(saveMatch(matchDTO2, userId, eingesetzteMitgliedIds));
+        passeComponent.saveAll(passeDOList, userId);
 
         return matchDTOs;
     }
 
 
     /**
-     * Save a single match, also creates/updates related passe objects.
+     * Save a single match and prepare the related passe objects.
      * @param matchDTO das einzelne Match, dass zu speichen ist
      * @param userId des ändernden Users
+     * @param eingesetzteMitgliedIds DsbMitgliedIds, deren Einsatz bereits gezählt wurde
+     * @return die zu erstellenden bzw. zu aktualisierenden Passen
      */
-    private void saveMatch(MatchDTO matchDTO, Long userId) {
+    private List<PasseDO> saveMatch(MatchDTO matchDTO, Long userId, Set<Long> eingesetzteMitgliedIds) {
 
         MatchDO matchDO = MatchDTOMapper.toDO.apply(matchDTO);
         matchComponent.update(matchDO, userId);
@@ -365,42 +417,57 @@ public class MatchService implements ServiceFacade {
         for (MannschaftsmitgliedDO mmdo : mannschaftsmitgliedDOS) {
             LOG.debug("Schütze: {} mit dsbMitgliedId {}", mmdo.getId(), mmdo.getDsbMitgliedId());
         }
-
         Preconditions.checkArgument(mannschaftsmitgliedDOS.size() >= 3,
                 String.format(ERR_SIZE_TEMPLATE, SERVICE_SAVE_MATCHES, "mannschaftsmitgliedDOS", 3));
 
+        // one query for the existing passen of the match instead of one query per passe
+        final Set<Long> existingPasseIds = findExistingPasseIds(matchDO.getId(), matchDTO.getPassen());
+
+        List<PasseDO> passeDOList = new ArrayList<>();
         for (PasseDTO passeDTO : matchDTO.getPassen()) {
-            createOrUpdatePasse(passeDTO, userId, mannschaftsmitgliedDOS);
+            PasseDO passeDO = createOrUpdatePasse(passeDTO, userId, mannschaftsmitgliedDOS, existingPasseIds,
+                    eingesetzteMitgliedIds);
+            if (passeDO != null) {
+                passeDOList.add(passeDO);
+            }
         }
+        return passeDOList;
     }
 
 
     /**
      * Checks whether the given passe object already exists.
-     * If so, just update it, if not, create it.
+     * If so, it is returned for the update, if not, it is returned without id for the creation.
      * @param passeDTO die Passe die zu aktualiseren ist
      * @param userId ändernder User
      * @param mannschaftsmitgliedDOS Liste der Mannschaftsmitglieder
+     * @param existingPasseIds Ids der bereits gespeicherten Passen
+     * @param eingesetzteMitgliedIds DsbMitgliedIds, deren Einsatz bereits gezählt wurde
+     * @return die zu speichernde Passe oder null, wenn eine neue Passe nicht vollständig ist
      */
-    private void createOrUpdatePasse(PasseDTO passeDTO, Long userId,
-                                     List<MannschaftsmitgliedDO> mannschaftsmitgliedDOS){
+    private PasseDO createOrUpdatePasse(PasseDTO passeDTO, Long userId,
+                                        List<MannschaftsmitgliedDO> mannschaftsmitgliedDOS,
+                                        Set<Long> existingPasseIds, Set<Long> eingesetzteMitgliedIds){
 
-        checkPreconditions(passeDTO, passeConditionErrors);
+        checkPreconditions(passeDTO, passePreconditions);
         passeDTO.setDsbMitgliedId(getMemberIdFor(passeDTO, mannschaftsmitgliedDOS));
         Preconditions.checkArgument(passeDTO.getDsbMitgliedId() != null,
                 String.format(ERR_NOT_NULL_TEMPLATE, "createOrUpdatePasse", "dsbMitgliedId"));
 
         PasseDO passeDO = PasseDTOMapper.toDO.apply(passeDTO);
-        if (passeExists(passeDO)) {
-            passeComponent.update(passeDO, userId);
-        } else {
-            LOG.debug("Trying to create passe");
-            // erst prüfen ob alle relevanten Parameter befüllt sind pk-passe!!
-            if(passeDO.getPasseDsbMitgliedId()!=null &&
-                    passeDO.getPasseMannschaftId()!= null &&
-                    passeDO.getPasseWettkampfId()!= null&&
-                    passeDO.getPasseMatchNr() !=null &&
-                    passeDO.getPasseLfdnr() !=null) {
+        if (passeDO.getId() != null && existingPasseIds.contains(passeDO.getId())) {
+            return passeDO;
+        }
+
+        LOG.debug("Trying to create passe");
+        // erst prüfen ob alle relevanten Parameter befüllt sind pk-passe!!
+        if(passeDO.getPasseDsbMitgliedId()!=null &&
+                passeDO.getPasseMannschaftId()!= null &&
+                passeDO.getPasseWettkampfId()!= null&&
+                passeDO.getPasseMatchNr() !=null &&
+                passeDO.getPasseLfdnr() !=null) {
+            // the new passen are saved together at the end, so each mitglied is only counted once per request
+            if(eingesetzteMitgliedIds.add(passeDO.getPasseDsbMitgliedId())) {
                 List<PasseDO> passen=passeComponent.findByWettkampfIdAndMitgliedId(passeDO.getPasseWettkampfId(),passeDO.getPasseDsbMitgliedId());
                 if(passen.isEmpty()){
                     MannschaftsmitgliedDO mitglied=mannschaftsmitgliedComponent.findByMemberAndTeamId(passeDO.getPasseMannschaftId(),passeDO.getPasseDsbMitgliedId());
@@ -409,10 +476,11 @@ public class MatchService implements ServiceFacade {
 
                     mannschaftsmitgliedComponent.update(mitglied,userId);
                 }
-                passeComponent.create(passeDO, userId);
             }
+            passeDO.setId(null);
+            return passeDO;
         }
-
+        return null;
     }
 
 
@@ -618,7 +686,7 @@ public class MatchService implements ServiceFacade {
         }
         Preconditions.checkNotNull(principal,
                 String.format(ERR_NOT_NULL_TEMPLATE, SERVICE_UPDATE, CHECKED_PARAM_PRINCIPAL));
-        checkPreconditions(matchDTO, matchConditionErrors);
+        checkPreconditions(matchDTO, matchPreconditions);
 
         this.log(matchDTO, SERVICE_UPDATE);
 
@@ -693,7 +761,7 @@ public class MatchService implements ServiceFacade {
         }
         Preconditions.checkNotNull(principal,
                 String.format(ERR_NOT_NULL_TEMPLATE, SERVICE_CREATE, CHECKED_PARAM_PRINCIPAL));
-        checkPreconditions(matchDTO, matchConditionErrors);
+        checkPreconditions(matchDTO, matchPreconditions);
 
         this.log(matchDTO, SERVICE_CREATE);
 
@@ -734,28 +802,9 @@ public class MatchService implements ServiceFacade {
      *
      * @param dto daten die übergeben und geprüft werden
      */
-    public static void checkPreconditions(final DataTransferObject dto, final Map<String, String> conditionErrors) {
+    public static void checkPreconditions(final DataTransferObject dto, final DtoPreconditions preconditions) {
         Preconditions.checkNotNull(dto, String.format(ERR_NOT_NULL_TEMPLATE, "checkPreconditions", "matchDTO"));
-        Method[] methods = dto.getClass().getDeclaredMethods();
-        for (Method m : methods) {
-            String methodName = m.getName();
-            if (methodName.startsWith("get")) {
-                String errMsg = conditionErrors.get(methodName);
-                if (errMsg != null) {
-                    try {
-                        Object returnValue = m.invoke(dto);
-                        Preconditions.checkNotNull(returnValue, errMsg);
-                        Preconditions.checkArgument(((Long) returnValue) >= 0, errMsg);
-                    } catch (IllegalAccessException | InvocationTargetException | ClassCastException e) {
-                        LOG.debug(
-                                "Couldn't check precondition on object {} for method {}",
-                                dto.getClass().getSimpleName(),
-                                methodName
-                        );
-                    }
-                }
-            }
-        }
+        preconditions.check(dto);
     }
 
 
@@ -826,14 +875,32 @@ public class MatchService implements ServiceFacade {
     }
 
 
-    private boolean passeExists(PasseDO passeDO) {
-        boolean exists = false;
-        if (passeDO.getId() != null) { // Is passeDO id already null
-            // If no, check if it actually exists in DB
-            PasseDO queriedPasseDO = passeComponent.findById(passeDO.getId());
-            exists = queriedPasseDO != null;
+    /**
+     * Ermittelt, welche der übergebenen Passen bereits gespeichert sind.
+     * Die Passen des Matches werden mit einer Abfrage geladen. Ids, die nicht zum Match gehören,
+     * werden wie bisher einzeln über die Id geprüft.
+     * @param matchId Id des Matches
+     * @param passeDTOs die zu speichernden Passen
+     * @return Ids der bereits gespeicherten Passen
+     */
+    private Set<Long> findExistingPasseIds(Long matchId, List<PasseDTO> passeDTOs) {
+        final Set<Long> passeIds = passeDTOs.stream()
+                .filter(passeDTO -> passeDTO != null && passeDTO.getId() != null)
+                .map(PasseDTO::getId)
+                .collect(Collectors.toSet());
+        if (passeIds.isEmpty()) { // new passen only, nothing to check in DB
+            return Collections.emptySet();
+        }
+
+        final Set<Long> existingPasseIds = passeComponent.findByMatchId(matchId).stream()
+                .map(PasseDO::getId)
+                .collect(Collectors.toSet());
+        for (Long passeId : passeIds) {
+            if (!existingPasseIds.contains(passeId) && passeComponent.findById(passeId) != null) {
+                existingPasseIds.add(passeId);
+            }
         }
-        return exists;
+        return existingPasseIds;
     }
 
 
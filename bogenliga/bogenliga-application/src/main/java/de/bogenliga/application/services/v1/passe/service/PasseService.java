@@ -7,14 +7,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.passe.api.PasseComponent;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
 import de.bogenliga.application.common.service.ServiceFacade;
+import de.bogenliga.application.common.service.types.PageDTO;
 import de.bogenliga.application.common.service.UserProvider;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.services.common.streaming.JsonArrayStreamer;
 import de.bogenliga.application.services.v1.match.service.MatchService;
 import de.bogenliga.application.services.v1.passe.mapper.PasseDTOMapper;
 import de.bogenliga.application.services.v1.passe.model.PasseDTO;
@@ -36,28 +40,53 @@ public class PasseService implements ServiceFacade {
 
     private final PasseComponent passeComponent;
     private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
+    private final JsonArrayStreamer jsonArrayStreamer;
 
 
     /**
      * Constructor with dependency injection
      *
-     * @param passeComponent to handle the database CRUD requests
+     * @param passeComponent    to handle the database CRUD requests
+     * @param jsonArrayStreamer to write all passen without loading them into the memory
      */
     @Autowired
     public PasseService(final PasseComponent passeComponent,
-                        final MannschaftsmitgliedComponent mannschaftsmitgliedComponent) {
+                        final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
+                        final JsonArrayStreamer jsonArrayStreamer) {
         this.passeComponent = passeComponent;
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
+        this.jsonArrayStreamer = jsonArrayStreamer;
     }
 
 
     @GetMapping(value = "",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
-    public List<PasseDTO> findAll(){
-        final List<PasseDO> passeDOList = passeComponent.findAll();
+    public ResponseEntity<StreamingResponseBody> findAll(){
+        // the passen are written while they are read from the database
+        return jsonArrayStreamer.<PasseDTO>stream(consumer -> passeComponent.streamAll(
+                passeDO -> consumer.accept(PasseDTOMapper.toDTO.apply(passeDO))));
+    }
 
-        return passeDOList.stream().map(PasseDTOMapper.toDTO).collect(Collectors.toList());
+
+    /**
+     * I return one page of passen in the order of the id.
+     *
+     * Usage:
+     * <pre>{@code Request: GET /v1/passen/page?cursor=1234&limit=100}</pre>
+     * The first page is requested without cursor, the next page with the nextCursor of the previous page.
+     *
+     * @param cursor nextCursor of the previous page
+     * @param limit  maximum number of passen on the page
+     *
+     * @return page of {@link PasseDTO} as JSON
+     */
+    @GetMapping(value = "page", produces = MediaType.APPLICATION_JSON_VALUE)
+    @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    public PageDTO<PasseDTO> getPage(
+            @RequestParam(value = "cursor", required = false) final Long cursor,
+            @RequestParam(value = "limit", defaultValue = PageDTO.DEFAULT_LIMIT) final int limit) {
+        return PageDTO.of(passeComponent.getPage(cursor, limit), PasseDTOMapper.toDTO);
     }
 
 
@@ -98,7 +127,7 @@ public class PasseService implements ServiceFacade {
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_MODIFY_WETTKAMPF)
     public PasseDTO create(@RequestBody final PasseDTO passeDTO, final Principal principal) {
-        MatchService.checkPreconditions(passeDTO, MatchService.passeConditionErrors);
+        MatchService.checkPreconditions(passeDTO, MatchService.passePreconditions);
 
         List<MannschaftsmitgliedDO> mannschaftsmitgliedDOS =
                 mannschaftsmitgliedComponent.findAllSchuetzeInTeamEingesetzt(passeDTO.getMannschaftId());
@@ -116,7 +145,7 @@ public class PasseService implements ServiceFacade {
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_MODIFY_WETTKAMPF)
     public PasseDTO update(@RequestBody final PasseDTO passeDTO, final Principal principal) {
-        MatchService.checkPreconditions(passeDTO, MatchService.passeConditionErrors);
+        MatchService.checkPreconditions(passeDTO, MatchService.passePreconditions);
 
         final long userId = UserProvider.getCurrentUserId(principal);
         PasseDO passeDO = passeComponent.update(PasseDTOMapper.toDO.apply(passeDTO), userId);
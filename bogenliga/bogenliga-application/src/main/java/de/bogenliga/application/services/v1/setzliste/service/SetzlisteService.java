@@ -12,6 +12,7 @@ import de.bogenliga.application.services.v1.match.mapper.MatchDTOMapper;
 import de.bogenliga.application.services.v1.match.model.MatchDTO;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 
 /**
  * This is a rest resource that generates the matches.
@@ -57,6 +58,7 @@ public class SetzlisteService implements ServiceFacade {
     @CrossOrigin(maxAge = 0)
     @GetMapping(path = "/generate")
     @RequiresOnePermissions(perm = {UserPermission.CAN_READ_WETTKAMPF, UserPermission.CAN_READ_MY_VERANSTALTUNG})
+    @UnitOfWork(readOnly = false)
     public @ResponseBody
     List<MatchDTO> generateSetzliste(@RequestParam("wettkampfid") final long wettkampfid) {
         Preconditions.checkArgument(wettkampfid > 0, "wettkampfid needs to be higher than 0");
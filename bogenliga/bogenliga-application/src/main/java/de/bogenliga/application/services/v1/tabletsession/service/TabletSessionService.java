@@ -18,6 +18,7 @@ import de.bogenliga.application.services.v1.tabletsession.mapper.TabletSessionDT
 import de.bogenliga.application.services.v1.tabletsession.model.TabletSessionDTO;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 
 /**
  * @author Kay Scheerer
@@ -71,6 +72,7 @@ public class TabletSessionService implements ServiceFacade {
     @GetMapping(value = "/{wettkampfId}",
             produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_WETTKAMPF)
+    @UnitOfWork(readOnly = false)
     public List<TabletSessionDTO> findByWettkampfId(@PathVariable("wettkampfId") Long wettkampfId,
                                                     final Principal principal) {
         final long userId = UserProvider.getCurrentUserId(principal);
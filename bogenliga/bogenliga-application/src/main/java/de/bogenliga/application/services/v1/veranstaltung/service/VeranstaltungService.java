@@ -23,6 +23,7 @@ import de.bogenliga.application.springconfiguration.security.permissions.Require
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresOnePermissions;
 import de.bogenliga.application.springconfiguration.security.permissions.RequiresPermission;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import de.bogenliga.application.springconfiguration.transaction.UnitOfWork;
 
 
 
@@ -69,6 +70,7 @@ public class VeranstaltungService implements ServiceFacade {
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = true)
     public List<VeranstaltungDTO> findAll(){
 
 
@@ -99,6 +101,7 @@ public class VeranstaltungService implements ServiceFacade {
      */
     @GetMapping(value = "findByLigaID/{ligaID}", produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = true)
     public List<VeranstaltungDTO> findByLigaId(@PathVariable ("ligaID") final long ligaID){
         Preconditions.checkArgument(ligaID >= 0 , "ID must not be negative");
 
@@ -114,6 +117,7 @@ public class VeranstaltungService implements ServiceFacade {
      */
     @GetMapping(value = "destinct/sportjahr", produces = MediaType.APPLICATION_JSON_VALUE)
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = true)
     public List<SportjahrDTO> findAllSportjahrDestinct(){
 
         List<SportjahrDO> returnList= veranstaltungComponent.findAllSportjahreDestinct();
@@ -129,6 +133,7 @@ public class VeranstaltungService implements ServiceFacade {
      */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE, value = "find/by/year/{sportjahr}")
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = true)
     public List<VeranstaltungDTO> findBySportjahr(@PathVariable ("sportjahr") final long sportjahr){
 
 
@@ -147,6 +152,7 @@ public class VeranstaltungService implements ServiceFacade {
             produces = MediaType.APPLICATION_JSON_VALUE,
             value = "find/by/sorted/{sportjahr}")
     @RequiresPermission(UserPermission.CAN_READ_DEFAULT)
+    @UnitOfWork(readOnly = true)
     public List<VeranstaltungDTO> findBySportjahrDestinct(@PathVariable ("sportjahr") final long sportjahr){
 
         List <VeranstaltungDO> returnList = veranstaltungComponent.findBySportjahrDestinct(sportjahr);
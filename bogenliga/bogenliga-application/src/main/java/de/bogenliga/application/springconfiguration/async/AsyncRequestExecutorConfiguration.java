@@ -0,0 +1,57 @@
+package de.bogenliga.application.springconfiguration.async;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import de.bogenliga.application.common.configuration.AsyncRequestConfiguration;
+
+/**
+ * I configure the threads, which write the asynchronous responses, e.g. the streamed PDF downloads.
+ *
+ * Without an executor Spring MVC starts a new thread for each streamed response. The pool is bounded by
+ * "async.request.threads" and "async.request.queueCapacity", further responses are rejected.
+ * The time to write a response is limited by "spring.mvc.async.request-timeout".
+ */
+@Configuration
+public class AsyncRequestExecutorConfiguration implements WebMvcConfigurer {
+
+    private static final String THREAD_NAME_PREFIX = "async-request-";
+
+    private final AsyncRequestConfiguration asyncRequestConfiguration;
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param asyncRequestConfiguration with the number of threads and the queue capacity
+     */
+    @Autowired
+    public AsyncRequestExecutorConfiguration(final AsyncRequestConfiguration asyncRequestConfiguration) {
+        this.asyncRequestConfiguration = asyncRequestConfiguration;
+    }
+
+
+    /**
+     * The executor is a bean, so it is initialized and shut down with the application context.
+     *
+     * @return bounded executor of the asynchronous responses
+     */
+    @Bean
+    public ThreadPoolTaskExecutor asyncRequestExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncRequestConfiguration.getThreads());
+        executor.setMaxPoolSize(asyncRequestConfiguration.getThreads());
+        executor.setQueueCapacity(asyncRequestConfiguration.getQueueCapacity());
+        executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+        return executor;
+    }
+
+
+    @Override
+    public void configureAsyncSupport(final AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(asyncRequestExecutor());
+    }
+}
@@ -0,0 +1,136 @@
+package de.bogenliga.application.springconfiguration.metrics;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import com.zaxxer.hikari.HikariDataSource;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.component.dao.QueryMonitor;
+import de.bogenliga.application.common.database.tx.PostgresqlTransactionManager;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * I register the application specific metrics at the actuator meter registry.
+ *
+ * The metrics are available at the management endpoint {@code /actuator/metrics}.
+ *
+ * @see <a href="https://docs.spring.io/spring-boot/docs/2.0.x/reference/html/production-ready-metrics.html">
+ * Spring Boot Metrics</a>
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetricsConfiguration.class);
+
+
+    /**
+     * Export the connection pool metrics, e.g. "hikaricp.connections.active", "hikaricp.connections.idle" and
+     * "hikaricp.connections.acquire" (wait time for a connection) of the primary database and the read-only replica
+     *
+     * @param transactionManager with the pooled data source, not available without database profile
+     *
+     * @return binder for the connection pool metrics
+     */
+    @Bean
+    public MeterBinder databasePoolMetrics(final ObjectProvider<PostgresqlTransactionManager> transactionManager) {
+        return registry -> {
+            PostgresqlTransactionManager postgresqlTransactionManager = transactionManager.getIfAvailable();
+
+            if (postgresqlTransactionManager == null) {
+                return;
+            }
+
+            // the pools are distinguished by the tag "pool"
+            for (DataSource dataSource : Arrays.asList(postgresqlTransactionManager.getDataSource(),
+                    postgresqlTransactionManager.getReplicaDataSource())) {
+                if (dataSource instanceof HikariDataSource
+                        && ((HikariDataSource) dataSource).getMetricRegistry() == null) {
+                    ((HikariDataSource) dataSource).setMetricRegistry(registry);
+                    LOG.info("Connection pool metrics of {} registered.",
+                            ((HikariDataSource) dataSource).getPoolName());
+                }
+            }
+        };
+    }
+
+
+    /**
+     * Export the hits, misses and size of the reference data caches, e.g. "cache.gets" with the tags
+     * "cache=liga" and "result=hit"
+     *
+     * @param referenceDataCacheManager with the caches of the business components
+     *
+     * @return binder for the cache metrics
+     */
+    @Bean
+    public MeterBinder referenceDataCacheMetrics(final ReferenceDataCacheManager referenceDataCacheManager) {
+        return registry -> referenceDataCacheManager.forEachCache(cache -> {
+            FunctionCounter.builder("cache.gets", cache, ReferenceDataCache::getHitCount)
+                    .tag("cache", cache.getName())
+                    .tag("result", "hit")
+                    .description("lookups answered from the cache")
+                    .register(registry);
+            FunctionCounter.builder("cache.gets", cache, ReferenceDataCache::getMissCount)
+                    .tag("cache", cache.getName())
+                    .tag("result", "miss")
+                    .description("lookups loaded from the database")
+                    .register(registry);
+            Gauge.builder("cache.size", cache, ReferenceDataCache::size)
+                    .tag("cache", cache.getName())
+                    .description("number of cached entities")
+                    .register(registry);
+        });
+    }
+
+
+    /**
+     * Export the duration and the row count of the queries of the data access objects as histograms, e.g.
+     * "dao.query" and "dao.query.rows" with the tags "table=mannschaft" and "operation=select"
+     *
+     * The meters are registered once per table and operation, so the number of histograms does not grow with dynamic
+     * queries, e.g. inserts of different columns. A single slow query is identified by the query id in the log of
+     * the slow queries. The listener is called for every query.
+     *
+     * @param queryMonitor which measures the queries of the data access objects
+     *
+     * @return binder for the query metrics
+     */
+    @Bean
+    public MeterBinder queryMetrics(final QueryMonitor queryMonitor) {
+        return registry -> {
+            final Map<String, Timer> timers = new ConcurrentHashMap<>();
+            final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+            queryMonitor.addListener((table, operation, duration, rows) -> {
+                final String meterKey = table + "/" + operation;
+
+                timers.computeIfAbsent(meterKey, key -> Timer.builder("dao.query")
+                        .tag("table", table)
+                        .tag("operation", operation)
+                        .description("duration of the query")
+                        .publishPercentileHistogram()
+                        .register(registry))
+                        .record(duration, TimeUnit.NANOSECONDS);
+                summaries.computeIfAbsent(meterKey, key -> DistributionSummary.builder("dao.query.rows")
+                        .tag("table", table)
+                        .tag("operation", operation)
+                        .description("number of selected or modified rows")
+                        .publishPercentileHistogram()
+                        .register(registry))
+                        .record(rows);
+            });
+        };
+    }
+}
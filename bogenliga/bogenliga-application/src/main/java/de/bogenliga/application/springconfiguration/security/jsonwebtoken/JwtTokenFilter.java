@@ -40,17 +40,21 @@ public class JwtTokenFilter extends GenericFilterBean {
         if (!request.getMethod().equals("OPTIONS")) {
 
             final String token = JwtTokenProvider.resolveToken((HttpServletRequest) req);
+            final JwtUserClaims claims = token != null ? jwtTokenProvider.verifyToken(token) : null;
 
-            if (token != null && jwtTokenProvider.validateToken(token)) {
+            if (claims != null) {
                 // TODO check reverted tokens, e.g. user changed password -> database request required ...
 
-                final Authentication auth = jwtTokenProvider.getAuthentication(token);
+                // the permission checks and services of this request read the verified claims
+                request.setAttribute(JwtTokenProvider.CLAIMS_ATTRIBUTE, claims);
+
+                final Authentication auth = jwtTokenProvider.getAuthentication(claims);
                 // authenticate against Spring Security
                 SecurityContextHolder.getContext().setAuthentication(auth);
 
                 // auto refresh expiration time of the token
                 // increment refresh counter
-                final String refreshedToken = jwtTokenProvider.refreshToken(token);
+                final String refreshedToken = jwtTokenProvider.refreshToken(token, claims);
                 ((HttpServletResponse) res).addHeader("Authorization", "Bearer " + refreshedToken);
             }
         } else {
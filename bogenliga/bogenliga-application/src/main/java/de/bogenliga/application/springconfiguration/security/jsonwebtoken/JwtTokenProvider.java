@@ -15,9 +15,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.annotation.PostConstruct;
 import javax.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,6 +34,12 @@ import java.util.stream.Collectors;
  * permissions.
  * <p>
  * The permissions can be checked with the {@link RequiresPermission} annotation.
+ * <p>
+ * The signature of a token is verified only once per request. The {@link JwtTokenFilter} stores the parsed claims as
+ * request attribute, so the permission checks and services of the same request read the claims from there.
+ * <p>
+ * Across requests the parsed claims are kept in a bounded cache with the hash of the token as key. A cached token is
+ * parsed again after its expiration time, so expired tokens are still rejected.
  *
  * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
  */
@@ -41,6 +53,8 @@ public class JwtTokenProvider {
     private static final Logger LOG = LoggerFactory.getLogger(JwtTokenProvider.class);
     private static final String AUTH = "auth";
     private static final String DEFAULT_USER_NAME = "ligadefault";
+    private static final String TOKEN_HASH_ALGORITHM = "SHA-256";
+    static final String CLAIMS_ATTRIBUTE = JwtUserClaims.class.getName();
     private final SecurityJsonWebTokenConfiguration securityJsonWebTokenConfiguration;
     private final UserAuthenticationProvider userAuthenticationProvider;
 
@@ -48,6 +62,7 @@ public class JwtTokenProvider {
     private long validityInMilliseconds;
     private String secretKey;
     private int maxTokenRefresh;
+    private Map<String, JwtUserClaims> verifiedTokens;
 
 
     @Autowired
@@ -71,7 +86,7 @@ public class JwtTokenProvider {
 
     public String getUsername(final String token) {
         try {
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().getSubject();
+            return getClaims(token).getUsername();
         } catch (final ExpiredJwtException expiredTokenException) {
             throw new BusinessException(ErrorCode.NO_SESSION_ERROR, "Session token expired", expiredTokenException);
         } catch (final RuntimeException e) {
@@ -99,19 +114,11 @@ public class JwtTokenProvider {
 
     public UserSignInDTO resolveUserSignInDTO(final String token) {
 
-        final Object userInfo = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().get(
-                USER_INFO);
-
-        if (userInfo instanceof Map) {
-            final Map<String, String> userInfoMap = (HashMap<String, String>) userInfo;
-
-            final long id = Long.parseLong(userInfoMap.get(USER_INFO_ID));
-            final long version = Long.parseLong(userInfoMap.get(USER_INFO_VERSION));
+        final JwtUserClaims claims = getClaims(token);
 
-            final String email = getUsername(token);
-            final Set<UserPermission> permissions = getPermissions(token);
-
-            return new UserSignInDTO(id, version, email, token, permissions);
+        if (claims.getUserId() != null) {
+            return new UserSignInDTO(claims.getUserId(), claims.getUserVersion(), claims.getUsername(), token,
+                    claims.getPermissions());
         }
 
         return null;
@@ -119,23 +126,11 @@ public class JwtTokenProvider {
 
 
     public Set<UserPermission> getPermissions(final String token) {
-        Set<UserPermission> userPermissions = new HashSet<>();
-
         try {
-            final Object permissions = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody().get(AUTH);
-
-            if (permissions instanceof ArrayList) {
-                final List<String> permissionStringList = (ArrayList<String>) permissions;
-                userPermissions = permissionStringList.stream()
-                        .map(UserPermission::fromValue)
-                        .filter(Objects::nonNull)
-                        .collect(Collectors.toSet());
-            }
+            return new HashSet<>(getClaims(token).getPermissions());
         } catch (final RuntimeException e) {
             throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, "Permissions could not parsed from JWT", e);
         }
-
-        return userPermissions;
     }
 
 
@@ -195,7 +190,13 @@ public class JwtTokenProvider {
 
 
     Authentication getAuthentication(final String token) {
-        return userAuthenticationProvider.createAuthenticationPlaceholder(getUsername(token), getPermissions(token));
+        return getAuthentication(getClaims(token));
+    }
+
+
+    Authentication getAuthentication(final JwtUserClaims claims) {
+        return userAuthenticationProvider.createAuthenticationPlaceholder(claims.getUsername(),
+                new HashSet<>(claims.getPermissions()));
     }
 
 
@@ -204,25 +205,41 @@ public class JwtTokenProvider {
     }
 
     boolean validateToken(final String token) {
+        return verifyToken(token) != null;
+    }
+
+
+    /**
+     * I verify the signature and expiration time of the token.
+     *
+     * @param token JSON Web Token
+     *
+     * @return claims of the verified token or null, if the token is invalid
+     */
+    JwtUserClaims verifyToken(final String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
+            return getCachedClaims(token);
         } catch (final JwtException | IllegalArgumentException e) {
             LOG.warn("Received invalid JWT token with error message: {}", e.getMessage());
             // send 403 "Forbidden"
-            return false;
+            return null;
         }
     }
 
 
     String refreshToken(final String token) {
+        return refreshToken(token, getClaims(token));
+    }
+
+
+    String refreshToken(final String token, final JwtUserClaims claims) {
 
-        final String userName = getUsername(token);
+        final String userName = claims.getUsername();
         // refresh token only if user is not default user as token for default user has no expiration date.
         if(!userName.equals(DEFAULT_USER_NAME)) {
 
-            final long remainingTimeInMilliSeconds = getRemainingValidityTime(token);
-            int refreshCounter = getRefreshCounter(token);
+            final long remainingTimeInMilliSeconds = claims.getExpiration().getTime() - new Date().getTime();
+            int refreshCounter = claims.getRefreshCounter();
 
             LOG.trace("Refresh token ? refreshCounter = {} and remainingTime = {} s", refreshCounter,
                       (remainingTimeInMilliSeconds / 1000));
@@ -231,13 +248,12 @@ public class JwtTokenProvider {
             // expiration reached (last 90 %) and refresh allowed -> refresh
             if (refreshCounter < maxTokenRefresh && remainingTimeInMilliSeconds < (validityInMilliseconds * 0.9)) {
 
-                final UserSignInDTO userSignInDTO = resolveUserSignInDTO(token);
                 refreshCounter++;
 
                 LOG.trace("Token refreshed. Please use the new token");
 
-                return createToken(userSignInDTO.getEmail(), userSignInDTO.getId(), userSignInDTO.getVersion(),
-                                   userSignInDTO.getPermissions(), refreshCounter);
+                return createToken(userName, claims.getUserId(), claims.getUserVersion(),
+                                   new HashSet<>(claims.getPermissions()), refreshCounter);
             } else {
                 return token;
             }
@@ -248,26 +264,99 @@ public class JwtTokenProvider {
 
 
     int getRefreshCounter(final String token) {
-        return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody()
-                .get(REFRESH_COUNTER, Integer.class);
+        return getClaims(token).getRefreshCounter();
     }
 
 
     long getRemainingValidityTime(final String token) {
 
-        final Date expirationDate = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(
-                token).getBody().getExpiration();
+        final Date expirationDate = getClaims(token).getExpiration();
         final Date now = new Date();
 
         return expirationDate.getTime() - now.getTime();
     }
 
 
+    /**
+     * I return the parsed claims of the token.
+     * <p>
+     * The claims verified by the {@link JwtTokenFilter} are taken from the current request, if the token belongs to
+     * it. Otherwise the claims are read from the cache of verified tokens.
+     *
+     * @param token JSON Web Token
+     *
+     * @return claims of the verified token
+     *
+     * @throws JwtException             if the token is invalid
+     * @throws IllegalArgumentException if the token is empty
+     */
+    JwtUserClaims getClaims(final String token) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (token != null && requestAttributes instanceof ServletRequestAttributes) {
+            final HttpServletRequest request = ((ServletRequestAttributes) requestAttributes).getRequest();
+            final Object claims = request.getAttribute(CLAIMS_ATTRIBUTE);
+
+            if (claims instanceof JwtUserClaims && token.equals(resolveToken(request))) {
+                return (JwtUserClaims) claims;
+            }
+        }
+
+        return getCachedClaims(token);
+    }
+
+
+    private JwtUserClaims getCachedClaims(final String token) {
+        if (token == null) {
+            return parseClaims(null);
+        }
+
+        final String key = hash(token);
+        final JwtUserClaims cachedClaims = verifiedTokens.get(key);
+
+        if (cachedClaims != null) {
+            if (!cachedClaims.isExpired(new Date())) {
+                return cachedClaims;
+            }
+            // parse the expired token again to throw the ExpiredJwtException
+            verifiedTokens.remove(key);
+        }
+
+        final JwtUserClaims claims = parseClaims(token);
+        verifiedTokens.put(key, claims);
+        return claims;
+    }
+
+
+    private static String hash(final String token) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance(TOKEN_HASH_ALGORITHM);
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new TechnicalException(ErrorCode.UNEXPECTED_ERROR, "JWT hash algorithm not available", e);
+        }
+    }
+
+
+    private JwtUserClaims parseClaims(final String token) {
+        final Claims body = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+        return JwtUserClaims.fromClaims(body, USER_INFO, USER_INFO_ID, USER_INFO_VERSION, AUTH, REFRESH_COUNTER);
+    }
+
+
     @PostConstruct
     void init() {
         validityInMilliseconds = securityJsonWebTokenConfiguration.getExpiration();
         secretKey = Base64.getEncoder().encodeToString(securityJsonWebTokenConfiguration.getSecret().getBytes());
         maxTokenRefresh = securityJsonWebTokenConfiguration.getRefresh();
+
+        final int cacheSize = securityJsonWebTokenConfiguration.getCacheSize();
+        verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<String, JwtUserClaims>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, JwtUserClaims> eldest) {
+                return size() > cacheSize;
+            }
+        });
     }
 
 
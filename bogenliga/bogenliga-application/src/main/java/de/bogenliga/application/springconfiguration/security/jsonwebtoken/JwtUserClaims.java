@@ -0,0 +1,127 @@
+package de.bogenliga.application.springconfiguration.security.jsonwebtoken;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import de.bogenliga.application.springconfiguration.security.types.UserPermission;
+import io.jsonwebtoken.Claims;
+
+/**
+ * I contain the user information of a verified JSON Web Token.
+ * <p>
+ * I am created once after the signature of the token is verified. All following permission checks of the request
+ * read the already parsed values.
+ */
+final class JwtUserClaims {
+
+    private final String username;
+    private final Long userId;
+    private final Long userVersion;
+    private final Set<UserPermission> permissions;
+    private final Integer refreshCounter;
+    private final Date expiration;
+
+
+    private JwtUserClaims(final String username, final Long userId, final Long userVersion,
+                          final Set<UserPermission> permissions, final Integer refreshCounter,
+                          final Date expiration) {
+        this.username = username;
+        this.userId = userId;
+        this.userVersion = userVersion;
+        this.permissions = Collections.unmodifiableSet(permissions);
+        this.refreshCounter = refreshCounter;
+        this.expiration = expiration;
+    }
+
+
+    /**
+     * I convert the claims of a verified token.
+     *
+     * @param claims          body of the verified token
+     * @param userInfoKey     claim with the user id and version
+     * @param userIdKey       key of the user id in the user info claim
+     * @param userVersionKey  key of the user version in the user info claim
+     * @param permissionsKey  claim with the permissions
+     * @param refreshCountKey claim with the refresh counter
+     *
+     * @return parsed user information
+     */
+    static JwtUserClaims fromClaims(final Claims claims, final String userInfoKey, final String userIdKey,
+                                    final String userVersionKey, final String permissionsKey,
+                                    final String refreshCountKey) {
+        Long userId = null;
+        Long userVersion = null;
+        Set<UserPermission> permissions = Collections.emptySet();
+
+        final Object userInfo = claims.get(userInfoKey);
+
+        if (userInfo instanceof Map) {
+            final Map<?, ?> userInfoMap = (Map<?, ?>) userInfo;
+            userId = Long.parseLong(String.valueOf(userInfoMap.get(userIdKey)));
+            userVersion = Long.parseLong(String.valueOf(userInfoMap.get(userVersionKey)));
+        }
+
+        final Object permissionClaim = claims.get(permissionsKey);
+
+        if (permissionClaim instanceof List) {
+            permissions = ((List<?>) permissionClaim).stream()
+                    .map(String::valueOf)
+                    .map(UserPermission::fromValue)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toSet());
+        }
+
+        return new JwtUserClaims(claims.getSubject(), userId, userVersion, permissions,
+                claims.get(refreshCountKey, Integer.class), claims.getExpiration());
+    }
+
+
+    String getUsername() {
+        return username;
+    }
+
+
+    /**
+     * @return user id or null, if the token has no user info
+     */
+    Long getUserId() {
+        return userId;
+    }
+
+
+    Long getUserVersion() {
+        return userVersion;
+    }
+
+
+    Set<UserPermission> getPermissions() {
+        return permissions;
+    }
+
+
+    Integer getRefreshCounter() {
+        return refreshCounter;
+    }
+
+
+    /**
+     * @return expiration date or null, if the token does not expire
+     */
+    Date getExpiration() {
+        return expiration;
+    }
+
+
+    /**
+     * @param now current time
+     *
+     * @return true, if the token has an expiration date before {@code now}
+     */
+    boolean isExpired(final Date now) {
+        return expiration != null && expiration.before(now);
+    }
+}
@@ -0,0 +1,31 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * I configure the unit of work of a service facade method.
+ *
+ * Every method of a {@link de.bogenliga.application.common.service.ServiceFacade} is executed with one connection and
+ * one transaction. GET endpoints use a read-only transaction by default. GET endpoints which modify data, e.g. to
+ * generate the matches of a wettkampf, have to be annotated with {@code @UnitOfWork(readOnly = false)}.
+ *
+ * Methods annotated with {@code @UnitOfWork(readOnly = true)} read from the replica, if one is configured. They may
+ * not see the latest changes, so only methods which tolerate the lag of the replica should be annotated, e.g. the
+ * public league pages like the Ligatabelle and the lists of Veranstaltungen. Values read on the replica are not kept
+ * in the reference data caches, so methods which are answered from these caches, e.g. the Schuetzenstatistik, use the
+ * primary database.
+ *
+ * @see UnitOfWorkAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UnitOfWork {
+
+    /**
+     * @return true, if the method only reads data and may use the replica
+     */
+    boolean readOnly();
+}
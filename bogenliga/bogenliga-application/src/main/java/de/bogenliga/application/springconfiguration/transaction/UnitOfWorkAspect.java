@@ -0,0 +1,130 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import de.bogenliga.application.common.database.tx.TransactionManager;
+
+/**
+ * I bind one connection and one transaction to each call of a service facade method.
+ *
+ * All data access objects called by the service facade join the transaction, so a request acquires only one
+ * connection. The transaction is committed after the method returns and rolled back if the method throws an
+ * exception. Nested calls of other service facades join the transaction of the outer call.
+ *
+ * GET endpoints are executed in a read-only transaction, unless the method is annotated with {@link UnitOfWork}.
+ * Only methods annotated with {@code @UnitOfWork(readOnly = true)} are executed on the replica, all other units of
+ * work use the primary database and see the data written by previous requests.
+ *
+ * The aspect is wrapped around the permission checks, so they use the same connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UnitOfWorkAspect {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UnitOfWorkAspect.class);
+
+    private final TransactionManager transactionManager;
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param transactionManager to begin and end the transaction of the unit of work
+     */
+    @Autowired
+    public UnitOfWorkAspect(final TransactionManager transactionManager) {
+        this.transactionManager = transactionManager;
+    }
+
+
+    /**
+     * I execute the service facade method in a transaction.
+     *
+     * @param joinPoint of the service facade method
+     *
+     * @return result of the method
+     *
+     * @throws Throwable if the method throws an exception, the transaction is rolled back
+     */
+    @Around("within(de.bogenliga.application.common.service.ServiceFacade+) && execution(public * *(..))")
+    public Object executeUnitOfWork(final ProceedingJoinPoint joinPoint) throws Throwable {
+        if (transactionManager.isActive()) {
+            // join the unit of work of the calling service facade
+            return joinPoint.proceed();
+        }
+
+        final Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+
+        LOG.debug("Begin unit of work of {}.{}", method.getDeclaringClass().getSimpleName(), method.getName());
+        if (isReplicaAllowed(method)) {
+            transactionManager.beginOnReplica();
+        } else {
+            transactionManager.begin(isReadOnly(method));
+        }
+
+        try {
+            final Object result = joinPoint.proceed();
+            transactionManager.commit();
+            return result;
+
+        } catch (Throwable e) { // NOSONAR
+            if (transactionManager.isActive()) {
+                transactionManager.rollback();
+            }
+            throw e;
+
+        } finally {
+            transactionManager.release();
+        }
+    }
+
+
+    /**
+     * A method may read from the replica, if it is explicitly annotated with a read-only {@link UnitOfWork}.
+     *
+     * @param method of the service facade
+     *
+     * @return true, if the method tolerates the lag of the replica
+     */
+    boolean isReplicaAllowed(final Method method) {
+        final UnitOfWork unitOfWork = method.getAnnotation(UnitOfWork.class);
+
+        return unitOfWork != null && unitOfWork.readOnly();
+    }
+
+
+    /**
+     * A method is read-only, if it is annotated with a read-only {@link UnitOfWork} or handles a GET request without
+     * an annotation.
+     *
+     * @param method of the service facade
+     *
+     * @return true, if the transaction of the method should be read-only
+     */
+    boolean isReadOnly(final Method method) {
+        final UnitOfWork unitOfWork = method.getAnnotation(UnitOfWork.class);
+
+        if (unitOfWork != null) {
+            return unitOfWork.readOnly();
+        }
+
+        // @GetMapping is merged into @RequestMapping(method = GET)
+        final RequestMapping requestMapping = AnnotatedElementUtils.findMergedAnnotation(method, RequestMapping.class);
+
+        return requestMapping != null && Arrays.asList(requestMapping.method()).contains(RequestMethod.GET);
+    }
+}
@@ -0,0 +1,51 @@
+/* we will create a table with the aggregated match and satz points per mannschaft and wettkampf
+*  to read the ligatabelle by an indexed lookup instead of aggregating all matches of the view LIGATABELLE
+*  with every request
+*
+*  the table is refreshed for a single wettkampf by the application after a match is created, updated or deleted
+*  the names of veranstaltung, mannschaft and verein are joined when reading the ligatabelle
+*/
+CREATE TABLE IF NOT EXISTS ligatabelle_stand (
+  ligatabelle_stand_wettkampf_id        DECIMAL(19,0) NOT NULL,   -- Bezug zum Wettkampf
+  ligatabelle_stand_mannschaft_id       DECIMAL(19,0) NOT NULL,   -- Bezug zur Mannschaft
+  ligatabelle_stand_matchpkt            DECIMAL(5,0)  NULL,       -- Summe aller eigene Matchpunkte
+  ligatabelle_stand_matchpkt_gegen      DECIMAL(5,0)  NULL,       -- Summe aller gegnerischen Matchpunkte
+  ligatabelle_stand_satzpkt             DECIMAL(5,0)  NULL,       -- Summe aller eigenen Satzpunkte
+  ligatabelle_stand_satzpkt_gegen       DECIMAL(5,0)  NULL,       -- Summe aller gegnerischen Satzpunkte
+
+  CONSTRAINT pk_ligatabelle_stand PRIMARY KEY (ligatabelle_stand_wettkampf_id, ligatabelle_stand_mannschaft_id),
+  CONSTRAINT fk_ligatabelle_stand_wettkampf FOREIGN KEY (ligatabelle_stand_wettkampf_id) REFERENCES wettkampf (wettkampf_id)
+    ON DELETE CASCADE,
+  CONSTRAINT fk_ligatabelle_stand_mannschaft FOREIGN KEY (ligatabelle_stand_mannschaft_id) REFERENCES mannschaft (mannschaft_id)
+    ON DELETE CASCADE
+);
+
+
+/* the ligatabelle of a veranstaltung is read by the wettkampf of the highest wettkampf_tag */
+CREATE INDEX IF NOT EXISTS idx_wettkampf_veranstaltung_tag ON wettkampf (wettkampf_veranstaltung_id, wettkampf_tag);
+
+
+/* initial data of all existing matches - same aggregation as in the view LIGATABELLE */
+INSERT INTO ligatabelle_stand (
+  ligatabelle_stand_wettkampf_id,
+  ligatabelle_stand_mannschaft_id,
+  ligatabelle_stand_matchpkt,
+  ligatabelle_stand_matchpkt_gegen,
+  ligatabelle_stand_satzpkt,
+  ligatabelle_stand_satzpkt_gegen
+)
+select
+  match.match_wettkampf_id,
+  match.match_mannschaft_id,
+  sum(match.match_matchpunkte),
+  sum(match_gegen.match_matchpunkte),
+  sum(match.match_satzpunkte),
+  sum(match_gegen.match_satzpunkte)
+from match, match as match_gegen
+where match.match_wettkampf_id = match_gegen.match_wettkampf_id
+  and match.match_nr = match_gegen.match_nr
+  and match.match_begegnung = match_gegen.match_begegnung
+  and match.match_mannschaft_id != match_gegen.match_mannschaft_id
+group by match.match_wettkampf_id,
+         match.match_mannschaft_id
+ON CONFLICT (ligatabelle_stand_wettkampf_id, ligatabelle_stand_mannschaft_id) DO NOTHING;
@@ -0,0 +1,63 @@
+/* we will create a table with the summed ringzahlen and the number of shot arrows per schuetze and match
+*  to read the schuetzenstatistik by an indexed lookup instead of aggregating all passen of the view SCHUETZENSTATISTIK
+*  with every request
+*
+*  the table is refreshed for a single wettkampf by the application after passen are created, updated or deleted
+*  the names of veranstaltung, mannschaft, verein and dsb_mitglied are joined when reading the schuetzenstatistik
+*/
+CREATE TABLE IF NOT EXISTS schuetzenstatistik_stand (
+  schuetzenstatistik_stand_match_id             DECIMAL(19,0) NOT NULL,   -- Bezug zum Match der Mannschaft
+  schuetzenstatistik_stand_dsb_mitglied_id      DECIMAL(19,0) NOT NULL,   -- Bezug zum Schützen
+  schuetzenstatistik_stand_wettkampf_id         DECIMAL(19,0) NOT NULL,   -- Bezug zum Wettkampf
+  schuetzenstatistik_stand_pfeilpunkte_summe    DECIMAL(7,0)  NOT NULL,   -- Summe der Ringzahlen aller Pfeile
+  schuetzenstatistik_stand_pfeile_anzahl        DECIMAL(7,0)  NOT NULL,   -- Anzahl der geschossenen Pfeile
+
+  CONSTRAINT pk_schuetzenstatistik_stand PRIMARY KEY (schuetzenstatistik_stand_match_id, schuetzenstatistik_stand_dsb_mitglied_id),
+  CONSTRAINT fk_schuetzenstatistik_stand_match FOREIGN KEY (schuetzenstatistik_stand_match_id) REFERENCES match (match_id)
+    ON DELETE CASCADE,
+  CONSTRAINT fk_schuetzenstatistik_stand_dsb_mitglied FOREIGN KEY (schuetzenstatistik_stand_dsb_mitglied_id) REFERENCES dsb_mitglied (dsb_mitglied_id)
+    ON DELETE CASCADE,
+  CONSTRAINT fk_schuetzenstatistik_stand_wettkampf FOREIGN KEY (schuetzenstatistik_stand_wettkampf_id) REFERENCES wettkampf (wettkampf_id)
+    ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_schuetzenstatistik_stand_wettkampf ON schuetzenstatistik_stand (schuetzenstatistik_stand_wettkampf_id);
+
+
+/* initial data of all existing passen
+*  only matches with a gegner and schuetzen with at least one shot arrow are counted like in the view SCHUETZENSTATISTIK
+*/
+INSERT INTO schuetzenstatistik_stand (
+  schuetzenstatistik_stand_match_id,
+  schuetzenstatistik_stand_dsb_mitglied_id,
+  schuetzenstatistik_stand_wettkampf_id,
+  schuetzenstatistik_stand_pfeilpunkte_summe,
+  schuetzenstatistik_stand_pfeile_anzahl
+)
+select
+  match.match_id,
+  passe.passe_dsb_mitglied_id,
+  match.match_wettkampf_id,
+  sum(COALESCE(passe.passe_ringzahl_pfeil1, 0) + COALESCE(passe.passe_ringzahl_pfeil2, 0) +
+      COALESCE(passe.passe_ringzahl_pfeil3, 0) + COALESCE(passe.passe_ringzahl_pfeil4, 0) +
+      COALESCE(passe.passe_ringzahl_pfeil5, 0) + COALESCE(passe.passe_ringzahl_pfeil6, 0)),
+  sum((passe.passe_ringzahl_pfeil1 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil2 IS NOT NULL)::int +
+      (passe.passe_ringzahl_pfeil3 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil4 IS NOT NULL)::int +
+      (passe.passe_ringzahl_pfeil5 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil6 IS NOT NULL)::int)
+from passe, match
+where passe.passe_wettkampf_id = match.match_wettkampf_id
+  and passe.passe_match_nr = match.match_nr
+  and passe.passe_mannschaft_id = match.match_mannschaft_id
+  and exists (select 1
+              from match as match_gegen
+              where match_gegen.match_wettkampf_id = match.match_wettkampf_id
+                and match_gegen.match_nr = match.match_nr
+                and match_gegen.match_begegnung = match.match_begegnung
+                and match_gegen.match_mannschaft_id != match.match_mannschaft_id)
+group by match.match_id,
+         passe.passe_dsb_mitglied_id,
+         match.match_wettkampf_id
+having sum((passe.passe_ringzahl_pfeil1 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil2 IS NOT NULL)::int +
+           (passe.passe_ringzahl_pfeil3 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil4 IS NOT NULL)::int +
+           (passe.passe_ringzahl_pfeil5 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil6 IS NOT NULL)::int) > 0
+ON CONFLICT (schuetzenstatistik_stand_match_id, schuetzenstatistik_stand_dsb_mitglied_id) DO NOTHING;
@@ -0,0 +1,20 @@
+/* we will create trigram indexes for the search of dsb_mitglied, verein and region
+*  to find the entries by an indexed lookup instead of reading the whole table with LIKE '%term%'
+*
+*  the gin_trgm_ops indexes support the LIKE '%term%' matching and the fuzzy matching with the word similarity operator <%
+*  the indexed expressions must be equal to the search expressions of the DsbMitgliedDAO, VereinDAO and RegionenDAO
+*  CONCAT() is not immutable and cannot be indexed, so the columns are concatenated with || (all columns are NOT NULL)
+*/
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_dsb_mitglied_suche ON dsb_mitglied USING gin (
+  (LOWER(dsb_mitglied_vorname) || ' ' || LOWER(dsb_mitglied_nachname) || ' ' || LOWER(dsb_mitglied_mitgliedsnummer))
+  gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_verein_suche ON verein USING gin (
+  (LOWER(verein_name) || ' ' || LOWER(verein_dsb_identifier))
+  gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_region_suche ON region USING gin (
+  LOWER(region_name)
+  gin_trgm_ops);
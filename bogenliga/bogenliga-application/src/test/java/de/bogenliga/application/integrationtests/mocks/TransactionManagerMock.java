@@ -33,6 +33,34 @@ public class TransactionManagerMock implements TransactionManager {
     }
 
 
+    @Override
+    public void begin(boolean readOnly) {
+    }
+
+
+    @Override
+    public void beginOnReplica() {
+    }
+
+
+    @Override
+    public boolean isOnReplica() {
+        return false;
+    }
+
+
+    @Override
+    public void beforeCommit(String key, Runnable action) {
+        action.run();
+    }
+
+
+    @Override
+    public void afterCommit(Runnable action) {
+        action.run();
+    }
+
+
     @Override
     public void rollback() {
     }
@@ -0,0 +1,109 @@
+package de.bogenliga.application.services.common.streaming;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bogenliga.application.services.v1.passe.model.PasseDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JsonArrayStreamerTest {
+
+    private final JsonArrayStreamer underTest = new JsonArrayStreamer(new ObjectMapper());
+
+
+    private static PasseDTO getPasseDTO(final Long id) {
+        final PasseDTO passeDTO = new PasseDTO();
+        passeDTO.setId(id);
+        return passeDTO;
+    }
+
+
+    @Test
+    public void stream_shouldWriteJsonArray() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final Consumer<Consumer<PasseDTO>> producer =
+                consumer -> Arrays.asList(getPasseDTO(1L), getPasseDTO(2L)).forEach(consumer);
+
+        // call test method
+        final ResponseEntity<StreamingResponseBody> actual = underTest.stream(producer);
+        actual.getBody().writeTo(outputStream);
+
+        // assert result
+        assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(actual.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON_UTF8);
+
+        final PasseDTO[] actualDTOs = new ObjectMapper().readValue(outputStream.toByteArray(), PasseDTO[].class);
+
+        assertThat(actualDTOs).hasSize(2);
+        assertThat(actualDTOs[0].getId()).isEqualTo(1L);
+        assertThat(actualDTOs[1].getId()).isEqualTo(2L);
+    }
+
+
+    @Test
+    public void stream_withoutElements_shouldWriteEmptyArray() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // call test method
+        underTest.<PasseDTO>writeTo(outputStream, consumer -> {
+        });
+
+        // assert result
+        assertThat(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+
+    @Test
+    public void stream_withProducerError_shouldNotCloseArray() {
+        // prepare test data
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final Consumer<Consumer<PasseDTO>> producer = consumer -> {
+            consumer.accept(getPasseDTO(1L));
+            throw new IllegalStateException("database connection lost");
+        };
+
+        // call test method
+        assertThatThrownBy(() -> underTest.writeTo(outputStream, producer))
+                .isInstanceOf(IllegalStateException.class);
+
+        // assert result
+        final String actual = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+
+        assertThat(actual).startsWith("[{").doesNotEndWith("]");
+    }
+
+
+    @Test
+    public void stream_withWriteError_shouldThrowIOException() {
+        // prepare test data
+        final OutputStream outputStream = new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                throw new IOException("connection reset by peer");
+            }
+        };
+        // more elements than the buffer of the generator
+        final Consumer<Consumer<PasseDTO>> producer = consumer -> {
+            for (long id = 0; id < 10000; id++) {
+                consumer.accept(getPasseDTO(id));
+            }
+        };
+
+        // call test method
+        assertThatThrownBy(() -> underTest.writeTo(outputStream, producer))
+                .isInstanceOf(IOException.class)
+                .hasMessage("connection reset by peer");
+    }
+}
@@ -0,0 +1,63 @@
+package de.bogenliga.application.services.common.validation;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.services.v1.passe.model.PasseDTO;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DtoPreconditionsTest {
+
+    private static final String ERR_LFD_NR = "lfdNr must not be null or negative";
+    private static final String ERR_RUECKENNUMMER = "rueckennummer must not be null";
+
+    private final DtoPreconditions underTest = new DtoPreconditions(getConditionErrors());
+
+
+    private static Map<String, String> getConditionErrors() {
+        final Map<String, String> conditionErrors = new HashMap<>();
+        conditionErrors.put("getLfdNr", ERR_LFD_NR);
+        conditionErrors.put("getRueckennummer", ERR_RUECKENNUMMER);
+        // ignored, getters with parameters are not checked
+        conditionErrors.put("equals", "not a getter");
+        return conditionErrors;
+    }
+
+
+    private static PasseDTO getPasseDTO(final Long lfdNr, final Integer rueckennummer) {
+        final PasseDTO passeDTO = new PasseDTO();
+        passeDTO.setLfdNr(lfdNr);
+        passeDTO.setRueckennummer(rueckennummer);
+        return passeDTO;
+    }
+
+
+    @Test
+    public void check() {
+        // call test method
+        underTest.check(getPasseDTO(1L, 3));
+        underTest.check(getPasseDTO(0L, -1));
+        // the conditions of the class are cached
+        underTest.check(getPasseDTO(2L, 5));
+    }
+
+
+    @Test
+    public void check_withNullValue_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.check(getPasseDTO(null, 3)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ERR_LFD_NR);
+        assertThatThrownBy(() -> underTest.check(getPasseDTO(1L, null)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ERR_RUECKENNUMMER);
+    }
+
+
+    @Test
+    public void check_withNegativeId_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.check(getPasseDTO(-1L, 3)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ERR_LFD_NR);
+    }
+}
@@ -8,10 +8,31 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import de.bogenliga.application.business.datenstand.api.DatenstandComponent;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.schusszettel.api.SchusszettelComponent;
 import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.wettkampfbundle.api.WettkampfBundleComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.services.v1.download.model.PdfJobDTO;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 /**
@@ -26,6 +47,9 @@ public class DownloadServiceTest {
     private static final long MANSCHAFTS_ID = 101;
     private static final int JAHR = 2018;
     private static final long WETTKAMPFTAG = 1;
+    private static final String DATENSTAND = "0cc175b9c0f1b6a831c399e269772661";
+    private static final String ETAG = "\"setzliste-30-" + DATENSTAND + "\"";
+    private static final String JOB_ID = "5f0c6a2e-2c1b-4d0e-9a57-0b8e5c6f3d21";
 
     @Rule
     public MockitoRule mockitoRule = MockitoJUnit.rule();
@@ -37,32 +61,114 @@ public class DownloadServiceTest {
     @Mock
     private WettkampfComponent wettkampfComponent;
 
+    @Mock
+    private DatenstandComponent datenstandComponent;
+
+    @Mock
+    private WettkampfBundleComponent wettkampfBundleComponent;
+
+    @Mock
+    private WettkampfDokumentComponent wettkampfDokumentComponent;
+
+    @Mock
+    private SchusszettelComponent schusszettelComponent;
+
+    @Mock
+    private PdfCache pdfCache;
+
+    @Mock
+    private PdfJobQueue pdfJobQueue;
+
     @InjectMocks
     private DownloadService DownloadService;
 
     @Before
     public void initMocks() {
-
+        when(pdfCache.getETag(anyString(), anyString())).thenAnswer(invocation ->
+                "\"" + invocation.<String>getArgument(0).replace('/', '-') + "-" + invocation.getArgument(1) + "\"");
     }
 
 
     @Test
-    public void downloadSetzlistePdf() {
+    public void downloadSetzlistePdf() throws IOException {
 
-        final byte[] test = new byte[0];
+        final byte[] test = new byte[]{1, 2, 3};
 
         //configure Mocks
-        when(setzlisteComponent.getPDFasByteArray(WETTKAMPF_ID)).thenReturn(test);
+        when(datenstandComponent.getWettkampfDatenstand(WETTKAMPF_ID)).thenReturn(DATENSTAND);
+        doAnswer(invocation -> {
+            ((OutputStream) invocation.getArgument(1)).write(test);
+            return null;
+        }).when(setzlisteComponent).writePDF(eq((long) WETTKAMPF_ID), any(OutputStream.class));
+        doAnswer(invocation -> {
+            ((Consumer<OutputStream>) invocation.getArgument(3)).accept(invocation.getArgument(2));
+            return null;
+        }).when(pdfCache).write(anyString(), anyString(), any(OutputStream.class), any());
 
         //call test method
-        final ResponseEntity<InputStreamResource> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID);
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID, null);
+        final ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        actual.getBody().writeTo(pdf);
 
         //assert result
         Assertions.assertThat(actual).isNotNull();
+        Assertions.assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(actual.getHeaders().getETag()).isEqualTo(ETAG);
+        Assertions.assertThat(actual.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
+        Assertions.assertThat(pdf.toByteArray()).isEqualTo(test);
 
         //verify invocations
-        verify(setzlisteComponent).getPDFasByteArray(WETTKAMPF_ID);
+        verify(pdfCache).get("setzliste/" + WETTKAMPF_ID, DATENSTAND);
+        verify(pdfCache).write(eq("setzliste/" + WETTKAMPF_ID), eq(DATENSTAND), eq(pdf), any());
+        verify(setzlisteComponent).writePDF(eq((long) WETTKAMPF_ID), any(OutputStream.class));
+
+    }
+
+
+    @Test
+    public void downloadSetzlistePdf_cached() throws IOException {
+
+        final byte[] test = new byte[]{1, 2, 3};
+
+        //configure Mocks
+        when(datenstandComponent.getWettkampfDatenstand(WETTKAMPF_ID)).thenReturn(DATENSTAND);
+        when(pdfCache.get("setzliste/" + WETTKAMPF_ID, DATENSTAND)).thenReturn(test);
+
+        //call test method
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID, null);
+        final ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        actual.getBody().writeTo(pdf);
+
+        //assert result
+        Assertions.assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(actual.getHeaders().getContentLength()).isEqualTo(test.length);
+        Assertions.assertThat(pdf.toByteArray()).isEqualTo(test);
+
+        //verify invocations
+        verify(pdfCache, never()).write(anyString(), anyString(), any(OutputStream.class), any());
+        verify(setzlisteComponent, never()).writePDF(anyLong(), any(OutputStream.class));
+    }
 
+
+    @Test
+    public void downloadSetzlistePdf_notModified() throws IOException {
+
+        //configure Mocks
+        when(datenstandComponent.getWettkampfDatenstand(WETTKAMPF_ID)).thenReturn(DATENSTAND);
+
+        //call test method
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadSetzlistePdf(WETTKAMPF_ID,
+                "\"other\", W/" + ETAG);
+
+        //assert result
+        Assertions.assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        Assertions.assertThat(actual.getHeaders().getETag()).isEqualTo(ETAG);
+        Assertions.assertThat(actual.getBody()).isNull();
+
+        //verify invocations
+        verify(pdfCache, never()).get(anyString(), anyString());
+        verify(pdfCache, never()).write(anyString(), anyString(), any(OutputStream.class), any());
+        verify(setzlisteComponent, never()).writePDF(anyLong(), any(OutputStream.class));
     }
     
     @Test
@@ -120,4 +226,172 @@ public class DownloadServiceTest {
     }
 
 
-}
\ No newline at end of file
+    private static WettkampfDokumentContextDO getContext(final boolean withMatches) {
+        final MatchDO matchDO = new MatchDO(1L, 1L, (long) WETTKAMPF_ID, 1L, 1L, 1L, 1L, 1L, 0L, 0L, null, null, null);
+        return new WettkampfDokumentContextDO(new WettkampfDO((long) WETTKAMPF_ID),
+                withMatches ? Collections.singletonList(matchDO) : Collections.emptyList(),
+                Collections.singletonMap(1L, "Mannschaft"));
+    }
+
+
+    @Test
+    public void downloadSchusszettelPdf_withoutMatches_shouldThrowBeforeStreaming() throws IOException {
+
+        //configure Mocks
+        when(datenstandComponent.getWettkampfDatenstand(WETTKAMPF_ID)).thenReturn(DATENSTAND);
+        when(wettkampfDokumentComponent.getContext(WETTKAMPF_ID)).thenReturn(getContext(false));
+
+        //call test method
+        Assertions.assertThatThrownBy(() -> DownloadService.downloadSchusszettelPdf(WETTKAMPF_ID, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Matches für den Wettkampf noch nicht erzeugt");
+
+        //verify invocations
+        verify(pdfCache, never()).write(anyString(), anyString(), any(OutputStream.class), any());
+        verify(schusszettelComponent, never()).writeAllSchusszettelPDF(any(WettkampfDokumentContextDO.class),
+                any(OutputStream.class));
+    }
+
+
+    @Test
+    public void downloadWettkampfZip() throws IOException {
+
+        final byte[] test = new byte[]{1, 2, 3};
+        final WettkampfDokumentContextDO context = getContext(true);
+
+        //configure Mocks
+        when(wettkampfDokumentComponent.getContext(WETTKAMPF_ID)).thenReturn(context);
+        doAnswer(invocation -> {
+            ((OutputStream) invocation.getArgument(1)).write(test);
+            return null;
+        }).when(wettkampfBundleComponent).writeWettkampfBundle(eq(context), any(OutputStream.class));
+
+        //call test method
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadWettkampfZip(WETTKAMPF_ID);
+        final ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        actual.getBody().writeTo(zip);
+
+        //assert result
+        Assertions.assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(actual.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/zip"));
+        Assertions.assertThat(actual.getHeaders().getContentDisposition().getFilename())
+                .isEqualTo("wettkampf-" + WETTKAMPF_ID + ".zip");
+        Assertions.assertThat(zip.toByteArray()).isEqualTo(test);
+
+        //verify invocations
+        verify(setzlisteComponent).generateMatchesBySetzliste(WETTKAMPF_ID);
+        verify(wettkampfBundleComponent).writeWettkampfBundle(eq(context), any(OutputStream.class));
+    }
+
+
+    @Test
+    public void downloadWettkampfZip_withoutMatches_shouldThrowBeforeStreaming() {
+
+        //configure Mocks
+        when(wettkampfDokumentComponent.getContext(WETTKAMPF_ID)).thenReturn(getContext(false));
+
+        //call test method
+        Assertions.assertThatThrownBy(() -> DownloadService.downloadWettkampfZip(WETTKAMPF_ID))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Matches für den Wettkampf noch nicht erzeugt");
+
+        //verify invocations
+        verify(wettkampfBundleComponent, never()).writeWettkampfBundle(any(WettkampfDokumentContextDO.class),
+                any(OutputStream.class));
+    }
+
+
+    @Test
+    public void submitPdfJob() {
+        final byte[] test = new byte[]{1, 2, 3};
+        final PdfJobDTO job = new PdfJobDTO(JOB_ID, "Gesamtstatistik", "QUEUED", null, null);
+        final Map<String, String> params = new HashMap<>();
+        params.put("veranstaltungsid", String.valueOf(VERANSTALTUNGS_ID));
+        params.put("manschaftsid", String.valueOf(MANSCHAFTS_ID));
+        params.put("jahr", String.valueOf(JAHR));
+
+        //configure Mocks
+        when(wettkampfComponent.getPDFasByteArray("Gesamtstatistik", VERANSTALTUNGS_ID, MANSCHAFTS_ID, JAHR)).thenReturn(test);
+        final ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        when(pdfJobQueue.submit(eq("Gesamtstatistik"), any())).thenAnswer(invocation -> {
+            // run the job immediately
+            ((Consumer<OutputStream>) invocation.getArgument(1)).accept(pdf);
+            return job;
+        });
+
+        //call test method
+        final PdfJobDTO actual = DownloadService.submitPdfJob("Gesamtstatistik", params);
+
+        //assert result
+        Assertions.assertThat(actual).isSameAs(job);
+        Assertions.assertThat(pdf.toByteArray()).isEqualTo(test);
+
+        //verify invocations
+        verify(wettkampfComponent).getPDFasByteArray("Gesamtstatistik", VERANSTALTUNGS_ID, MANSCHAFTS_ID, JAHR);
+    }
+
+
+    @Test
+    public void submitPdfJob_withInvalidParameter_shouldThrowException() {
+        final Map<String, String> params = new HashMap<>();
+        params.put("wettkampfid", "-1");
+
+        Assertions.assertThatThrownBy(() -> DownloadService.submitPdfJob("schusszettel", params))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("wettkampfid");
+
+        Assertions.assertThatThrownBy(() -> DownloadService.submitPdfJob("unbekannt", params))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("unbekannt");
+
+        params.put("veranstaltungsid", "1");
+        params.put("manschaftsid", "2");
+        params.put("jahr", "4294969314");
+
+        Assertions.assertThatThrownBy(() -> DownloadService.submitPdfJob("Gesamtstatistik", params))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("jahr");
+
+        //verify invocations
+        verifyZeroInteractions(pdfJobQueue);
+    }
+
+
+    @Test
+    public void getPdfJob() {
+        final PdfJobDTO job = new PdfJobDTO(JOB_ID, "Gesamtstatistik", "DONE", 1L, null);
+
+        //configure Mocks
+        when(pdfJobQueue.get(JOB_ID)).thenReturn(job);
+
+        //call test method
+        final PdfJobDTO actual = DownloadService.getPdfJob(JOB_ID);
+
+        //assert result
+        Assertions.assertThat(actual).isSameAs(job);
+    }
+
+
+    @Test
+    public void downloadPdfJob() throws IOException {
+        final byte[] test = new byte[]{1, 2, 3};
+
+        //configure Mocks
+        when(pdfJobQueue.getSize(JOB_ID)).thenReturn((long) test.length);
+        doAnswer(invocation -> {
+            ((OutputStream) invocation.getArgument(1)).write(test);
+            return null;
+        }).when(pdfJobQueue).write(eq(JOB_ID), any(OutputStream.class));
+
+        //call test method
+        final ResponseEntity<StreamingResponseBody> actual = DownloadService.downloadPdfJob(JOB_ID);
+        final ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        actual.getBody().writeTo(pdf);
+
+        //assert result
+        Assertions.assertThat(actual.getStatusCode()).isEqualTo(HttpStatus.OK);
+        Assertions.assertThat(actual.getHeaders().getContentLength()).isEqualTo(test.length);
+        Assertions.assertThat(actual.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_PDF);
+        Assertions.assertThat(pdf.toByteArray()).isEqualTo(test);
+    }
+}
@@ -0,0 +1,235 @@
+package de.bogenliga.application.services.v1.download;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Properties;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.boot.info.BuildProperties;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.PdfCacheConfiguration;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class PdfCacheTest {
+
+    private static final String KEY = "schusszettel/12";
+    private static final String OTHER_KEY = "meldezettel/12";
+    private static final String DATENSTAND = "0cc175b9c0f1b6a831c399e269772661";
+    private static final String NEW_DATENSTAND = "92eb5ffee6ae2fec3ad71c777531578f";
+    private static final byte[] PDF = new byte[]{1, 2, 3};
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Consumer<OutputStream> pdfWriter;
+
+    private PdfCacheConfiguration pdfCacheConfiguration;
+
+
+    @Before
+    public void initConfiguration() {
+        pdfCacheConfiguration = new PdfCacheConfiguration();
+        pdfCacheConfiguration.setMaxEntries(2);
+        pdfCacheConfiguration.setMaxBytes(5);
+        pdfCacheConfiguration.setMaxDocumentBytes(4);
+    }
+
+
+    private PdfCache createPdfCache() {
+        return createPdfCache(null);
+    }
+
+
+    private PdfCache createPdfCache(final BuildProperties buildProperties) {
+        return new PdfCache(pdfCacheConfiguration,
+                new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration()), buildProperties);
+    }
+
+
+    private void writePdf() {
+        doAnswer(invocation -> {
+            ((OutputStream) invocation.getArgument(0)).write(PDF);
+            return null;
+        }).when(pdfWriter).accept(any(OutputStream.class));
+    }
+
+
+    private static byte[] write(final PdfCache underTest, final String key, final String datenstand,
+                                final Consumer<OutputStream> pdfWriter) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        underTest.write(key, datenstand, outputStream, pdfWriter);
+        return outputStream.toByteArray();
+    }
+
+
+    @Test
+    public void getETag() {
+        assertThat(createPdfCache().getETag(KEY, DATENSTAND))
+                .isEqualTo("\"schusszettel-12-" + DATENSTAND + "-dev\"");
+    }
+
+
+    @Test
+    public void getETag_withBuildProperties_shouldChangeWithBuild() {
+        // prepare test data
+        final Properties build = new Properties();
+        build.setProperty("version", "1.0.0");
+        build.setProperty("time", "2026-10-18T12:00:00Z");
+        final Properties nextBuild = new Properties();
+        nextBuild.setProperty("version", "1.0.0");
+        nextBuild.setProperty("time", "2026-10-19T12:00:00Z");
+
+        // call test method
+        final String eTag = createPdfCache(new BuildProperties(build)).getETag(KEY, DATENSTAND);
+        final String nextETag = createPdfCache(new BuildProperties(nextBuild)).getETag(KEY, DATENSTAND);
+
+        // assert result
+        assertThat(eTag).isEqualTo("\"schusszettel-12-" + DATENSTAND + "-1.0.0-1792324800000\"");
+        assertThat(nextETag).isNotEqualTo(eTag);
+    }
+
+
+    @Test
+    public void getETag_withConfiguredVersion_shouldUseConfiguredVersion() {
+        // prepare test data
+        final Properties build = new Properties();
+        build.setProperty("version", "1.0.0");
+        build.setProperty("time", "2026-10-18T12:00:00Z");
+        pdfCacheConfiguration.setVersion("layout 2");
+
+        // call test method
+        final String actual = createPdfCache(new BuildProperties(build)).getETag(KEY, DATENSTAND);
+
+        // assert result
+        assertThat(actual).isEqualTo("\"schusszettel-12-" + DATENSTAND + "-layout_2\"");
+    }
+
+
+    @Test
+    public void write_withSameDatenstand_shouldWriteCachedPdf() throws IOException {
+        // prepare test data
+        final PdfCache underTest = createPdfCache();
+
+        // configure mocks
+        writePdf();
+
+        // call test method
+        final byte[] first = write(underTest, KEY, DATENSTAND, pdfWriter);
+        final byte[] second = write(underTest, KEY, DATENSTAND, pdfWriter);
+
+        // assert result
+        assertThat(first).isEqualTo(PDF);
+        assertThat(second).isEqualTo(PDF);
+        assertThat(underTest.get(KEY, DATENSTAND)).isEqualTo(PDF);
+
+        // verify invocations
+        verify(pdfWriter).accept(any(OutputStream.class));
+    }
+
+
+    @Test
+    public void write_withNewDatenstand_shouldGeneratePdf() throws IOException {
+        // prepare test data
+        final PdfCache underTest = createPdfCache();
+
+        // configure mocks
+        writePdf();
+
+        // call test method
+        write(underTest, KEY, DATENSTAND, pdfWriter);
+        write(underTest, KEY, NEW_DATENSTAND, pdfWriter);
+        write(underTest, KEY, NEW_DATENSTAND, pdfWriter);
+
+        // assert result
+        assertThat(underTest.get(KEY, DATENSTAND)).isNull();
+
+        // verify invocations
+        verify(pdfWriter, times(2)).accept(any(OutputStream.class));
+    }
+
+
+    @Test
+    public void write_exceedingMaxDocumentBytes_shouldWritePdfWithoutCaching() throws IOException {
+        // prepare test data
+        pdfCacheConfiguration.setMaxDocumentBytes(2);
+        final PdfCache underTest = createPdfCache();
+
+        // configure mocks
+        writePdf();
+
+        // call test method
+        final byte[] first = write(underTest, KEY, DATENSTAND, pdfWriter);
+        final byte[] second = write(underTest, KEY, DATENSTAND, pdfWriter);
+
+        // assert result
+        assertThat(first).isEqualTo(PDF);
+        assertThat(second).isEqualTo(PDF);
+        assertThat(underTest.get(KEY, DATENSTAND)).isNull();
+
+        // verify invocations
+        verify(pdfWriter, times(2)).accept(any(OutputStream.class));
+    }
+
+
+    @Test
+    public void write_exceedingMaxBytes_shouldRemoveLeastRecentlyUsedPdf() throws IOException {
+        // prepare test data
+        final PdfCache underTest = createPdfCache();
+
+        // configure mocks
+        writePdf();
+
+        // call test method: 3 + 3 bytes exceed the limit of 5 bytes
+        write(underTest, KEY, DATENSTAND, pdfWriter);
+        write(underTest, OTHER_KEY, DATENSTAND, pdfWriter);
+        write(underTest, OTHER_KEY, DATENSTAND, pdfWriter);
+        write(underTest, KEY, DATENSTAND, pdfWriter);
+
+        // verify invocations
+        verify(pdfWriter, times(3)).accept(any(OutputStream.class));
+    }
+
+
+    @Test
+    public void write_exceedingMaxEntries_shouldRemoveLeastRecentlyUsedPdf() throws IOException {
+        // prepare test data
+        pdfCacheConfiguration.setMaxBytes(1024);
+        final PdfCache underTest = createPdfCache();
+
+        // configure mocks
+        writePdf();
+
+        // call test method
+        write(underTest, "a", DATENSTAND, pdfWriter);
+        write(underTest, "b", DATENSTAND, pdfWriter);
+        write(underTest, "a", DATENSTAND, pdfWriter);
+        write(underTest, "c", DATENSTAND, pdfWriter);
+        write(underTest, "a", DATENSTAND, pdfWriter);
+        write(underTest, "b", DATENSTAND, pdfWriter);
+
+        // verify invocations: "b" was the least recently used document
+        verify(pdfWriter, times(4)).accept(any(OutputStream.class));
+    }
+
+
+    @Test
+    public void get_withoutCachedPdf_shouldReturnNull() {
+        final PdfCache underTest = createPdfCache();
+
+        assertThat(underTest.get(KEY, DATENSTAND)).isNull();
+        verify(pdfWriter, never()).accept(any(OutputStream.class));
+    }
+}
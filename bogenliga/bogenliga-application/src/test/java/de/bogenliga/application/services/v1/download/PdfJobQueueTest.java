@@ -0,0 +1,176 @@
+package de.bogenliga.application.services.v1.download;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import de.bogenliga.application.common.configuration.PdfJobConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.services.v1.download.model.PdfJobDTO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PdfJobQueueTest {
+
+    private static final String TYPE = "Gesamtstatistik";
+    private static final byte[] PDF = new byte[]{1, 2, 3};
+    private static final long TIMEOUT = 5000L;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private PdfJobConfiguration pdfJobConfiguration;
+    private PdfJobQueue underTest;
+
+
+    @Before
+    public void initQueue() {
+        pdfJobConfiguration = new PdfJobConfiguration();
+        pdfJobConfiguration.setWorkers(1);
+        pdfJobConfiguration.setQueueCapacity(1);
+        pdfJobConfiguration.setDirectory(temporaryFolder.getRoot().getPath());
+        underTest = new PdfJobQueue(pdfJobConfiguration);
+    }
+
+
+    @After
+    public void closeQueue() {
+        underTest.close();
+    }
+
+
+    private static void writePdf(final OutputStream outputStream) {
+        try {
+            outputStream.write(PDF);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+
+    private PdfJobDTO awaitJob(final String jobId) throws InterruptedException {
+        final long timeout = System.currentTimeMillis() + TIMEOUT;
+        PdfJobDTO job = underTest.get(jobId);
+
+        while (job.getFinishedAt() == null && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+            job = underTest.get(jobId);
+        }
+        return job;
+    }
+
+
+    @Test
+    public void submit() throws Exception {
+        // call test method
+        final PdfJobDTO queued = underTest.submit(TYPE, PdfJobQueueTest::writePdf);
+        final PdfJobDTO actual = awaitJob(queued.getId());
+        final ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        underTest.write(actual.getId(), pdf);
+
+        // assert result
+        assertThat(queued.getType()).isEqualTo(TYPE);
+        assertThat(actual.getStatus()).isEqualTo("DONE");
+        assertThat(actual.getErrorMessage()).isNull();
+        assertThat(underTest.getSize(actual.getId())).isEqualTo(PDF.length);
+        assertThat(pdf.toByteArray()).isEqualTo(PDF);
+        assertThat(new File(temporaryFolder.getRoot(), actual.getId() + ".pdf")).exists();
+    }
+
+
+    @Test
+    public void submit_withFailingJob() throws Exception {
+        // call test method
+        final PdfJobDTO queued = underTest.submit(TYPE, outputStream -> {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Mannschaft fehlt");
+        });
+        final PdfJobDTO actual = awaitJob(queued.getId());
+
+        // assert result
+        assertThat(actual.getStatus()).isEqualTo("FAILED");
+        assertThat(actual.getErrorMessage()).contains("Mannschaft fehlt");
+        assertThat(temporaryFolder.getRoot().list()).isEmpty();
+        assertThatThrownBy(() -> underTest.write(actual.getId(), new ByteArrayOutputStream()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+
+    @Test
+    public void submit_withError_shouldFailJobAndDeleteFile() throws Exception {
+        // call test method
+        final PdfJobDTO queued = underTest.submit(TYPE, outputStream -> {
+            writePdf(outputStream);
+            throw new OutOfMemoryError("Java heap space");
+        });
+        final PdfJobDTO actual = awaitJob(queued.getId());
+
+        // assert result
+        assertThat(actual.getStatus()).isEqualTo("FAILED");
+        assertThat(actual.getErrorMessage()).contains("Java heap space");
+        assertThat(temporaryFolder.getRoot().list()).isEmpty();
+    }
+
+
+    @Test
+    public void submit_withFullQueue_shouldThrowException() throws Exception {
+        // prepare test data
+        final Object lock = new Object();
+        final Consumer<OutputStream> blockingWriter = outputStream -> {
+            synchronized (lock) {
+                writePdf(outputStream);
+            }
+        };
+
+        synchronized (lock) {
+            // the first job blocks the worker, the second job fills the queue
+            underTest.submit(TYPE, blockingWriter);
+            underTest.submit(TYPE, blockingWriter);
+
+            // call test method
+            assertThatThrownBy(() -> underTest.submit(TYPE, blockingWriter))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+
+    @Test
+    public void removeExpiredJobs() throws Exception {
+        // prepare test data
+        pdfJobConfiguration.setTimeToLive(1L);
+        underTest.close();
+        underTest = new PdfJobQueue(pdfJobConfiguration);
+        final PdfJobDTO job = underTest.submit(TYPE, PdfJobQueueTest::writePdf);
+        final File pdf = new File(temporaryFolder.getRoot(), job.getId() + ".pdf");
+        // the status is not polled, because it would remove the expired job
+        final long timeout = System.currentTimeMillis() + TIMEOUT;
+        while (!pdf.exists() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+        Thread.sleep(50L);
+
+        // call test method
+        underTest.removeExpiredJobs();
+
+        // assert result
+        assertThat(pdf).doesNotExist();
+        assertThatThrownBy(() -> underTest.get(job.getId()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(job.getId());
+    }
+
+
+    @Test
+    public void get_withUnknownJob_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.get("unbekannt"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("unbekannt");
+    }
+}
@@ -15,6 +15,8 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
+import de.bogenliga.application.common.service.types.PageDTO;
+import de.bogenliga.application.common.component.types.KeysetPage;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.services.v1.dsbmannschaft.mapper.DsbMannschaftDTOMapper;
 import de.bogenliga.application.services.v1.dsbmannschaft.model.DsbMannschaftDTO;
@@ -119,6 +121,29 @@ public class DsbMannschaftServiceTest {
     }
 
 
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final DsbMannschaftDO dsbMannschaftDO = getDsbMannschaftDO();
+        final KeysetPage<DsbMannschaftDO> page = new KeysetPage<>(Collections.singletonList(dsbMannschaftDO), 42L);
+
+        // configure mocks
+        when(dsbMannschaftComponent.getPage(any(), anyInt())).thenReturn(page);
+
+        // call test method
+        final PageDTO<DsbMannschaftDTO> actual = underTest.getPage(null, 100);
+
+        // assert result
+        assertThat(actual.getItems()).hasSize(1);
+        assertThat(actual.getItems().get(0).getId()).isEqualTo(dsbMannschaftDO.getId());
+        assertThat(actual.getNextCursor()).isEqualTo(42L);
+
+        // verify invocations
+        verify(dsbMannschaftComponent).getPage(null, 100);
+    }
+
+
     @Test
     public void findAllByVereinsId() {
         // prepare test data
@@ -1,9 +1,12 @@
 package de.bogenliga.application.services.v1.dsbmitglied.service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.security.Principal;
 import java.sql.Date;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import javax.naming.NoPermissionException;
 import org.junit.Before;
 import org.junit.Rule;
@@ -12,10 +15,18 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
+import de.bogenliga.application.common.service.types.PageDTO;
+import de.bogenliga.application.common.component.types.KeysetPage;
+import de.bogenliga.application.services.common.streaming.JsonArrayStreamer;
 import de.bogenliga.application.services.v1.dsbmitglied.model.DsbMitgliedDTO;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -61,6 +72,9 @@ public class DsbMitgliedServiceTest {
     @Mock
     private RequiresOnePermissionAspect requiresOnePermissionAspect;
 
+    @Spy
+    private JsonArrayStreamer jsonArrayStreamer = new JsonArrayStreamer(new ObjectMapper());
+
     @InjectMocks
     private DsbMitgliedService underTest;
 
@@ -105,28 +119,56 @@ public class DsbMitgliedServiceTest {
 
 
     @Test
-    public void findAll() {
+    public void findAll() throws IOException {
         // prepare test data
         final DsbMitgliedDO dsbMitgliedDO = getDsbMitgliedDO();
-        final List<DsbMitgliedDO> dsbMitgliedDOList = Collections.singletonList(dsbMitgliedDO);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
         // configure mocks
-        when(dsbMitgliedComponent.findAll()).thenReturn(dsbMitgliedDOList);
+        when(dsbMitgliedComponent.streamAll(any())).thenAnswer(invocation -> {
+            final Consumer<DsbMitgliedDO> consumer = invocation.getArgument(0);
+            consumer.accept(dsbMitgliedDO);
+            return 1;
+        });
 
         // call test method
-        final List<DsbMitgliedDTO> actual = underTest.findAll();
+        final ResponseEntity<StreamingResponseBody> actual = underTest.findAll();
+        actual.getBody().writeTo(outputStream);
 
         // assert result
-        assertThat(actual).isNotNull().hasSize(1);
+        final JsonNode actualJson = new ObjectMapper().readTree(outputStream.toByteArray());
 
-        final DsbMitgliedDTO actualDTO = actual.get(0);
+        assertThat(actualJson.isArray()).isTrue();
+        assertThat(actualJson).hasSize(1);
+        assertThat(actualJson.get(0).get("id").asLong()).isEqualTo(dsbMitgliedDO.getId());
+        assertThat(actualJson.get(0).get("vorname").asText()).isEqualTo(dsbMitgliedDO.getVorname());
 
-        assertThat(actualDTO).isNotNull();
-        assertThat(actualDTO.getId()).isEqualTo(dsbMitgliedDO.getId());
-        assertThat(actualDTO.getVorname()).isEqualTo(dsbMitgliedDO.getVorname());
+        // verify invocations
+        verify(dsbMitgliedComponent).streamAll(any());
+        verify(dsbMitgliedComponent, never()).findAll();
+    }
+
+
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final DsbMitgliedDO dsbMitgliedDO = getDsbMitgliedDO();
+        final KeysetPage<DsbMitgliedDO> page = new KeysetPage<>(Collections.singletonList(dsbMitgliedDO), 42L);
+
+        // configure mocks
+        when(dsbMitgliedComponent.getPage(any(), anyInt())).thenReturn(page);
+
+        // call test method
+        final PageDTO<DsbMitgliedDTO> actual = underTest.getPage(null, 100);
+
+        // assert result
+        assertThat(actual.getItems()).hasSize(1);
+        assertThat(actual.getItems().get(0).getId()).isEqualTo(dsbMitgliedDO.getId());
+        assertThat(actual.getNextCursor()).isEqualTo(42L);
 
         // verify invocations
-        verify(dsbMitgliedComponent).findAll();
+        verify(dsbMitgliedComponent).getPage(null, 100);
     }
 
 
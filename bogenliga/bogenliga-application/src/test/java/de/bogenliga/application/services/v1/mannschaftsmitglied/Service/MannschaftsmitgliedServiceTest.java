@@ -1,5 +1,14 @@
 package de.bogenliga.application.services.v1.mannschaftsmitglied.Service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.function.Consumer;
+import org.mockito.Spy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.bogenliga.application.services.common.streaming.JsonArrayStreamer;
 import java.security.Principal;
 import java.util.Collections;
 import java.util.List;
@@ -57,6 +66,9 @@ public class MannschaftsmitgliedServiceTest {
     @Mock
     private Principal principal;
 
+    @Spy
+    private JsonArrayStreamer jsonArrayStreamer = new JsonArrayStreamer(new ObjectMapper());
+
     @InjectMocks
     private MannschaftsMitgliedService underTest;
 
@@ -97,27 +109,32 @@ public class MannschaftsmitgliedServiceTest {
 
 
     @Test
-    public void findAll() {
+    public void findAll() throws IOException {
         // prepare test data
         final MannschaftsmitgliedDO mannschaftsmitgliedDO = getMannschaftsmitgliedDO();
-        final List<MannschaftsmitgliedDO> mannschaftsmitgliedDOList = Collections.singletonList(mannschaftsmitgliedDO);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
 
-        // configure Mocks
-        when(mannschaftsmitgliedComponent.findAll()).thenReturn(mannschaftsmitgliedDOList);
+        // configure mocks
+        when(mannschaftsmitgliedComponent.streamAll(any())).thenAnswer(invocation -> {
+            final Consumer<MannschaftsmitgliedDO> consumer = invocation.getArgument(0);
+            consumer.accept(mannschaftsmitgliedDO);
+            return 1;
+        });
 
         // call test method
-        final List<MannschaftsMitgliedDTO> actual = underTest.findAll();
+        final ResponseEntity<StreamingResponseBody> actual = underTest.findAll();
+        actual.getBody().writeTo(outputStream);
 
         // assert result
-        assertThat(actual).isNotNull().hasSize(1);
-
-        final MannschaftsMitgliedDTO actualDTO = actual.get(0);
+        final JsonNode actualJson = new ObjectMapper().readTree(outputStream.toByteArray());
 
-        assertThat(actualDTO).isNotNull();
-        assertThat(actualDTO.getMannschaftsId()).isEqualTo(mannschaftsmitgliedDO.getMannschaftId());
+        assertThat(actualJson.isArray()).isTrue();
+        assertThat(actualJson).hasSize(1);
+        assertThat(actualJson.get(0).get("mannschaftsId").asLong()).isEqualTo(mannschaftsmitgliedDO.getMannschaftId());
 
         // verify invocations
-        verify(mannschaftsmitgliedComponent).findAll();
+        verify(mannschaftsmitgliedComponent).streamAll(any());
+        verify(mannschaftsmitgliedComponent, never()).findAll();
     }
 
 
@@ -13,6 +13,8 @@ import de.bogenliga.application.springconfiguration.security.jsonwebtoken.JwtTok
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -31,6 +33,8 @@ import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.business.wettkampftyp.api.WettkampfTypComponent;
 import de.bogenliga.application.business.wettkampftyp.api.types.WettkampfTypDO;
+import de.bogenliga.application.common.service.types.PageDTO;
+import de.bogenliga.application.common.component.types.KeysetPage;
 import de.bogenliga.application.services.v1.match.mapper.MatchDTOMapper;
 import de.bogenliga.application.services.v1.match.model.MatchDTO;
 import de.bogenliga.application.services.v1.passe.mapper.PasseDTOMapper;
@@ -87,6 +91,9 @@ public class MatchServiceTest {
     @InjectMocks
     private MatchService underTest;
 
+    @Captor
+    private ArgumentCaptor<List<PasseDO>> passeDOListArgumentCaptor;
+
     protected static final Long MATCH_ID = 1L;
     protected static final Long MATCH_NR = 1L;
     protected static final Long MATCH_BEGEGNUNG = 1L;
@@ -320,6 +327,29 @@ public class MatchServiceTest {
     }
 
 
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final MatchDO matchDO = getMatchDO();
+        final KeysetPage<MatchDO> page = new KeysetPage<>(Collections.singletonList(matchDO), 42L);
+
+        // configure mocks
+        when(matchComponent.getPage(any(), anyInt())).thenReturn(page);
+
+        // call test method
+        final PageDTO<MatchDTO> actual = underTest.getPage(null, 100);
+
+        // assert result
+        assertThat(actual.getItems()).hasSize(1);
+        assertThat(actual.getItems().get(0).getId()).isEqualTo(matchDO.getId());
+        assertThat(actual.getNextCursor()).isEqualTo(42L);
+
+        // verify invocations
+        verify(matchComponent).getPage(null, 100);
+    }
+
+
     @Test
     public void findById() {
         MatchDO matchDO1 = getMatchDO();
@@ -334,7 +364,7 @@ public class MatchServiceTest {
         when(wettkampfTypComponent.findById(W_typId)).thenReturn(wettkampftypDO);
         final MatchDTO actual = underTest.findById(MATCH_ID);
         assertThat(actual).isNotNull();
-        MatchService.checkPreconditions(actual, MatchService.matchConditionErrors);
+        MatchService.checkPreconditions(actual, MatchService.matchPreconditions);
     }
 
 
@@ -363,7 +393,7 @@ public class MatchServiceTest {
         when(wettkampfTypComponent.findById(W_typId)).thenReturn(wettkampftypDO);
         final List<MatchDTO> actual = underTest.findMatchesByIds(MATCH_ID, MATCH_ID);
         assertThat(actual).isNotNull().isNotEmpty().hasSize(2);
-        MatchService.checkPreconditions(actual.get(0), MatchService.matchConditionErrors);
+        MatchService.checkPreconditions(actual.get(0), MatchService.matchPreconditions);
     }
 
 
@@ -393,7 +423,7 @@ public class MatchServiceTest {
         //verify invocations
         verify(matchComponent).findByMannschaftId(MATCH_MANNSCHAFT_ID);
 
-        MatchService.checkPreconditions(actualDTO, MatchService.matchConditionErrors);
+        MatchService.checkPreconditions(actualDTO, MatchService.matchPreconditions);
     }
 
 
@@ -411,7 +441,7 @@ public class MatchServiceTest {
         try {
             final List<MatchDTO> actual = underTest.saveMatches(matches, principal);
             assertThat(actual).isNotNull().isNotEmpty().hasSize(2);
-            MatchService.checkPreconditions(actual.get(0), MatchService.matchConditionErrors);
+            MatchService.checkPreconditions(actual.get(0), MatchService.matchPreconditions);
         } catch (NoPermissionException e) {
         }
     }
@@ -480,17 +510,62 @@ public class MatchServiceTest {
         when(requiresOnePermissionAspect.hasPermission(any())).thenReturn(true);
         when(mannschaftsmitgliedComponent.findAllSchuetzeInTeam(anyLong())).thenReturn(getMannschaftsMitglieder());
         when(mannschaftsmitgliedComponent.findByMemberAndTeamId(anyLong(), anyLong())).thenReturn(getMannschaftsMitglieder().get(0));
-        when(passeComponent.findById(PASSE_ID_1)).thenReturn(passe1DO);
-        when(passeComponent.findById(PASSE_ID_2)).thenReturn(passe2DO);
+        when(passeComponent.findByMatchId(anyLong())).thenReturn(Arrays.asList(passe1DO, passe2DO));
 
         try {
         final List<MatchDTO> actual = underTest.saveMatches(matches, principal);
         assertThat(actual).isNotNull().isNotEmpty().hasSize(2);
-        MatchService.checkPreconditions(actual.get(0), MatchService.matchConditionErrors);
-        MatchService.checkPreconditions(actual.get(1), MatchService.matchConditionErrors);
+        MatchService.checkPreconditions(actual.get(0), MatchService.matchPreconditions);
+        MatchService.checkPreconditions(actual.get(1), MatchService.matchPreconditions);
 
-        // make sure update was called twice per passed DTO
-        verify(passeComponent, times(4)).update(any(PasseDO.class), eq(CURRENT_USER_ID));
+        // make sure all passen of both matches are updated with one call
+        verify(passeComponent).saveAll(passeDOListArgumentCaptor.capture(), eq(CURRENT_USER_ID));
+        assertThat(passeDOListArgumentCaptor.getValue()).hasSize(4)
+                .extracting(PasseDO::getId).containsExactly(PASSE_ID_1, PASSE_ID_2, PASSE_ID_1, PASSE_ID_2);
+        verify(passeComponent, never()).update(any(PasseDO.class), anyLong());
+
+        } catch (NoPermissionException e) {
+        }
+    }
+
+
+    @Test
+    public void saveMatches_WithPasseOfOtherMatch() {
+        MatchDO matchDO1 = getMatchDO();
+        MatchDTO matchDTO = MatchDTOMapper.toDTO.apply(matchDO1);
+
+        PasseDTO passe1 = getPasseDTO(PASSE_ID_1, toIntExact(MM_rueckennummer_1));
+        PasseDTO passe2 = getPasseDTO(PASSE_ID_2, toIntExact(MM_rueckennummer_2));
+        PasseDO passe1DO = PasseDTOMapper.toDO.apply(passe1);
+
+        // change lfdnr of passe2 to make them distinguishable
+        passe2.setLfdNr(PASSE_LFDR_NR + 1);
+
+        List<PasseDTO> passeDTOS = new ArrayList<>();
+        passeDTOS.add(passe1);
+        passeDTOS.add(passe2);
+
+        matchDTO.setPassen(passeDTOS);
+
+        ArrayList<MatchDTO> matches = new ArrayList<>();
+        matches.add(matchDTO);
+        matches.add(matchDTO);
+
+        when(wettkampfComponent.findById(anyLong())).thenReturn(getWettkampfDO(W_id));
+        when(requiresOnePermissionAspect.hasPermission(any())).thenReturn(true);
+        when(mannschaftsmitgliedComponent.findAllSchuetzeInTeam(anyLong())).thenReturn(getMannschaftsMitglieder());
+        when(mannschaftsmitgliedComponent.findByMemberAndTeamId(anyLong(), anyLong())).thenReturn(getMannschaftsMitglieder().get(0));
+        // the passen are not part of the match, but passe1 exists with its id
+        when(passeComponent.findByMatchId(anyLong())).thenReturn(Collections.emptyList());
+        when(passeComponent.findById(PASSE_ID_1)).thenReturn(passe1DO);
+
+        try {
+            underTest.saveMatches(matches, principal);
+
+            // make sure the existing passe is still updated and only the unknown passe is created
+            verify(passeComponent).saveAll(passeDOListArgumentCaptor.capture(), eq(CURRENT_USER_ID));
+            assertThat(passeDOListArgumentCaptor.getValue()).hasSize(4)
+                    .extracting(PasseDO::getId).containsExactly(PASSE_ID_1, null, PASSE_ID_1, null);
 
         } catch (NoPermissionException e) {
         }
@@ -555,11 +630,14 @@ public class MatchServiceTest {
         try {
             final List<MatchDTO> actual = underTest.saveMatches(matches, principal);
             assertThat(actual).isNotNull().isNotEmpty().hasSize(2);
-            MatchService.checkPreconditions(actual.get(0), MatchService.matchConditionErrors);
-            MatchService.checkPreconditions(actual.get(1), MatchService.matchConditionErrors);
+            MatchService.checkPreconditions(actual.get(0), MatchService.matchPreconditions);
+            MatchService.checkPreconditions(actual.get(1), MatchService.matchPreconditions);
 
-            // make sure create was called twice per passed DTO
-            verify(passeComponent, times(4)).create(any(PasseDO.class), eq(CURRENT_USER_ID));
+            // make sure all passen of both matches are created with one call
+            verify(passeComponent).saveAll(passeDOListArgumentCaptor.capture(), eq(CURRENT_USER_ID));
+            assertThat(passeDOListArgumentCaptor.getValue()).hasSize(4)
+                    .extracting(PasseDO::getId).containsExactly(null, null, null, null);
+            verify(passeComponent, never()).findByMatchId(anyLong());
 
         } catch (NoPermissionException e) {
         }
@@ -577,7 +655,7 @@ public class MatchServiceTest {
         try {
             final MatchDTO actual = underTest.create(matchDTO, principal);
             assertThat(actual).isNotNull();
-            MatchService.checkPreconditions(actual, MatchService.matchConditionErrors);
+            MatchService.checkPreconditions(actual, MatchService.matchPreconditions);
 
         } catch (NoPermissionException e) {
         }
@@ -616,7 +694,7 @@ public class MatchServiceTest {
         try {
         final MatchDTO actual = underTest.update(matchDTO, principal);
         assertThat(actual).isNotNull();
-        MatchService.checkPreconditions(actual, MatchService.matchConditionErrors);
+        MatchService.checkPreconditions(actual, MatchService.matchPreconditions);
         } catch (NoPermissionException e) {
         }
     }
@@ -652,15 +730,17 @@ public class MatchServiceTest {
         matchesDO.add(matchDO1);
         matchesDO.add(matchDO1);
 
-        DsbMannschaftDO mannschaftDO = getMannschaftDO(M_id);
-        VereinDO vereinDO = getVereinDO(VEREIN_ID);
+        DsbMannschaftDO mannschaftDO = getMannschaftDO(MATCH_MANNSCHAFT_ID);
+        VereinDO vereinDO = getVereinDO(M_vereinId);
 
         matchDTO.setMannschaftName(vereinDO.getName() + '-' + mannschaftDO.getNummer());
 
 
         when(matchComponent.findByWettkampfId(anyLong())).thenReturn(matchesDO);
-        when(mannschaftComponent.findById(anyLong())).thenReturn(mannschaftDO);
-        when(vereinComponent.findById(anyLong())).thenReturn(vereinDO);
+        when(mannschaftComponent.findByIds(Collections.singletonList(MATCH_MANNSCHAFT_ID)))
+                .thenReturn(Collections.singletonList(mannschaftDO));
+        when(vereinComponent.findByIds(Collections.singletonList(M_vereinId)))
+                .thenReturn(Collections.singletonList(vereinDO));
         final List<MatchDTO> actual = underTest.findByWettkampfId(1L);
         assertThat(actual).isNotNull().isNotEmpty().hasSize(2);
 
@@ -671,6 +751,10 @@ public class MatchServiceTest {
         assertThat(actualDTO.getMannschaftId()).isEqualTo(matchDTO.getMannschaftId());
         assertThat(actualDTO.getMannschaftName()).isEqualTo(matchDTO.getMannschaftName());
 
+        // the mannschaften and vereine of all matches are loaded with one query each
+        verify(mannschaftComponent).findByIds(Collections.singletonList(MATCH_MANNSCHAFT_ID));
+        verify(vereinComponent).findByIds(Collections.singletonList(M_vereinId));
+        verify(mannschaftComponent, never()).findById(anyLong());
     }
     //erst mal den OK Fall testen
     @Test
@@ -1,12 +1,16 @@
 package de.bogenliga.application.services.v1.passe.service;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
+import de.bogenliga.application.services.common.streaming.JsonArrayStreamer;
 import de.bogenliga.application.services.v1.match.service.MatchService;
 import de.bogenliga.application.services.v1.passe.mapper.PasseDTOMapper;
 import org.junit.Before;
@@ -14,10 +18,17 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import de.bogenliga.application.business.passe.api.PasseComponent;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
+import de.bogenliga.application.common.service.types.PageDTO;
+import de.bogenliga.application.common.component.types.KeysetPage;
 
 import de.bogenliga.application.services.v1.passe.model.PasseDTO;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -43,6 +54,9 @@ public class PasseServiceTest {
     @Mock
     private Principal principal;
 
+    @Spy
+    private JsonArrayStreamer jsonArrayStreamer = new JsonArrayStreamer(new ObjectMapper());
+
     @InjectMocks
     private PasseService underTest;
 
@@ -118,29 +132,58 @@ public class PasseServiceTest {
 
 
     @Test
-    public void findAll(){
+    public void findAll() throws IOException {
+        // prepare test data
         final PasseDO passeDo = getPasseDO();
-        final List<PasseDO> passeDoList = Collections.singletonList(passeDo);
-        //configure Mocks
-        when(passeComponent.findAll()).thenReturn(passeDoList);
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // configure mocks
+        when(passeComponent.streamAll(any())).thenAnswer(invocation -> {
+            final Consumer<PasseDO> consumer = invocation.getArgument(0);
+            consumer.accept(passeDo);
+            return 1;
+        });
+
         // call test method
-        final List<PasseDTO> actual = underTest.findAll();
+        final ResponseEntity<StreamingResponseBody> actual = underTest.findAll();
+        actual.getBody().writeTo(outputStream);
 
         // assert result
-        assertThat(actual)
-                .isNotNull()
-                .hasSize(1);
-
-        final PasseDTO actualDTO = actual.get(0);
+        final JsonNode actualJson = new ObjectMapper().readTree(outputStream.toByteArray());
 
-        assertThat(actualDTO).isNotNull();
-        assertThat(actualDTO.getId()).isEqualTo(passeDo.getId());
+        assertThat(actualJson.isArray()).isTrue();
+        assertThat(actualJson).hasSize(1);
+        assertThat(actualJson.get(0).get("id").asLong()).isEqualTo(passeDo.getId());
 
         // verify invocations
-        verify(passeComponent).findAll();
+        verify(passeComponent).streamAll(any());
+        verify(passeComponent, never()).findAll();
+    }
 
+
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final PasseDO passeDo = getPasseDO();
+        final KeysetPage<PasseDO> page = new KeysetPage<>(Collections.singletonList(passeDo), 42L);
+
+        // configure mocks
+        when(passeComponent.getPage(any(), anyInt())).thenReturn(page);
+
+        // call test method
+        final PageDTO<PasseDTO> actual = underTest.getPage(null, 100);
+
+        // assert result
+        assertThat(actual.getItems()).hasSize(1);
+        assertThat(actual.getItems().get(0).getId()).isEqualTo(passeDo.getId());
+        assertThat(actual.getNextCursor()).isEqualTo(42L);
+
+        // verify invocations
+        verify(passeComponent).getPage(null, 100);
     }
 
+
     @Test
     public void testFindById() {
         final PasseDO passeDo = getPasseDO();
@@ -12,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.springframework.security.core.Authentication;
+import io.jsonwebtoken.Jwts;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -60,13 +61,36 @@ public class JwtTokenFilterTest {
     @Test
     public void doFilter() throws IOException, ServletException {
         // prepare test data
+        final JwtUserClaims claims = JwtUserClaims.fromClaims(Jwts.claims().setSubject("user"),
+                "usr", "id", "version", "auth", "refreshCounter");
+
+        // configure mocks
+        when(servletRequest.getMethod()).thenReturn("GET");
+        when(servletRequest.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + JWT);
+        when(jwtTokenProvider.verifyToken(JWT)).thenReturn(claims);
+        when(jwtTokenProvider.getAuthentication(claims)).thenReturn(authentication);
+        when(jwtTokenProvider.refreshToken(JWT, claims)).thenReturn("refreshed_token");
+
+        // call test method
+        underTest.doFilter(servletRequest, servletResponse, filterChain);
+
+        // assert result
+
+        // verify invocations
+        verify(servletRequest).setAttribute(JwtTokenProvider.CLAIMS_ATTRIBUTE, claims);
+        verify(servletResponse).addHeader(AUTHORIZATION_HEADER, "Bearer refreshed_token");
+        verify(filterChain).doFilter(servletRequest, servletResponse);
+    }
+
+
+    @Test
+    public void doFilter_withInvalidToken() throws IOException, ServletException {
+        // prepare test data
 
         // configure mocks
         when(servletRequest.getMethod()).thenReturn("GET");
-        when(jwtTokenProvider.refreshToken(any())).thenReturn("refreshed_token");
         when(servletRequest.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + JWT);
-        when(jwtTokenProvider.validateToken(any())).thenReturn(true);
-        when(jwtTokenProvider.getAuthentication(any())).thenReturn(authentication);
+        when(jwtTokenProvider.verifyToken(JWT)).thenReturn(null);
 
         // call test method
         underTest.doFilter(servletRequest, servletResponse, filterChain);
@@ -74,5 +98,7 @@ public class JwtTokenFilterTest {
         // assert result
 
         // verify invocations
+        verify(servletRequest, never()).setAttribute(any(), any());
+        verify(filterChain).doFilter(servletRequest, servletResponse);
     }
 }
\ No newline at end of file
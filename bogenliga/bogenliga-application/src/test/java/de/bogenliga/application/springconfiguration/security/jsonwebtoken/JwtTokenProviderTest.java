@@ -21,6 +21,8 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.user.api.types.UserDO;
 import de.bogenliga.application.business.user.api.types.UserWithPermissionsDO;
@@ -29,9 +31,11 @@ import de.bogenliga.application.common.configuration.SecurityJsonWebTokenConfigu
 import de.bogenliga.application.springconfiguration.security.authentication.UserAuthenticationProvider;
 import de.bogenliga.application.springconfiguration.security.types.UserPermission;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 /**
@@ -119,6 +123,7 @@ public class JwtTokenProviderTest {
         when(securityJsonWebTokenConfiguration.getExpiration()).thenReturn(EXPIRATION_TIME);
         when(securityJsonWebTokenConfiguration.getSecret()).thenReturn(SECRET);
         when(securityJsonWebTokenConfiguration.getRefresh()).thenReturn(REFRESH_TIME);
+        when(securityJsonWebTokenConfiguration.getCacheSize()).thenReturn(10);
 
         underTest.init();
     }
@@ -316,6 +321,168 @@ public class JwtTokenProviderTest {
     }
 
 
+    @Test
+    public void validateToken_withInvalidSignature() {
+        // prepare test data
+        final String manipulatedJwt = JWT.substring(0, JWT.length() - 2);
+
+        // configure mocks
+
+        // call test method
+        final boolean actual = underTest.validateToken(manipulatedJwt);
+
+        // assert result
+        assertThat(actual).isFalse();
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getClaims() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        final JwtUserClaims actual = underTest.getClaims(JWT);
+
+        // assert result
+        assertThat(actual.getUsername()).isEqualTo(USERNAME);
+        assertThat(actual.getUserId()).isEqualTo(ID);
+        assertThat(actual.getUserVersion()).isEqualTo(VERSION);
+        assertThat(actual.getPermissions()).containsExactlyInAnyOrderElementsOf(PERMISSIONS);
+        assertThat(actual.getRefreshCounter()).isEqualTo(REFRESH_TIME);
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getClaims_shouldReuseClaimsOfRequest() {
+        // prepare test data
+        final JwtUserClaims verifiedClaims = underTest.verifyToken(JWT);
+
+        // configure mocks
+        when(servletRequest.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + JWT);
+        when(servletRequest.getAttribute(JwtTokenProvider.CLAIMS_ATTRIBUTE)).thenReturn(verifiedClaims);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+
+        try {
+            // call test method
+            final JwtUserClaims actual = underTest.getClaims(JWT);
+
+            // assert result
+            assertThat(actual).isSameAs(verifiedClaims);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getClaims_withOtherTokenThanRequest_shouldParseToken() {
+        // prepare test data
+        final String otherJwt = underTest.createToken(authenticationFor(ID + 1));
+        final JwtUserClaims verifiedClaims = underTest.verifyToken(JWT);
+
+        // configure mocks
+        when(servletRequest.getHeader(AUTHORIZATION_HEADER)).thenReturn("Bearer " + JWT);
+        when(servletRequest.getAttribute(JwtTokenProvider.CLAIMS_ATTRIBUTE)).thenReturn(verifiedClaims);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+
+        try {
+            // call test method
+            final JwtUserClaims actual = underTest.getClaims(otherJwt);
+
+            // assert result
+            assertThat(actual).isNotSameAs(verifiedClaims);
+            assertThat(actual.getUserId()).isEqualTo(ID + 1);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getClaims_shouldReuseVerifiedToken() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        final JwtUserClaims actual = underTest.getClaims(JWT);
+
+        // assert result
+        assertThat(underTest.getClaims(JWT)).isSameAs(actual);
+        assertThat(underTest.verifyToken(JWT)).isSameAs(actual);
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getClaims_withCacheSizeReached_shouldRemoveEldestToken() {
+        // prepare test data
+
+        // configure mocks
+        when(securityJsonWebTokenConfiguration.getCacheSize()).thenReturn(1);
+        underTest.init();
+
+        // call test method
+        final JwtUserClaims actual = underTest.getClaims(JWT);
+        underTest.getClaims(underTest.createToken(authenticationFor(ID + 1)));
+
+        // assert result
+        assertThat(underTest.getClaims(JWT)).isNotSameAs(actual);
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void getClaims_withExpiredCachedToken_shouldThrowExpiredJwtException() throws InterruptedException {
+        // prepare test data
+
+        // configure mocks
+        when(securityJsonWebTokenConfiguration.getExpiration()).thenReturn(1000L);
+        underTest.init();
+
+        final String shortLivedJwt = underTest.createToken(authenticationFor(ID));
+        final JwtUserClaims cachedClaims = underTest.getClaims(shortLivedJwt);
+        Thread.sleep(Math.max(0, cachedClaims.getExpiration().getTime() - System.currentTimeMillis()) + 10);
+
+        // call test method
+        assertThatThrownBy(() -> underTest.getClaims(shortLivedJwt)).isInstanceOf(ExpiredJwtException.class);
+
+        // assert result
+        assertThat(underTest.verifyToken(shortLivedJwt)).isNull();
+
+        // verify invocations
+    }
+
+
+    @Test
+    public void verifyToken_withInvalidSignature() {
+        // prepare test data
+        final String manipulatedJwt = JWT.substring(0, JWT.length() - 2);
+
+        // configure mocks
+
+        // call test method
+        final JwtUserClaims actual = underTest.verifyToken(manipulatedJwt);
+
+        // assert result
+        assertThat(actual).isNull();
+
+        // verify invocations
+    }
+
+
     @Test
     public void refreshToken() {
         // prepare test data
@@ -334,6 +501,28 @@ public class JwtTokenProviderTest {
 
     @Test
     public void getRefreshCounter() {
+        // prepare test data
+
+        // configure mocks
+
+        // call test method
+        final int actual = underTest.getRefreshCounter(JWT);
+
+        // assert result
+        assertThat(actual).isEqualTo(REFRESH_TIME);
+
+        // verify invocations
+    }
+
+
+    private Authentication authenticationFor(final Long userId) {
+        final UserWithPermissionsDO userWithPermissionsDO = new UserWithPermissionsDO();
+        userWithPermissionsDO.setId(userId);
+        userWithPermissionsDO.setVersion(VERSION);
+        userWithPermissionsDO.setEmail(USERNAME);
+
+        when(authentication.getPrincipal()).thenReturn(userWithPermissionsDO);
+        return authentication;
     }
 
 
@@ -0,0 +1,234 @@
+package de.bogenliga.application.springconfiguration.transaction;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import de.bogenliga.application.common.database.tx.TransactionManager;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.service.ServiceFacade;
+import de.bogenliga.application.services.v1.ligatabelle.service.LigatabelleService;
+import de.bogenliga.application.services.v1.schuetzenstatistik.service.SchuetzenstatistikService;
+import de.bogenliga.application.services.v1.veranstaltung.service.VeranstaltungService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.*;
+
+public class UnitOfWorkAspectTest {
+
+    private static final String RESULT = "result";
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private TransactionManager transactionManager;
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+    @Mock
+    private MethodSignature methodSignature;
+
+    private UnitOfWorkAspect underTest;
+
+
+    /**
+     * Service facade with the annotated methods of the test cases
+     */
+    private static class TestService implements ServiceFacade {
+
+        @GetMapping
+        public String findAll() {
+            return RESULT;
+        }
+
+
+        @GetMapping
+        @UnitOfWork(readOnly = false)
+        public String generate() {
+            return RESULT;
+        }
+
+
+        @GetMapping
+        @UnitOfWork(readOnly = true)
+        public String download() {
+            return RESULT;
+        }
+
+
+        @PostMapping
+        public String create() {
+            return RESULT;
+        }
+    }
+
+
+    @Before
+    public void initUnderTest() {
+        underTest = new UnitOfWorkAspect(transactionManager);
+    }
+
+
+    private void configureJoinPoint(final String methodName) throws NoSuchMethodException {
+        final Method method = TestService.class.getMethod(methodName);
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(methodSignature.getMethod()).thenReturn(method);
+    }
+
+
+    @Test
+    public void executeUnitOfWork_withGetMapping_shouldUseReadOnlyTransaction() throws Throwable {
+        // configure mocks
+        configureJoinPoint("findAll");
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        // call test method
+        final Object actual = underTest.executeUnitOfWork(joinPoint);
+
+        // assert result
+        assertThat(actual).isEqualTo(RESULT);
+
+        // verify invocations
+        final InOrder inOrder = inOrder(transactionManager, joinPoint);
+        // the primary database is used, unless the method is explicitly annotated
+        inOrder.verify(transactionManager).begin(true);
+        inOrder.verify(joinPoint).proceed();
+        inOrder.verify(transactionManager).commit();
+        inOrder.verify(transactionManager).release();
+        verify(transactionManager, never()).rollback();
+        verify(transactionManager, never()).beginOnReplica();
+    }
+
+
+    @Test
+    public void executeUnitOfWork_withPostMapping_shouldUseReadWriteTransaction() throws Throwable {
+        // configure mocks
+        configureJoinPoint("create");
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        // call test method
+        underTest.executeUnitOfWork(joinPoint);
+
+        // verify invocations
+        verify(transactionManager).begin(false);
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+    }
+
+
+    @Test
+    public void executeUnitOfWork_withAnnotatedGetMapping_shouldUseReadWriteTransaction() throws Throwable {
+        // configure mocks
+        configureJoinPoint("generate");
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        // call test method
+        underTest.executeUnitOfWork(joinPoint);
+
+        // verify invocations
+        verify(transactionManager).begin(false);
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+    }
+
+
+    @Test
+    public void executeUnitOfWork_withReadOnlyAnnotation_shouldUseReplica() throws Throwable {
+        // configure mocks
+        configureJoinPoint("download");
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        // call test method
+        underTest.executeUnitOfWork(joinPoint);
+
+        // verify invocations
+        verify(transactionManager).beginOnReplica();
+        verify(transactionManager, never()).begin(anyBoolean());
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+    }
+
+
+    @Test
+    public void executeUnitOfWork_withPublicLeaguePages_shouldUseReplica() throws Throwable {
+        final List<Method> methods = Arrays.asList(
+                LigatabelleService.class.getMethod("getLigatabelleVeranstaltung", long.class),
+                LigatabelleService.class.getMethod("getLigatabelleWettkampf", long.class),
+                VeranstaltungService.class.getMethod("findAll"),
+                VeranstaltungService.class.getMethod("findByLigaId", long.class),
+                VeranstaltungService.class.getMethod("findAllSportjahrDestinct"),
+                VeranstaltungService.class.getMethod("findBySportjahr", long.class),
+                VeranstaltungService.class.getMethod("findBySportjahrDestinct", long.class));
+
+        // configure mocks
+        when(joinPoint.getSignature()).thenReturn(methodSignature);
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        // call test method
+        for (Method method : methods) {
+            when(methodSignature.getMethod()).thenReturn(method);
+            underTest.executeUnitOfWork(joinPoint);
+        }
+
+        // verify invocations
+        verify(transactionManager, times(methods.size())).beginOnReplica();
+        verify(transactionManager, never()).begin(anyBoolean());
+
+        // a single veranstaltung is read from the primary database, e.g. after it has been saved
+        assertThat(underTest.isReplicaAllowed(VeranstaltungService.class.getMethod("findById", long.class)))
+                .isFalse();
+        // the cached statistics are read from the primary database, so the cache does not keep outdated values
+        assertThat(underTest.isReplicaAllowed(SchuetzenstatistikService.class.getMethod(
+                "getSchuetzenstatistikWettkampf", long.class, long.class))).isFalse();
+    }
+
+
+    @Test
+    public void executeUnitOfWork_withActiveTransaction_shouldJoinTransaction() throws Throwable {
+        // configure mocks
+        when(transactionManager.isActive()).thenReturn(true);
+        when(joinPoint.proceed()).thenReturn(RESULT);
+
+        // call test method
+        final Object actual = underTest.executeUnitOfWork(joinPoint);
+
+        // assert result
+        assertThat(actual).isEqualTo(RESULT);
+
+        // verify invocations
+        verify(transactionManager).isActive();
+        verifyNoMoreInteractions(transactionManager);
+    }
+
+
+    @Test
+    public void executeUnitOfWork_withException_shouldRollbackTransaction() throws Throwable {
+        // configure mocks
+        configureJoinPoint("create");
+        when(joinPoint.proceed()).then(invocation -> {
+            when(transactionManager.isActive()).thenReturn(true);
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "not found");
+        });
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.executeUnitOfWork(joinPoint));
+
+        // verify invocations
+        verify(transactionManager).begin(false);
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+        verify(transactionManager, never()).commit();
+    }
+}
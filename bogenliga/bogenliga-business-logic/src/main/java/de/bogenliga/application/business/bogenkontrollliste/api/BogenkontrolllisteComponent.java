@@ -1,5 +1,7 @@
 package de.bogenliga.application.business.bogenkontrollliste.api;
 
+import java.io.OutputStream;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
 import de.bogenliga.application.common.component.ComponentFacade;
 
 /**
@@ -14,4 +16,18 @@ public interface BogenkontrolllisteComponent extends ComponentFacade {
      */
     byte[] getBogenkontrolllistePDFasByteArray(long wettkampfid);
 
+    /**
+     * Generates a pdf and writes the pages to the output stream while the document is generated
+     * @param wettkampfid ID for the competition
+     * @param outputStream for the document, not closed after writing
+     */
+    void writeBogenkontrolllistePDF(long wettkampfid, OutputStream outputStream);
+
+    /**
+     * Generates a pdf from the already loaded data of the competition and writes the pages to the output stream
+     * @param context data of the competition, see WettkampfDokumentComponent#getContext
+     * @param outputStream for the document, not closed after writing
+     */
+    void writeBogenkontrolllistePDF(WettkampfDokumentContextDO context, OutputStream outputStream);
+
 }
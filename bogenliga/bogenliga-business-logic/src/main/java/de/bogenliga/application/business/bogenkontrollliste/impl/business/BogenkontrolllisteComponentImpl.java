@@ -2,6 +2,7 @@ package de.bogenliga.application.business.bogenkontrollliste.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -29,16 +30,15 @@ import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.liga.api.LigaComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
-import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.passe.api.PasseComponent;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
-import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import de.bogenliga.application.common.validation.Preconditions;
 
@@ -60,42 +60,48 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
     private static final String PRECONDITION_VERANSTALTUNGSNAME =  "veranstaltungsName cannot be null";
 
     private final DsbMannschaftComponent dsbMannschaftComponent;
-    private final VereinComponent vereinComponent;
-    private final WettkampfComponent wettkampfComponent;
     private final VeranstaltungComponent veranstaltungComponent;
-    private final MatchComponent matchComponent;
     private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
     private final DsbMitgliedComponent dsbMitgliedComponent;
+    private final WettkampfDokumentComponent wettkampfDokumentComponent;
 
 
     @Autowired
     public BogenkontrolllisteComponentImpl(final DsbMannschaftComponent dsbMannschaftComponent,
-                                           final VereinComponent vereinComponent,
-                                           final WettkampfComponent wettkampfComponent,
                                            final VeranstaltungComponent veranstaltungComponent,
-                                           final MatchComponent matchComponent,
                                            final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
-                                           final DsbMitgliedComponent dsbMitgliedComponent) {
+                                           final DsbMitgliedComponent dsbMitgliedComponent,
+                                           final WettkampfDokumentComponent wettkampfDokumentComponent) {
         this.dsbMannschaftComponent = dsbMannschaftComponent;
-        this.vereinComponent = vereinComponent;
-        this.wettkampfComponent = wettkampfComponent;
         this.veranstaltungComponent = veranstaltungComponent;
-        this.matchComponent = matchComponent;
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
         this.dsbMitgliedComponent = dsbMitgliedComponent;
+        this.wettkampfDokumentComponent = wettkampfDokumentComponent;
     }
 
     @Override
     public byte[] getBogenkontrolllistePDFasByteArray(long wettkampfid) {
-        byte[] bResult;
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeBogenkontrolllistePDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+    @Override
+    public void writeBogenkontrolllistePDF(long wettkampfid, OutputStream outputStream) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
+        // load the wettkampf, the matches and the team names once
+        writeBogenkontrolllistePDF(wettkampfDokumentComponent.getContext(wettkampfid), outputStream);
+    }
 
+    @Override
+    public void writeBogenkontrolllistePDF(WettkampfDokumentContextDO context, OutputStream outputStream) {
         HashMap<String, List<DsbMitgliedDO>> teamMemberMapping = new HashMap<>();
         HashMap<DsbMitgliedDO,Boolean> allowedMapping = new HashMap<>();
 
         // Collect Information
-        WettkampfDO wettkampfDO = wettkampfComponent.findById(wettkampfid);
+        WettkampfDO wettkampfDO = context.getWettkampf();
+        long wettkampfid = wettkampfDO.getId();
         VeranstaltungDO veranstaltungDO = veranstaltungComponent.findById(wettkampfDO.getWettkampfVeranstaltungsId());
 
         String eventName = veranstaltungDO.getVeranstaltungName();
@@ -112,8 +118,8 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
         }
 
         for(int i=1; i <= 8; i++){
-            MatchDO matchDO = matchComponent.findByWettkampfIDMatchNrScheibenNr(wettkampfid, 1L, (long) i);
-            String teamName = getTeamName(matchDO.getMannschaftId());
+            MatchDO matchDO = getMatch(context, i);
+            String teamName = context.getMannschaftsName(matchDO.getMannschaftId());
             LOGGER.info("Teamname {} wurde gefunden ", teamName);
             List<MannschaftsmitgliedDO> mannschaftsmitgliedDOList = mannschaftsmitgliedComponent.findAllSchuetzeInTeam(matchDO.getMannschaftId());
             List<DsbMitgliedDO> dsbMitgliedDOList = new ArrayList<>();
@@ -136,16 +142,13 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
 
 
         }
-        try (final ByteArrayOutputStream result = new ByteArrayOutputStream();
-             final PdfWriter writer = new PdfWriter(result);
+        try (final PdfWriter writer = new PdfWriter(outputStream);
              final PdfDocument pdfDocument = new PdfDocument(writer);
              final Document doc = new Document(pdfDocument, PageSize.A4)) {
 
+            writer.setCloseStream(false);
             generateBogenkontrolllisteDoc(doc, wettkampfDO, teamMemberMapping, eventName, allowedMapping);
 
-            bResult = result.toByteArray();
-            return bResult;
-
         } catch (IOException e) {
             throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
                     "Bogenkontrollliste PDF konnte nicht erstellt werden: " + e);
@@ -403,19 +406,17 @@ public class BogenkontrolllisteComponentImpl implements BogenkontrolllisteCompon
 
 
     /**
-     * help function to get team name
+     * help function to get the match of a team in the first round
      *
-     * @param teamID ID of the team
-     * @return name of the team
+     * @param context data of the wettkampf
+     * @param scheibenNummer of the team
+     * @return match of the team
      */
-    private String getTeamName(long teamID) {
-        Preconditions.checkArgument(teamID >= 0,"TeamID cannot be Negative");
-        DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(teamID);
-        VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
-        if (dsbMannschaftDO.getNummer() > 1) {
-            return vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
-        } else {
-            return vereinDO.getName();
+    private MatchDO getMatch(WettkampfDokumentContextDO context, long scheibenNummer) {
+        MatchDO matchDO = context.getMatch(1L, scheibenNummer);
+        if (matchDO == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Matches für den Wettkampf noch nicht erzeugt");
         }
+        return matchDO;
     }
 }
@@ -9,6 +9,9 @@ import de.bogenliga.application.business.competitionclass.api.types.CompetitionC
 import de.bogenliga.application.business.competitionclass.impl.dao.CompetitionClassDAO;
 import de.bogenliga.application.business.competitionclass.impl.entity.CompetitionClassBE;
 import de.bogenliga.application.business.competitionclass.impl.mapper.CompetitionClassMapper;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.validation.Preconditions;
 
 /**
@@ -27,9 +30,12 @@ public class CompetitionClassComponentImpl implements CompetitionClassComponent
     private static final String PRECONDITION_MSG_KLASSE_NR = "Something is wrong with the CompetitionClass Number";
     private static final String PRECONDITION_MSG_NAME = "The CompetitionClass must be given a name";
     private static final String PRECONDITION_MSG_CURRENT_DSB_ID = "The currentDsbId cannot be negative";
+    private static final String CACHE_NAME = "competitionclass";
 
 
     private final CompetitionClassDAO competitionClassDAO;
+    private final ReferenceDataCache<Long, CompetitionClassBE> competitionClassCache;
+    private final TransactionManager transactionManager;
 
 
     /**
@@ -38,11 +44,17 @@ public class CompetitionClassComponentImpl implements CompetitionClassComponent
      * Dependency injection with {@link Autowired}
      *
      * @param competitionClassDAO DAO Object of Competition Class
+     * @param referenceDataCacheManager to cache the competition classes
+     * @param transactionManager to remove a changed competition class from the cache after the commit
      */
     @Autowired
     public CompetitionClassComponentImpl(
-            final CompetitionClassDAO competitionClassDAO) {
+            final CompetitionClassDAO competitionClassDAO,
+            final ReferenceDataCacheManager referenceDataCacheManager,
+            final TransactionManager transactionManager) {
         this.competitionClassDAO = competitionClassDAO;
+        this.competitionClassCache = referenceDataCacheManager.getCache(CACHE_NAME);
+        this.transactionManager = transactionManager;
     }
 
 
@@ -68,7 +80,7 @@ public class CompetitionClassComponentImpl implements CompetitionClassComponent
     public CompetitionClassDO findById(final long id) {
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_KLASSE_ID);
 
-        final CompetitionClassBE competitionClassBE = competitionClassDAO.findById(id);
+        final CompetitionClassBE competitionClassBE = competitionClassCache.get(id, competitionClassDAO::findById);
 
         return CompetitionClassMapper.toCompetitionClassDO.apply(competitionClassBE);
     }
@@ -95,6 +107,7 @@ public class CompetitionClassComponentImpl implements CompetitionClassComponent
         final CompetitionClassBE competitionClassBE = CompetitionClassMapper.toCompetitionClassBE.apply(competitionClassDO);
 
         final CompetitionClassBE persistedCompetitionClassBE = competitionClassDAO.update(competitionClassBE,currentDsbMitglied);
+        transactionManager.afterCommit(() -> competitionClassCache.invalidate(competitionClassDO.getId()));
 
         return CompetitionClassMapper.toCompetitionClassDO.apply(persistedCompetitionClassBE);
     }
@@ -0,0 +1,32 @@
+package de.bogenliga.application.business.datenstand.api;
+
+import de.bogenliga.application.common.component.ComponentFacade;
+
+/**
+ * I determine the version of the data a generated document is based on.
+ *
+ * A generated document can be reused as long as the version of its data is unchanged.
+ */
+public interface DatenstandComponent extends ComponentFacade {
+
+    /**
+     * Return the version of the data of the documents of a wettkampf, e.g. Schusszettel, Meldezettel,
+     * Bogenkontrollliste and Setzliste.
+     *
+     * @param wettkampfId of the wettkampf
+     *
+     * @return fingerprint of the wettkampfe, matches, mannschaften, vereine and mannschaftsmitglieder
+     * of the veranstaltung of the wettkampf
+     */
+    String getWettkampfDatenstand(long wettkampfId);
+
+
+    /**
+     * Return the version of the data of the documents of a mannschaft, e.g. Lizenzen.
+     *
+     * @param mannschaftId of the mannschaft
+     *
+     * @return fingerprint of the mannschaft, its veranstaltung, mannschaftsmitglieder, vereine and lizenzen
+     */
+    String getMannschaftDatenstand(long mannschaftId);
+}
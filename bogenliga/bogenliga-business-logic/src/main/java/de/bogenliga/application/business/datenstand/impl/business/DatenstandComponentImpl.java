@@ -0,0 +1,59 @@
+package de.bogenliga.application.business.datenstand.impl.business;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.datenstand.api.DatenstandComponent;
+import de.bogenliga.application.business.datenstand.impl.dao.DatenstandDAO;
+import de.bogenliga.application.business.datenstand.impl.entity.DatenstandBE;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * Implementation of {@link DatenstandComponent}
+ */
+@Component
+public class DatenstandComponentImpl implements DatenstandComponent {
+
+    private static final String PRECONDITION_WETTKAMPFID = "wettkampfID cannot be negative";
+    private static final String PRECONDITION_MANNSCHAFTID = "mannschaftID cannot be negative";
+
+    private final DatenstandDAO datenstandDAO;
+
+
+    /**
+     * Constructor
+     *
+     * dependency injection with {@link Autowired}
+     * @param datenstandDAO to access the database and return the fingerprints
+     */
+    @Autowired
+    public DatenstandComponentImpl(final DatenstandDAO datenstandDAO) {
+        this.datenstandDAO = datenstandDAO;
+    }
+
+
+    @Override
+    public String getWettkampfDatenstand(final long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_WETTKAMPFID);
+
+        return toDatenstand(datenstandDAO.findWettkampfDatenstand(wettkampfId), "Wettkampf", wettkampfId);
+    }
+
+
+    @Override
+    public String getMannschaftDatenstand(final long mannschaftId) {
+        Preconditions.checkArgument(mannschaftId >= 0, PRECONDITION_MANNSCHAFTID);
+
+        return toDatenstand(datenstandDAO.findMannschaftDatenstand(mannschaftId), "Mannschaft", mannschaftId);
+    }
+
+
+    private static String toDatenstand(final DatenstandBE datenstandBE, final String entity, final long id) {
+        if (datenstandBE == null || datenstandBE.getDatenstand() == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                    String.format("No Datenstand found for %s-ID '%s'", entity, id));
+        }
+        return datenstandBE.getDatenstand();
+    }
+}
@@ -0,0 +1,163 @@
+package de.bogenliga.application.business.datenstand.impl.dao;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Repository;
+import de.bogenliga.application.business.datenstand.impl.entity.DatenstandBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
+import de.bogenliga.application.common.component.dao.DataAccessObject;
+
+/**
+ * DataAccessObject for the fingerprints of the data of generated documents.
+ * <p>
+ * Use a {@link BusinessEntityConfiguration} for each entity to configure the generic {@link BasicDAO} methods
+ */
+@Repository
+public class DatenstandDAO implements DataAccessObject {
+
+    // define the logger context
+    private static final Logger LOG = LoggerFactory.getLogger(DatenstandDAO.class);
+
+    // table name in the database
+    private static final String TABLE = "datenstand";
+
+    // business entity parameter names
+    private static final String DATENSTAND_BE = "datenstand";
+
+    private static final String DATENSTAND_TABLE = "datenstand";
+
+    /*
+     * SQL queries
+     */
+
+    /* der Datenstand ist der MD5-Hash über den Inhalt aller Zeilen, aus denen die Dokumente eines Wettkampfs
+     * erzeugt werden - jede angelegte, geänderte oder gelöschte Zeile ändert den Datenstand
+     * die Matches aller Wettkämpfe der Veranstaltung sind enthalten, da die Setzliste aus der Ligatabelle
+     * des vorherigen Wettkampftags erzeugt wird
+     */
+    private static final String FIND_WETTKAMPF_DATENSTAND =
+            "WITH datenstand_veranstaltung AS ("
+                    + "   SELECT wettkampf_veranstaltung_id AS veranstaltung_id"
+                    + "   FROM wettkampf"
+                    + "   WHERE wettkampf_id = ?"
+                    + " ), datenstand_wettkampf AS ("
+                    + "   SELECT w.*"
+                    + "   FROM wettkampf w, datenstand_veranstaltung dv"
+                    + "   WHERE w.wettkampf_veranstaltung_id = dv.veranstaltung_id"
+                    + " ), datenstand_mannschaft AS ("
+                    + "   SELECT ma.*"
+                    + "   FROM mannschaft ma, datenstand_veranstaltung dv"
+                    + "   WHERE ma.mannschaft_veranstaltung_id = dv.veranstaltung_id"
+                    + " ), datenstand_mannschaftsmitglied AS ("
+                    + "   SELECT mm.*"
+                    + "   FROM mannschaftsmitglied mm"
+                    + "   WHERE mm.mannschaftsmitglied_mannschaft_id IN (SELECT mannschaft_id FROM datenstand_mannschaft)"
+                    + " )"
+                    + " SELECT md5(concat_ws('|',"
+                    + "   (SELECT v::text FROM veranstaltung v WHERE v.veranstaltung_id = dv.veranstaltung_id),"
+                    + "   (SELECT l::text FROM liga l, veranstaltung v"
+                    + "     WHERE l.liga_id = v.veranstaltung_liga_id AND v.veranstaltung_id = dv.veranstaltung_id),"
+                    + "   (SELECT string_agg(dw::text, ',' ORDER BY dw.wettkampf_id) FROM datenstand_wettkampf dw),"
+                    + "   (SELECT string_agg(di::text, ',' ORDER BY di.disziplin_id) FROM disziplin di"
+                    + "     WHERE di.disziplin_id IN (SELECT wettkampf_disziplin_id FROM datenstand_wettkampf)),"
+                    + "   (SELECT string_agg(m::text, ',' ORDER BY m.match_id) FROM match m"
+                    + "     WHERE m.match_wettkampf_id IN (SELECT wettkampf_id FROM datenstand_wettkampf)),"
+                    + "   (SELECT string_agg(dma::text, ',' ORDER BY dma.mannschaft_id) FROM datenstand_mannschaft dma),"
+                    + "   (SELECT string_agg(ve::text, ',' ORDER BY ve.verein_id) FROM verein ve"
+                    + "     WHERE ve.verein_id IN (SELECT mannschaft_verein_id FROM datenstand_mannschaft)),"
+                    + "   (SELECT string_agg(dmm::text, ',' ORDER BY dmm.mannschaftsmitglied_id)"
+                    + "     FROM datenstand_mannschaftsmitglied dmm),"
+                    + "   (SELECT string_agg(mi::text, ',' ORDER BY mi.dsb_mitglied_id) FROM dsb_mitglied mi"
+                    + "     WHERE mi.dsb_mitglied_id IN (SELECT mannschaftsmitglied_dsb_mitglied_id"
+                    + "                                  FROM datenstand_mannschaftsmitglied))"
+                    + " )) AS datenstand"
+                    + " FROM datenstand_veranstaltung dv";
+
+    /* der Datenstand der Dokumente einer Mannschaft, z.B. der Lizenzen
+     * enthalten sind die Mannschaft, ihre Veranstaltung mit den Wettkämpfen, die Mannschaftsmitglieder mit
+     * ihren Vereinen und Lizenzen
+     */
+    private static final String FIND_MANNSCHAFT_DATENSTAND =
+            "WITH datenstand_mannschaft AS ("
+                    + "   SELECT ma.*"
+                    + "   FROM mannschaft ma"
+                    + "   WHERE ma.mannschaft_id = ?"
+                    + " ), datenstand_mannschaftsmitglied AS ("
+                    + "   SELECT mm.*"
+                    + "   FROM mannschaftsmitglied mm"
+                    + "   WHERE mm.mannschaftsmitglied_mannschaft_id IN (SELECT mannschaft_id FROM datenstand_mannschaft)"
+                    + " ), datenstand_dsb_mitglied AS ("
+                    + "   SELECT mi.*"
+                    + "   FROM dsb_mitglied mi"
+                    + "   WHERE mi.dsb_mitglied_id IN (SELECT mannschaftsmitglied_dsb_mitglied_id"
+                    + "                                FROM datenstand_mannschaftsmitglied)"
+                    + " )"
+                    + " SELECT md5(concat_ws('|',"
+                    + "   dma::text,"
+                    + "   (SELECT v::text FROM veranstaltung v WHERE v.veranstaltung_id = dma.mannschaft_veranstaltung_id),"
+                    + "   (SELECT string_agg(w::text, ',' ORDER BY w.wettkampf_id) FROM wettkampf w"
+                    + "     WHERE w.wettkampf_veranstaltung_id = dma.mannschaft_veranstaltung_id),"
+                    + "   (SELECT string_agg(dmm::text, ',' ORDER BY dmm.mannschaftsmitglied_id)"
+                    + "     FROM datenstand_mannschaftsmitglied dmm),"
+                    + "   (SELECT string_agg(dmi::text, ',' ORDER BY dmi.dsb_mitglied_id) FROM datenstand_dsb_mitglied dmi),"
+                    + "   (SELECT string_agg(ve::text, ',' ORDER BY ve.verein_id) FROM verein ve"
+                    + "     WHERE ve.verein_id = dma.mannschaft_verein_id"
+                    + "        OR ve.verein_id IN (SELECT dsb_mitglied_verein_id FROM datenstand_dsb_mitglied)),"
+                    + "   (SELECT string_agg(li::text, ',' ORDER BY li.lizenz_id) FROM lizenz li"
+                    + "     WHERE li.lizenz_dsb_mitglied_id IN (SELECT dsb_mitglied_id FROM datenstand_dsb_mitglied))"
+                    + " )) AS datenstand"
+                    + " FROM datenstand_mannschaft dma";
+
+    // wrap all specific config parameters
+    private static final BusinessEntityConfiguration<DatenstandBE> DATENSTAND = new BusinessEntityConfiguration<>(
+            DatenstandBE.class, TABLE, getColumnsToFieldsMap(), LOG);
+
+    private final BasicDAO basicDao;
+
+
+    /**
+     * Initialize the transaction manager to provide a database connection
+     *
+     * @param basicDao to handle the commonly used database operations
+     */
+    @Autowired
+    public DatenstandDAO(final BasicDAO basicDao) {
+        this.basicDao = basicDao;
+    }
+
+
+    // table column label mapping to the business entity parameter names
+    private static Map<String, String> getColumnsToFieldsMap() {
+        final Map<String, String> columnsToFieldsMap = new HashMap<>();
+
+        columnsToFieldsMap.put(DATENSTAND_TABLE, DATENSTAND_BE);
+
+        return columnsToFieldsMap;
+    }
+
+
+    /**
+     * Lesen des Datenstands der Dokumente eines Wettkampfs
+     *
+     * @param wettkampfId Id des Wettkampfs
+     * @return Datenstand; null, wenn der Wettkampf nicht existiert
+     */
+    public DatenstandBE findWettkampfDatenstand(final long wettkampfId) {
+        return basicDao.selectSingleEntity(DATENSTAND, FIND_WETTKAMPF_DATENSTAND, wettkampfId);
+    }
+
+
+    /**
+     * Lesen des Datenstands der Dokumente einer Mannschaft
+     *
+     * @param mannschaftId Id der Mannschaft
+     * @return Datenstand; null, wenn die Mannschaft nicht existiert
+     */
+    public DatenstandBE findMannschaftDatenstand(final long mannschaftId) {
+        return basicDao.selectSingleEntity(DATENSTAND, FIND_MANNSCHAFT_DATENSTAND, mannschaftId);
+    }
+}
@@ -0,0 +1,40 @@
+package de.bogenliga.application.business.datenstand.impl.entity;
+
+import de.bogenliga.application.common.component.entity.BusinessEntity;
+
+/**
+ * I´m the fingerprint of all rows a generated document is based on.
+ *
+ * The fingerprint changes, if one of the rows is created, updated or deleted.
+ */
+public class DatenstandBE implements BusinessEntity {
+    private static final long serialVersionUID = 4921568360132874125L;
+
+    private String datenstand;
+
+
+    /**
+     * Constructor
+     */
+    public DatenstandBE() {
+        // empty
+    }
+
+
+    @Override
+    public String toString() {
+        return "DatenstandBE{" +
+                "datenstand='" + datenstand + '\'' +
+                '}';
+    }
+
+
+    public String getDatenstand() {
+        return datenstand;
+    }
+
+
+    public void setDatenstand(final String datenstand) {
+        this.datenstand = datenstand;
+    }
+}
@@ -9,6 +9,9 @@ import de.bogenliga.application.business.disziplin.api.types.DisziplinDO;
 import de.bogenliga.application.business.disziplin.impl.dao.DisziplinDAO;
 import de.bogenliga.application.business.disziplin.impl.entity.DisziplinBE;
 import de.bogenliga.application.business.disziplin.impl.mapper.DisziplinMapper;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -34,8 +37,11 @@ public class DisziplinComponentImpl implements DisziplinComponent {
      */
     private static final String PRECONDITION_MSG_TEMPLATE_NULL = "Passe: %s must not be null";
     private static final String PRECONDITION_MSG_TEMPLATE_NEGATIVE = "Passe: %s must not be negative";
+    private static final String CACHE_NAME = "disziplin";
 
     private final DisziplinDAO disziplinDAO;
+    private final ReferenceDataCache<Long, DisziplinBE> disziplinCache;
+    private final TransactionManager transactionManager;
 
 
     /**
@@ -44,10 +50,16 @@ public class DisziplinComponentImpl implements DisziplinComponent {
      * dependency injection with {@link Autowired}
      *
      * @param disziplinDAO to access the database and return match representations
+     * @param referenceDataCacheManager to cache the disziplinen
+     * @param transactionManager to remove a changed disziplin from the cache after the commit
      */
     @Autowired
-    public DisziplinComponentImpl(final DisziplinDAO disziplinDAO) {
+    public DisziplinComponentImpl(final DisziplinDAO disziplinDAO,
+                                  final ReferenceDataCacheManager referenceDataCacheManager,
+                                  final TransactionManager transactionManager) {
         this.disziplinDAO = disziplinDAO;
+        this.disziplinCache = referenceDataCacheManager.getCache(CACHE_NAME);
+        this.transactionManager = transactionManager;
     }
 
 
@@ -68,7 +80,7 @@ public class DisziplinComponentImpl implements DisziplinComponent {
     public DisziplinDO findById(Long id) {
         checkPreconditions(id,PRECONDITION_MSG_DISZIPLIN_NR);
 
-        final DisziplinBE disziplinBE = disziplinDAO.findById(id);
+        final DisziplinBE disziplinBE = disziplinCache.get(id, disziplinDAO::findById);
 
         if (disziplinBE == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
@@ -97,6 +109,7 @@ public class DisziplinComponentImpl implements DisziplinComponent {
         this.checkDisziplin(disziplinDO);
 
         DisziplinBE disziplinBE = disziplinDAO.update(DisziplinMapper.toDisziplinBE.apply(disziplinDO), currentUserId);
+        transactionManager.afterCommit(() -> disziplinCache.invalidate(disziplinDO.getDisziplinID()));
         return DisziplinMapper.toDisziplinDO.apply(disziplinBE);
     }
 
@@ -119,5 +132,6 @@ public class DisziplinComponentImpl implements DisziplinComponent {
 
         DisziplinBE disziplinBE = DisziplinMapper.toDisziplinBE.apply(disziplinDO);
         disziplinDAO.delete(disziplinBE, currentUserId);
+        transactionManager.afterCommit(() -> disziplinCache.invalidate(disziplinDO.getDisziplinID()));
     }
 }
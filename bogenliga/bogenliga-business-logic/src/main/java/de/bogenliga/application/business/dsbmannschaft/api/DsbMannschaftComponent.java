@@ -2,6 +2,8 @@ package de.bogenliga.application.business.dsbmannschaft.api;
 
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.common.component.ComponentFacade;
+import de.bogenliga.application.common.component.types.KeysetPage;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -20,6 +22,17 @@ public interface DsbMannschaftComponent extends ComponentFacade {
     List<DsbMannschaftDO> findAll();
 
 
+    /**
+     * Return one page of dsbmannschaft entries in the order of the id.
+     *
+     * @param cursor id of the last dsbmannschaft of the previous page or null for the first page
+     * @param limit  maximum number of dsbmannschaften on the page, capped at {@link KeysetPage#MAX_LIMIT}
+     *
+     * @return page of dsbmannschaften with the cursor of the next page
+     */
+    KeysetPage<DsbMannschaftDO> getPage(Long cursor, int limit);
+
+
     /**
      * Return all dsbmannschaft entries with the given vereinsId.
      *
@@ -64,6 +77,16 @@ public interface DsbMannschaftComponent extends ComponentFacade {
     DsbMannschaftDO findById(long id);
 
 
+    /**
+     * Return the dsbmannschaft entries with the given ids with one query.
+     *
+     * @param ids of the dsbmannschaften
+     * @return dsbmannschaft entries with their names;
+     * ids without a dsbmannschaft are ignored
+     */
+    List<DsbMannschaftDO> findByIds(Collection<Long> ids);
+
+
     /**
      * Create a new dsbmannschaft in the database.
      *
@@ -93,12 +116,13 @@ public interface DsbMannschaftComponent extends ComponentFacade {
     void delete(DsbMannschaftDO dsbMannschaftDO, long currentDsbMitgliedId);
 
     /**
-     * Copys the Mannschaften of an old Veranstaltung into a new Veranstaltung
+     * Copys the Mannschaften of an old Veranstaltung with their Mannschaftsmitglieder into a new Veranstaltung.
+     * All entries are created within one database statement.
      *
      * @param lastVeranstaltungsId
      * @param currentVeranstaltungsId
      * @param userId
-     * @return
+     * @return the created Mannschaften
      */
     List<DsbMannschaftDO> copyMannschaftFromVeranstaltung(final long lastVeranstaltungsId, final long currentVeranstaltungsId, final long userId);
 }
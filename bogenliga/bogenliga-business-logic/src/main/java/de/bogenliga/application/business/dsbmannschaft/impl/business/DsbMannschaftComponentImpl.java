@@ -6,19 +6,21 @@ import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO
 import de.bogenliga.application.business.dsbmannschaft.impl.dao.DsbMannschaftDAO;
 import de.bogenliga.application.business.dsbmannschaft.impl.entity.DsbMannschaftBE;
 import de.bogenliga.application.business.dsbmannschaft.impl.mapper.DsbMannschaftMapper;
-import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
-import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.dao.VereinDAO;
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
+import de.bogenliga.application.common.cache.BatchLoader;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.common.component.types.KeysetPage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,12 +41,14 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
     private static final String PRECONDITION_MSG_SORTIERUNG = "The Sortierung must not be null or negative";
     private static final String PRECONDITION_MSG_VERANSTALTUNGS_ID = "Veranstaltungs ID must not be negative";
     private static final String PRECONDITION_MSG_WETTKAMPF_ID = "Wettkampf ID must not be negative";
+    private static final String PRECONDITION_MSG_USER_ID = "User ID must not be negative";
 
     private static final String EXCEPTION_NO_RESULTS = "No result for ID '%s'";
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DsbMannschaftComponentImpl.class);
+
     private final DsbMannschaftDAO dsbMannschaftDAO;
     private final VereinComponent vereinComponent;
-    private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
 
 
     /**
@@ -56,12 +60,10 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
 
     @Autowired
     public DsbMannschaftComponentImpl(final DsbMannschaftDAO dsbMannschaftDAO,
-                                      final VereinComponent vereinComponent,
-                                      final MannschaftsmitgliedComponent mannschaftsmitgliedComponent) {
+                                      final VereinComponent vereinComponent) {
 
         this.dsbMannschaftDAO = dsbMannschaftDAO;
         this.vereinComponent = vereinComponent;
-        this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
     }
 
     public DsbMannschaftDAO getDAO(){
@@ -76,6 +78,19 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
                 .map(DsbMannschaftMapper.toDsbMannschaftDO).collect(Collectors.toList()));
     }
 
+
+    @Override
+    public KeysetPage<DsbMannschaftDO> getPage(final Long cursor, final int limit) {
+        final int pageLimit = KeysetPage.checkLimit(limit);
+
+        final List<DsbMannschaftBE> dsbMannschaftBeList = dsbMannschaftDAO.getPage(KeysetPage.getStartKey(cursor),
+                KeysetPage.getQueryLimit(pageLimit));
+        final KeysetPage<DsbMannschaftDO> page = KeysetPage.of(dsbMannschaftBeList, pageLimit,
+                DsbMannschaftBE::getId).map(DsbMannschaftMapper.toDsbMannschaftDO);
+        fillAllNames(page.getItems());
+        return page;
+    }
+
     @Override
     public List<DsbMannschaftDO> findAllByVereinsId(long id){
         Preconditions.checkArgument( id>= 0, PRECONDITION_MSG_DSBMANNSCHAFT_ID);
@@ -130,6 +145,14 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
     }
 
 
+    @Override
+    public List<DsbMannschaftDO> findByIds(final Collection<Long> ids) {
+        final List<DsbMannschaftBE> dsbMannschaftBeList = dsbMannschaftDAO.findByIds(ids);
+
+        return fillAllNames(dsbMannschaftBeList.stream()
+                .map(DsbMannschaftMapper.toDsbMannschaftDO).collect(Collectors.toList()));
+    }
+
 
     @Override
     public DsbMannschaftDO create(final DsbMannschaftDO dsbMannschaftDO, final long currentDsbMannschaftId) {
@@ -176,7 +199,17 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
      * @return the same Mannschaften as given but with their names filled.
      */
     private List<DsbMannschaftDO> fillAllNames(List<DsbMannschaftDO> mannschaften){
-        return mannschaften.stream().map(this::fillName).collect(Collectors.toList());
+        // load all vereine of the list with one query instead of one query per mannschaft
+        final BatchLoader<Long, VereinDO> vereinLoader = new BatchLoader<>(vereinComponent::findByIds, VereinDO::getId);
+
+        for (DsbMannschaftDO mannschaft : mannschaften) {
+            Preconditions.checkNotNull(mannschaft, PRECONDITION_MSG_DSBMANNSCHAFT);
+            Preconditions.checkArgument(mannschaft.getVereinId() >= 0, PRECONDITION_MSG_DSBMANNSCHAFT_VEREIN_ID);
+            vereinLoader.register(mannschaft.getVereinId());
+        }
+
+        mannschaften.forEach(mannschaft -> setName(mannschaft, vereinLoader.get(mannschaft.getVereinId())));
+        return mannschaften;
     }
 
     /**
@@ -191,6 +224,11 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
         Preconditions.checkArgument(mannschaft.getVereinId() >= 0, PRECONDITION_MSG_DSBMANNSCHAFT_VEREIN_ID);
 
         VereinDO vereinDO = this.vereinComponent.findById(mannschaft.getVereinId());
+        return setName(mannschaft, vereinDO);
+    }
+
+
+    private DsbMannschaftDO setName(DsbMannschaftDO mannschaft, VereinDO vereinDO) {
         if (vereinDO != null && vereinDO.getName() != null) {
             mannschaft.setName(vereinDO.getName() + " " + mannschaft.getNummer());
         }
@@ -277,7 +315,8 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
 
 
     /**
-     * Copys the Mannschaften of an old Veranstaltung into a new Veranstaltung
+     * Copys the Mannschaften of an old Veranstaltung with their Mannschaftsmitglieder into a new Veranstaltung
+     * with one set-based database statement instead of one insert per Mannschaft and Mannschaftsmitglied
      * returns a list of all created database entrys of Mannschaften
      * @param lastVeranstaltungId
      * @param currentVeranstaltungId
@@ -286,32 +325,21 @@ public class DsbMannschaftComponentImpl implements DsbMannschaftComponent, DsbMa
      */
     @Override
     public List<DsbMannschaftDO> copyMannschaftFromVeranstaltung(long lastVeranstaltungId, long currentVeranstaltungId, long userId) {
+        Preconditions.checkArgument(lastVeranstaltungId >= 0, PRECONDITION_MSG_VERANSTALTUNGS_ID);
+        Preconditions.checkArgument(currentVeranstaltungId >= 0, PRECONDITION_MSG_VERANSTALTUNGS_ID);
+        Preconditions.checkArgument(userId >= 0, PRECONDITION_MSG_USER_ID);
 
-        final List<DsbMannschaftBE> lastMannschaftList = dsbMannschaftDAO.findAllByVeranstaltungsId(lastVeranstaltungId);
+        final long start = System.currentTimeMillis();
 
-        List<DsbMannschaftDO> lastMListDO = fillAllNames(lastMannschaftList.stream()
-                .map(DsbMannschaftMapper.toDsbMannschaftDO).collect(Collectors.toList()));
+        // creates the Mannschaften and their Mannschaftsmitglieder with the current VeranstaltungId in one statement
+        final List<DsbMannschaftBE> addedMannschaftList =
+                dsbMannschaftDAO.copyFromVeranstaltung(lastVeranstaltungId, currentVeranstaltungId, userId);
 
-        // creates a new database entry for every Mannschaft with the current VeranstaltungId
-        List<DsbMannschaftDO> addedMannschaftenList = new ArrayList<>();
-        for(DsbMannschaftDO mannschaftToCheck : lastMListDO) {
-
-            mannschaftToCheck.setVeranstaltungId(currentVeranstaltungId);
-            checkDsbMannschaftDO(mannschaftToCheck, currentVeranstaltungId);
-
-            addedMannschaftenList.add(mannschaftToCheck);
-            final DsbMannschaftBE dsbMannschaftBE = DsbMannschaftMapper.toDsbMannschaftBE.apply(mannschaftToCheck);
-            DsbMannschaftBE addedMannschaft = dsbMannschaftDAO.create(dsbMannschaftBE, currentVeranstaltungId);
-            // Copy Mannschaftsmitglieder for every Mannschaft
-            // following lines of code are not outsourced because we currently assume that they are not needed anywhere else
-            MannschaftsmitgliedDO addedMitglied;
-            List<MannschaftsmitgliedDO> mitglieder = mannschaftsmitgliedComponent.findByTeamId(mannschaftToCheck.getId());
-            for(MannschaftsmitgliedDO mitglied : mitglieder){
-                addedMitglied = mitglied;
-                addedMitglied.setMannschaftId(addedMannschaft.getId());
-                mannschaftsmitgliedComponent.create(addedMitglied, userId);
-            }
-        }
-        return addedMannschaftenList;
+        LOGGER.info("Copied {} mannschaften from veranstaltung {} to veranstaltung {} in {} ms",
+                addedMannschaftList.size(), lastVeranstaltungId, currentVeranstaltungId,
+                System.currentTimeMillis() - start);
+
+        return fillAllNames(addedMannschaftList.stream()
+                .map(DsbMannschaftMapper.toDsbMannschaftDO).collect(Collectors.toList()));
     }
 }
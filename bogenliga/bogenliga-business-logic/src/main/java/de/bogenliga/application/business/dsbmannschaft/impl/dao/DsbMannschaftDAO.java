@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.dsbmannschaft.impl.dao;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,11 +51,24 @@ public class DsbMannschaftDAO implements DataAccessObject {
                     + " FROM mannschaft"
                     + " ORDER BY mannschaft_id";
 
+    // Keyset Pagination ueber den Primaerschluessel
+    private static final String FIND_PAGE =
+            "SELECT * "
+                    + " FROM mannschaft"
+                    + " WHERE mannschaft_id > ?"
+                    + " ORDER BY mannschaft_id"
+                    + " LIMIT ?";
+
     private static final String FIND_BY_ID =
             "SELECT * "
                     + " FROM mannschaft"
                     + " WHERE mannschaft_id = ?";
 
+    private static final String FIND_BY_IDS =
+            "SELECT * "
+                    + " FROM mannschaft"
+                    + " WHERE mannschaft_id = ANY(?)";
+
     private static final String FIND_ALL_BY_VEREINS_ID =
             "SELECT * "
                     + " FROM mannschaft"
@@ -74,6 +88,36 @@ public class DsbMannschaftDAO implements DataAccessObject {
                     "AND w.wettkampf_id = ?\n" +
                     "group by m.mannschaft_id";
 
+    /*
+     * Kopieren aller Mannschaften einer Veranstaltung samt ihrer Mannschaftsmitglieder in eine neue Veranstaltung
+     * mit einer einzigen Anweisung: jede alte Mannschaft erhält zuerst eine neue Id aus der Sequenz,
+     * über diese Zuordnung werden die Mannschaftsmitglieder den neuen Mannschaften zugewiesen
+     */
+    private static final String COPY_FROM_VERANSTALTUNG =
+            "WITH neue_id AS ("
+                    + " SELECT mannschaft_id AS alte_mannschaft_id, nextval('sq_mannschaft_id') AS neue_mannschaft_id"
+                    + " FROM mannschaft"
+                    + " WHERE mannschaft_veranstaltung_id = ?"
+                    + "), neue_mannschaft AS ("
+                    + " INSERT INTO mannschaft (mannschaft_id, mannschaft_verein_id, mannschaft_nummer,"
+                    + " mannschaft_benutzer_id, mannschaft_veranstaltung_id, mannschaft_sortierung, created_by)"
+                    + " SELECT neue_id.neue_mannschaft_id, m.mannschaft_verein_id, m.mannschaft_nummer,"
+                    + " m.mannschaft_benutzer_id, ?, m.mannschaft_sortierung, ?"
+                    + " FROM mannschaft m"
+                    + " JOIN neue_id ON m.mannschaft_id = neue_id.alte_mannschaft_id"
+                    + " RETURNING *"
+                    + "), neue_mitglieder AS ("
+                    + " INSERT INTO mannschaftsmitglied (mannschaftsmitglied_mannschaft_id,"
+                    + " mannschaftsmitglied_dsb_mitglied_id, mannschaftsmitglied_dsb_mitglied_eingesetzt,"
+                    + " mannschaftsmitglied_rueckennummer, created_by)"
+                    + " SELECT neue_id.neue_mannschaft_id, mm.mannschaftsmitglied_dsb_mitglied_id,"
+                    + " mm.mannschaftsmitglied_dsb_mitglied_eingesetzt, mm.mannschaftsmitglied_rueckennummer, ?"
+                    + " FROM mannschaftsmitglied mm"
+                    + " JOIN neue_id ON mm.mannschaftsmitglied_mannschaft_id = neue_id.alte_mannschaft_id"
+                    + ")"
+                    + " SELECT * FROM neue_mannschaft"
+                    + " ORDER BY " + MANNSCHAFT_TABLE_SORTIERUNG;
+
     private final BasicDAO basicDao;
 
 
@@ -116,6 +160,19 @@ public class DsbMannschaftDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return one page of dsbmannschaft entries in the order of the id.
+     *
+     * @param afterId id of the last entry of the previous page or 0 for the first page
+     * @param limit   maximum number of entries
+     *
+     * @return the dsbmannschaft entries with an id greater than afterId
+     */
+    public List<DsbMannschaftBE> getPage(final long afterId, final int limit) {
+        return basicDao.selectEntityList(MANNSCHAFT, FIND_PAGE, afterId, limit);
+    }
+
+
     /**
      * Return all dsbmannschaft entries with the given vereinsId
      *
@@ -158,6 +215,17 @@ public class DsbMannschaftDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return the dsbmannschaft entries with the given ids with one query
+     *
+     * @param ids of the dsbmannschaften
+     * @return dsbmannschaft entries, ids without an entry are ignored
+     */
+    public List<DsbMannschaftBE> findByIds(final Collection<Long> ids) {
+        return basicDao.selectEntityListByIds(MANNSCHAFT, FIND_BY_IDS, ids);
+    }
+
+
     /**
      * Create a new dsbmitglied entry
      *
@@ -173,6 +241,26 @@ public class DsbMannschaftDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Copy all dsbmannschaft entries of a veranstaltung with their mannschaftsmitglied entries into another
+     * veranstaltung.
+     * <p>
+     * The copy is done with one set-based statement, so either all or none of the entries are created.
+     *
+     * @param lastVeranstaltungId    veranstaltung of the copied dsbmannschaften
+     * @param currentVeranstaltungId veranstaltung of the new dsbmannschaften
+     * @param currentUserId          user who creates the entries
+     *
+     * @return Business Entities of the created dsbmannschaft entries
+     */
+    public List<DsbMannschaftBE> copyFromVeranstaltung(final long lastVeranstaltungId,
+                                                       final long currentVeranstaltungId,
+                                                       final long currentUserId) {
+        return basicDao.selectEntityList(MANNSCHAFT, COPY_FROM_VERANSTALTUNG,
+                lastVeranstaltungId, currentVeranstaltungId, currentUserId, currentUserId);
+    }
+
+
     /**
      * Update an existing dsbmitglied entry
      *
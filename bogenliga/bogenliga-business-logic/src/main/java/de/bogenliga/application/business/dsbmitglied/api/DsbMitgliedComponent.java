@@ -2,7 +2,10 @@ package de.bogenliga.application.business.dsbmitglied.api;
 
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.common.component.ComponentFacade;
+import de.bogenliga.application.common.component.types.KeysetPage;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 
 /**
@@ -20,6 +23,27 @@ public interface DsbMitgliedComponent extends ComponentFacade {
     List<DsbMitgliedDO> findAll();
 
 
+    /**
+     * Return one page of dsbmitglied entries in the order of the id.
+     *
+     * @param cursor id of the last dsbmitglied of the previous page or null for the first page
+     * @param limit  maximum number of dsbmitglieder on the page, capped at {@link KeysetPage#MAX_LIMIT}
+     *
+     * @return page of dsbmitglieder with the cursor of the next page
+     */
+    KeysetPage<DsbMitgliedDO> getPage(Long cursor, int limit);
+
+
+    /**
+     * Pass all dsbmitglied entries to the consumer, without loading all dsbmitglieder into the memory.
+     *
+     * @param consumer of each dsbmitglied, called while the dsbmitglieder are read from the database
+     *
+     * @return number of dsbmitglieder
+     */
+    int streamAll(Consumer<DsbMitgliedDO> consumer);
+
+
     /**
      * Retrun all dsbmitglied entries with the given teamId.
      *
@@ -37,6 +61,16 @@ public interface DsbMitgliedComponent extends ComponentFacade {
      */
     DsbMitgliedDO findById(long id);
 
+    /**
+     * Return the dsbmitglied entries with the given ids with one query.
+     *
+     * The kampfrichter flag is not loaded, use {@link #findById(long)} for a single dsbmitglied instead.
+     *
+     * @param ids of the dsbmitglieder
+     * @return list of dsbmitglied entries; ids without an entry are ignored
+     */
+    List<DsbMitgliedDO> findByIds(Collection<Long> ids);
+
     /**
      * Return all dsbmitglied entries which are corresponding to a search term
      * @param searchItem first name or last name of dsbmitglied
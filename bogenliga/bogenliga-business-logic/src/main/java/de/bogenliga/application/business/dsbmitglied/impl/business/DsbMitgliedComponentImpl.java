@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.dsbmitglied.impl.business;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import de.bogenliga.application.business.lizenz.impl.dao.LizenzDAO;
@@ -16,6 +18,7 @@ import de.bogenliga.application.business.dsbmitglied.impl.mapper.DsbMitgliedMapp
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.common.component.types.KeysetPage;
 
 /**
  * Implementation of {@link DsbMitgliedComponent}
@@ -25,6 +28,7 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
 
     private static final String PRECONDITION_MSG_DSBMITGLIED = "DsbMitgliedDO must not be null";
     private static final String PRECONDITION_MSG_DSBMITGLIED_ID = "DsbMitgliedDO ID must not be negative";
+    private static final String PRECONDITION_MSG_DSBMITGLIED_IDS = "DsbMitgliedDO IDs must not be null";
     private static final String PRECONDITION_MSG_DSBMITGLIED_VORNAME = "DsbMitglied vorname must not be null";
     private static final String PRECONDITION_MSG_DSBMITGLIED_NACHNAME = "DsbMitglied nachname must not be null";
     private static final String PRECONDITION_MSG_DSBMITGLIED_GEBURTSDATUM = "DsbMitglied geburtsdatum must not be null";
@@ -59,6 +63,24 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
         return dsbMitgliedBEList.stream().map(DsbMitgliedMapper.toDsbMitgliedDO).collect(Collectors.toList());
     }
 
+
+    @Override
+    public KeysetPage<DsbMitgliedDO> getPage(final Long cursor, final int limit) {
+        final int pageLimit = KeysetPage.checkLimit(limit);
+
+        final List<DsbMitgliedBE> dsbMitgliedBEList = dsbMitgliedDAO.getPage(KeysetPage.getStartKey(cursor),
+                KeysetPage.getQueryLimit(pageLimit));
+        return KeysetPage.of(dsbMitgliedBEList, pageLimit, DsbMitgliedBE::getDsbMitgliedId)
+                .map(DsbMitgliedMapper.toDsbMitgliedDO);
+    }
+
+
+    @Override
+    public int streamAll(final Consumer<DsbMitgliedDO> consumer) {
+        return dsbMitgliedDAO.streamAll(
+                dsbMitgliedBE -> consumer.accept(DsbMitgliedMapper.toDsbMitgliedDO.apply(dsbMitgliedBE)));
+    }
+
     @Override
     public List<DsbMitgliedDO> findAllByTeamId(final long id) {
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_DSBMITGLIED_MANNSCHAFT_ID);
@@ -82,6 +104,13 @@ public class DsbMitgliedComponentImpl implements DsbMitgliedComponent {
         return dsbMitgliedDO;
     }
 
+    @Override
+    public List<DsbMitgliedDO> findByIds(final Collection<Long> ids) {
+        Preconditions.checkNotNull(ids, PRECONDITION_MSG_DSBMITGLIED_IDS);
+        final List<DsbMitgliedBE> dsbMitgliedBEList = dsbMitgliedDAO.findByIds(ids);
+        return dsbMitgliedBEList.stream().map(DsbMitgliedMapper.toDsbMitgliedDO).collect(Collectors.toList());
+    }
+
     @Override
     public List<DsbMitgliedDO> findBySearch(final String searchTerm) {
         Preconditions.checkNotNull(searchTerm, PRECONDITION_MSG_DSBMITGLIED_SEARCHTERM);
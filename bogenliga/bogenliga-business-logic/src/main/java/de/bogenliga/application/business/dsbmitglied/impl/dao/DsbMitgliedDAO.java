@@ -6,14 +6,17 @@ import de.bogenliga.application.business.user.impl.entity.UserBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.database.queries.SearchQuery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * DataAccessObject for the dsbmitglied entity in the database.
@@ -62,21 +65,42 @@ public class DsbMitgliedDAO implements DataAccessObject {
                     + " FROM dsb_mitglied"
                     + " ORDER BY dsb_mitglied_id";
 
+    // Keyset Pagination ueber den Primaerschluessel
+    private static final String FIND_PAGE =
+            "SELECT * "
+                    + " FROM dsb_mitglied"
+                    + " WHERE dsb_mitglied_id > ?"
+                    + " ORDER BY dsb_mitglied_id"
+                    + " LIMIT ?";
+
     private static final String FIND_BY_ID =
             "SELECT * "
                     + " FROM dsb_mitglied "
                     + " WHERE dsb_mitglied_id = ?";
 
+    private static final String FIND_BY_IDS =
+            "SELECT * "
+                    + " FROM dsb_mitglied "
+                    + " WHERE dsb_mitglied_id = ANY(?)";
+
     private static final String FIND_BY_USER_ID =
             "SELECT * "
                     + " FROM dsb_mitglied "
                     + " WHERE dsb_mitglied_benutzer_id = ?";
 
+    // Suchausdruck des Trigramm-Index idx_dsb_mitglied_suche
+    private static final String SEARCH_EXPRESSION =
+            "(LOWER(dsb_mitglied_vorname) || ' ' || LOWER(dsb_mitglied_nachname)"
+                    + " || ' ' || LOWER(dsb_mitglied_mitgliedsnummer))";
+
+    // Teilstring oder aehnliche Woerter, die aehnlichsten Treffer zuerst
     private static final String FIND_BY_SEARCH =
             "SELECT * "
                     + " FROM dsb_mitglied "
-                    + " WHERE CONCAT(LOWER(dsb_mitglied_vorname), "
-                    + " ' ', LOWER(dsb_mitglied_nachname), ' ', LOWER(dsb_mitglied_mitgliedsnummer)) LIKE LOWER(?) ";
+                    + " WHERE " + SEARCH_EXPRESSION + " LIKE ?"
+                    + " OR ? <% " + SEARCH_EXPRESSION
+                    + " ORDER BY word_similarity(?, " + SEARCH_EXPRESSION + ") DESC, dsb_mitglied_id"
+                    + " LIMIT ?";
 
 
 
@@ -148,6 +172,31 @@ public class DsbMitgliedDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return one page of dsbmitglied entries in the order of the id.
+     *
+     * @param afterId id of the last entry of the previous page or 0 for the first page
+     * @param limit   maximum number of entries
+     *
+     * @return the dsbmitglied entries with an id greater than afterId
+     */
+    public List<DsbMitgliedBE> getPage(final long afterId, final int limit) {
+        return basicDao.selectEntityList(DSBMITGLIED, FIND_PAGE, afterId, limit);
+    }
+
+
+    /**
+     * Pass all dsbmitglied entries to the consumer, without loading all entries into the memory.
+     *
+     * @param consumer of each dsbmitglied in the order of the id
+     *
+     * @return number of dsbmitglieder
+     */
+    public int streamAll(final Consumer<DsbMitgliedBE> consumer) {
+        return basicDao.selectEntityStream(DSBMITGLIED, FIND_ALL, consumer);
+    }
+
+
     /**
      *
      * @param id id of the team, in which the dsmitglied entries are used
@@ -166,6 +215,16 @@ public class DsbMitgliedDAO implements DataAccessObject {
         return basicDao.selectSingleEntity(DSBMITGLIED, FIND_BY_ID, id);
     }
 
+    /**
+     * Return the dsbmitglied entries with the given ids with one query
+     *
+     * @param ids of the dsbmitglieder
+     * @return list of dsbmitglied entries, ids without an entry are ignored
+     */
+    public List<DsbMitgliedBE> findByIds(final Collection<Long> ids) {
+        return basicDao.selectEntityListByIds(DSBMITGLIED, FIND_BY_IDS, ids);
+    }
+
     /**
      * Return dsbmitglied entry with specific user id
      *
@@ -178,15 +237,14 @@ public class DsbMitgliedDAO implements DataAccessObject {
 
     /**
      * @param searchTerm
-     * @return dsbmitglied entries which contain the search term
+     * @return dsbmitglied entries which contain the search term or similar words, ranked by the similarity and
+     * limited to {@link SearchQuery#RESULT_LIMIT} entries
      */
     public List<DsbMitgliedBE> findBySearch(final String searchTerm) {
-        return basicDao.selectEntityList(DSBMITGLIED, FIND_BY_SEARCH, new StringBuilder()
-                                                                        .append("%")
-                                                                        .append(searchTerm)
-                                                                        .append("%")
-                                                                        .toString()
-        );
+        final String term = SearchQuery.getTerm(searchTerm);
+
+        return basicDao.selectEntityList(DSBMITGLIED, FIND_BY_SEARCH, SearchQuery.getContainsPattern(searchTerm),
+                term, term, SearchQuery.RESULT_LIMIT);
     }
 
 
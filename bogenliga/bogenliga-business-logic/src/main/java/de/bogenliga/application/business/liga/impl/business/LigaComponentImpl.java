@@ -12,6 +12,9 @@ import de.bogenliga.application.business.regionen.api.RegionenComponent;
 import de.bogenliga.application.business.regionen.api.types.RegionenDO;
 import de.bogenliga.application.business.user.api.UserComponent;
 import de.bogenliga.application.business.user.api.types.UserDO;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -30,17 +33,24 @@ public class LigaComponentImpl implements LigaComponent {
     private static final String PRECONDITION_MSG_LIGA_UEBERGEORDNET_ID = "ligaUebergeordnetId must not be Null";
     private static final String PRECONDITION_MSG_LIGA_VERANTWORTLICH_ID = "ligaVerantwortlichId must not be Null";
     private static final String PRECONDITION_MSG_CURRENT_LIGA_ID = "Current liga id must not be Null";
+    private static final String CACHE_NAME = "liga";
 
     private final LigaDAO ligaDAO;
     private final RegionenComponent regionenComp;
     private final UserComponent userComp;
+    private final ReferenceDataCache<Long, LigaBE> ligaCache;
+    private final TransactionManager transactionManager;
 
 
     @Autowired
-    public LigaComponentImpl(final LigaDAO ligaDAO, @Lazy final RegionenComponent regionenComp, @Lazy final UserComponent userComp) {
+    public LigaComponentImpl(final LigaDAO ligaDAO, @Lazy final RegionenComponent regionenComp, @Lazy final UserComponent userComp,
+                             final ReferenceDataCacheManager referenceDataCacheManager,
+                             final TransactionManager transactionManager) {
         this.ligaDAO = ligaDAO;
         this.regionenComp = regionenComp;
         this.userComp = userComp;
+        this.ligaCache = referenceDataCacheManager.getCache(CACHE_NAME);
+        this.transactionManager = transactionManager;
     }
 
 
@@ -76,7 +86,7 @@ public class LigaComponentImpl implements LigaComponent {
 
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_LIGA_ID);
 
-        final LigaBE result = ligaDAO.findById(id);
+        final LigaBE result = ligaCache.get(id, ligaDAO::findById);
 
         if (result == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
@@ -104,6 +114,7 @@ public class LigaComponentImpl implements LigaComponent {
 
         final LigaBE ligaBE = LigaMapper.toLigaBE.apply(ligaDO);
         final LigaBE persistedLigaBE = ligaDAO.update(ligaBE, currentDsbMitgliedId);
+        transactionManager.afterCommit(() -> ligaCache.invalidate(ligaDO.getId()));
 
         return completeLiga(persistedLigaBE);
     }
@@ -118,6 +129,7 @@ public class LigaComponentImpl implements LigaComponent {
         final LigaBE ligaBE = LigaMapper.toLigaBE.apply(ligaDO);
 
         ligaDAO.delete(ligaBE, currentDsbMitgliedId);
+        transactionManager.afterCommit(() -> ligaCache.invalidate(ligaDO.getId()));
     }
 
 
@@ -143,7 +155,7 @@ public class LigaComponentImpl implements LigaComponent {
         UserDO tempUserDO = new UserDO();
 
         if (ligaBE.getLigaUebergeordnetId() != null) {
-            tempLigaBE = ligaDAO.findById(ligaBE.getLigaUebergeordnetId());
+            tempLigaBE = ligaCache.get(ligaBE.getLigaUebergeordnetId(), ligaDAO::findById);
         }
         if (ligaBE.getLigaRegionId() != null) {
             tempRegionenDO = regionenComp.findById(ligaBE.getLigaRegionId());
@@ -133,13 +133,16 @@ public class LigamatchDAO implements DataAccessObject {
         return basicDao.selectEntityList(LIGAMATCH, FIND_LIGAMATCHES_BY_WETTKAMPF_ID, wettkampfId);
     }
 
+    /**
+     * Fehler der Abfrage werden nicht abgefangen: innerhalb einer Unit of Work bricht ein fehlgeschlagenes Statement
+     * die PostgreSQL-Transaktion ab, alle weiteren Statements des Requests würden ebenfalls fehlschlagen.
+     *
+     * @param id des Wettkampfs
+     * @return true, wenn die View ligamatch Matches des Wettkampfs enthält
+     */
     public Boolean checkIfLigamatch(Long id){
-        try{
-            List<LigamatchBE> liste = basicDao.selectEntityList(LIGAMATCH, FIND_BY_WETTKAMPF_ID, id);
-            return true;
-        }catch (Exception e){
-            return false;
-        }
+        List<LigamatchBE> liste = basicDao.selectEntityList(LIGAMATCH, FIND_BY_WETTKAMPF_ID, id);
+        return !liste.isEmpty();
     }
 
 
@@ -66,69 +66,109 @@ public class LigatabelleDAO implements DataAccessObject {
      * SQL queries
      */
 
-    /* der Select liefert die aktuelle Ligatabelle zur Veranstaltung -
-    * es wird immer der "höchste Wettkampftag ermittelt und die Tabellenreihenfolge
-    * automatisch erzeugt durch die Sortierkriterien beim generieren der Row-Number
-    * ggf. mpüssen wir für die verschiedenen Liga-Formen andere Selects hinterlegen
-    * hier jetzt erst mal der Select für Match-Punkte vor Satzpunkt-Differenz
-    * sollte für Liga-Satzsystem passen
+    /* die Ligatabelle wird aus der Tabelle ligatabelle_stand gelesen, in der die Match- und Satzpunkte
+     * je Wettkampf und Mannschaft bereits summiert sind - die Spalten entsprechen der View ligatabelle
+     * die Namen von Veranstaltung, Mannschaft und Verein werden beim Lesen über die Primärschlüssel ergänzt
      */
-    private static final String GET_LIGATABELLE =
-        "SELECT lt.ligatabelle_veranstaltung_id, lt.ligatabelle_veranstaltung_name," +
-           "lt.ligatabelle_wettkampf_id, lt.ligatabelle_wettkampf_tag, lt.ligatabelle_mannschaft_id, lt.ligatabelle_mannschaft_nummer," +
-                "lt.ligatabelle_verein_id, lt.ligatabelle_verein_name, lt.ligatabelle_matchpkt, lt.ligatabelle_matchpkt_gegen," +
-           "lt.ligatabelle_satzpkt, lt.ligatabelle_satzpkt_gegen, lt.ligatabelle_satzpkt_differenz, lt.ligatabelle_sortierung," +
-           "row_number()  over (" +
-             "order by lt.ligatabelle_matchpkt desc, lt.ligatabelle_matchpkt_gegen," +
-               "lt.ligatabelle_satzpkt_differenz desc, lt.ligatabelle_satzpkt desc," +
-               "lt.ligatabelle_satzpkt_gegen, lt.ligatabelle_sortierung," +
-               "lt.ligatabelle_veranstaltung_id, lt.ligatabelle_veranstaltung_name," +
-               "lt.ligatabelle_wettkampf_id, lt.ligatabelle_wettkampf_tag," +
-               "lt.ligatabelle_mannschaft_id, lt.ligatabelle_mannschaft_nummer," +
-               "lt.ligatabelle_verein_id, lt.ligatabelle_verein_name" +
-             ")as tabellenplatz from ligatabelle as lt where lt.ligatabelle_veranstaltung_id = ?" +
-        "and lt.ligatabelle_wettkampf_tag = (" +
-            "select max(ligat.ligatabelle_wettkampf_tag) " +
-            "from ligatabelle as ligat where ligat.ligatabelle_veranstaltung_id = lt.ligatabelle_veranstaltung_id)";
-
-    /* der Select liefert die aktuelle Ligatabelle zur Wettkampf-ID
+    private static final String LIGATABELLE_STAND_SELECT =
+            "SELECT veranstaltung.veranstaltung_id AS ligatabelle_veranstaltung_id," +
+                    "veranstaltung.veranstaltung_name AS ligatabelle_veranstaltung_name," +
+                    "wettkampf.wettkampf_id AS ligatabelle_wettkampf_id," +
+                    "wettkampf.wettkampf_tag AS ligatabelle_wettkampf_tag," +
+                    "mannschaft.mannschaft_id AS ligatabelle_mannschaft_id," +
+                    "mannschaft.mannschaft_nummer AS ligatabelle_mannschaft_nummer," +
+                    "verein.verein_id AS ligatabelle_verein_id," +
+                    "verein.verein_name AS ligatabelle_verein_name," +
+                    "stand.ligatabelle_stand_matchpkt AS ligatabelle_matchpkt," +
+                    "stand.ligatabelle_stand_matchpkt_gegen AS ligatabelle_matchpkt_gegen," +
+                    "stand.ligatabelle_stand_satzpkt AS ligatabelle_satzpkt," +
+                    "stand.ligatabelle_stand_satzpkt_gegen AS ligatabelle_satzpkt_gegen," +
+                    "(stand.ligatabelle_stand_satzpkt - stand.ligatabelle_stand_satzpkt_gegen)" +
+                    " AS ligatabelle_satzpkt_differenz," +
+                    "mannschaft.mannschaft_sortierung AS ligatabelle_sortierung " +
+                    "FROM ligatabelle_stand AS stand " +
+                    "JOIN wettkampf ON wettkampf.wettkampf_id = stand.ligatabelle_stand_wettkampf_id " +
+                    "JOIN veranstaltung ON veranstaltung.veranstaltung_id = wettkampf.wettkampf_veranstaltung_id " +
+                    "JOIN mannschaft ON mannschaft.mannschaft_id = stand.ligatabelle_stand_mannschaft_id " +
+                    "JOIN verein ON verein.verein_id = mannschaft.mannschaft_verein_id ";
+
+    /* die Tabellenreihenfolge wird automatisch erzeugt durch die Sortierkriterien beim generieren der Row-Number
      * ggf. müssen wir für die verschiedenen Liga-Formen andere Selects hinterlegen
      * hier jetzt erst mal der Select für Match-Punkte vor Satzpunkt-Differenz
      * sollte für Liga-Satzsystem passen
      */
-    private static final String GET_LIGATABELLE_WETTKAMPF =
-            "SELECT ligatabelle_veranstaltung_id, "+
-                    "ligatabelle_veranstaltung_name," +
-                    "ligatabelle_wettkampf_id," +
-                    "ligatabelle_wettkampf_tag," +
-                    "ligatabelle_mannschaft_id," +
-                    "ligatabelle_mannschaft_nummer," +
-                    "ligatabelle_verein_id," +
-                    "ligatabelle_verein_name," +
-                    "ligatabelle_matchpkt," +
-                    "ligatabelle_matchpkt_gegen," +
-                    "ligatabelle_satzpkt," +
-                    "ligatabelle_satzpkt_gegen," +
-                    "ligatabelle_satzpkt_differenz," +
-                    "ligatabelle_sortierung," +
+    private static final String LIGATABELLE_SELECT_WITH_TABELLENPLATZ =
+            "SELECT lt.*," +
                     "row_number()  over (" +
-                        "order by ligatabelle_matchpkt desc ," +
-                        "ligatabelle_matchpkt_gegen," +
-                        "ligatabelle_satzpkt_differenz desc," +
-                        "ligatabelle_satzpkt desc," +
-                        "ligatabelle_satzpkt_gegen," +
-                        "ligatabelle_sortierung," +
-                        "ligatabelle_veranstaltung_id," +
-                        "ligatabelle_veranstaltung_name," +
-                        "ligatabelle_wettkampf_id," +
-                        "ligatabelle_wettkampf_tag," +
-                        "ligatabelle_mannschaft_id," +
-                        "ligatabelle_mannschaft_nummer," +
-                        "ligatabelle_verein_id," +
-                        "ligatabelle_verein_name" +
-                        ")as tabellenplatz " +
-                    "from ligatabelle " +
-                    "where ligatabelle_wettkampf_id = ?" ;
+                    "order by lt.ligatabelle_matchpkt desc, lt.ligatabelle_matchpkt_gegen," +
+                    "lt.ligatabelle_satzpkt_differenz desc, lt.ligatabelle_satzpkt desc," +
+                    "lt.ligatabelle_satzpkt_gegen, lt.ligatabelle_sortierung," +
+                    "lt.ligatabelle_veranstaltung_id, lt.ligatabelle_veranstaltung_name," +
+                    "lt.ligatabelle_wettkampf_id, lt.ligatabelle_wettkampf_tag," +
+                    "lt.ligatabelle_mannschaft_id, lt.ligatabelle_mannschaft_nummer," +
+                    "lt.ligatabelle_verein_id, lt.ligatabelle_verein_name" +
+                    ")as tabellenplatz ";
+
+    /* der Select liefert die aktuelle Ligatabelle zur Veranstaltung -
+     * es wird immer der höchste Wettkampftag mit Matches ermittelt
+     */
+    private static final String GET_LIGATABELLE =
+            LIGATABELLE_SELECT_WITH_TABELLENPLATZ +
+                    "FROM (" + LIGATABELLE_STAND_SELECT +
+                    "WHERE wettkampf.wettkampf_veranstaltung_id = ? " +
+                    "AND wettkampf.wettkampf_tag = (" +
+                    "SELECT max(wt.wettkampf_tag) " +
+                    "FROM wettkampf AS wt " +
+                    "JOIN ligatabelle_stand AS st ON st.ligatabelle_stand_wettkampf_id = wt.wettkampf_id " +
+                    "WHERE wt.wettkampf_veranstaltung_id = wettkampf.wettkampf_veranstaltung_id)" +
+                    ") AS lt";
+
+    /* der Select liefert die aktuelle Ligatabelle zur Wettkampf-ID */
+    private static final String GET_LIGATABELLE_WETTKAMPF =
+            LIGATABELLE_SELECT_WITH_TABELLENPLATZ +
+                    "FROM (" + LIGATABELLE_STAND_SELECT +
+                    "WHERE stand.ligatabelle_stand_wettkampf_id = ?" +
+                    ") AS lt";
+
+    /* aktualisiert die summierten Punkte eines Wettkampfs in einem Statement:
+     * - die Punkte werden wie in der View ligatabelle aus den Matches mit dem jeweiligen Gegner summiert
+     * - Mannschaften ohne Matches im Wettkampf werden entfernt
+     * - geänderte Punkte werden eingefügt bzw. aktualisiert, unveränderte Zeilen bleiben unberührt
+     */
+    private static final String REFRESH_LIGATABELLE_STAND =
+            "WITH aktuell AS (" +
+                    "SELECT match.match_wettkampf_id AS wettkampf_id," +
+                    "match.match_mannschaft_id AS mannschaft_id," +
+                    "sum(match.match_matchpunkte) AS matchpkt," +
+                    "sum(match_gegen.match_matchpunkte) AS matchpkt_gegen," +
+                    "sum(match.match_satzpunkte) AS satzpkt," +
+                    "sum(match_gegen.match_satzpunkte) AS satzpkt_gegen " +
+                    "FROM match " +
+                    "JOIN match AS match_gegen ON match.match_wettkampf_id = match_gegen.match_wettkampf_id " +
+                    "AND match.match_nr = match_gegen.match_nr " +
+                    "AND match.match_begegnung = match_gegen.match_begegnung " +
+                    "AND match.match_mannschaft_id != match_gegen.match_mannschaft_id " +
+                    "WHERE match.match_wettkampf_id = ? " +
+                    "GROUP BY match.match_wettkampf_id, match.match_mannschaft_id" +
+                    "), entfernt AS (" +
+                    "DELETE FROM ligatabelle_stand " +
+                    "WHERE ligatabelle_stand_wettkampf_id = ? " +
+                    "AND ligatabelle_stand_mannschaft_id NOT IN (SELECT mannschaft_id FROM aktuell)" +
+                    ") " +
+                    "INSERT INTO ligatabelle_stand (ligatabelle_stand_wettkampf_id, ligatabelle_stand_mannschaft_id," +
+                    "ligatabelle_stand_matchpkt, ligatabelle_stand_matchpkt_gegen," +
+                    "ligatabelle_stand_satzpkt, ligatabelle_stand_satzpkt_gegen) " +
+                    "SELECT wettkampf_id, mannschaft_id, matchpkt, matchpkt_gegen, satzpkt, satzpkt_gegen " +
+                    "FROM aktuell " +
+                    "ON CONFLICT (ligatabelle_stand_wettkampf_id, ligatabelle_stand_mannschaft_id) DO UPDATE SET " +
+                    "ligatabelle_stand_matchpkt = EXCLUDED.ligatabelle_stand_matchpkt," +
+                    "ligatabelle_stand_matchpkt_gegen = EXCLUDED.ligatabelle_stand_matchpkt_gegen," +
+                    "ligatabelle_stand_satzpkt = EXCLUDED.ligatabelle_stand_satzpkt," +
+                    "ligatabelle_stand_satzpkt_gegen = EXCLUDED.ligatabelle_stand_satzpkt_gegen " +
+                    "WHERE (ligatabelle_stand.ligatabelle_stand_matchpkt, ligatabelle_stand.ligatabelle_stand_matchpkt_gegen," +
+                    "ligatabelle_stand.ligatabelle_stand_satzpkt, ligatabelle_stand.ligatabelle_stand_satzpkt_gegen) " +
+                    "IS DISTINCT FROM (EXCLUDED.ligatabelle_stand_matchpkt, EXCLUDED.ligatabelle_stand_matchpkt_gegen," +
+                    "EXCLUDED.ligatabelle_stand_satzpkt, EXCLUDED.ligatabelle_stand_satzpkt_gegen)";
 
 
     // wrap all specific config parameters
@@ -190,6 +230,17 @@ public class LigatabelleDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Aktualisieren der summierten Punkte aller Mannschaften eines Wettkampfs,
+     * nachdem ein Match des Wettkampfs angelegt, geändert oder gelöscht wurde
+     *
+     * @param wettkampfId Id des Wettkampfs
+     */
+    public void refreshLigatabelleWettkampf(final long wettkampfId) {
+        basicDao.executeUpdate(LIGATABELLE, REFRESH_LIGATABELLE_STAND, wettkampfId, wettkampfId);
+    }
+
+
 
 
 }
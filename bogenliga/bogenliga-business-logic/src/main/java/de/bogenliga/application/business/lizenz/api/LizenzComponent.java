@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.lizenz.api;
 
+import java.io.OutputStream;
 import java.util.List;
 import de.bogenliga.application.business.lizenz.api.types.LizenzDO;
 import de.bogenliga.application.common.component.ComponentFacade;
@@ -61,4 +62,12 @@ public interface LizenzComponent extends ComponentFacade {
     byte[] getLizenzPDFasByteArray(long dsbMitgliedID, long teamID);
 
     byte[] getMannschaftsLizenzenPDFasByteArray(long dsbMannschaftsId);
+
+    /**
+     * Generates the Lizenzen of a mannschaft and writes the pages to the output stream while the document is
+     * generated
+     * @param dsbMannschaftsId ID of the mannschaft
+     * @param outputStream for the document, not closed after writing
+     */
+    void writeMannschaftsLizenzenPDF(long dsbMannschaftsId, OutputStream outputStream);
 }
@@ -2,6 +2,7 @@ package de.bogenliga.application.business.lizenz.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -42,6 +43,8 @@ import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfPageRenderer;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfTemplates;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -62,6 +65,8 @@ public class LizenzComponentImpl implements LizenzComponent {
     private static final String PRECONDITION_LIZENZ_DISZIPLIN = "LizenzDO_Disziplin must not be null";
     private static final String PRECONDITION_LIZENZ_REGION = "LizenzDO_Region must not be null";
     private static final String LIZENZ_UNTERSCHRIFT = "Unterschrift:";
+    private static final float LIZENZ_PADDING = 10.0F;
+    private static final String TEMPLATE_WETTKAMPFTAGE = "lizenz.wettkampftage";
 
 
     private final LizenzDAO lizenzDAO;
@@ -71,6 +76,7 @@ public class LizenzComponentImpl implements LizenzComponent {
     private final VeranstaltungComponent veranstaltungComponent;
     private final WettkampfComponent wettkampfComponent;
     private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
+    private final PdfPageRenderer pdfPageRenderer;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LizenzComponentImpl.class);
 
@@ -105,7 +111,8 @@ public class LizenzComponentImpl implements LizenzComponent {
                                final DsbMitgliedComponent dsbMitglied, final DsbMannschaftComponent mannschaftComponent,
                                final VeranstaltungComponent veranstaltungComponent,
                                final WettkampfComponent wettkampfComponent,
-                               MannschaftsmitgliedComponent mannschaftsmitgliedComponent) {
+                               MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
+                               final PdfPageRenderer pdfPageRenderer) {
         this.lizenzDAO = lizenzDAO;
         this.vereinComponent = vereinComponent;
         this.dsbMitgliedComponent = dsbMitglied;
@@ -113,6 +120,7 @@ public class LizenzComponentImpl implements LizenzComponent {
         this.veranstaltungComponent = veranstaltungComponent;
         this.wettkampfComponent = wettkampfComponent;
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
+        this.pdfPageRenderer = pdfPageRenderer;
     }
 
     @Override
@@ -183,6 +191,14 @@ public class LizenzComponentImpl implements LizenzComponent {
 
     @Override
     public byte[] getMannschaftsLizenzenPDFasByteArray(long dsbMannschaftsId) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeMannschaftsLizenzenPDF(dsbMannschaftsId, result);
+        return result.toByteArray();
+    }
+
+
+    @Override
+    public void writeMannschaftsLizenzenPDF(long dsbMannschaftsId, OutputStream outputStream) {
 
         LOGGER.info("Lizenzen start here");
 
@@ -221,19 +237,13 @@ public class LizenzComponentImpl implements LizenzComponent {
             lizenzenMapping.put(rueckennummer, schuetzendaten);
         }
 
-        try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-             PdfWriter writer = new PdfWriter(result);
-             PdfDocument pdfDocument = new PdfDocument(writer);
-             Document doc = new Document(pdfDocument, PageSize.A4)) {
-
-            generateLizenzenDoc(doc, lizenzenMapping);
-
-            return result.toByteArray();
-
-        } catch (IOException e) {
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
-                    "Lizenzen PDF Dokument konnte nicht erstellt werden: " + e);
-        }
+        // the Lizenzen of the members are rendered in parallel
+        pdfPageRenderer.writeDocument(new ArrayList<>(lizenzenMapping.values()),
+                (doc, group) -> {
+                    PdfTemplates templates = new PdfTemplates(doc);
+                    group.forEach(schuetzendaten -> generateLizenzPage(doc, templates, schuetzendaten));
+                },
+                outputStream);
     }
 
 
@@ -243,7 +253,7 @@ public class LizenzComponentImpl implements LizenzComponent {
              final PdfWriter writer = new PdfWriter(result);
              final PdfDocument pdfDocument = new PdfDocument(writer);
              final Document doc = new Document(pdfDocument, PageSize.A4)) {
-            generateLizenzPage(doc, vereinComponent.findById(mitglied.getVereinsId()).getName(),
+            generateLizenzPage(doc, new PdfTemplates(doc), vereinComponent.findById(mitglied.getVereinsId()).getName(),
                     lizenz.getLizenznummer(), mitglied.getNachname(), mitglied.getVorname(),
                     veranstaltung.getVeranstaltungName(),
                     veranstaltung.getVeranstaltungSportJahr().toString());
@@ -256,33 +266,38 @@ public class LizenzComponentImpl implements LizenzComponent {
 
     void generateLizenzenDoc(Document doc, HashMap<String, List<String>> lizenzenmapping) {
 
+        PdfTemplates templates = new PdfTemplates(doc);
         for (Map.Entry<String, List<String>> entry : lizenzenmapping.entrySet()) {
-            List<String> value = entry.getValue();
-            String liga = value.get(0);
-            String verein = value.get(1);
-            String schuetzename = value.get(2);
-            String schuetzevorname = value.get(3);
-            String sportjahr = value.get(4);
-            String lizenz = value.get(5);
-
-            generateLizenzPage(doc, verein, lizenz, schuetzename, schuetzevorname, liga, sportjahr);
+            generateLizenzPage(doc, templates, entry.getValue());
         }
         doc.close();
     }
 
-    void generateLizenzPage(Document doc, String verein, String lizenz, String schuetzename,
+    private void generateLizenzPage(Document doc, PdfTemplates templates, List<String> schuetzendaten) {
+        String liga = schuetzendaten.get(0);
+        String verein = schuetzendaten.get(1);
+        String schuetzename = schuetzendaten.get(2);
+        String schuetzevorname = schuetzendaten.get(3);
+        String sportjahr = schuetzendaten.get(4);
+        String lizenz = schuetzendaten.get(5);
+
+        generateLizenzPage(doc, templates, verein, lizenz, schuetzename, schuetzevorname, liga, sportjahr);
+    }
+
+    void generateLizenzPage(Document doc, PdfTemplates templates, String verein, String lizenz, String schuetzename,
                                     String schuetzevorname, String liga, String sportjahr) {
         final Table tableHead = new Table(UnitValue.createPercentArray(1), true);
         final Table secondTable = new Table(UnitValue.createPercentArray(1), true);
-        final Table thirdTable = new Table(UnitValue.createPercentArray(1), true);
-        final Table fourthTable = new Table(UnitValue.createPercentArray(6), true);
-        final Table fifthTable = new Table(UnitValue.createPercentArray(1), true);
         final Table emptySingleDoc = new Table(UnitValue.createPercentArray(1), true)
                 .setBorder(Border.NO_BORDER)
                 .setMargins(80F,50F,50F,50F);
 
         DottedLine line = new DottedLine(1.5F);
 
+        // the fields of the Wettkampftage are the same on all Lizenzen
+        float templateWidth = doc.getPdfDocument().getDefaultPageSize().getWidth() - doc.getLeftMargin()
+                - doc.getRightMargin() - 2 * LIZENZ_PADDING;
+
         tableHead
                 .addCell(new Cell().setBorder(Border.NO_BORDER).add(
                         new Paragraph("Lizenz").setBold().setFontSize(25.0F))
@@ -310,6 +325,22 @@ public class LizenzComponentImpl implements LizenzComponent {
                 .addCell(new Cell().setBorder(Border.NO_BORDER))
                 .addCell(new Cell().setBorder(Border.NO_BORDER));
 
+        doc
+                .add(new Div().setPaddings(LIZENZ_PADDING, LIZENZ_PADDING, LIZENZ_PADDING, LIZENZ_PADDING).setMargins(10.5F, 0.0F, 2.5F, 0.0F)
+                        .add(tableHead)
+                        .add(new Div().setPaddings(10.0F, 0.0F, 10.0F, 0.0F).setMargins(10.5F, 0.0F, 10.5F, 0.0F)
+                                .add(secondTable))
+                        .add(templates.getTemplate(TEMPLATE_WETTKAMPFTAGE, templateWidth,
+                                this::createWettkampftageTabelle)))
+                .add(new LineSeparator(line)).add(emptySingleDoc);
+    }
+
+
+    private Div createWettkampftageTabelle() {
+        final Table thirdTable = new Table(UnitValue.createPercentArray(1), true);
+        final Table fourthTable = new Table(UnitValue.createPercentArray(6), true);
+        final Table fifthTable = new Table(UnitValue.createPercentArray(1), true);
+
         thirdTable
                 .addCell(new Cell().setBorder(Border.NO_BORDER).add(
                         new Paragraph("Wettkampftage teilgenommen:").setBold().setFontSize(15.0F))
@@ -396,17 +427,13 @@ public class LizenzComponentImpl implements LizenzComponent {
                 .addCell(new Cell().setBorder(Border.NO_BORDER).add(
                         new Paragraph("Unterschrift Schütze:").setBold().setFontSize(15.0F))
                 );
-        doc
-                .add(new Div().setPaddings(10.0F, 10.0F, 10.0F, 10.0F).setMargins(10.5F, 0.0F, 2.5F, 0.0F)
-                        .add(tableHead)
-                        .add(new Div().setPaddings(10.0F, 0.0F, 10.0F, 0.0F).setMargins(10.5F, 0.0F, 10.5F, 0.0F)
-                                .add(secondTable))
-                        .add(thirdTable)
-                        .add(new Div().setPaddings(10.0F, 0.0F, 10.0F, 0.0F).setMargins(2.5F, 0.0F, 15.5F, 0.0F)
-                                .add(fourthTable)
-                        )
-                        .add(new Div().setPaddings(10.0F, 0.0F, 10.0F, 0.0F).setMargins(2.5F, 0.0F, 15.5F, 0.0F)
-                                .add(fifthTable)))
-                .add(new LineSeparator(line)).add(emptySingleDoc);
+
+        return new Div()
+                .add(thirdTable)
+                .add(new Div().setPaddings(10.0F, 0.0F, 10.0F, 0.0F).setMargins(2.5F, 0.0F, 15.5F, 0.0F)
+                        .add(fourthTable)
+                )
+                .add(new Div().setPaddings(10.0F, 0.0F, 10.0F, 0.0F).setMargins(2.5F, 0.0F, 15.5F, 0.0F)
+                        .add(fifthTable));
     }
 }
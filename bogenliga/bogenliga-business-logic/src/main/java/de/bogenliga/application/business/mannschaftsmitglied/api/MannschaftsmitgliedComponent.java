@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.mannschaftsmitglied.api;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.common.component.ComponentFacade;
@@ -21,6 +23,16 @@ public interface MannschaftsmitgliedComponent extends ComponentFacade {
     List<MannschaftsmitgliedDO> findAll();
 
 
+    /**
+     * Pass all mannschaftsmitglied entries to the consumer, without loading all entries into the memory.
+     *
+     * @param consumer of each mannschaftsmitglied, called while the entries are read from the database
+     *
+     * @return number of mannschaftsmitglieder
+     */
+    int streamAll(Consumer<MannschaftsmitgliedDO> consumer);
+
+
     /**
      *
      * Die Funktion liefert alle einer Mannschaft zugeordneten Schützen,
@@ -91,6 +103,14 @@ public interface MannschaftsmitgliedComponent extends ComponentFacade {
      */
     List<MannschaftsmitgliedDO> findByMemberId(Long mannschaftsmitgliedMitgliedId);
 
+    /**
+     * return all mannschaftsmitglied entries of the dsbmitglieder with one query
+     *
+     * @param mitgliedIds of the dsbmitglieder
+     * @return list of mannschaftsmitglied entries with one of the given mitgliedsIds; empty list if none are found
+     */
+    List<MannschaftsmitgliedDO> findByMemberIds(Collection<Long> mitgliedIds);
+
 
     /**
      * Create a new mannschaftsmitglied in the database.
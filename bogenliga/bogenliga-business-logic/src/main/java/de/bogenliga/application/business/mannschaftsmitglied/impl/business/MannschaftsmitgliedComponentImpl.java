@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.mannschaftsmitglied.impl.business;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -62,6 +64,13 @@ public class MannschaftsmitgliedComponentImpl implements MannschaftsmitgliedComp
                 Collectors.toList());
     }
 
+
+    @Override
+    public int streamAll(final Consumer<MannschaftsmitgliedDO> consumer) {
+        return mannschaftsmitgliedDAO.streamAll(mannschaftsmitgliedBE -> consumer.accept(
+                MannschaftsmitgliedMapper.toMannschaftsmitgliedDO.apply(mannschaftsmitgliedBE)));
+    }
+
     @Override
     public List<MannschaftsmitgliedDO> findAllSchuetzeInTeamEingesetzt(Long mannschaftsId) {
         checkPreconditions(mannschaftsId, PRECONDITION_FIELD_MANNSCHAFT_ID);
@@ -153,6 +162,16 @@ public class MannschaftsmitgliedComponentImpl implements MannschaftsmitgliedComp
                 Collectors.toList());
     }
 
+    @Override
+    public List<MannschaftsmitgliedDO> findByMemberIds(Collection<Long> mitgliedIds) {
+        Preconditions.checkNotNull(mitgliedIds, String.format(PRECONDITION_MSG_TEMPLATE_NULL, PRECONDITION_FIELD_MITGLIED_ID));
+
+        final List<MannschaftsmitgliedExtendedBE> result = mannschaftsmitgliedDAO.findByMemberIds(mitgliedIds);
+
+        return result.stream().map(MannschaftsmitgliedMapper.toMannschaftsmitgliedDO).collect(
+                Collectors.toList());
+    }
+
     @Override
     public MannschaftsmitgliedDO create(MannschaftsmitgliedDO mannschaftsmitgliedDO,
                                         final Long currentUserId) {
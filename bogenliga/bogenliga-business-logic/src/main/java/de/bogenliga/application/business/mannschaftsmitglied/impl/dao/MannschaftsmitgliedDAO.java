@@ -1,8 +1,10 @@
 package de.bogenliga.application.business.mannschaftsmitglied.impl.dao;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -102,6 +104,15 @@ public class MannschaftsmitgliedDAO implements DataAccessObject {
             .whereEquals(MANNSCHAFTSMITGLIED_TABLE_DSB_MITGLIED_ID)
             .compose().toString();
 
+    private static final String FIND_BY_MEMBER_IDS = new QueryBuilder()
+            .selectFields(selectedFields)
+            .from(TABLE, TABLE_ALIAS)
+            .join(DSB_MITGLIED_TABLE, DSB_MITGLIED_TABLE_ALIAS)
+            .on(TABLE_ALIAS, MANNSCHAFTSMITGLIED_TABLE_DSB_MITGLIED_ID, DSB_MITGLIED_TABLE_ALIAS,
+                    DSB_MITGLIED_TABLE_MITGLIED_ID)
+            .whereEqualsRaw(MANNSCHAFTSMITGLIED_TABLE_DSB_MITGLIED_ID, "ANY(?)")
+            .compose().toString();
+
     //hier suchen wir  alle Teammtiglieder, die eingesetzt wurden
     // d.h. nicht nur gemeldet, sondern sie haben auch Pfeilwerte erfasst
     private static final String FIND_ALL_SCHUETZE_TEAM_EINGESETZT = new QueryBuilder()
@@ -244,6 +255,18 @@ public class MannschaftsmitgliedDAO implements DataAccessObject {
         return basicDao.selectEntityList(MANNSCHAFTSMITGLIED_EXTENDED, FIND_ALL);
     }
 
+
+    /**
+     * Pass all mannschaftsmitglied entries to the consumer, without loading all entries into the memory.
+     *
+     * @param consumer of each mannschaftsmitglied in the order of the mannschaft
+     *
+     * @return number of mannschaftsmitglieder
+     */
+    public int streamAll(final Consumer<MannschaftsmitgliedExtendedBE> consumer) {
+        return basicDao.selectEntityStream(MANNSCHAFTSMITGLIED_EXTENDED, FIND_ALL, consumer);
+    }
+
     /**
      * return all members in the team
      *
@@ -280,6 +303,11 @@ public class MannschaftsmitgliedDAO implements DataAccessObject {
         return basicDao.selectEntityList(MANNSCHAFTSMITGLIED_EXTENDED, FIND_BY_MEMBER_ID, memberId);
     }
 
+    // alle Mannschaftsmitgliedschaften der Mitglieder mit einer Abfrage
+    public List<MannschaftsmitgliedExtendedBE> findByMemberIds(final Collection<Long> memberIds) {
+        return basicDao.selectEntityListByIds(MANNSCHAFTSMITGLIED_EXTENDED, FIND_BY_MEMBER_IDS, memberIds);
+    }
+
 
     public MannschaftsmitgliedBE create(final MannschaftsmitgliedBE mannschaftsmitgliedBE, final long currentMemberId) {
         basicDao.setCreationAttributes(mannschaftsmitgliedBE, currentMemberId);
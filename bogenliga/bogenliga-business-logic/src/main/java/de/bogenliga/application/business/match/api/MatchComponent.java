@@ -3,6 +3,7 @@ package de.bogenliga.application.business.match.api;
 import java.util.List;
 import de.bogenliga.application.business.ligamatch.impl.entity.LigamatchBE;
 import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.common.component.types.KeysetPage;
 
 /**
  * @author Dominik Halle, HSRT MKI SS19 - SWT2
@@ -17,6 +18,17 @@ public interface MatchComponent {
     List<MatchDO> findAll();
 
 
+    /**
+     * Return one page of match entries in the order of the id.
+     *
+     * @param cursor id of the last match of the previous page or null for the first page
+     * @param limit  maximum number of matches on the page, capped at {@link KeysetPage#MAX_LIMIT}
+     *
+     * @return page of matches with the cursor of the next page
+     */
+    KeysetPage<MatchDO> getPage(Long cursor, int limit);
+
+
     /**
      * Return a single match by unique id
      *
@@ -1,25 +1,30 @@
 package de.bogenliga.application.business.match.impl.business;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.ligamatch.impl.dao.LigamatchDAO;
+import de.bogenliga.application.business.ligatabelle.impl.dao.LigatabelleDAO;
 import de.bogenliga.application.business.ligamatch.impl.entity.LigamatchBE;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.match.impl.dao.MatchDAO;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.business.match.impl.mapper.MatchMapper;
+import de.bogenliga.application.business.schuetzenstatistik.api.SchuetzenstatistikComponent;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.common.component.types.KeysetPage;
 
 /**
  * @author Dominik Halle, HSRT MKI SS19 - SWT2
@@ -48,6 +53,7 @@ public class MatchComponentImpl implements MatchComponent {
      * (Kay Scheerer) this method would make the preconditions way easier to check before each SQL
      */
     private static final String PRECONDITION_MSG_TEMPLATE_NULL = "Passe: %s must not be null";
+    private static final String REFRESH_LIGATABELLE_KEY = "ligatabelle/wettkampf/%d";
     private static final String PRECONDITION_MSG_TEMPLATE_NEGATIVE = "Passe: %s must not be negative";
 
     private final MatchDAO matchDAO;
@@ -55,6 +61,9 @@ public class MatchComponentImpl implements MatchComponent {
     private final VereinComponent vereinComponent;
     private WettkampfComponent wettkampfComponent;
     private final LigamatchDAO ligamatchDAO;
+    private final LigatabelleDAO ligatabelleDAO;
+    private final SchuetzenstatistikComponent schuetzenstatistikComponent;
+    private final TransactionManager transactionManager;
 
 
     /**
@@ -63,16 +72,25 @@ public class MatchComponentImpl implements MatchComponent {
      * dependency injection with {@link Autowired}
      *
      * @param matchDAO to access the database and return match representations
+     * @param ligatabelleDAO to refresh the standings of the ligatabelle after a match is changed
+     * @param schuetzenstatistikComponent to refresh the schuetzenstatistik after a match is changed
+     * @param transactionManager to refresh the ligatabelle once per wettkampf before the changes are committed
      */
     @Autowired
     public MatchComponentImpl(final MatchDAO matchDAO,
                               final DsbMannschaftComponent dsbMannschaftComponent,
                               final VereinComponent vereinComponent,
-                              final LigamatchDAO ligamatchDAO) {
+                              final LigamatchDAO ligamatchDAO,
+                              final LigatabelleDAO ligatabelleDAO,
+                              final SchuetzenstatistikComponent schuetzenstatistikComponent,
+                              final TransactionManager transactionManager) {
         this.matchDAO = matchDAO;
         this.dsbMannschaftComponent = dsbMannschaftComponent;
         this.vereinComponent = vereinComponent;
         this.ligamatchDAO = ligamatchDAO;
+        this.ligatabelleDAO = ligatabelleDAO;
+        this.schuetzenstatistikComponent = schuetzenstatistikComponent;
+        this.transactionManager = transactionManager;
     }
 
     @Autowired
@@ -94,6 +112,16 @@ public class MatchComponentImpl implements MatchComponent {
     }
 
 
+    @Override
+    public KeysetPage<MatchDO> getPage(final Long cursor, final int limit) {
+        final int pageLimit = KeysetPage.checkLimit(limit);
+
+        final List<MatchBE> matchBEList = matchDAO.getPage(KeysetPage.getStartKey(cursor),
+                KeysetPage.getQueryLimit(pageLimit));
+        return KeysetPage.of(matchBEList, pageLimit, MatchBE::getId).map(MatchMapper.toMatchDO);
+    }
+
+
     /**
      * checks if the match is in the Ligamatch-View
      */
@@ -216,6 +244,7 @@ public class MatchComponentImpl implements MatchComponent {
         this.checkMatch(matchDO);
 
         MatchBE matchBE = matchDAO.create(MatchMapper.toMatchBE.apply(matchDO), currentUserId);
+        refreshWettkampfStatistics(matchDO.getWettkampfId());
         return MatchMapper.toMatchDO.apply(matchBE);
     }
 
@@ -240,6 +269,7 @@ public class MatchComponentImpl implements MatchComponent {
                 }
                 this.createWT0Match(wettkampfId, begegnung, mannschaften.get(i).getId(), (long) i,currentUserId);
             }
+            refreshWettkampfStatistics(wettkampfId);
         }
     }
 
@@ -269,11 +299,36 @@ public class MatchComponentImpl implements MatchComponent {
 
         this.checkMatch(matchDO);
 
+        // a match moved to another wettkampf changes the statistics of the previous wettkampf, too
+        final MatchBE storedMatchBE = matchDO.getId() != null ? matchDAO.findById(matchDO.getId()) : null;
+
         MatchBE matchBE = matchDAO.update(MatchMapper.toMatchBE.apply(matchDO), currentUserId);
+        refreshWettkampfStatistics(matchDO.getWettkampfId());
+        if (storedMatchBE != null && !Objects.equals(storedMatchBE.getWettkampfId(), matchDO.getWettkampfId())) {
+            refreshWettkampfStatistics(storedMatchBE.getWettkampfId());
+        }
         return MatchMapper.toMatchDO.apply(matchBE);
     }
 
 
+    /**
+     * The ligatabelle is read from the aggregated match and satz points per wettkampf and the schuetzenstatistik
+     * from the summed ringzahlen of its matches. After a match is changed, both are refreshed for its wettkampf.
+     * <p>
+     * The refresh is executed once per wettkampf before the unit of work is committed, so saving several matches of
+     * a wettkampf does not aggregate the whole wettkampf for each match.
+     *
+     * @param wettkampfId wettkampf of the changed match
+     */
+    private void refreshWettkampfStatistics(final Long wettkampfId) {
+        if (wettkampfId != null) {
+            transactionManager.beforeCommit(String.format(REFRESH_LIGATABELLE_KEY, wettkampfId),
+                    () -> ligatabelleDAO.refreshLigatabelleWettkampf(wettkampfId));
+            schuetzenstatistikComponent.refreshSchuetzenstatistikWettkampf(wettkampfId);
+        }
+    }
+
+
     private void checkMatch(MatchDO matchDO) {
         Preconditions.checkNotNull(matchDO, PRECONDITION_MSG_MATCH_DO);
 
@@ -294,6 +349,7 @@ public class MatchComponentImpl implements MatchComponent {
 
         MatchBE matchBE = MatchMapper.toMatchBE.apply(matchDO);
         matchDAO.delete(matchBE, currentUserId);
+        refreshWettkampfStatistics(matchDO.getWettkampfId());
     }
 
 
@@ -119,6 +119,12 @@ public class MatchDAO implements DataAccessObject {
             .orderBy(MATCH_TABLE_ID)
             .compose().toString();
 
+    private static final String FIND_PAGE = new QueryBuilder()
+            .selectAll()
+            .from(TABLE)
+            .whereKeysetAfter(MATCH_TABLE_ID)
+            .compose().toString();
+
     private static final String FIND_BY_ID = new QueryBuilder()
             .selectAll()
             .from(TABLE)
@@ -200,6 +206,19 @@ public class MatchDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return one page of match entries in the order of the id.
+     *
+     * @param afterId id of the last entry of the previous page or 0 for the first page
+     * @param limit   maximum number of entries
+     *
+     * @return the match entries with an id greater than afterId
+     */
+    public List<MatchBE> getPage(final long afterId, final int limit) {
+        return basicDao.selectEntityList(MATCH, FIND_PAGE, afterId, limit);
+    }
+
+
     /**
      * Return all match from one Wettkampf
      *
@@ -2,6 +2,7 @@ package de.bogenliga.application.business.meldezettel.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
@@ -24,21 +25,18 @@ import com.itextpdf.layout.property.UnitValue;
 import com.itextpdf.layout.property.VerticalAlignment;
 import de.bogenliga.application.business.meldezettel.api.MeldezettelComponent;
 import de.bogenliga.application.business.disziplin.api.DisziplinComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
 import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
-import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
-import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import de.bogenliga.application.common.validation.Preconditions;
 
@@ -61,41 +59,45 @@ public class MeldezettelComponentImpl implements MeldezettelComponent {
     private static final String MELDEZETTEL_SCHUETZEN = "Schützen";
     private static final String MELDEZETTEL_UNTERSCHRIFT ="Unterschrift des Mannschaftsführers";
 
-    private final MatchComponent matchComponent;
-    private final DsbMannschaftComponent dsbMannschaftComponent;
-    private final VereinComponent vereinComponent;
-    private final WettkampfComponent wettkampfComponent;
     private final VeranstaltungComponent veranstaltungComponent;
     private final DisziplinComponent disziplinComponent;
     private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
     private final DsbMitgliedComponent dsbMitgliedComponent;
+    private final WettkampfDokumentComponent wettkampfDokumentComponent;
 
     @Autowired
-    public MeldezettelComponentImpl(final MatchComponent matchComponent,
-                                    final DsbMannschaftComponent dsbMannschaftComponent,
-                                    final VereinComponent vereinComponent,
-                                    final WettkampfComponent wettkampfComponent,
-                                    final VeranstaltungComponent veranstaltungComponent,
+    public MeldezettelComponentImpl(final VeranstaltungComponent veranstaltungComponent,
                                     final DisziplinComponent disziplinComponent,
                                     final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
-                                    final DsbMitgliedComponent dsbMitgliedComponent) {
-        this.matchComponent = matchComponent;
-        this.dsbMannschaftComponent = dsbMannschaftComponent;
-        this.vereinComponent = vereinComponent;
-        this.wettkampfComponent = wettkampfComponent;
+                                    final DsbMitgliedComponent dsbMitgliedComponent,
+                                    final WettkampfDokumentComponent wettkampfDokumentComponent) {
         this.veranstaltungComponent = veranstaltungComponent;
         this.disziplinComponent = disziplinComponent;
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
         this.dsbMitgliedComponent = dsbMitgliedComponent;
+        this.wettkampfDokumentComponent = wettkampfDokumentComponent;
     }
     @Override
     public byte[] getMeldezettelPDFasByteArray(long wettkampfid) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeMeldezettelPDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+    @Override
+    public void writeMeldezettelPDF(long wettkampfid, OutputStream outputStream) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
+        // load the wettkampf, the matches and the team names once
+        writeMeldezettelPDF(wettkampfDokumentComponent.getContext(wettkampfid), outputStream);
+    }
+
+    @Override
+    public void writeMeldezettelPDF(WettkampfDokumentContextDO context, OutputStream outputStream) {
         HashMap<String, List<DsbMitgliedDO>> teamMemberMapping = new HashMap<>();
 
         // Collect Information
-        WettkampfDO wettkampfDO = wettkampfComponent.findById(wettkampfid);
+        WettkampfDO wettkampfDO = context.getWettkampf();
         VeranstaltungDO veranstaltungDO = veranstaltungComponent.findById(wettkampfDO.getWettkampfVeranstaltungsId());
 
         Long wettkampfTag = wettkampfDO.getWettkampfTag();
@@ -104,8 +106,8 @@ public class MeldezettelComponentImpl implements MeldezettelComponent {
         Date wettkampfDatum = wettkampfDO.getWettkampfDatum();
 
         for (int i = 1; i <= 8; i++) {
-            MatchDO matchDO = matchComponent.findByWettkampfIDMatchNrScheibenNr(wettkampfid, 1L, (long) i);
-            String teamName = getTeamName(matchDO.getMannschaftId());
+            MatchDO matchDO = getMatch(context, i);
+            String teamName = context.getMannschaftsName(matchDO.getMannschaftId());
             List<MannschaftsmitgliedDO> mannschaftsmitgliedDOList = mannschaftsmitgliedComponent.findAllSchuetzeInTeam(matchDO.getMannschaftId());
             List<DsbMitgliedDO> dsbMitgliedDOList = new ArrayList<>();
 
@@ -117,15 +119,13 @@ public class MeldezettelComponentImpl implements MeldezettelComponent {
         }
 
         
-        try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-             PdfWriter writer = new PdfWriter(result);
+        try (PdfWriter writer = new PdfWriter(outputStream);
              PdfDocument pdfDocument = new PdfDocument(writer);
              Document doc = new Document(pdfDocument, PageSize.A4)) {
 
+            writer.setCloseStream(false);
             generateDoc(doc, wettkampfTag, veranstaltungsName, disziplinsName, wettkampfDatum, teamMemberMapping);
             doc.close();
-
-            return result.toByteArray();
         } catch (IOException e) {
             throw new TechnicalException(ErrorCode.INTERNAL_ERROR, "Meldezettel PDF konnte nicht erstellt werden: " + e);
         }
@@ -775,19 +775,17 @@ public class MeldezettelComponentImpl implements MeldezettelComponent {
 
 
     /**
-     * help function to get team name
+     * help function to get the match of a team in the first round
      *
-     * @param teamID ID of the team
-     * @return name of the team
+     * @param context data of the wettkampf
+     * @param scheibenNummer of the team
+     * @return match of the team
      */
-    private String getTeamName(long teamID) {
-        Preconditions.checkArgument(teamID >= 0,"TeamID cannot be Negative");
-        DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(teamID);
-        VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
-        if (dsbMannschaftDO.getNummer() > 1) {
-            return vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
-        } else {
-            return vereinDO.getName();
+    private MatchDO getMatch(WettkampfDokumentContextDO context, long scheibenNummer) {
+        MatchDO matchDO = context.getMatch(1L, scheibenNummer);
+        if (matchDO == null) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Matches für den Wettkampf noch nicht erzeugt");
         }
+        return matchDO;
     }
 }
\ No newline at end of file
@@ -1,8 +1,11 @@
 package de.bogenliga.application.business.passe.api;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 import de.bogenliga.application.business.ligapasse.impl.entity.LigapasseBE;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
+import de.bogenliga.application.common.component.types.KeysetPage;
 
 /**
  * TODO [AL] class documentation
@@ -18,6 +21,27 @@ public interface PasseComponent {
      */
     List<PasseDO> findAll();
 
+
+    /**
+     * Return one page of passe entries in the order of the id.
+     *
+     * @param cursor id of the last passe of the previous page or null for the first page
+     * @param limit  maximum number of passen on the page, capped at {@link KeysetPage#MAX_LIMIT}
+     *
+     * @return page of passen with the cursor of the next page
+     */
+    KeysetPage<PasseDO> getPage(Long cursor, int limit);
+
+
+    /**
+     * Pass all passe entries to the consumer, without loading all passen into the memory.
+     *
+     * @param consumer of each passe, called while the passen are read from the database
+     *
+     * @return number of passen
+     */
+    int streamAll(Consumer<PasseDO> consumer);
+
     PasseDO findById(Long id);
 
 
@@ -107,6 +131,27 @@ public interface PasseComponent {
      */
     List<PasseDO> findByWettkampfIdAndMitgliedId(Long wettkampfId, Long mitgliedId);
 
+    /**
+     * Return the passe entries of the dsbMitglieder in the given wettkaempfe with one query
+     *
+     * @param wettkampfIds ids of the wettkaempfe
+     * @param mitgliedIds  ids of the dsbmitglieder
+     *
+     * @return list of passe from the dsbmitglieder in the given wettkaempfe, empty list if no passe are found
+     */
+    List<PasseDO> findByWettkampfIdsAndMitgliedIds(Collection<Long> wettkampfIds, Collection<Long> mitgliedIds);
+
+    /**
+     * Return the passe entries of all members of a mannschaft in all wettkaempfe of the mannschaft
+     * <p>
+     * Use this to build statistics over all wettkaempfe instead of reading the passen per wettkampf and dsbmitglied.
+     *
+     * @param mannschaftId id of the mannschaft
+     *
+     * @return list of passe ordered by wettkampf, match nr and lfdnr, empty list if no passe are found
+     */
+    List<PasseDO> findByMannschaftsmitgliederInWettkaempfen(Long mannschaftId);
+
     /**
      * Return a passe entry by the combined pk attributes.
      *
@@ -135,6 +180,19 @@ public interface PasseComponent {
     PasseDO update(PasseDO passeDO, Long currentMemberId);
 
 
+    /**
+     * Create or update a list of passen with as few database statements as possible.
+     * <p>
+     * Passen with an id are updated, passen without an id are created.
+     *
+     * @param passeDOList   passen to persist
+     * @param currentUserId id of the user currently saving the passen
+     *
+     * @return the persisted passen in the order of {@code passeDOList}
+     */
+    List<PasseDO> saveAll(List<PasseDO> passeDOList, Long currentUserId);
+
+
     /**
      * Delete an existing passe. The passe is identified by the id's set in passeDO.
      *
@@ -1,6 +1,12 @@
 package de.bogenliga.application.business.passe.impl.business;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
@@ -13,7 +19,9 @@ import de.bogenliga.application.business.passe.api.types.PasseDO;
 import de.bogenliga.application.business.passe.impl.dao.PasseDAO;
 import de.bogenliga.application.business.passe.impl.entity.PasseBE;
 import de.bogenliga.application.business.passe.impl.mapper.PasseMapper;
+import de.bogenliga.application.business.schuetzenstatistik.api.SchuetzenstatistikComponent;
 import de.bogenliga.application.common.validation.Preconditions;
+import de.bogenliga.application.common.component.types.KeysetPage;
 
 /**
  * @author Kay Scheerer
@@ -42,6 +50,7 @@ public class PasseComponentImpl implements PasseComponent {
 
     private final PasseDAO passeDAO;
     private final LigapasseDAO ligapasseDAO;
+    private final SchuetzenstatistikComponent schuetzenstatistikComponent;
 
 
     /**
@@ -50,11 +59,14 @@ public class PasseComponentImpl implements PasseComponent {
      * dependency injection with {@link Autowired}
      *
      * @param passeDAO to access the database and return passe representations
+     * @param schuetzenstatistikComponent to refresh the schuetzenstatistik after passen are saved
      */
     @Autowired
-    public PasseComponentImpl(final PasseDAO passeDAO, final LigapasseDAO ligapasseDAO) {
+    public PasseComponentImpl(final PasseDAO passeDAO, final LigapasseDAO ligapasseDAO,
+                              final SchuetzenstatistikComponent schuetzenstatistikComponent) {
         this.passeDAO = passeDAO;
         this.ligapasseDAO = ligapasseDAO;
+        this.schuetzenstatistikComponent = schuetzenstatistikComponent;
     }
 
 
@@ -83,6 +95,22 @@ public class PasseComponentImpl implements PasseComponent {
     }
 
 
+    @Override
+    public KeysetPage<PasseDO> getPage(final Long cursor, final int limit) {
+        final int pageLimit = KeysetPage.checkLimit(limit);
+
+        final List<PasseBE> passeBEList = passeDAO.getPage(KeysetPage.getStartKey(cursor),
+                KeysetPage.getQueryLimit(pageLimit));
+        return KeysetPage.of(passeBEList, pageLimit, PasseBE::getId).map(PasseMapper.toPasseDO);
+    }
+
+
+    @Override
+    public int streamAll(final Consumer<PasseDO> consumer) {
+        return passeDAO.streamAll(passeBE -> consumer.accept(PasseMapper.toPasseDO.apply(passeBE)));
+    }
+
+
 
     /**
      * Return passe by its id
@@ -230,6 +258,21 @@ public class PasseComponentImpl implements PasseComponent {
         return passeBEList.stream().map(PasseMapper.toPasseDO).collect(Collectors.toList());
     }
 
+    @Override
+    public List<PasseDO> findByWettkampfIdsAndMitgliedIds(Collection<Long> wettkampfIds, Collection<Long> mitgliedIds) {
+        Preconditions.checkNotNull(wettkampfIds, String.format(PRECONDITION_MSG_TEMPLATE_NULL, PRECONDITION_FIELD_WETTKAMPF_ID));
+        Preconditions.checkNotNull(mitgliedIds, String.format(PRECONDITION_MSG_TEMPLATE_NULL, PRECONDITION_FIELD_MITGLIED_ID));
+        final List<PasseBE> passeBEList = passeDAO.findByWettkampfIdsAndMitgliedIds(wettkampfIds, mitgliedIds);
+        return passeBEList.stream().map(PasseMapper.toPasseDO).collect(Collectors.toList());
+    }
+
+    @Override
+    public List<PasseDO> findByMannschaftsmitgliederInWettkaempfen(Long mannschaftId) {
+        checkPreconditions(mannschaftId, PRECONDITION_FIELD_MANNSCHAFT_ID);
+        final List<PasseBE> passeBEList = passeDAO.findByMannschaftsmitgliederInWettkaempfen(mannschaftId);
+        return passeBEList.stream().map(PasseMapper.toPasseDO).collect(Collectors.toList());
+    }
+
 
     /**
      *  Finds a passe by its ID
@@ -270,6 +313,7 @@ public class PasseComponentImpl implements PasseComponent {
         final PasseBE passeBE = PasseMapper.toPasseBE.apply(passeDO);
 
         final PasseBE persistedPasseBE = passeDAO.create(passeBE, currentUserId);
+        schuetzenstatistikComponent.refreshSchuetzenstatistikWettkampf(passeDO.getPasseWettkampfId());
         return PasseMapper.toPasseDO.apply(persistedPasseBE);
     }
 
@@ -289,10 +333,58 @@ public class PasseComponentImpl implements PasseComponent {
         final PasseBE passeBE = PasseMapper.toPasseBE.apply(passeDO);
 
         final PasseBE persistedPasseBE = passeDAO.update(passeBE, currentMemberId);
+        schuetzenstatistikComponent.refreshSchuetzenstatistikWettkampf(passeDO.getPasseWettkampfId());
         return PasseMapper.toPasseDO.apply(persistedPasseBE);
     }
 
 
+    /**
+     * Create or update a list of passen. Passen with an id are updated, passen without an id are created.
+     * <p>
+     * The passen are written with one batch for the updates and one batch per INSERT query for the new passen.
+     *
+     * @param passeDOList   passen to persist
+     * @param currentUserId id of the user currently saving the passen
+     *
+     * @return the persisted passen in the order of {@code passeDOList}
+     */
+    @Override
+    public List<PasseDO> saveAll(List<PasseDO> passeDOList, Long currentUserId) {
+        Preconditions.checkNotNull(passeDOList, String.format(PRECONDITION_MSG_TEMPLATE_NULL, "passeDOList"));
+        checkPreconditions(currentUserId, "currentUserId");
+
+        final List<PasseBE> updatedPasseBEList = new ArrayList<>();
+        final List<PasseBE> newPasseBEList = new ArrayList<>();
+        final Set<Long> wettkampfIds = new LinkedHashSet<>();
+
+        for (PasseDO passeDO : passeDOList) {
+            checkPasseDO(passeDO);
+            final PasseBE passeBE = PasseMapper.toPasseBE.apply(passeDO);
+            wettkampfIds.add(passeDO.getPasseWettkampfId());
+
+            if (passeBE.getId() != null) {
+                updatedPasseBEList.add(passeBE);
+            } else {
+                newPasseBEList.add(passeBE);
+            }
+        }
+
+        passeDAO.updateAll(updatedPasseBEList, currentUserId);
+        final Iterator<PasseBE> persistedPasseBEs = passeDAO.createAll(newPasseBEList, currentUserId).iterator();
+        final Iterator<PasseBE> updatedPasseBEs = updatedPasseBEList.iterator();
+        wettkampfIds.forEach(schuetzenstatistikComponent::refreshSchuetzenstatistikWettkampf);
+
+        // restore the order of the given passen
+        final List<PasseDO> persistedPasseDOList = new ArrayList<>(passeDOList.size());
+        for (PasseDO passeDO : passeDOList) {
+            final PasseBE passeBE = passeDO.getId() != null ? updatedPasseBEs.next() : persistedPasseBEs.next();
+            persistedPasseDOList.add(PasseMapper.toPasseDO.apply(passeBE));
+        }
+
+        return persistedPasseDOList;
+    }
+
+
     /**
      * checks if fields of a DO are null or negative
      * @param passeDO the DO to check
@@ -322,5 +414,8 @@ public class PasseComponentImpl implements PasseComponent {
         checkPreconditions(currentMemberId, "currentMemberId");
         final PasseBE passeBE = PasseMapper.toPasseBE.apply(passeDO);
         passeDAO.delete(passeBE, currentMemberId);
+        if (passeDO.getPasseWettkampfId() != null) {
+            schuetzenstatistikComponent.refreshSchuetzenstatistikWettkampf(passeDO.getPasseWettkampfId());
+        }
     }
 }
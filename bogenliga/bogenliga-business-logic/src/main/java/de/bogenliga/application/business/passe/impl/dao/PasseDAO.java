@@ -1,8 +1,11 @@
 package de.bogenliga.application.business.passe.impl.dao;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -108,6 +111,12 @@ public class PasseDAO implements DataAccessObject {
             .orderBy(PASSE_TABLE_LFDNR)
             .compose().toString();
 
+    private static final String FIND_PAGE = new QueryBuilder()
+            .selectAll()
+            .from(TABLE)
+            .whereKeysetAfter(PASSE_TABLE_ID)
+            .compose().toString();
+
     private static final String FIND_BY_ID = new QueryBuilder()
             .selectAll()
             .from(TABLE)
@@ -176,6 +185,26 @@ public class PasseDAO implements DataAccessObject {
             .andEquals(PASSE_TABLE_DSB_MITGLIED_ID)
             .compose().toString();
 
+    private static final String FIND_BY_WETTKAMPF_IDS_AND_MITGLIED_IDS =
+            "SELECT * "
+                    + " FROM " + TABLE
+                    + " WHERE " + PASSE_TABLE_WETTKAMPF_ID + " = ANY(?)"
+                    + " AND " + PASSE_TABLE_DSB_MITGLIED_ID + " = ANY(?)";
+
+    // all passen of the mannschaftsmitglieder in the wettkaempfe of the mannschaft
+    private static final String FIND_BY_MANNSCHAFTSMITGLIEDER_IN_WETTKAEMPFEN =
+            "SELECT * "
+                    + " FROM " + TABLE
+                    + " WHERE " + PASSE_TABLE_WETTKAMPF_ID + " IN ("
+                    + "   SELECT match_wettkampf_id"
+                    + "   FROM match"
+                    + "   WHERE match_mannschaft_id = ?)"
+                    + " AND " + PASSE_TABLE_DSB_MITGLIED_ID + " IN ("
+                    + "   SELECT mannschaftsmitglied_dsb_mitglied_id"
+                    + "   FROM mannschaftsmitglied"
+                    + "   WHERE mannschaftsmitglied_mannschaft_id = ?)"
+                    + " ORDER BY " + PASSE_TABLE_WETTKAMPF_ID + ", " + PASSE_TABLE_MATCH_NR + ", " + PASSE_TABLE_LFDNR;
+
 
     /**
      * Return all passe entries.
@@ -187,6 +216,31 @@ public class PasseDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return one page of passe entries in the order of the id.
+     *
+     * @param afterId id of the last entry of the previous page or 0 for the first page
+     * @param limit   maximum number of entries
+     *
+     * @return the passe entries with an id greater than afterId
+     */
+    public List<PasseBE> getPage(final long afterId, final int limit) {
+        return basicDao.selectEntityList(PASSE, FIND_PAGE, afterId, limit);
+    }
+
+
+    /**
+     * Pass all passe entries to the consumer, without loading all passen into the memory.
+     *
+     * @param consumer of each passe in the order of the lfdnr
+     *
+     * @return number of passen
+     */
+    public int streamAll(final Consumer<PasseBE> consumer) {
+        return basicDao.selectEntityStream(PASSE, FIND_ALL, consumer);
+    }
+
+
     /**
      * Select a single passe enttiy by its combined pk
      *
@@ -314,6 +368,36 @@ public class PasseDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Return the passe entries of the dsbMitglieder in the given wettkaempfe with one query
+     *
+     * @param wettkampfIds ids of the wettkaempfe
+     * @param mitgliedIds  ids of the dsbMitglieder
+     *
+     * @return a list of passe of the dsbMitglieder in the wettkaempfe; empty list if no passe are found
+     */
+    public List<PasseBE> findByWettkampfIdsAndMitgliedIds(Collection<Long> wettkampfIds, Collection<Long> mitgliedIds) {
+        if (wettkampfIds.isEmpty() || mitgliedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return basicDao.selectEntityList(PASSE, FIND_BY_WETTKAMPF_IDS_AND_MITGLIED_IDS, toIdArray(wettkampfIds),
+                toIdArray(mitgliedIds));
+    }
+
+
+    /**
+     * Return the passe entries of all members of a mannschaft in all wettkaempfe of the mannschaft with one query
+     *
+     * @param mannschaftId id of the mannschaft
+     *
+     * @return a list of passe ordered by wettkampf, match nr and lfdnr; empty list if no passe are found
+     */
+    public List<PasseBE> findByMannschaftsmitgliederInWettkaempfen(Long mannschaftId) {
+        return basicDao.selectEntityList(PASSE, FIND_BY_MANNSCHAFTSMITGLIEDER_IN_WETTKAEMPFEN, mannschaftId,
+                mannschaftId);
+    }
+
+
     /**
      * Create a new passe entry
      *
@@ -343,8 +427,45 @@ public class PasseDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Create new passe entries with one batch
+     *
+     * @param passeBEList               new passen
+     * @param currentKampfrichterUserId current user
+     *
+     * @return Business Entities of the created passen in the order of {@code passeBEList}
+     */
+    public List<PasseBE> createAll(final List<PasseBE> passeBEList, final Long currentKampfrichterUserId) {
+        for (PasseBE passeBE : passeBEList) {
+            basicDao.setCreationAttributes(passeBE, currentKampfrichterUserId);
+        }
+
+        return basicDao.insertEntityBatch(PASSE, passeBEList);
+    }
+
+
+    /**
+     * Update existing passe entries with one batch. The updated passen are not selected again.
+     *
+     * @param passeBEList               current passen being updated
+     * @param currentKampfrichterUserId current user
+     */
+    public void updateAll(final List<PasseBE> passeBEList, final Long currentKampfrichterUserId) {
+        for (PasseBE passeBE : passeBEList) {
+            basicDao.setModificationAttributes(passeBE, currentKampfrichterUserId);
+        }
+
+        basicDao.updateEntityBatch(PASSE, passeBEList, PASSE_TABLE_ID);
+    }
+
+
     public void delete(PasseBE passeBE, Long currentMemberId) {
         basicDao.setModificationAttributes(passeBE, currentMemberId);
         basicDao.deleteEntity(PASSE, passeBE, PASSE_TABLE_ID);
     }
-}
\ No newline at end of file
+
+
+    private static long[] toIdArray(Collection<Long> ids) {
+        return ids.stream().mapToLong(Long::longValue).distinct().toArray();
+    }
+}
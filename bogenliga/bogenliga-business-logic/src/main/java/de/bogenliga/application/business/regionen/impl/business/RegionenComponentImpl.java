@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.regionen.impl.business;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
@@ -13,6 +14,9 @@ import de.bogenliga.application.business.regionen.impl.dao.RegionenDAO;
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.regionen.impl.mapper.RegionenMapper;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.validation.Preconditions;
 
 /**
@@ -27,9 +31,13 @@ public class RegionenComponentImpl implements RegionenComponent {
     private static final String PRECONDITION_MSG_REGION_ID = "RegionDO ID must not be negative";
     private static final String PRECONDITION_MSG_REGION_NAME = "RegionDO name must not be null";
     private static final String PRECONDITION_MSG_REGION_DSB_MITGLIED_NOT_NEG = "DsbMitglied id must not be negative";
+    private static final String PRECONDITION_MSG_REGION_SEARCHTERM = "Search term must not be null";
     private static final String PRECONDITION_MSG_VEREIN_EXISTS = "You cant delete this Region! There is a least one Verein, which is linked to it.";
     private static final String PRECONDITION_MSG_LIGA_EXISTS = "You cant delete this Region! There is a least one Liga, which is linked to it.";
     private static final String PRECONDITION_MSG_LIZENZ_EXISTS = "You cant delete this Region! There is a least one Kampfrichterlizenz, which is linked to it.";
+    private static final String CACHE_NAME = "regionen";
+    private static final String CACHE_NAME_ALL = "regionen.all";
+    private static final String CACHE_KEY_ALL = "all";
 
 
     private static final Logger LOGGER = LoggerFactory.getLogger(RegionenComponentImpl.class);
@@ -39,6 +47,10 @@ public class RegionenComponentImpl implements RegionenComponent {
     private final LigaComponent ligaComponent;
     private final VereinComponent vereinComponent;
     private final LizenzComponent lizenzComponent;
+    private final ReferenceDataCache<Long, RegionenBE> regionenCache;
+    // all regions to map the uebergeordnete region of a region
+    private final ReferenceDataCache<String, List<RegionenBE>> allRegionenCache;
+    private final TransactionManager transactionManager;
 
 
     /**
@@ -47,11 +59,15 @@ public class RegionenComponentImpl implements RegionenComponent {
      * @param regionenDAO
      */
     public RegionenComponentImpl(RegionenDAO regionenDAO, LigaComponent ligaComponent, VereinComponent vereinComponent,
-                                 LizenzComponent lizenzComponent) {
+                                 LizenzComponent lizenzComponent, ReferenceDataCacheManager referenceDataCacheManager,
+                                 TransactionManager transactionManager) {
         this.regionenDAO = regionenDAO;
         this.ligaComponent = ligaComponent;
         this.vereinComponent = vereinComponent;
         this.lizenzComponent = lizenzComponent;
+        this.regionenCache = referenceDataCacheManager.getCache(CACHE_NAME);
+        this.allRegionenCache = referenceDataCacheManager.getCache(CACHE_NAME_ALL);
+        this.transactionManager = transactionManager;
     }
 
 
@@ -63,6 +79,8 @@ public class RegionenComponentImpl implements RegionenComponent {
 
     @Override
     public List<RegionenDO> findBySearch(final String searchTerm) {
+        Preconditions.checkNotNull(searchTerm, PRECONDITION_MSG_REGION_SEARCHTERM);
+
         final List<RegionenBE> regionenBEList = regionenDAO.findBySearch(searchTerm);
         return syncListofDOs(regionenBEList.stream().map(RegionenMapper.toRegionDO).collect(Collectors.toList()));
     }
@@ -76,8 +94,8 @@ public class RegionenComponentImpl implements RegionenComponent {
 
     @Override
     public RegionenDO findById(long vereinId) {
-        final RegionenBE regionenBE = regionenDAO.findById(vereinId);
-        return syncSingle(RegionenMapper.toRegionDO.apply(regionenBE),regionenDAO.findAll());
+        final RegionenBE regionenBE = regionenCache.get(vereinId, regionenDAO::findById);
+        return syncSingle(RegionenMapper.toRegionDO.apply(regionenBE), findAllRegionen());
     }
 
     @Override
@@ -89,6 +107,7 @@ public class RegionenComponentImpl implements RegionenComponent {
 
         final RegionenBE regionenBE = RegionenMapper.toRegionBE.apply(regionenDO);
         final RegionenBE persistedRegionenBE = regionenDAO.create(regionenBE, currentDsbMitglied);
+        transactionManager.afterCommit(allRegionenCache::invalidateAll);
 
         return syncSingle(RegionenMapper.toRegionDO.apply(persistedRegionenBE),allRegions);
     }
@@ -106,10 +125,24 @@ public class RegionenComponentImpl implements RegionenComponent {
 
         final RegionenBE regionenBE = RegionenMapper.toRegionBE.apply(regionenDO);
         final RegionenBE persistedRegionenBE = regionenDAO.update(regionenBE, currentDsbMitglied);
+        invalidateAfterCommit(regionenDO.getId());
 
         return syncSingle(RegionenMapper.toRegionDO.apply(persistedRegionenBE), allRegions);
     }
 
+    /**
+     * The caches are cleared after the commit, so a concurrent lookup can not cache the region before the change.
+     *
+     * @param regionId of the changed region
+     */
+    private void invalidateAfterCommit(final Long regionId) {
+        transactionManager.afterCommit(() -> {
+            regionenCache.invalidate(regionId);
+            allRegionenCache.invalidateAll();
+        });
+    }
+
+
     @Override
     public void delete(RegionenDO regionenDO, long currentDsbMitglied) {
         checkDeletePreconditions(regionenDO, currentDsbMitglied);
@@ -117,6 +150,7 @@ public class RegionenComponentImpl implements RegionenComponent {
         final RegionenBE regionenBE = RegionenMapper.toRegionBE.apply(regionenDO);
 
         regionenDAO.delete(regionenBE, currentDsbMitglied);
+        invalidateAfterCommit(regionenDO.getId());
     }
 
     private void checkDeletePreconditions(RegionenDO regionenDO, long currentDsbMitglied){
@@ -139,6 +173,14 @@ public class RegionenComponentImpl implements RegionenComponent {
         Preconditions.checkNotNull(regionenDO.getRegionName(), PRECONDITION_MSG_REGION_NAME);
     }
 
+    /**
+     * @return all regions from the cache, to map the uebergeordnete region without a query per region
+     */
+    private List<RegionenBE> findAllRegionen() {
+        return allRegionenCache.get(CACHE_KEY_ALL, key -> Collections.unmodifiableList(regionenDAO.findAll()));
+    }
+
+
     /**
      * I am synchronizing the ID with the uebergeordnetAsName of all given RegionenDOs.
      * Therefore i am calling the syncSingle method for each region.
@@ -146,7 +188,7 @@ public class RegionenComponentImpl implements RegionenComponent {
      * @return the same list of regionDOs, but all IDs and uebergeordnetAsName are matching correctly.
      */
     private List<RegionenDO> syncListofDOs(List<RegionenDO> regionDOs) {
-        List<RegionenBE> allRegions = regionenDAO.findAll();
+        List<RegionenBE> allRegions = findAllRegionen();
         return regionDOs.stream().map(region -> syncSingle(region, allRegions)).collect(Collectors.toList());
     }
 
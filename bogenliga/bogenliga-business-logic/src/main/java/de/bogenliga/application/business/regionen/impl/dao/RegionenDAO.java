@@ -11,6 +11,7 @@ import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.database.queries.SearchQuery;
 
 
 /**
@@ -51,11 +52,14 @@ public class RegionenDAO implements DataAccessObject {
                     + " FROM region"
                     + " ORDER BY region_id";
 
+    // Teilstring oder aehnliche Woerter ueber den Trigramm-Index idx_region_suche, die aehnlichsten Treffer zuerst
     private static final String FIND_BY_SEARCH =
             "SELECT * "
                     + " FROM region "
-                    + " WHERE LOWER(region_name) LIKE LOWER(?) "
-                    + " ORDER BY region_id";
+                    + " WHERE LOWER(region_name) LIKE ?"
+                    + " OR ? <% LOWER(region_name)"
+                    + " ORDER BY word_similarity(?, LOWER(region_name)) DESC, region_id"
+                    + " LIMIT ?";
 
     private static final String FIND_BY_ID =
             "SELECT * "
@@ -107,13 +111,18 @@ public class RegionenDAO implements DataAccessObject {
         return basicDAO.selectEntityList(REGIONEN, FIND_ALL);
     }
 
+    /**
+     * Return the Region entries, whose name contains the search term or similar words
+     *
+     * @param searchTerm
+     * @return List with Region Business Entities, ranked by the similarity and limited to
+     * {@link SearchQuery#RESULT_LIMIT} entries
+     */
     public List<RegionenBE> findBySearch(final String searchTerm) {
-        return basicDAO.selectEntityList(REGIONEN, FIND_BY_SEARCH, new StringBuilder()
-                .append("%")
-                .append(searchTerm)
-                .append("%")
-                .toString()
-        );
+        final String term = SearchQuery.getTerm(searchTerm);
+
+        return basicDAO.selectEntityList(REGIONEN, FIND_BY_SEARCH, SearchQuery.getContainsPattern(searchTerm),
+                term, term, SearchQuery.RESULT_LIMIT);
     }
 
     /**
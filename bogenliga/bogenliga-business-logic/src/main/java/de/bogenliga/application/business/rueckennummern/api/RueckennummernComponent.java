@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.rueckennummern.api;
 
+import java.io.OutputStream;
 import de.bogenliga.application.common.component.ComponentFacade;
 
 /**
@@ -24,4 +25,12 @@ public interface RueckennummernComponent extends ComponentFacade {
      */
     byte[] getMannschaftsRueckennummernPDFasByteArray(long dsbMannschaftsId);
 
+    /**
+     * Generates a pdf for a whole mannschaft and writes the pages to the output stream while the document is
+     * generated
+     * @param dsbMannschaftsId ID of the mannschaft
+     * @param outputStream for the document, not closed after writing
+     */
+    void writeMannschaftsRueckennummernPDF(long dsbMannschaftsId, OutputStream outputStream);
+
 }
@@ -2,6 +2,7 @@ package de.bogenliga.application.business.rueckennummern.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -32,6 +33,7 @@ import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponen
 import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfPageRenderer;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 
@@ -51,20 +53,22 @@ public class RueckennummernComponentImpl implements RueckennummernComponent {
     private final DsbMitgliedComponent dsbMitgliedComponent;
     private final DsbMannschaftComponent dsbMannschaftComponent;
     private final VeranstaltungComponent veranstaltungComponent;
-
+    private final PdfPageRenderer pdfPageRenderer;
 
     @Autowired
     public RueckennummernComponentImpl(MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
                                        VereinComponent vereinComponent,
                                        DsbMitgliedComponent dsbMitgliedComponent,
                                        DsbMannschaftComponent dsbMannschaftComponent,
-                                       VeranstaltungComponent veranstaltungComponent) {
+                                       VeranstaltungComponent veranstaltungComponent,
+                                       PdfPageRenderer pdfPageRenderer) {
 
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
         this.vereinComponent = vereinComponent;
         this.dsbMitgliedComponent = dsbMitgliedComponent;
         this.dsbMannschaftComponent = dsbMannschaftComponent;
         this.veranstaltungComponent = veranstaltungComponent;
+        this.pdfPageRenderer = pdfPageRenderer;
     }
 
 
@@ -99,7 +103,7 @@ public class RueckennummernComponentImpl implements RueckennummernComponent {
              PdfDocument pdfDocument = new PdfDocument(writer);
              Document doc = new Document(pdfDocument, PageSize.A4)) {
 
-            generateRueckennummernDoc(doc, rueckennummerMapping);
+            generateRueckennummernDoc(doc, new ArrayList<>(rueckennummerMapping.entrySet()));
 
             return result.toByteArray();
 
@@ -111,6 +115,13 @@ public class RueckennummernComponentImpl implements RueckennummernComponent {
     }
 
     public byte[] getMannschaftsRueckennummernPDFasByteArray(long dsbMannschaftsId) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeMannschaftsRueckennummernPDF(dsbMannschaftsId, result);
+        return result.toByteArray();
+    }
+
+    @Override
+    public void writeMannschaftsRueckennummernPDF(long dsbMannschaftsId, OutputStream outputStream) {
 
         //Collect information
         DsbMannschaftDO dsbMannschaftDO = this.dsbMannschaftComponent.findById(dsbMannschaftsId);
@@ -139,29 +150,20 @@ public class RueckennummernComponentImpl implements RueckennummernComponent {
             LOGGER.info("Teammitglied {} mit Rückennummer {} gefunden",schuetzenname,rueckennummer);
         }
 
-        try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-             PdfWriter writer = new PdfWriter(result);
-             PdfDocument pdfDocument = new PdfDocument(writer);
-             Document doc = new Document(pdfDocument, PageSize.A4)) {
-
-            generateRueckennummernDoc(doc, rueckennummerMapping);
-
-            return result.toByteArray();
+        LOGGER.info("Es wurden {} Mannschaftsmitglieder gefunden", rueckennummerMapping.size());
 
-        } catch (IOException e) {
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
-                    "Rueckennummern PDF konnte nicht erstellt werden: " + e);
-        }
+        // each Rueckennummer fills one page, the pages are rendered in parallel
+        pdfPageRenderer.writeDocument(new ArrayList<>(rueckennummerMapping.entrySet()),
+                this::generateRueckennummernDoc, outputStream);
     }
 
-    private void generateRueckennummernDoc(Document doc, HashMap<String, List<String>> rueckennummerMapping) {
-        LOGGER.info("Es wurden {} Mannschaftsmitglieder gefunden", rueckennummerMapping.size());
+    private void generateRueckennummernDoc(Document doc, List<Map.Entry<String, List<String>>> rueckennummerMapping) {
         doc.setMargins(0,0,0,0);
 
         //Table for the entire document
         final Table docTable = new Table(UnitValue.createPercentArray(1), true).setBorder(Border.NO_BORDER);
         //iterate over all Mannschaftsmitglieder
-        for(Map.Entry<String, List<String>> rNummer : rueckennummerMapping.entrySet())
+        for(Map.Entry<String, List<String>> rNummer : rueckennummerMapping)
         {
             String liga = rNummer.getValue().get(0);
             String verein = rNummer.getValue().get(1);
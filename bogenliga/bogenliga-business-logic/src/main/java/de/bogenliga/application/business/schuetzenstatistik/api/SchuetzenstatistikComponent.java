@@ -21,4 +21,12 @@ public interface SchuetzenstatistikComponent extends ComponentFacade {
      */
     List<SchuetzenstatistikDO> getSchuetzenstatistikWettkampf(Long wettkampfId, Long vereinId);
 
+
+    /**
+     * aktualisiert die summierten Ringzahlen der Schützen eines Wettkampfs,
+     * nachdem Passen des Wettkampfs gespeichert wurden.
+     * Die Aktualisierung erfolgt einmal je Wettkampf vor dem Commit der Transaktion.
+     */
+    void refreshSchuetzenstatistikWettkampf(Long wettkampfId);
+
 }
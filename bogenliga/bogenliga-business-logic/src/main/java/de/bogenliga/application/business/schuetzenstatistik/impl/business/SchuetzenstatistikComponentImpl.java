@@ -5,6 +5,9 @@ import de.bogenliga.application.business.schuetzenstatistik.api.types.Schuetzens
 import de.bogenliga.application.business.schuetzenstatistik.impl.dao.SchuetzenstatistikDAO;
 import de.bogenliga.application.business.schuetzenstatistik.impl.entity.SchuetzenstatistikBE;
 import de.bogenliga.application.business.schuetzenstatistik.impl.mapper.SchuetzenstatistikMapper;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -12,10 +15,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Implementation of {@link SchuetzenstatistikComponent}
+ * <p>
+ * The statistics are kept in a {@link ReferenceDataCache}. The cache is cleared, if the summed ringzahlen of a
+ * wettkampf are refreshed after passen or matches are saved. The refresh is executed once per wettkampf before the
+ * unit of work is committed and the cache is cleared after the commit, so a concurrent lookup can not cache the
+ * statistics of the previous commit.
  */
 @Component
 public class SchuetzenstatistikComponentImpl implements SchuetzenstatistikComponent {
@@ -26,15 +35,29 @@ public class SchuetzenstatistikComponentImpl implements SchuetzenstatistikCompon
     private static final String PRECONDITION_WETTKAMPFID = "wettkampfID cannot be null or negative";
     private static final String PRECONDITION_VEREINID = "vereinID cannot be null or negative";
 
+    private static final String CACHE_NAME = "schuetzenstatistik";
+    private static final String CACHE_KEY_VERANSTALTUNG = "veranstaltung/%d/%d";
+    private static final String CACHE_KEY_WETTKAMPF = "wettkampf/%d/%d";
+    private static final String REFRESH_KEY = "schuetzenstatistik/wettkampf/%d";
+
+    private final ReferenceDataCache<String, List<SchuetzenstatistikDO>> cache;
+    private final TransactionManager transactionManager;
+
     /**
      * Constructor
      *
      * dependency injection with {@link Autowired}
      * @param schuetzenstatistikDAO to access the database and return user representations
+     * @param referenceDataCacheManager to cache the statistics
+     * @param transactionManager to refresh the statistics and clear the cache with the commit of the unit of work
      */
     @Autowired
-    public SchuetzenstatistikComponentImpl(final SchuetzenstatistikDAO schuetzenstatistikDAO) {
+    public SchuetzenstatistikComponentImpl(final SchuetzenstatistikDAO schuetzenstatistikDAO,
+                                           final ReferenceDataCacheManager referenceDataCacheManager,
+                                           final TransactionManager transactionManager) {
         this.schuetzenstatistikDAO = schuetzenstatistikDAO;
+        this.cache = referenceDataCacheManager.getCache(CACHE_NAME);
+        this.transactionManager = transactionManager;
     }
 
 
@@ -43,17 +66,15 @@ public class SchuetzenstatistikComponentImpl implements SchuetzenstatistikCompon
         Preconditions.checkArgument(veranstaltungId >= 0, PRECONDITION_VERANSTALTUNGID);
         Preconditions.checkArgument(vereinId >= 0, PRECONDITION_VEREINID);
 
-        final ArrayList<SchuetzenstatistikDO> returnList = new ArrayList<>();
-        final List<SchuetzenstatistikBE> schuetzenstatistikBEList = schuetzenstatistikDAO.getSchuetzenstatistikVeranstaltung(veranstaltungId, vereinId);
+        final String cacheKey = String.format(CACHE_KEY_VERANSTALTUNG, veranstaltungId, vereinId);
+        return new ArrayList<>(cache.get(cacheKey, key -> {
+            final List<SchuetzenstatistikBE> schuetzenstatistikBEList = schuetzenstatistikDAO.getSchuetzenstatistikVeranstaltung(veranstaltungId, vereinId);
 
-        if (schuetzenstatistikBEList == null) {
-            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, ("No result found for Veranstaltungs-ID "+ veranstaltungId+ " and Verein-ID "+ vereinId));
-        }
-
-        for (int i = 0; i < schuetzenstatistikBEList.size(); i++) {
-            returnList.add(i, SchuetzenstatistikMapper.toSchuetzenstatistikDO.apply(schuetzenstatistikBEList.get(i)));
-        }
-        return returnList;
+            if (schuetzenstatistikBEList == null) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, ("No result found for Veranstaltungs-ID "+ veranstaltungId+ " and Verein-ID "+ vereinId));
+            }
+            return toDOList(schuetzenstatistikBEList);
+        }));
     }
 
     @Override
@@ -61,18 +82,35 @@ public class SchuetzenstatistikComponentImpl implements SchuetzenstatistikCompon
         Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_WETTKAMPFID);
         Preconditions.checkArgument(vereinId >= 0, PRECONDITION_VEREINID);
 
-        final ArrayList<SchuetzenstatistikDO> returnList = new ArrayList<>();
-        final List<SchuetzenstatistikBE> schuetzenstatistikBEList = schuetzenstatistikDAO.getSchuetzenstatistikWettkampf(wettkampfId, vereinId);
+        final String cacheKey = String.format(CACHE_KEY_WETTKAMPF, wettkampfId, vereinId);
+        return new ArrayList<>(cache.get(cacheKey, key -> {
+            final List<SchuetzenstatistikBE> schuetzenstatistikBEList = schuetzenstatistikDAO.getSchuetzenstatistikWettkampf(wettkampfId, vereinId);
 
-        if (schuetzenstatistikBEList == null) {
-            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, ("No result found for Wettkampf-ID " + wettkampfId) + " and Verein-ID " + vereinId);
-        }
+            if (schuetzenstatistikBEList == null) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, ("No result found for Wettkampf-ID " + wettkampfId) + " and Verein-ID " + vereinId);
+            }
+            return toDOList(schuetzenstatistikBEList);
+        }));
+    }
 
+
+    @Override
+    public void refreshSchuetzenstatistikWettkampf(Long wettkampfId) {
+        Preconditions.checkArgument(wettkampfId >= 0, PRECONDITION_WETTKAMPFID);
+
+        transactionManager.beforeCommit(String.format(REFRESH_KEY, wettkampfId), () -> {
+            schuetzenstatistikDAO.refreshSchuetzenstatistikWettkampf(wettkampfId);
+            // the cache keys of a veranstaltung do not contain the wettkampf, so all entries are removed
+            transactionManager.afterCommit(cache::invalidateAll);
+        });
+    }
+
+
+    private static List<SchuetzenstatistikDO> toDOList(final List<SchuetzenstatistikBE> schuetzenstatistikBEList) {
+        final List<SchuetzenstatistikDO> returnList = new ArrayList<>();
         for (int i = 0; i < schuetzenstatistikBEList.size(); i++) {
             returnList.add(i, SchuetzenstatistikMapper.toSchuetzenstatistikDO.apply(schuetzenstatistikBEList.get(i)));
         }
-        return returnList;
+        return Collections.unmodifiableList(returnList);
     }
-
-
 }
@@ -4,7 +4,6 @@ import de.bogenliga.application.business.schuetzenstatistik.impl.entity.Schuetze
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
-import de.bogenliga.application.common.database.queries.QueryBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -65,45 +64,43 @@ public class SchuetzenstatistikDAO implements DataAccessObject {
      * SQL queries
      */
 
+    /* die Schuetzenstatistik wird aus der Tabelle schuetzenstatistik_stand gelesen, in der die Ringzahlen und die
+     * Anzahl der Pfeile je Schütze und Match bereits summiert sind - die Spalten entsprechen der View
+     * schuetzenstatistik, die Namen werden beim Lesen über die Primärschlüssel ergänzt
+     */
+    private static final String SCHUETZENSTATISTIK_STAND_SELECT =
+            "SELECT veranstaltung.veranstaltung_id AS " + VERANSTALTUNGID_TABLE + "," +
+                    "veranstaltung.veranstaltung_name AS " + VERANSTALTUNGNAME_TABLE + "," +
+                    "wettkampf.wettkampf_id AS " + WETTKAMPFID_TABLE + "," +
+                    "wettkampf.wettkampf_tag AS " + WETTKAMPFTAG_TABLE + "," +
+                    "mannschaft.mannschaft_id AS " + MANNSCHAFTID_TABLE + "," +
+                    "mannschaft.mannschaft_nummer AS " + MANNSCHAFTNUMMER_TABLE + "," +
+                    "verein.verein_id AS " + VEREINID_TABLE + "," +
+                    "verein.verein_name AS " + VEREINNAME_TABLE + "," +
+                    "match.match_id AS " + MATCHID_TABLE + "," +
+                    "match.match_nr AS " + MATCHNR_TABLE + "," +
+                    "dsb_mitglied.dsb_mitglied_id AS " + DSBMITGLIEDID_TABLE + "," +
+                    "(dsb_mitglied.dsb_mitglied_vorname || ' ' || dsb_mitglied.dsb_mitglied_nachname) AS "
+                    + DSBMITGLIEDNAME_TABLE + "," +
+                    "mannschaftsmitglied.mannschaftsmitglied_rueckennummer AS " + RUECKENNUMMER_TABLE + "," +
+                    "(stand.schuetzenstatistik_stand_pfeilpunkte_summe / stand.schuetzenstatistik_stand_pfeile_anzahl)" +
+                    " AS " + PFEILPUNKTESCHNITT_TABLE + " " +
+                    "FROM schuetzenstatistik_stand AS stand " +
+                    "JOIN match ON match.match_id = stand.schuetzenstatistik_stand_match_id " +
+                    "JOIN wettkampf ON wettkampf.wettkampf_id = stand.schuetzenstatistik_stand_wettkampf_id " +
+                    "JOIN veranstaltung ON veranstaltung.veranstaltung_id = wettkampf.wettkampf_veranstaltung_id " +
+                    "JOIN mannschaft ON mannschaft.mannschaft_id = match.match_mannschaft_id " +
+                    "JOIN verein ON verein.verein_id = mannschaft.mannschaft_verein_id " +
+                    "JOIN dsb_mitglied ON dsb_mitglied.dsb_mitglied_id = stand.schuetzenstatistik_stand_dsb_mitglied_id " +
+                    "JOIN mannschaftsmitglied ON mannschaftsmitglied.mannschaftsmitglied_mannschaft_id = mannschaft.mannschaft_id " +
+                    "AND mannschaftsmitglied.mannschaftsmitglied_dsb_mitglied_id = dsb_mitglied.dsb_mitglied_id ";
+
     /* der Select liefert die aktuelle Schuetzenstatistik zur Veranstaltung -
      */
-    private static final String GET_SCHUETZENSTATISTIK = new QueryBuilder().selectFields(
-            VERANSTALTUNGID_TABLE,
-            VERANSTALTUNGNAME_TABLE,
-            WETTKAMPFID_TABLE,
-            WETTKAMPFTAG_TABLE,
-            MANNSCHAFTID_TABLE,
-            MANNSCHAFTNUMMER_TABLE,
-            VEREINID_TABLE,
-            VEREINNAME_TABLE,
-            MATCHID_TABLE,
-            MATCHNR_TABLE,
-            DSBMITGLIEDID_TABLE,
-            DSBMITGLIEDNAME_TABLE,
-            RUECKENNUMMER_TABLE,
-            "SUM("+PFEILPUNKTESCHNITT_TABLE+")/COUNT("+PFEILPUNKTESCHNITT_TABLE+") as "+PFEILPUNKTESCHNITT_BE
-    )
-            .from(TABLE)
-            .whereEquals(VERANSTALTUNGID_TABLE)
-            .andEquals(VEREINID_TABLE)
-            .groupBy(
-                    VERANSTALTUNGID_TABLE,
-                    VERANSTALTUNGNAME_TABLE,
-                    WETTKAMPFID_TABLE,
-                    WETTKAMPFTAG_TABLE,
-                    MANNSCHAFTID_TABLE,
-                    MANNSCHAFTNUMMER_TABLE,
-                    VEREINID_TABLE,
-                    VEREINNAME_TABLE,
-                    MATCHID_TABLE,
-                    MATCHNR_TABLE,
-                    DSBMITGLIEDID_TABLE,
-                    DSBMITGLIEDNAME_TABLE,
-                    RUECKENNUMMER_TABLE,
-                    PFEILPUNKTESCHNITT_TABLE
-            )
-            .orderBy("SUM("+PFEILPUNKTESCHNITT_TABLE+")/COUNT("+PFEILPUNKTESCHNITT_TABLE+")")
-            .compose().toString();
+    private static final String GET_SCHUETZENSTATISTIK = SCHUETZENSTATISTIK_STAND_SELECT +
+            "WHERE wettkampf.wettkampf_veranstaltung_id = ? " +
+            "AND verein.verein_id = ? " +
+            "ORDER BY " + PFEILPUNKTESCHNITT_TABLE;
 
     // wrap all specific config parameters
     private static final BusinessEntityConfiguration<SchuetzenstatistikBE> SCHUETZENSTATISTIK = new BusinessEntityConfiguration<>(
@@ -112,43 +109,62 @@ public class SchuetzenstatistikDAO implements DataAccessObject {
 
     /* der Select liefert die aktuelle Schuetzenstatistik zur Wettkampf-ID
      */
-    private static final String GET_SCHUETZENSTATISTIK_WETTKAMPF = new QueryBuilder().selectFields(
-                VERANSTALTUNGID_TABLE,
-                VERANSTALTUNGNAME_TABLE,
-                WETTKAMPFID_TABLE,
-                WETTKAMPFTAG_TABLE,
-                MANNSCHAFTID_TABLE,
-                MANNSCHAFTNUMMER_TABLE,
-                VEREINID_TABLE,
-                VEREINNAME_TABLE,
-                MATCHID_TABLE,
-                MATCHNR_TABLE,
-                DSBMITGLIEDID_TABLE,
-                DSBMITGLIEDNAME_TABLE,
-                RUECKENNUMMER_TABLE,
-                "SUM("+PFEILPUNKTESCHNITT_TABLE+")/COUNT("+PFEILPUNKTESCHNITT_TABLE+") as "+PFEILPUNKTESCHNITT_BE
-            )
-            .from(TABLE)
-            .whereEquals(WETTKAMPFID_TABLE)
-            .andEquals(VEREINID_TABLE)
-            .groupBy(
-                    VERANSTALTUNGID_TABLE,
-                    VERANSTALTUNGNAME_TABLE,
-                    WETTKAMPFID_TABLE,
-                    WETTKAMPFTAG_TABLE,
-                    MANNSCHAFTID_TABLE,
-                    MANNSCHAFTNUMMER_TABLE,
-                    VEREINID_TABLE,
-                    VEREINNAME_TABLE,
-                    MATCHID_TABLE,
-                    MATCHNR_TABLE,
-                    DSBMITGLIEDID_TABLE,
-                    DSBMITGLIEDNAME_TABLE,
-                    RUECKENNUMMER_TABLE,
-                    PFEILPUNKTESCHNITT_TABLE
-            )
-            .orderBy("SUM("+PFEILPUNKTESCHNITT_TABLE+")/COUNT("+PFEILPUNKTESCHNITT_TABLE+")")
-            .compose().toString();
+    private static final String GET_SCHUETZENSTATISTIK_WETTKAMPF = SCHUETZENSTATISTIK_STAND_SELECT +
+            "WHERE stand.schuetzenstatistik_stand_wettkampf_id = ? " +
+            "AND verein.verein_id = ? " +
+            "ORDER BY " + PFEILPUNKTESCHNITT_TABLE;
+
+    /* aktualisiert die Summen eines Wettkampfs in einem Statement:
+     * - Ringzahlen und Pfeile werden je Match und Schütze summiert, es zählen nur Matches mit einem Gegner
+     * - Schützen ohne geschossene Pfeile im Match werden entfernt
+     * - geänderte Summen werden eingefügt bzw. aktualisiert, unveränderte Zeilen bleiben unberührt
+     */
+    private static final String PFEILE_ANZAHL =
+            "sum((passe.passe_ringzahl_pfeil1 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil2 IS NOT NULL)::int" +
+                    " + (passe.passe_ringzahl_pfeil3 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil4 IS NOT NULL)::int" +
+                    " + (passe.passe_ringzahl_pfeil5 IS NOT NULL)::int + (passe.passe_ringzahl_pfeil6 IS NOT NULL)::int)";
+    private static final String REFRESH_SCHUETZENSTATISTIK_STAND =
+            "WITH aktuell AS (" +
+                    "SELECT match.match_id AS match_id," +
+                    "passe.passe_dsb_mitglied_id AS dsb_mitglied_id," +
+                    "match.match_wettkampf_id AS wettkampf_id," +
+                    "sum(COALESCE(passe.passe_ringzahl_pfeil1, 0) + COALESCE(passe.passe_ringzahl_pfeil2, 0)" +
+                    " + COALESCE(passe.passe_ringzahl_pfeil3, 0) + COALESCE(passe.passe_ringzahl_pfeil4, 0)" +
+                    " + COALESCE(passe.passe_ringzahl_pfeil5, 0) + COALESCE(passe.passe_ringzahl_pfeil6, 0))" +
+                    " AS pfeilpunkte_summe," +
+                    PFEILE_ANZAHL + " AS pfeile_anzahl " +
+                    "FROM passe " +
+                    "JOIN match ON match.match_wettkampf_id = passe.passe_wettkampf_id " +
+                    "AND match.match_nr = passe.passe_match_nr " +
+                    "AND match.match_mannschaft_id = passe.passe_mannschaft_id " +
+                    "WHERE passe.passe_wettkampf_id = ? " +
+                    "AND EXISTS (SELECT 1 FROM match AS match_gegen " +
+                    "WHERE match_gegen.match_wettkampf_id = match.match_wettkampf_id " +
+                    "AND match_gegen.match_nr = match.match_nr " +
+                    "AND match_gegen.match_begegnung = match.match_begegnung " +
+                    "AND match_gegen.match_mannschaft_id != match.match_mannschaft_id) " +
+                    "GROUP BY match.match_id, passe.passe_dsb_mitglied_id, match.match_wettkampf_id " +
+                    "HAVING " + PFEILE_ANZAHL + " > 0" +
+                    "), entfernt AS (" +
+                    "DELETE FROM schuetzenstatistik_stand " +
+                    "WHERE schuetzenstatistik_stand_wettkampf_id = ? " +
+                    "AND NOT EXISTS (SELECT 1 FROM aktuell " +
+                    "WHERE aktuell.match_id = schuetzenstatistik_stand_match_id " +
+                    "AND aktuell.dsb_mitglied_id = schuetzenstatistik_stand_dsb_mitglied_id)" +
+                    ") " +
+                    "INSERT INTO schuetzenstatistik_stand (schuetzenstatistik_stand_match_id," +
+                    "schuetzenstatistik_stand_dsb_mitglied_id, schuetzenstatistik_stand_wettkampf_id," +
+                    "schuetzenstatistik_stand_pfeilpunkte_summe, schuetzenstatistik_stand_pfeile_anzahl) " +
+                    "SELECT match_id, dsb_mitglied_id, wettkampf_id, pfeilpunkte_summe, pfeile_anzahl " +
+                    "FROM aktuell " +
+                    "ON CONFLICT (schuetzenstatistik_stand_match_id, schuetzenstatistik_stand_dsb_mitglied_id) " +
+                    "DO UPDATE SET " +
+                    "schuetzenstatistik_stand_pfeilpunkte_summe = EXCLUDED.schuetzenstatistik_stand_pfeilpunkte_summe," +
+                    "schuetzenstatistik_stand_pfeile_anzahl = EXCLUDED.schuetzenstatistik_stand_pfeile_anzahl " +
+                    "WHERE (schuetzenstatistik_stand.schuetzenstatistik_stand_pfeilpunkte_summe," +
+                    "schuetzenstatistik_stand.schuetzenstatistik_stand_pfeile_anzahl) " +
+                    "IS DISTINCT FROM (EXCLUDED.schuetzenstatistik_stand_pfeilpunkte_summe," +
+                    "EXCLUDED.schuetzenstatistik_stand_pfeile_anzahl)";
 
 
     private final BasicDAO basicDao;
@@ -199,5 +215,16 @@ public class SchuetzenstatistikDAO implements DataAccessObject {
     }
 
 
+    /**
+     * Aktualisieren der summierten Ringzahlen aller Schützen eines Wettkampfs,
+     * nachdem Passen des Wettkampfs angelegt, geändert oder gelöscht wurden
+     *
+     * @param wettkampfId Id des Wettkampfs
+     */
+    public void refreshSchuetzenstatistikWettkampf(final long wettkampfId) {
+        basicDao.executeUpdate(SCHUETZENSTATISTIK, REFRESH_SCHUETZENSTATISTIK_STAND, wettkampfId, wettkampfId);
+    }
+
+
     
 }
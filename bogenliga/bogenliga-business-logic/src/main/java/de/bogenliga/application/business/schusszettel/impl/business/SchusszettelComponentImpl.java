@@ -2,6 +2,7 @@ package de.bogenliga.application.business.schusszettel.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -20,6 +21,7 @@ import com.itextpdf.layout.borders.SolidBorder;
 import com.itextpdf.layout.element.AreaBreak;
 import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.Image;
 import com.itextpdf.layout.element.LineSeparator;
 import com.itextpdf.layout.element.Paragraph;
 import com.itextpdf.layout.element.Table;
@@ -37,6 +39,10 @@ import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfPageRenderer;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfTemplates;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
@@ -63,6 +69,8 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
     private static final String SCHUSSZETTEL_PFEIL1 = "Pfeil 1";
     private static final String SCHUSSZETTEL_PFEIL2 = "Pfeil 2";
     private static final String SCHUSSZETTEL_UNTERSCHRIFT = "Unterschrift";
+    private static final float SCHUSSZETTEL_PADDING = 10.0F;
+    private static final String TEMPLATE_SATZ_TABELLE = "schusszettel.satzTabelle";
 
     private final MatchComponent matchComponent;
     private final PasseComponent passeComponent;
@@ -70,6 +78,8 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
     private final MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
     private final VereinComponent vereinComponent;
     private final WettkampfComponent wettkampfComponent;
+    private final WettkampfDokumentComponent wettkampfDokumentComponent;
+    private final PdfPageRenderer pdfPageRenderer;
 
     @Autowired
     public SchusszettelComponentImpl(final MatchComponent matchComponent,
@@ -77,28 +87,41 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
                                      final DsbMannschaftComponent dsbMannschaftComponent,
                                      final MannschaftsmitgliedComponent mannschaftsmitgliedComponent,
                                      final VereinComponent vereinComponent,
-                                     final WettkampfComponent wettkampfComponent) {
+                                     final WettkampfComponent wettkampfComponent,
+                                     final WettkampfDokumentComponent wettkampfDokumentComponent,
+                                     final PdfPageRenderer pdfPageRenderer) {
         this.matchComponent = matchComponent;
         this.passeComponent = passeComponent;
         this.dsbMannschaftComponent = dsbMannschaftComponent;
         this.mannschaftsmitgliedComponent = mannschaftsmitgliedComponent;
         this.vereinComponent = vereinComponent;
         this.wettkampfComponent = wettkampfComponent;
+        this.wettkampfDokumentComponent = wettkampfDokumentComponent;
+        this.pdfPageRenderer = pdfPageRenderer;
     }
 
     @Override
     public byte[] getAllSchusszettelPDFasByteArray(long wettkampfid) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writeAllSchusszettelPDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+    @Override
+    public void writeAllSchusszettelPDF(long wettkampfid, OutputStream outputStream) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
-        List<MatchDO> matchDOList = matchComponent.findByWettkampfId(wettkampfid);
+        // load the wettkampf, the matches and the team names once for all pages
+        writeAllSchusszettelPDF(wettkampfDokumentComponent.getContext(wettkampfid), outputStream);
+    }
 
-        byte[] bResult;
-        if (!matchDOList.isEmpty()) {
-            bResult = generateDoc(matchDOList).toByteArray();
+    @Override
+    public void writeAllSchusszettelPDF(WettkampfDokumentContextDO context, OutputStream outputStream) {
+        if (!context.getMatches().isEmpty()) {
+            generateDoc(context, outputStream);
         }else{
             throw new BusinessException(ErrorCode.UNEXPECTED_ERROR, "Matches für den Wettkampf noch nicht erzeugt");
         }
-        return bResult;
     }
 
     @Override
@@ -590,67 +613,44 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
     /**
      * <p>writes a Schusszettel document for the Wettkamnpf
      * </p>
+     * the pages are rendered in parallel and merged into the output stream, the output stream is not closed
      */
-    private ByteArrayOutputStream generateDoc(List<MatchDO> matchDOList) {
-        ByteArrayOutputStream ret;
-        try (final ByteArrayOutputStream result = new ByteArrayOutputStream();
-             final PdfWriter writer = new PdfWriter(result);
-             final PdfDocument pdfDocument = new PdfDocument(writer);
-             final Document doc = new Document(pdfDocument, PageSize.A4)) {
-
-            //iterate through matches
-            for (long i = 1; i<=7; i++){
-                //iterate through begegnungen
-                for(long k = 1; k<=4; k++){
-                    MatchDO[] matchesBegegnung = getMatchDOsForPage(matchDOList , i, k);
-                    if(matchesBegegnung[0] != null && matchesBegegnung[1] != null) {
-                        generateSchusszettelPage(doc, matchesBegegnung);
-                        if(i != 7){
-                            doc.add(new AreaBreak());
-                        }
-                    }
+    private void generateDoc(WettkampfDokumentContextDO context, OutputStream outputStream) {
+        List<MatchDO[]> pages = new ArrayList<>();
+
+        //iterate through matches
+        for (long i = 1; i<=7; i++){
+            //iterate through begegnungen
+            for(long k = 1; k<=4; k++){
+                MatchDO[] matchesBegegnung = context.getBegegnung(i, k);
+                if(matchesBegegnung[0] != null && matchesBegegnung[1] != null) {
+                    pages.add(matchesBegegnung);
                 }
             }
-            doc.close();
-            ret = result;
-
-        } catch (final IOException e) {
-            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
-                    "PDF Dokument konnte nicht erstellt werden: " + e);
         }
-        return ret;
-
-    }
 
-    /**
-     * <p>internal function to return two matches for one Schusszettel page
-     * </p>
-     * @param matchDOList list of matches for competition
-     */
-    private MatchDO[] getMatchDOsForPage(List<MatchDO> matchDOList, long matchNr, long begegnung){
-        MatchDO[] ret = new MatchDO[2];
-        long startScheibenNrBegegnung = (begegnung * 2) - 1 ;
-        for(MatchDO match : matchDOList){
-            if(match.getNr() == matchNr && match.getBegegnung() == begegnung){
-                if(match.getScheibenNummer() == startScheibenNrBegegnung){
-                    ret[0] = match;
-                }
-                if(match.getScheibenNummer() == startScheibenNrBegegnung + 1){
-                    ret[1] = match;
+        pdfPageRenderer.writeDocument(pages, (doc, group) -> {
+            PdfTemplates templates = new PdfTemplates(doc);
+            for (int i = 0; i < group.size(); i++) {
+                if (i > 0) {
+                    doc.add(new AreaBreak());
                 }
+                generateSchusszettelPage(doc, templates, context, group.get(i));
             }
-        }
-        return ret;
+        }, outputStream);
     }
 
     /**
      * <p>writes a Schusszettel document for the Wettkamnpf
      * </p>
      * @param doc document to write
+     * @param templates static parts of the pages of the document
+     * @param context wettkampf and team names of all pages
      */
-    private void generateSchusszettelPage(Document doc, MatchDO[] matchDOs) {
-        Long wettkampfTag = wettkampfComponent.findById(matchDOs[0].getWettkampfId()).getWettkampfTag();
-        String[] mannschaftName = { getMannschaftsNameByID(matchDOs[0].getMannschaftId()), getMannschaftsNameByID(matchDOs[1].getMannschaftId())};
+    private void generateSchusszettelPage(Document doc, PdfTemplates templates, WettkampfDokumentContextDO context,
+                                          MatchDO[] matchDOs) {
+        Long wettkampfTag = context.getWettkampf().getWettkampfTag();
+        String[] mannschaftName = { context.getMannschaftsName(matchDOs[0].getMannschaftId()), context.getMannschaftsName(matchDOs[1].getMannschaftId())};
 
         // Generate special settings for some parts
         Border specialBorder = new SolidBorder(Border.SOLID);
@@ -658,6 +658,9 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
 
         DottedLine cutterDottedLine = new DottedLine(0.5F);
 
+        float templateWidth = doc.getPdfDocument().getDefaultPageSize().getWidth() - doc.getLeftMargin()
+                - doc.getRightMargin() - 2 * SCHUSSZETTEL_PADDING;
+
         for (int i = 1; i <= 2; i++) {
             //Blank lines before second half
             if (i == 2) {
@@ -675,10 +678,6 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
             final Table tableFirstRow = new Table(UnitValue.createPercentArray(2), true);
             final Table tableFirstRowFirstPart = new Table(UnitValue.createPercentArray(2), true);
             final Table tableFirstRowSecondPart = new Table(UnitValue.createPercentArray(7), true);
-            final Table tableSecondRow = new Table(UnitValue.createPercentArray(new float[] { 10.0F, 80.0F, 10.0F }), true);
-            final Table tableSecondRowFirstPart = new Table(UnitValue.createPercentArray(1), true);
-            final Table tableSecondRowSecondPart = new Table(UnitValue.createPercentArray(10), true);
-            final Table tableSecondRowThirdPart = new Table(UnitValue.createPercentArray(1), true);
             final Table tableThirdRow = new Table(UnitValue.createPercentArray(2), true);
 
             // Table head
@@ -762,155 +761,6 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
 
             ;
 
-            // Second row
-            // First part
-            tableSecondRowFirstPart
-                    .addCell(new Cell(2,1).setTextAlignment(TextAlignment.CENTER).setHeight(29.0F)
-                            .add(new Paragraph("Schütze").setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    // Add one cells more because of a bug in the pdf framework which leads to the last cells not showing the border downwards.
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
-            ;
-
-            // Second part
-            tableSecondRowSecondPart
-                    .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph("1. Satz/ Pfeile").setFontSize(8.0F))
-                    )
-                    .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph("2. Satz/ Pfeile").setFontSize(8.0F))
-                    )
-                    .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph("3. Satz/ Pfeile").setFontSize(8.0F))
-                    )
-                    .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph("4. Satz/ Pfeile").setFontSize(8.0F))
-                    )
-                    .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph("5. Satz/ Pfeile").setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
-                            .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
-                    )
-                    // Add thirty cells for text input
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
-                    )
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
-                    )
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
-                    )
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
-                    )
-                    .addCell(new Cell().setHeight(20.0F))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
-                    )
-                    .addCell(new Cell().setHeight(20.0F))
-                    // Add ten cells more because of a bug in the pdf framework which leads to the last cells not showing the border downwards.
-                    .addCell(new Cell().setBorder(Border.NO_BORDER))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER))
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
-            ;
-
-            // Third part
-            tableSecondRowThirdPart
-                    .addCell(new Cell(2,1).setTextAlignment(TextAlignment.CENTER).setHeight(29.0F)
-                            .add(new Paragraph("Fehler-punkte").setFontSize(8.0F))
-                            .add(new Paragraph("punkte").setFontSize(8.0F))
-                    )
-                    .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
-                    )
-                    .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
-                    )
-                    .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
-                    )
-                    .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
-                    )
-                    .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
-                            .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
-                    )
-                    // Add one cells more because of a bug in the pdf framework which leads to the last cells not showing the border downwards.
-                    .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
-            ;
-
             // Third row
             tableThirdRow
                     .addCell(new Cell().setBorder(Border.NO_BORDER)
@@ -944,22 +794,14 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
                     )
             ;
 
-            tableSecondRow
-                    .addCell(new Cell().setBorder(Border.NO_BORDER)
-                            .add(tableSecondRowFirstPart)
-                    )
-                    .addCell(new Cell().setBorder(Border.NO_BORDER)
-                            .add(tableSecondRowSecondPart)
-                    )
-                    .addCell(new Cell().setBorder(Border.NO_BORDER)
-                            .add(tableSecondRowThirdPart)
-                    )
-            ;
+            // the grid of the Saetze is the same on all pages
+            final Image tableSecondRow = templates.getTemplate(TEMPLATE_SATZ_TABELLE, templateWidth,
+                    () -> new Div().add(createSatzTabelle(specialBorder)));
 
             // Add all to document
             doc
                     .add(tableHead)
-                    .add(new Div().setPaddings(10.0F, 10.0F, 10.0F, 10.0F).setMargins(2.5F, 0.0F, 2.5F, 0.0F).setBorder(new SolidBorder(Border.SOLID))
+                    .add(new Div().setPaddings(SCHUSSZETTEL_PADDING, SCHUSSZETTEL_PADDING, SCHUSSZETTEL_PADDING, SCHUSSZETTEL_PADDING).setMargins(2.5F, 0.0F, 2.5F, 0.0F).setBorder(new SolidBorder(Border.SOLID))
                             .add(tableFirstRow)
                             .add(tableSecondRow)
                             .add(tableThirdRow)
@@ -968,6 +810,181 @@ public class SchusszettelComponentImpl implements SchusszettelComponent {
         }
     }
 
+    /**
+     * <p>creates the grid of the Saetze, which is filled in by the Kampfrichter
+     * </p>
+     * @param specialBorder border of the sums
+     */
+    private Table createSatzTabelle(Border specialBorder) {
+        final Table tableSecondRow = new Table(UnitValue.createPercentArray(new float[] { 10.0F, 80.0F, 10.0F }), true);
+        final Table tableSecondRowFirstPart = new Table(UnitValue.createPercentArray(1), true);
+        final Table tableSecondRowSecondPart = new Table(UnitValue.createPercentArray(10), true);
+        final Table tableSecondRowThirdPart = new Table(UnitValue.createPercentArray(1), true);
+
+        // Second row
+        // First part
+        tableSecondRowFirstPart
+                .addCell(new Cell(2,1).setTextAlignment(TextAlignment.CENTER).setHeight(29.0F)
+                        .add(new Paragraph("Schütze").setFontSize(8.0F))
+                )
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                // Add one cells more because of a bug in the pdf framework which leads to the last cells not showing the border downwards.
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
+        ;
+
+        // Second part
+        tableSecondRowSecondPart
+                .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph("1. Satz/ Pfeile").setFontSize(8.0F))
+                )
+                .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph("2. Satz/ Pfeile").setFontSize(8.0F))
+                )
+                .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph("3. Satz/ Pfeile").setFontSize(8.0F))
+                )
+                .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph("4. Satz/ Pfeile").setFontSize(8.0F))
+                )
+                .addCell(new Cell(1,2).setBorderBottom(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph("5. Satz/ Pfeile").setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderRight(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL1).setFontSize(8.0F))
+                )
+                .addCell(new Cell().setBorderTop(Border.NO_BORDER).setBorderLeft(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(12.5F)
+                        .add(new Paragraph(SCHUSSZETTEL_PFEIL2).setFontSize(8.0F))
+                )
+                // Add thirty cells for text input
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
+                )
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
+                )
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
+                )
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
+                )
+                .addCell(new Cell().setHeight(20.0F))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SUMME).setFontSize(10.0F))
+                )
+                .addCell(new Cell().setHeight(20.0F))
+                // Add ten cells more because of a bug in the pdf framework which leads to the last cells not showing the border downwards.
+                .addCell(new Cell().setBorder(Border.NO_BORDER))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
+                .addCell(new Cell().setBorder(Border.NO_BORDER))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
+                .addCell(new Cell().setBorder(Border.NO_BORDER))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
+                .addCell(new Cell().setBorder(Border.NO_BORDER))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
+                .addCell(new Cell().setBorder(Border.NO_BORDER))
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
+        ;
+
+        // Third part
+        tableSecondRowThirdPart
+                .addCell(new Cell(2,1).setTextAlignment(TextAlignment.CENTER).setHeight(29.0F)
+                        .add(new Paragraph("Fehler-punkte").setFontSize(8.0F))
+                        .add(new Paragraph("punkte").setFontSize(8.0F))
+                )
+                .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
+                )
+                .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
+                )
+                .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
+                )
+                .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
+                )
+                .addCell(new Cell().setTextAlignment(TextAlignment.CENTER).setHeight(20.0F)
+                        .add(new Paragraph(SCHUSSZETTEL_SATZ1).setFontSize(5.0F))
+                )
+                // Add one cells more because of a bug in the pdf framework which leads to the last cells not showing the border downwards.
+                .addCell(new Cell().setBorder(Border.NO_BORDER).setBorderTop(new SolidBorder(Border.SOLID)))
+        ;
+
+        tableSecondRow
+                .addCell(new Cell().setBorder(Border.NO_BORDER)
+                        .add(tableSecondRowFirstPart)
+                )
+                .addCell(new Cell().setBorder(Border.NO_BORDER)
+                        .add(tableSecondRowSecondPart)
+                )
+                .addCell(new Cell().setBorder(Border.NO_BORDER)
+                        .add(tableSecondRowThirdPart)
+                )
+        ;
+
+        return tableSecondRow;
+    }
+
     private String getMannschaftsNameByID(long mannschaftID){
         String mannschaftName;
         DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(mannschaftID);
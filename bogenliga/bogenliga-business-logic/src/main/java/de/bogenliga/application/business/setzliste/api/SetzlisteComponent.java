@@ -3,6 +3,7 @@ package de.bogenliga.application.business.setzliste.api;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.common.component.ComponentFacade;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -17,6 +18,13 @@ public interface SetzlisteComponent extends ComponentFacade {
      */
     byte[] getPDFasByteArray(long wettkampfid);
 
+    /**
+     * Generates a pdf and writes the pages to the output stream while the document is generated
+     * @param wettkampfid ID for the competition
+     * @param outputStream for the document, not closed after writing
+     */
+    void writePDF(long wettkampfid, OutputStream outputStream);
+
     /**
      * <p>Creates matches in database based on the structure of Setzliste if matches don't exist
      *
@@ -2,9 +2,13 @@ package de.bogenliga.application.business.setzliste.impl.business;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +34,7 @@ import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.cache.BatchLoader;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
@@ -90,19 +95,25 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
 
     @Override
     public byte[] getPDFasByteArray(long wettkampfid) {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        writePDF(wettkampfid, result);
+        return result.toByteArray();
+    }
+
+
+    @Override
+    public void writePDF(long wettkampfid, OutputStream outputStream) {
         Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
 
         List<SetzlisteBE> setzlisteBEList = setzlisteDAO.getTableByWettkampfID(wettkampfid);
-        byte[] bResult;
         if (!setzlisteBEList.isEmpty()) {
-            try (ByteArrayOutputStream result = new ByteArrayOutputStream();
-                 PdfWriter writer = new PdfWriter(result);
+            try (PdfWriter writer = new PdfWriter(outputStream);
                  PdfDocument pdfDocument = new PdfDocument(writer);
                  Document doc = new Document(pdfDocument, PageSize.A4.rotate())) {
 
+                writer.setCloseStream(false);
                 generateDoc(doc, setzlisteBEList);
 
-                bResult = result.toByteArray();
                 LOGGER.debug("Setzliste erstellt");
 
             } catch (IOException e) {
@@ -114,7 +125,6 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
         else{
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Der Wettkampf mit der ID " + wettkampfid +" oder die Tabelleneinträge vom vorherigen Wettkampftag existieren noch nicht");
         }
-        return bResult;
     }
 
     @Override
@@ -156,6 +166,7 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
     private void generateDoc(Document doc, List<SetzlisteBE> setzlisteBEList){
 
         doc.setFontSize(9.2f);
+        final Map<Long, String> teamNames = loadTeamNames(setzlisteBEList);
 
         // description
         DateFormat sdF2 = new SimpleDateFormat("dd.MM.yyyy");
@@ -192,16 +203,16 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
         for (int i = 0; i < SETZLISTE_STRUCTURE.length; i++) {
             table.addCell(new Cell(2, 1).add(new Paragraph(Integer.toString(i + 1))).setHeight(table.getHeight().getValue() / 8));
 
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 0, 1, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 0, 1, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 2, 3, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 2, 3, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 4, 5, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 4, 5, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
-            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 6, 7, setzlisteBEList)))
+            table.addCell(new Cell(2, 1).add(new Paragraph(getTeamsCellParagraph(i, 6, 7, setzlisteBEList, teamNames)))
                     .setHeight(table.getHeight().getValue() / 8));
             table.addCell(new Cell().setHeight(mpkteSpacing));
 
@@ -221,15 +232,17 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
      * @param pos1 Position of first Team in SETZTLISTE_STRUCTURE
      * @param pos2 Position of second Team in SETZTLISTE_STRUCTURE
      * @param setzlisteBEList the List with data for generateDoc
+     * @param teamNames the names of the teams by their mannschaft id
      * @return String with 2 Teams where each team has two lines of space with a line width of X chars
      * */
-    private String getTeamsCellParagraph(int index, int pos1, int pos2, List<SetzlisteBE> setzlisteBEList) {
-        String firstTwoLines = SETZLISTE_STRUCTURE[index][pos1] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos1], setzlisteBEList);
+    private String getTeamsCellParagraph(int index, int pos1, int pos2, List<SetzlisteBE> setzlisteBEList,
+                                         Map<Long, String> teamNames) {
+        String firstTwoLines = SETZLISTE_STRUCTURE[index][pos1] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos1], setzlisteBEList, teamNames);
         if (firstTwoLines.length() <= 26) {
             firstTwoLines += "\n";
         }
         return firstTwoLines + "\n" +
-                SETZLISTE_STRUCTURE[index][pos2] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos2], setzlisteBEList);
+                SETZLISTE_STRUCTURE[index][pos2] + " " + getTeamName(SETZLISTE_STRUCTURE[index][pos2], setzlisteBEList, teamNames);
     }
 
     /**
@@ -251,21 +264,47 @@ public class SetzlisteComponentImpl implements SetzlisteComponent {
      * help funktion to get team name
      * @param tablepos index in table
      * @param setzlisteBEList list with data
+     * @param teamNames names of the teams by their mannschaft id
      * @return name of the team
      */
-    private String getTeamName(int tablepos, List<SetzlisteBE> setzlisteBEList) {
+    private String getTeamName(int tablepos, List<SetzlisteBE> setzlisteBEList, Map<Long, String> teamNames) {
         long teamID = getTeamIDByTablePos(tablepos,setzlisteBEList);
         if (teamID == -1) {
             LOGGER.error("Cannot find team for tablepos");
             return "ERROR";
         } else {
-            DsbMannschaftDO dsbMannschaftDO = dsbMannschaftComponent.findById(teamID);
-            VereinDO vereinDO = vereinComponent.findById(dsbMannschaftDO.getVereinId());
+            return teamNames.get(teamID);
+        }
+    }
+
+    /**
+     * help function to load the names of all teams of the setzliste with one query for the mannschaften
+     * and one query for the vereine
+     * @param setzlisteBEList list with data
+     * @return names of the teams by their mannschaft id
+     */
+    private Map<Long, String> loadTeamNames(List<SetzlisteBE> setzlisteBEList) {
+        final List<Long> mannschaftIds = setzlisteBEList.stream()
+                .map(SetzlisteBE::getMannschaftid).collect(Collectors.toList());
+        final Map<Long, DsbMannschaftDO> mannschaften =
+                new BatchLoader<>(dsbMannschaftComponent::findByIds, DsbMannschaftDO::getId).getAll(mannschaftIds);
+        final Map<Long, VereinDO> vereine = new BatchLoader<>(vereinComponent::findByIds, VereinDO::getId)
+                .getAll(mannschaften.values().stream().map(DsbMannschaftDO::getVereinId).collect(Collectors.toList()));
+
+        final Map<Long, String> teamNames = new HashMap<>();
+        for (Long mannschaftId : mannschaftIds) {
+            DsbMannschaftDO dsbMannschaftDO = mannschaften.get(mannschaftId);
+            VereinDO vereinDO = dsbMannschaftDO == null ? null : vereine.get(dsbMannschaftDO.getVereinId());
+            if (vereinDO == null) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                        String.format("No mannschaft or verein found for mannschaft with id '%s'", mannschaftId));
+            }
             if (dsbMannschaftDO.getNummer() > 1) {
-                return vereinDO.getName() + " " + dsbMannschaftDO.getNummer();
+                teamNames.put(mannschaftId, vereinDO.getName() + " " + dsbMannschaftDO.getNummer());
             } else {
-                return vereinDO.getName();
+                teamNames.put(mannschaftId, vereinDO.getName());
             }
         }
+        return teamNames;
     }
 }
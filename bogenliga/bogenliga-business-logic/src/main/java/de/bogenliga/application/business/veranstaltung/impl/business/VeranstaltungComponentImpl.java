@@ -1,7 +1,9 @@
 package de.bogenliga.application.business.veranstaltung.impl.business;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import de.bogenliga.application.business.liga.api.types.LigaDO;
 import de.bogenliga.application.business.sportjahr.api.types.SportjahrDO;
@@ -77,31 +79,15 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
      */
     @Override
     public List<VeranstaltungDO> findAll() {
-        final ArrayList<VeranstaltungDO> returnList = new ArrayList<>();
         final List<VeranstaltungBE> veranstaltungBEList = veranstaltungDAO.findAll();
 
-
-
-        for (int i = 0; i < veranstaltungBEList.size(); i++) {
-
-            returnList.add(i, completeNames(veranstaltungBEList.get(i)));
-
-        }
-
-        return returnList;
+        return completeNames(veranstaltungBEList);
     }
 
     public List<VeranstaltungDO> findBySportjahrDestinct(long sportjahr){
-        final ArrayList<VeranstaltungDO> returnList = new ArrayList<>();
         final List<VeranstaltungBE> veranstaltungBEList = veranstaltungDAO.findBySportjahrDestinct(sportjahr);
 
-        for (int i = 0; i < veranstaltungBEList.size(); i++) {
-
-            returnList.add(i, completeNames(veranstaltungBEList.get(i)));
-
-        }
-
-        return returnList;
+        return completeNames(veranstaltungBEList);
     }
 
     @Override
@@ -122,16 +108,9 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
     @Override
     public List<VeranstaltungDO> findByLigaleiterId(long ligaleiterId) {
 
-        final ArrayList<VeranstaltungDO> returnList = new ArrayList<>();
         final List<VeranstaltungBE> veranstaltungBEList = veranstaltungDAO.findByLigaleiterId(ligaleiterId);
 
-        for (int i = 0; i < veranstaltungBEList.size(); i++) {
-
-            returnList.add(i, completeNames(veranstaltungBEList.get(i)));
-
-        }
-
-        return returnList;
+        return completeNames(veranstaltungBEList);
     }
 
 
@@ -180,14 +159,9 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
 
     @Override
     public List<VeranstaltungDO> findBySportjahr(long sportjahr) {
-        final ArrayList<VeranstaltungDO> returnList = new ArrayList<>();
         final List<VeranstaltungBE> veranstaltungBEList = veranstaltungDAO.findBySportjahr(sportjahr);
-        for (int i = 0; i < veranstaltungBEList.size(); i++) {
-
-            returnList.add(i, completeNames(veranstaltungBEList.get(i)));
 
-        }
-        return returnList;
+        return completeNames(veranstaltungBEList);
     }
 
 
@@ -199,14 +173,9 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
 
     @Override
     public List<VeranstaltungDO> findByLigaID(long ligaID) {
-        final ArrayList<VeranstaltungDO> returnList = new ArrayList<>();
         final List<VeranstaltungBE> veranstaltungBEList = veranstaltungDAO.findByLigaID(ligaID);
-        for (int i = 0; i < veranstaltungBEList.size(); i++) {
 
-            returnList.add(i, completeNames(veranstaltungBEList.get(i)));
-
-        }
-        return returnList;
+        return completeNames(veranstaltungBEList);
     }
 
 
@@ -260,21 +229,42 @@ public class VeranstaltungComponentImpl implements VeranstaltungComponent {
 
 
     // we will add all information required in VeranstaltungDO which are not stored in the entity
-    // especially names in addition to IDs
     private VeranstaltungDO completeNames(VeranstaltungBE veranstaltungBE) {
+        return completeNames(veranstaltungBE, new HashMap<>(), new HashMap<>(), new HashMap<>());
+    }
+
+
+    // the names are read once per liga, wettkampftyp and ligaleiter of the list
+    private List<VeranstaltungDO> completeNames(List<VeranstaltungBE> veranstaltungBEList) {
+        final Map<Long, LigaDO> ligen = new HashMap<>();
+        final Map<Long, WettkampfTypDO> wettkampfTypen = new HashMap<>();
+        final Map<Long, UserDO> users = new HashMap<>();
+
+        final List<VeranstaltungDO> returnList = new ArrayList<>(veranstaltungBEList.size());
+        for (VeranstaltungBE veranstaltungBE : veranstaltungBEList) {
+            returnList.add(completeNames(veranstaltungBE, ligen, wettkampfTypen, users));
+        }
+        return returnList;
+    }
+
+
+    private VeranstaltungDO completeNames(VeranstaltungBE veranstaltungBE, Map<Long, LigaDO> ligen,
+                                          Map<Long, WettkampfTypDO> wettkampfTypen, Map<Long, UserDO> users) {
 
         LigaDO tempLigaDO = new LigaDO();
         WettkampfTypDO tempWettkampfTypDO = new WettkampfTypDO(0L);
         UserDO tempUserDO = new UserDO();
 
         if (veranstaltungBE.getVeranstaltungLigaId() != null) {
-              tempLigaDO = ligaComponent.findById(veranstaltungBE.getVeranstaltungLigaId());
+            tempLigaDO = ligen.computeIfAbsent(veranstaltungBE.getVeranstaltungLigaId(), ligaComponent::findById);
         }
         if (veranstaltungBE.getVeranstaltungWettkampftypId() != null) {
-             tempWettkampfTypDO = wettkampfTypComponent.findById(veranstaltungBE.getVeranstaltungWettkampftypId());
+            tempWettkampfTypDO = wettkampfTypen.computeIfAbsent(veranstaltungBE.getVeranstaltungWettkampftypId(),
+                    wettkampfTypComponent::findById);
         }
         if (veranstaltungBE.getVeranstaltungLigaleiterId() != null) {
-             tempUserDO = userComponent.findById(veranstaltungBE.getVeranstaltungLigaleiterId());
+            tempUserDO = users.computeIfAbsent(veranstaltungBE.getVeranstaltungLigaleiterId(),
+                    userComponent::findById);
         }
 
         return VeranstaltungMapper.toVeranstaltungDO(veranstaltungBE, tempUserDO, tempWettkampfTypDO, tempLigaDO);
@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.vereine.api;
 
+import java.util.Collection;
 import java.util.List;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.common.component.ComponentFacade;
@@ -34,6 +35,15 @@ public interface VereinComponent extends ComponentFacade {
      */
     VereinDO findById(final long vereinId);
 
+    /**
+     * Returns the vereine with the given ids with one query
+     *
+     * @param vereinIds IDs of the vereine to be queried from the database.
+     *
+     * @return returns the queried vereine, ids without a verein are ignored
+     */
+    List<VereinDO> findByIds(final Collection<Long> vereinIds);
+
     /**
      * Create an entry of verein
      *
@@ -1,6 +1,7 @@
 package de.bogenliga.application.business.vereine.impl.business;
 
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -14,6 +15,9 @@ import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.dao.VereinDAO;
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
 import de.bogenliga.application.business.vereine.impl.mapper.VereinMapper;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.validation.Preconditions;
 
 
@@ -32,14 +36,22 @@ public class VereinComponentImpl implements VereinComponent {
     private static final String PRECONDITION_MSG_VEREIN_REGION_ID = "VereinDO region id must not be null";
     private static final String PRECONDITION_MSG_VEREIN_REGION_ID_NOT_NEG = "VereinDO region id must not be negative";
     private static final String PRECONDITION_MSG_VEREIN_DSB_MITGLIED_NOT_NEG = "DsbMitglied id must not be negative";
+    private static final String PRECONDITION_MSG_VEREIN_SEARCHTERM = "Search term must not be null";
+    private static final String CACHE_NAME = "verein";
 
     private final VereinDAO vereinDAO;
     private final RegionenComponent regionenComponent;
+    private final ReferenceDataCache<Long, VereinBE> vereinCache;
+    private final TransactionManager transactionManager;
 
     @Autowired
-    public VereinComponentImpl(VereinDAO vereinDAO, @Lazy RegionenComponent regionenComponent) {
+    public VereinComponentImpl(VereinDAO vereinDAO, @Lazy RegionenComponent regionenComponent,
+                               ReferenceDataCacheManager referenceDataCacheManager,
+                               TransactionManager transactionManager) {
         this.vereinDAO = vereinDAO;
         this.regionenComponent = regionenComponent;
+        this.vereinCache = referenceDataCacheManager.getCache(CACHE_NAME);
+        this.transactionManager = transactionManager;
     }
 
     @Override
@@ -52,6 +64,8 @@ public class VereinComponentImpl implements VereinComponent {
 
     @Override
     public List<VereinDO> findBySearch(final String searchTerm) {
+        Preconditions.checkNotNull(searchTerm, PRECONDITION_MSG_VEREIN_SEARCHTERM);
+
         final List<VereinBE> vereinBEList = vereinDAO.findBySearch(searchTerm);
         List<VereinDO> vereinDOList = vereinBEList.stream().map(VereinMapper.toVereinDO).collect(Collectors.toList());
 
@@ -70,13 +84,21 @@ public class VereinComponentImpl implements VereinComponent {
 
     @Override
     public VereinDO findById(long vereinId) {
-        final VereinBE vereinBE = vereinDAO.findById(vereinId);
+        final VereinBE vereinBE = vereinCache.get(vereinId, vereinDAO::findById);
         final VereinDO vereinDO = VereinMapper.toVereinDO.apply(vereinBE);
         vereinDO.setRegionName(this.regionenComponent.findById(vereinBE.getVereinRegionId()).getRegionName());
 
         return vereinDO;
     }
 
+    @Override
+    public List<VereinDO> findByIds(Collection<Long> vereinIds) {
+        final List<VereinBE> vereinBEList = vereinDAO.findByIds(vereinIds);
+        List<VereinDO> vereinDOList = vereinBEList.stream().map(VereinMapper.toVereinDO).collect(Collectors.toList());
+
+        return alterDoByRegionName(vereinDOList);
+    }
+
     @Override
     public VereinDO update(VereinDO vereinDO, long currentDsbMitglied) {
         checkVereinDO(vereinDO, currentDsbMitglied);
@@ -84,6 +106,7 @@ public class VereinComponentImpl implements VereinComponent {
 
         final VereinBE vereinBE = VereinMapper.toVereinBE.apply(vereinDO);
         final VereinBE persistedVereinBE = vereinDAO.update(vereinBE, currentDsbMitglied);
+        transactionManager.afterCommit(() -> vereinCache.invalidate(vereinDO.getId()));
         return VereinMapper.toVereinDO.apply(persistedVereinBE);
     }
 
@@ -96,6 +119,7 @@ public class VereinComponentImpl implements VereinComponent {
         final VereinBE vereinBE = VereinMapper.toVereinBE.apply(vereinDO);
 
         vereinDAO.delete(vereinBE, currentDsbMitglied);
+        transactionManager.afterCommit(() -> vereinCache.invalidate(vereinDO.getId()));
     }
 
     private void checkVereinDO(final VereinDO vereinDO, final long currentDsbMitgliedId) {
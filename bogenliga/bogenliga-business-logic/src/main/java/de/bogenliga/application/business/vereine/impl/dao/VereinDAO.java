@@ -1,5 +1,6 @@
 package de.bogenliga.application.business.vereine.impl.dao;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,7 @@ import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
 import de.bogenliga.application.common.component.dao.BusinessEntityConfiguration;
 import de.bogenliga.application.common.component.dao.DataAccessObject;
+import de.bogenliga.application.common.database.queries.SearchQuery;
 
 /**
  * DataAccessObject for the Verein entity in the database
@@ -54,19 +56,33 @@ public class VereinDAO implements DataAccessObject {
                     + " JOIN region r on v.verein_region_id=r.region_id"
                     + " ORDER BY verein_id";
 
+    // Suchausdruecke der Trigramm-Indizes idx_verein_suche und idx_region_suche
+    private static final String SEARCH_EXPRESSION = "(LOWER(v.verein_name) || ' ' || LOWER(v.verein_dsb_identifier))";
+    private static final String SEARCH_EXPRESSION_REGION = "LOWER(r.region_name)";
+
+    // Teilstring oder aehnliche Woerter im Verein oder in der Region, die aehnlichsten Treffer zuerst
     private static final String FIND_BY_SEARCH =
             "SELECT v.*, r.region_name "
                     + " FROM verein v"
                     + " JOIN region r on v.verein_region_id=r.region_id "
-                    + " WHERE CONCAT(LOWER(v.verein_name), ' ', "
-                    + " LOWER(r.region_name), ' ', "
-                    + " LOWER(v.verein_dsb_identifier)) LIKE LOWER(?) ";
+                    + " WHERE " + SEARCH_EXPRESSION + " LIKE ?"
+                    + " OR ? <% " + SEARCH_EXPRESSION
+                    + " OR " + SEARCH_EXPRESSION_REGION + " LIKE ?"
+                    + " OR ? <% " + SEARCH_EXPRESSION_REGION
+                    + " ORDER BY GREATEST(word_similarity(?, " + SEARCH_EXPRESSION + "),"
+                    + " word_similarity(?, " + SEARCH_EXPRESSION_REGION + ")) DESC, v.verein_id"
+                    + " LIMIT ?";
 
     private static final String FIND_BY_ID =
             "SELECT * "
                     + " FROM verein v"
                     + " WHERE v.verein_id = ?";
 
+    private static final String FIND_BY_IDS =
+            "SELECT * "
+                    + " FROM verein v"
+                    + " WHERE v.verein_id = ANY(?)";
+
     private final BasicDAO basicDao;
 
 
@@ -103,13 +119,17 @@ public class VereinDAO implements DataAccessObject {
         return basicDao.selectEntityList(VEREIN, FIND_ALL);
     }
 
+    /**
+     * @param searchTerm
+     * @return Vereine, whose name, dsb identifier or region contains the search term or similar words, ranked by the
+     * similarity and limited to {@link SearchQuery#RESULT_LIMIT} entries
+     */
     public List<VereinBE> findBySearch(final String searchTerm) {
-        return basicDao.selectEntityList(VEREIN, FIND_BY_SEARCH, new StringBuilder()
-                                                                     .append("%")
-                                                                     .append(searchTerm)
-                                                                     .append("%")
-                                                                     .toString()
-        );
+        final String pattern = SearchQuery.getContainsPattern(searchTerm);
+        final String term = SearchQuery.getTerm(searchTerm);
+
+        return basicDao.selectEntityList(VEREIN, FIND_BY_SEARCH, pattern, term, pattern, term, term, term,
+                SearchQuery.RESULT_LIMIT);
     }
 
 
@@ -124,6 +144,18 @@ public class VereinDAO implements DataAccessObject {
         return basicDao.selectSingleEntity(VEREIN, FIND_BY_ID, vereinId);
     }
 
+
+    /**
+     * Returns the "Verein" entries with the given ids with one query
+     *
+     * @param vereinIds Ids of the vereine that should be queried
+     *
+     * @return Returns the queried vereine as Business Entities, ids without an entry are ignored
+     */
+    public List<VereinBE> findByIds(final Collection<Long> vereinIds) {
+        return basicDao.selectEntityListByIds(VEREIN, FIND_BY_IDS, vereinIds);
+    }
+
     /**
      * Creates a verein database entry
      *
@@ -2,8 +2,14 @@ package de.bogenliga.application.business.wettkampf.impl.business;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +41,7 @@ import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.passe.api.PasseComponent;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
+import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.business.veranstaltung.impl.dao.VeranstaltungDAO;
 import de.bogenliga.application.business.veranstaltung.impl.entity.VeranstaltungBE;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
@@ -321,11 +328,56 @@ public class WettkampfComponentImpl implements WettkampfComponent {
     public List<Long> getAllowedMitgliederList(List<MannschaftsmitgliedDO> mannschaftsmitgliedDOList, List<DsbMitgliedDO> dsbMitgliedDOList, long wettkampfid){
         List<Long> allowedList=new ArrayList<>();
         List<LigaDO> ligen = ligaComponent.findAll();
+
+        //Veranstaltungen und Wettkämpfe werden für alle Mannschaftsmitglieder nur einmal geladen
+        Map<Long, VeranstaltungDO> veranstaltungen = new HashMap<>();
+        Map<Long, List<WettkampfDO>> wettkaempfeByMannschaft = new HashMap<>();
+
+        WettkampfDO thisWettkampf = findById(wettkampfid);
+        VeranstaltungDO thisVeranstaltung = veranstaltungen.computeIfAbsent(
+                thisWettkampf.getWettkampfVeranstaltungsId(), this.veranstaltungComponent::findById);
+        long thisWettkamptag=thisWettkampf.getWettkampfTag();
+        long thisSportjahr=thisVeranstaltung.getVeranstaltungSportJahr();
+
+        //die Schützen und ihre Mannschaftsmitgliedschaften werden mit je einer Abfrage geladen
+        List<Long> mitgliedIds = mannschaftsmitgliedDOList.stream()
+                .map(MannschaftsmitgliedDO::getDsbMitgliedId)
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, DsbMitgliedDO> dsbMitglieder = dsbMitgliedComponent.findByIds(mitgliedIds).stream()
+                .collect(Collectors.toMap(DsbMitgliedDO::getId, Function.identity()));
+        Map<Long, List<MannschaftsmitgliedDO>> mitgliedschaften = mannschaftsmitgliedComponent.findByMemberIds(mitgliedIds).stream()
+                .collect(Collectors.groupingBy(MannschaftsmitgliedDO::getDsbMitgliedId));
+
+        //die Passen werden nur für Wettkämpfe am selben Wettkampftag benötigt und für alle Schützen mit einer Abfrage geladen
+        Set<Long> wettkaempfeAmWettkampftag = new HashSet<>();
+        for (List<MannschaftsmitgliedDO> mitgliedIn : mitgliedschaften.values()) {
+            for (MannschaftsmitgliedDO mitglied : mitgliedIn) {
+                for (WettkampfDO wettkampf : wettkaempfeByMannschaft.computeIfAbsent(
+                        mitglied.getMannschaftId(), this::findAllWettkaempfeByMannschaftsId)) {
+                    VeranstaltungDO veranstaltung = veranstaltungen.computeIfAbsent(
+                            wettkampf.getWettkampfVeranstaltungsId(), this.veranstaltungComponent::findById);
+                    if (thisSportjahr == veranstaltung.getVeranstaltungSportJahr()
+                            && thisWettkamptag == wettkampf.getWettkampfTag()) {
+                        wettkaempfeAmWettkampftag.add(wettkampf.getId());
+                    }
+                }
+            }
+        }
+        Map<Long, Map<Long, List<PasseDO>>> passenByWettkampf = passeComponent
+                .findByWettkampfIdsAndMitgliedIds(wettkaempfeAmWettkampftag, mitgliedIds).stream()
+                .collect(Collectors.groupingBy(PasseDO::getPasseWettkampfId,
+                        Collectors.groupingBy(PasseDO::getPasseDsbMitgliedId)));
+
         int count = 0;
         for(MannschaftsmitgliedDO mannschaftsmitglied: mannschaftsmitgliedDOList){
-            DsbMitgliedDO dsbMitglied=dsbMitgliedComponent.findById(mannschaftsmitglied.getDsbMitgliedId());
+            DsbMitgliedDO dsbMitglied=dsbMitglieder.get(mannschaftsmitglied.getDsbMitgliedId());
+            if (dsbMitglied == null) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                        String.format("No result found for ID '%s'", mannschaftsmitglied.getDsbMitgliedId()));
+            }
             //holt sich die LigaID
-            long thisLiga = this.veranstaltungComponent.findById(findById(wettkampfid).getWettkampfVeranstaltungsId()).getVeranstaltungLigaID();
+            long thisLiga = thisVeranstaltung.getVeranstaltungLigaID();
 
             //finde Stufe der aktuellen Liga
             int thisLigaStufe = 0;
@@ -336,22 +388,19 @@ public class WettkampfComponentImpl implements WettkampfComponent {
                     thisLigaStufe++;
                 }else{currentLiga=0;}
             }
-            long thisWettkamptag=findById(wettkampfid).getWettkampfTag();
-            long thisSportjahr=this.veranstaltungComponent.findById(findById(wettkampfid).getWettkampfVeranstaltungsId()).getVeranstaltungSportJahr();
             boolean darfSchiessen = true;
 
             //find highest Liga and check if mitglied has already shot on this Wettkampftag
-            List<MannschaftsmitgliedDO> mitgliedIn=this.mannschaftsmitgliedComponent.findByMemberId(dsbMitglied.getId());
+            List<MannschaftsmitgliedDO> mitgliedIn=mitgliedschaften.getOrDefault(dsbMitglied.getId(), Collections.emptyList());
             for(MannschaftsmitgliedDO mitglied: mitgliedIn){
-                List<WettkampfDO> wettkaempfe = findAllWettkaempfeByMannschaftsId(mitglied.getMannschaftId());
+                List<WettkampfDO> wettkaempfe = wettkaempfeByMannschaft.get(mitglied.getMannschaftId());
                 for (WettkampfDO wettkampf : wettkaempfe) {
 
                     //check Sportjahr of Veranstaltung
-                    long wettkampfSportjahr = this.veranstaltungComponent.findById(
-                            wettkampf.getWettkampfVeranstaltungsId()).getVeranstaltungSportJahr();
+                    VeranstaltungDO veranstaltung = veranstaltungen.get(wettkampf.getWettkampfVeranstaltungsId());
+                    long wettkampfSportjahr = veranstaltung.getVeranstaltungSportJahr();
                     if (thisSportjahr == wettkampfSportjahr) {
-                        long liga=this.veranstaltungComponent.findById(
-                                wettkampf.getWettkampfVeranstaltungsId()).getVeranstaltungLigaID();
+                        long liga=veranstaltung.getVeranstaltungLigaID();
 
                         //finde Stufe der Liga dieses Wettkampfes, wenn das Mannschaftsmitglied mindestens 2 mal eingesetzt wurde
                         if(mitglied.getDsbMitgliedEingesetzt()>=2) {
@@ -365,8 +414,10 @@ public class WettkampfComponentImpl implements WettkampfComponent {
                             }
                             darfSchiessen=(thisLigaStufe <= ligaStufe) && darfSchiessen;
                         }
-                        List<PasseDO> passen=passeComponent.findByWettkampfIdAndMitgliedId(wettkampf.getId(),dsbMitglied.getId());
-                        darfSchiessen = !(thisWettkamptag == wettkampf.getWettkampfTag() && !passen.isEmpty()) && darfSchiessen;
+                        if (darfSchiessen && thisWettkamptag == wettkampf.getWettkampfTag()) {
+                            List<PasseDO> passen=getPassen(passenByWettkampf, wettkampf.getId(), dsbMitglied.getId());
+                            darfSchiessen = passen.isEmpty();
+                        }
                     }
                 }
             }
@@ -458,10 +509,11 @@ public class WettkampfComponentImpl implements WettkampfComponent {
     //Generiert Tabelle für Einzelstatistik
     public void generateEinzel(Document doc, List<WettkampfBE> wettkampflisteBEList, long mannschaftsid)
     {
+        List<MannschaftsmitgliedExtendedBE> mitglied = mannschaftsmitgliedDAO.findAllSchuetzeInTeamEingesetzt(mannschaftsid);
+        Map<Long, Map<Long, List<PasseDO>>> passenByWettkampf = findPassenByWettkampfAndMitglied(mannschaftsid);
+
         for(WettkampfBE wettkampf : wettkampflisteBEList)
         {
-            List<MannschaftsmitgliedExtendedBE> mitglied = mannschaftsmitgliedDAO.findAllSchuetzeInTeamEingesetzt(mannschaftsid);
-
             Table table = new Table(new float[]{100, 150, 100, 250});
             table.addCell(new Cell().setBorder(Border.NO_BORDER).add(new Paragraph("Rückennummer").setBold()));
             table.addCell(new Cell().setBorder(Border.NO_BORDER).add(new Paragraph("Schütze").setBold()));
@@ -470,7 +522,7 @@ public class WettkampfComponentImpl implements WettkampfComponent {
 
             for (MannschaftsmitgliedExtendedBE schuetze : mitglied)
             {
-                List<PasseDO> passen = passeComponent.findByWettkampfIdAndMitgliedId(wettkampf.getId(),schuetze.getDsbMitgliedId());
+                List<PasseDO> passen = getPassen(passenByWettkampf, wettkampf.getId(), schuetze.getDsbMitgliedId());
                 List<Long> passennummern = getNummern(passen);
                 for(Long nummer:passennummern)
                 {
@@ -496,6 +548,7 @@ public class WettkampfComponentImpl implements WettkampfComponent {
     void generateGesamt(Document doc, List<WettkampfBE> wettkampflisteBEList, long mannschaftsid)
     {
         List<MannschaftsmitgliedExtendedBE> mitglied = mannschaftsmitgliedDAO.findAllSchuetzeInTeamEingesetzt(mannschaftsid);
+        Map<Long, Map<Long, List<PasseDO>>> passenByWettkampf = findPassenByWettkampfAndMitglied(mannschaftsid);
 
         Table table = new Table(new float[]{100, 150, 250});
         table.addCell(new Cell().setBorder(Border.NO_BORDER).add(new Paragraph("Rückennummer").setBold()));
@@ -507,7 +560,7 @@ public class WettkampfComponentImpl implements WettkampfComponent {
             float average = -1;
             for(WettkampfBE wettkampf : wettkampflisteBEList)
             {
-                List<PasseDO> passen = passeComponent.findByWettkampfIdAndMitgliedId(wettkampf.getId(), schuetze.getDsbMitgliedId());
+                List<PasseDO> passen = getPassen(passenByWettkampf, wettkampf.getId(), schuetze.getDsbMitgliedId());
                 if(!passen.isEmpty())
                 {
                     if(average == -1)
@@ -533,6 +586,21 @@ public class WettkampfComponentImpl implements WettkampfComponent {
         doc.close();
     }
 
+    //Lädt alle Passen der Mannschaftsmitglieder in den Wettkämpfen der Mannschaft mit einer Abfrage
+    //und gruppiert sie nach Wettkampf und Schütze
+    private Map<Long, Map<Long, List<PasseDO>>> findPassenByWettkampfAndMitglied(long mannschaftsid)
+    {
+        return passeComponent.findByMannschaftsmitgliederInWettkaempfen(mannschaftsid).stream()
+                .collect(Collectors.groupingBy(PasseDO::getPasseWettkampfId,
+                        Collectors.groupingBy(PasseDO::getPasseDsbMitgliedId)));
+    }
+
+    private static List<PasseDO> getPassen(Map<Long, Map<Long, List<PasseDO>>> passenByWettkampf, Long wettkampfId, Long dsbMitgliedId)
+    {
+        return passenByWettkampf.getOrDefault(wettkampfId, Collections.emptyMap())
+                .getOrDefault(dsbMitgliedId, Collections.emptyList());
+    }
+
     void generateUebersicht(Document doc, List<WettkampfBE> wettkaempfe, long veranstatungsId, long wettkampftag)
     {
         VeranstaltungBE selectedVeranstaltung = veranstaltungDAO.findById(veranstatungsId);
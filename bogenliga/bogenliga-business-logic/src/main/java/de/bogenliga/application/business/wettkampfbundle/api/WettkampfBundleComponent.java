@@ -0,0 +1,29 @@
+package de.bogenliga.application.business.wettkampfbundle.api;
+
+import java.io.OutputStream;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.common.component.ComponentFacade;
+
+/**
+ * Responsible for the bundle of all documents, which the Ausrichter needs for a Wettkampf.
+ */
+public interface WettkampfBundleComponent extends ComponentFacade {
+
+    /**
+     * Generates the Setzliste, Schusszettel, Meldezettel and Bogenkontrollliste of the competition and the
+     * Rueckennummern and Lizenzen of each mannschaft and writes them as ZIP archive to the output stream.
+     * The competition is loaded once for all documents. The documents of a mannschaft, which cannot be generated,
+     * are skipped and their errors are listed in the archive.
+     * @param wettkampfid ID for the competition
+     * @param outputStream for the archive, not closed after writing
+     */
+    void writeWettkampfBundle(long wettkampfid, OutputStream outputStream);
+
+    /**
+     * Generates the documents from the already loaded data of the competition and writes them as ZIP archive to
+     * the output stream
+     * @param context data of the competition, see WettkampfDokumentComponent#getContext
+     * @param outputStream for the archive, not closed after writing
+     */
+    void writeWettkampfBundle(WettkampfDokumentContextDO context, OutputStream outputStream);
+}
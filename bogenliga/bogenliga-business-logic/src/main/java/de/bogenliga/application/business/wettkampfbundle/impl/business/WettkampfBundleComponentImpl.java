@@ -0,0 +1,319 @@
+package de.bogenliga.application.business.wettkampfbundle.impl.business;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.bogenkontrollliste.api.BogenkontrolllisteComponent;
+import de.bogenliga.application.business.lizenz.api.LizenzComponent;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.meldezettel.api.MeldezettelComponent;
+import de.bogenliga.application.business.rueckennummern.api.RueckennummernComponent;
+import de.bogenliga.application.business.schusszettel.api.SchusszettelComponent;
+import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
+import de.bogenliga.application.business.wettkampfbundle.api.WettkampfBundleComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.common.configuration.PdfRenderConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * Implementation of {@link WettkampfBundleComponent}
+ *
+ * The documents are generated on a pool of {@link PdfRenderConfiguration#getBundleParallelism()} threads. The pool is
+ * separate from the pool of the {@code PdfPageRenderer}, because the documents render their pages on that pool.
+ * Each document is written to the archive in order as soon as it is generated, so a bundle keeps at most
+ * {@link PdfRenderConfiguration#getBundleParallelism()} documents in memory. If the queue of the pool is full, the
+ * calling thread generates the document itself.
+ * <p>
+ * The archive is streamed to the client, so an error of a document of the wettkampf, e.g. the Setzliste, aborts the
+ * archive after the entries written so far and the client receives an incomplete archive. Only the documents of a
+ * single mannschaft, e.g. without members or Lizenzen, are skipped. Their errors are listed in the file
+ * {@value #ERROR_REPORT} at the end of the archive.
+ */
+@Component
+public class WettkampfBundleComponentImpl implements WettkampfBundleComponent {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(WettkampfBundleComponentImpl.class);
+    private static final String PRECONDITION_WETTKAMPFID = "wettkampfid cannot be negative";
+    private static final String PDF_SUFFIX = ".pdf";
+    static final String ERROR_REPORT = "fehler.txt";
+
+    private final WettkampfDokumentComponent wettkampfDokumentComponent;
+    private final SetzlisteComponent setzlisteComponent;
+    private final SchusszettelComponent schusszettelComponent;
+    private final MeldezettelComponent meldezettelComponent;
+    private final BogenkontrolllisteComponent bogenkontrolllisteComponent;
+    private final RueckennummernComponent rueckennummernComponent;
+    private final LizenzComponent lizenzComponent;
+    private final int maxDocumentsInProgress;
+    private final ThreadPoolExecutor executor;
+
+
+    @Autowired
+    public WettkampfBundleComponentImpl(final WettkampfDokumentComponent wettkampfDokumentComponent,
+                                        final SetzlisteComponent setzlisteComponent,
+                                        final SchusszettelComponent schusszettelComponent,
+                                        final MeldezettelComponent meldezettelComponent,
+                                        final BogenkontrolllisteComponent bogenkontrolllisteComponent,
+                                        final RueckennummernComponent rueckennummernComponent,
+                                        final LizenzComponent lizenzComponent,
+                                        final PdfRenderConfiguration pdfRenderConfiguration) {
+        this.wettkampfDokumentComponent = wettkampfDokumentComponent;
+        this.setzlisteComponent = setzlisteComponent;
+        this.schusszettelComponent = schusszettelComponent;
+        this.meldezettelComponent = meldezettelComponent;
+        this.bogenkontrolllisteComponent = bogenkontrolllisteComponent;
+        this.rueckennummernComponent = rueckennummernComponent;
+        this.lizenzComponent = lizenzComponent;
+        this.maxDocumentsInProgress = pdfRenderConfiguration.getBundleParallelism();
+        this.executor = new ThreadPoolExecutor(pdfRenderConfiguration.getBundleParallelism(),
+                pdfRenderConfiguration.getBundleParallelism(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(pdfRenderConfiguration.getBundleQueueCapacity()), new BundleThreadFactory(),
+                WettkampfBundleComponentImpl::runOnCallingThread);
+    }
+
+
+    @Override
+    public void writeWettkampfBundle(long wettkampfid, OutputStream outputStream) {
+        Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
+
+        // load the wettkampf, the matches and the team names once for all documents
+        writeWettkampfBundle(wettkampfDokumentComponent.getContext(wettkampfid), outputStream);
+    }
+
+
+    @Override
+    public void writeWettkampfBundle(WettkampfDokumentContextDO context, OutputStream outputStream) {
+        final List<BundleDocument> documents = new ArrayList<>();
+        getDocuments(context).forEach((name, pdfWriter) -> documents.add(new BundleDocument(name, pdfWriter, false)));
+        // the documents of the other mannschaften are still written, if the documents of one mannschaft fail
+        getMannschaftsDocuments(context).forEach(
+                (name, pdfWriter) -> documents.add(new BundleDocument(name, pdfWriter, true)));
+
+        final Iterator<BundleDocument> unsubmitted = documents.iterator();
+        final Deque<BundleDocument> submitted = new ArrayDeque<>();
+        final List<String> errors = new ArrayList<>();
+        int entries = 0;
+
+        try {
+            final ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream);
+
+            while (unsubmitted.hasNext() || !submitted.isEmpty()) {
+                // the next documents are generated, while the oldest document is written
+                while (unsubmitted.hasNext() && submitted.size() < maxDocumentsInProgress) {
+                    submitted.add(submit(unsubmitted.next()));
+                }
+
+                final BundleDocument document = submitted.remove();
+                final byte[] content = getResult(document, errors);
+                if (content != null) {
+                    writeEntry(zipOutputStream, document.name, content);
+                    entries++;
+                }
+            }
+            if (!errors.isEmpty()) {
+                writeEntry(zipOutputStream, ERROR_REPORT, String.join("\n", errors).getBytes(StandardCharsets.UTF_8));
+            }
+            // finish instead of close, the output stream is closed by the caller
+            zipOutputStream.finish();
+
+            LOGGER.debug("Wettkampf Bundle mit {} Dokumenten und {} Fehlern erstellt", entries, errors.size());
+
+        } catch (IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                    "Wettkampf Bundle konnte nicht erstellt werden: " + e);
+        } finally {
+            submitted.forEach(document -> document.result.cancel(true));
+        }
+    }
+
+
+    /**
+     * Stop the bundle threads on shutdown
+     */
+    @PreDestroy
+    public void close() {
+        LOGGER.info("Stop PDF bundle threads.");
+        executor.shutdownNow();
+    }
+
+
+    /**
+     * help function to generate a document on the bundle threads
+     * @param document to generate
+     * @return the document with its result
+     */
+    private BundleDocument submit(final BundleDocument document) {
+        document.result = executor.submit(() -> {
+            final ByteArrayOutputStream result = new ByteArrayOutputStream();
+            document.pdfWriter.accept(result);
+            return result.toByteArray();
+        });
+        return document;
+    }
+
+
+    private static void writeEntry(final ZipOutputStream zipOutputStream, final String name, final byte[] content)
+            throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(name));
+        zipOutputStream.write(content);
+        zipOutputStream.closeEntry();
+    }
+
+
+    /**
+     * A bundle waits for its documents, so a rejected document is generated by the calling thread instead of
+     * aborting the archive.
+     */
+    private static void runOnCallingThread(final Runnable document, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("PDF bundle threads are stopped");
+        }
+        document.run();
+    }
+
+
+    /**
+     * help function to collect the documents of the competition in the order of the archive
+     * @param context data of the competition
+     * @return pdf writer of each document by its file name in the archive
+     */
+    private Map<String, Consumer<OutputStream>> getDocuments(final WettkampfDokumentContextDO context) {
+        final long wettkampfid = context.getWettkampf().getId();
+        final Map<String, Consumer<OutputStream>> documents = new LinkedHashMap<>();
+
+        documents.put("setzliste" + PDF_SUFFIX, out -> setzlisteComponent.writePDF(wettkampfid, out));
+        documents.put("schusszettel" + PDF_SUFFIX, out -> schusszettelComponent.writeAllSchusszettelPDF(context, out));
+        documents.put("meldezettel" + PDF_SUFFIX, out -> meldezettelComponent.writeMeldezettelPDF(context, out));
+        documents.put("bogenkontrollliste" + PDF_SUFFIX,
+                out -> bogenkontrolllisteComponent.writeBogenkontrolllistePDF(context, out));
+        return documents;
+    }
+
+
+    /**
+     * help function to collect the Rueckennummern and Lizenzen of each mannschaft in the order of the archive
+     * @param context data of the competition
+     * @return pdf writer of each document by its file name in the archive
+     */
+    private Map<String, Consumer<OutputStream>> getMannschaftsDocuments(final WettkampfDokumentContextDO context) {
+        final Map<String, Consumer<OutputStream>> documents = new LinkedHashMap<>();
+
+        for (Long mannschaftId : getMannschaftIds(context)) {
+            // mannschaften of the same verein may have the same name, the id makes the file name unique
+            final String fileName = getFileName(context.getMannschaftsName(mannschaftId)) + "_" + mannschaftId
+                    + PDF_SUFFIX;
+            documents.put("rueckennummern/" + fileName,
+                    out -> rueckennummernComponent.writeMannschaftsRueckennummernPDF(mannschaftId, out));
+            documents.put("lizenzen/" + fileName,
+                    out -> lizenzComponent.writeMannschaftsLizenzenPDF(mannschaftId, out));
+        }
+        return documents;
+    }
+
+
+    /**
+     * @return the ids of the mannschaften in the order of their Scheiben in the first match
+     */
+    private static List<Long> getMannschaftIds(final WettkampfDokumentContextDO context) {
+        return context.getMatches().stream()
+                .sorted(Comparator.comparing(MatchDO::getNr).thenComparing(MatchDO::getScheibenNummer))
+                .map(MatchDO::getMannschaftId)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * @return the name of the mannschaft without characters, which are not allowed in file names
+     */
+    private static String getFileName(final String mannschaftsName) {
+        return mannschaftsName.replaceAll("[^\\p{L}\\p{N} ._-]", "_");
+    }
+
+
+    /**
+     * @return the document or null, if a skippable document failed and its error is added to the errors
+     */
+    private static byte[] getResult(final BundleDocument document, final List<String> errors) {
+        try {
+            return document.result.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                    "Wettkampf Bundle konnte nicht erstellt werden: " + e);
+        } catch (ExecutionException e) {
+            if (document.skipOnError) {
+                LOGGER.warn("Dokument {} des Wettkampf Bundles konnte nicht erstellt werden", document.name,
+                        e.getCause());
+                errors.add(document.name + ": " + e.getCause());
+                return null;
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                    "Wettkampf Bundle konnte nicht erstellt werden: " + e.getCause());
+        }
+    }
+
+
+    /**
+     * document of the archive with its file name and its result, while it is generated
+     */
+    private static final class BundleDocument {
+        private final String name;
+        private final Consumer<OutputStream> pdfWriter;
+        private final boolean skipOnError;
+        private Future<byte[]> result;
+
+
+        private BundleDocument(final String name, final Consumer<OutputStream> pdfWriter, final boolean skipOnError) {
+            this.name = name;
+            this.pdfWriter = pdfWriter;
+            this.skipOnError = skipOnError;
+        }
+    }
+
+
+    private static final class BundleThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "pdf-bundle-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package de.bogenliga.application.business.wettkampfdokument.api;
+
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.common.component.ComponentFacade;
+
+/**
+ * Responsible for loading the data of the Wettkampf documents.
+ */
+public interface WettkampfDokumentComponent extends ComponentFacade {
+
+    /**
+     * Loads the Wettkampf, its matches and the names of its Mannschaften with one query each for the Wettkampf,
+     * the matches, the Mannschaften and the Vereine
+     * @param wettkampfid ID for the competition
+     * @return data of the Schusszettel, Meldezettel and Bogenkontrollliste
+     */
+    WettkampfDokumentContextDO getContext(long wettkampfid);
+}
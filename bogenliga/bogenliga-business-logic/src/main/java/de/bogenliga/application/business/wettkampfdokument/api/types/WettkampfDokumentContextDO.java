@@ -0,0 +1,95 @@
+package de.bogenliga.application.business.wettkampfdokument.api.types;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.component.types.DataObject;
+
+/**
+ * I contain all data of a Wettkampf, which is printed on the Schusszettel, Meldezettel and Bogenkontrollliste.
+ *
+ * The data is loaded once for a document. The matches are indexed by their match number and Scheibe and the names of
+ * all Mannschaften are resolved, so the pages of a document do not query the database again.
+ */
+public class WettkampfDokumentContextDO implements DataObject {
+    private static final long serialVersionUID = 6489234118729372564L;
+
+    private final WettkampfDO wettkampf;
+    private final List<MatchDO> matches;
+    // match nr -> scheiben nr -> match
+    private final Map<Long, Map<Long, MatchDO>> matchesByNrAndScheibe = new HashMap<>();
+    private final Map<Long, String> mannschaftsNamen;
+
+
+    /**
+     * Constructor
+     *
+     * @param wettkampf        of the document
+     * @param matches          of the Wettkampf
+     * @param mannschaftsNamen names of all Mannschaften of the matches by their id
+     */
+    public WettkampfDokumentContextDO(final WettkampfDO wettkampf, final List<MatchDO> matches,
+                                      final Map<Long, String> mannschaftsNamen) {
+        this.wettkampf = wettkampf;
+        this.matches = Collections.unmodifiableList(new ArrayList<>(matches));
+        this.mannschaftsNamen = Collections.unmodifiableMap(new HashMap<>(mannschaftsNamen));
+
+        for (MatchDO match : matches) {
+            matchesByNrAndScheibe.computeIfAbsent(match.getNr(), nr -> new HashMap<>())
+                    .put(match.getScheibenNummer(), match);
+        }
+    }
+
+
+    public WettkampfDO getWettkampf() {
+        return wettkampf;
+    }
+
+
+    public List<MatchDO> getMatches() {
+        return matches;
+    }
+
+
+    /**
+     * Return the match of a Mannschaft.
+     *
+     * @param nr             of the match
+     * @param scheibenNummer of the Mannschaft
+     *
+     * @return the match or null, if there is no match
+     */
+    public MatchDO getMatch(final long nr, final long scheibenNummer) {
+        return matchesByNrAndScheibe.getOrDefault(nr, Collections.emptyMap()).get(scheibenNummer);
+    }
+
+
+    /**
+     * Return both matches of a Begegnung, which are shot on the Scheiben 2 * begegnung - 1 and 2 * begegnung.
+     *
+     * @param nr         of the match
+     * @param begegnung  of the match
+     *
+     * @return both matches, a missing match is null
+     */
+    public MatchDO[] getBegegnung(final long nr, final long begegnung) {
+        final long startScheibenNr = (begegnung * 2) - 1;
+        return new MatchDO[] {getMatch(nr, startScheibenNr), getMatch(nr, startScheibenNr + 1)};
+    }
+
+
+    /**
+     * Return the name of a Mannschaft, e.g. "Verein 2" for the second Mannschaft of a Verein.
+     *
+     * @param mannschaftId of the Mannschaft
+     *
+     * @return the name or null, if the Mannschaft has no match in the Wettkampf
+     */
+    public String getMannschaftsName(final long mannschaftId) {
+        return mannschaftsNamen.get(mannschaftId);
+    }
+}
@@ -0,0 +1,193 @@
+package de.bogenliga.application.business.wettkampfdokument.impl.business;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import javax.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.utils.PdfMerger;
+import com.itextpdf.layout.Document;
+import de.bogenliga.application.common.configuration.PdfRenderConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+
+/**
+ * I render the pages of a multi-page PDF document in parallel.
+ *
+ * The pages are split into consecutive groups. Each group is written into its own document on a shared pool of
+ * {@link PdfRenderConfiguration#getParallelism()} threads. The documents are merged in the order of the pages into the
+ * output stream. The data of the pages must be loaded before, the page writers must not query the database.
+ *
+ * At most {@link PdfRenderConfiguration#getQueueCapacity()} page groups wait for a render thread. Further page groups
+ * are rendered by the requesting thread, so the waiting page groups of concurrent downloads are bounded.
+ */
+@Component
+public class PdfPageRenderer {
+    private static final Logger LOG = LoggerFactory.getLogger(PdfPageRenderer.class);
+
+    private final int parallelism;
+    private final ThreadPoolExecutor executor;
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param pdfRenderConfiguration with the number of render threads and the queue capacity
+     */
+    @Autowired
+    public PdfPageRenderer(final PdfRenderConfiguration pdfRenderConfiguration) {
+        this.parallelism = pdfRenderConfiguration.getParallelism();
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(pdfRenderConfiguration.getQueueCapacity()), new RenderThreadFactory(),
+                PdfPageRenderer::runOnCallingThread);
+    }
+
+
+    /**
+     * Write a document with the given pages into the output stream.
+     *
+     * @param pages       data of the pages in the order of the document
+     * @param groupWriter writes a group of consecutive pages into an A4 document
+     * @param out         stream of the merged document, the stream is not closed
+     * @param <T>         type of the page data
+     */
+    public <T> void writeDocument(final List<T> pages, final BiConsumer<Document, List<T>> groupWriter,
+                                  final OutputStream out) {
+        final List<List<T>> groups = getGroups(pages);
+
+        if (groups.size() <= 1) {
+            writeGroup(pages, groupWriter, out);
+            return;
+        }
+
+        final List<Future<byte[]>> results = new ArrayList<>();
+        for (List<T> group : groups) {
+            results.add(executor.submit(() -> {
+                final ByteArrayOutputStream result = new ByteArrayOutputStream();
+                writeGroup(group, groupWriter, result);
+                return result.toByteArray();
+            }));
+        }
+
+        try (PdfWriter writer = new PdfWriter(out);
+             PdfDocument pdfDocument = new PdfDocument(writer)) {
+
+            writer.setCloseStream(false);
+            final PdfMerger merger = new PdfMerger(pdfDocument);
+
+            for (Future<byte[]> result : results) {
+                try (PdfDocument part = new PdfDocument(new PdfReader(new ByteArrayInputStream(getResult(result))))) {
+                    merger.merge(part, 1, part.getNumberOfPages());
+                }
+            }
+
+        } catch (IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                    "PDF Dokument konnte nicht erstellt werden: " + e);
+        } finally {
+            results.forEach(result -> result.cancel(true));
+        }
+    }
+
+
+    /**
+     * Stop the render threads on shutdown
+     */
+    @PreDestroy
+    public void close() {
+        LOG.info("Stop PDF render threads.");
+        executor.shutdownNow();
+    }
+
+
+    /**
+     * Split the pages into at most one group per render thread.
+     */
+    <T> List<List<T>> getGroups(final List<T> pages) {
+        final List<List<T>> groups = new ArrayList<>();
+        final int groupCount = Math.min(parallelism, pages.size());
+
+        for (int i = 0; i < groupCount; i++) {
+            groups.add(pages.subList(pages.size() * i / groupCount, pages.size() * (i + 1) / groupCount));
+        }
+        return groups;
+    }
+
+
+    private static <T> void writeGroup(final List<T> group, final BiConsumer<Document, List<T>> groupWriter,
+                                       final OutputStream out) {
+        try (PdfWriter writer = new PdfWriter(out);
+             PdfDocument pdfDocument = new PdfDocument(writer);
+             Document doc = new Document(pdfDocument, PageSize.A4)) {
+
+            writer.setCloseStream(false);
+            groupWriter.accept(doc, group);
+
+        } catch (IOException e) {
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                    "PDF Dokument konnte nicht erstellt werden: " + e);
+        }
+    }
+
+
+    /**
+     * A page group is rendered by the requesting thread, if all render threads are busy and the queue is full. The
+     * page group of a stopped renderer is rejected, otherwise its result would never be available.
+     */
+    private static void runOnCallingThread(final Runnable group, final ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            throw new RejectedExecutionException("PDF render threads are stopped");
+        }
+        group.run();
+    }
+
+
+    private static byte[] getResult(final Future<byte[]> result) {
+        try {
+            return result.get();
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                    "PDF Dokument konnte nicht erstellt werden: " + e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new TechnicalException(ErrorCode.INTERNAL_ERROR,
+                    "PDF Dokument konnte nicht erstellt werden: " + e.getCause());
+        }
+    }
+
+
+    private static final class RenderThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "pdf-render-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package de.bogenliga.application.business.wettkampfdokument.impl.business;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.layout.Canvas;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.property.Property;
+
+/**
+ * I contain the static parts of the pages of one PDF document, e.g. the empty grid of a Schusszettel.
+ *
+ * A static part is laid out once into a {@link PdfFormXObject}, which is stored once in the document and referenced by
+ * each page. The pages only lay out their variable fields. The forms use the font of the document, so they do not add
+ * another font to the document. The templates belong to their document and must not be used for other documents.
+ */
+public class PdfTemplates {
+
+    // height of the area, in which a static part is measured
+    private static final float MAX_TEMPLATE_HEIGHT = 10000.0F;
+
+    private final Document doc;
+    private final Map<String, PdfFormXObject> templates = new HashMap<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param doc document of the pages
+     */
+    public PdfTemplates(final Document doc) {
+        this.doc = doc;
+    }
+
+
+    /**
+     * Return the static part with the given name, it is laid out with the first call.
+     *
+     * @param name    of the static part, e.g. "schusszettel.satzTabelle"
+     * @param width   available width of the static part on the page
+     * @param content creates the layout elements of the static part
+     *
+     * @return image of the static part to add it to a page
+     */
+    public Image getTemplate(final String name, final float width, final Supplier<IBlockElement> content) {
+        final PdfFormXObject template = templates.computeIfAbsent(name, key -> createTemplate(width, content));
+        return new Image(template);
+    }
+
+
+    private PdfFormXObject createTemplate(final float width, final Supplier<IBlockElement> content) {
+        // the height of the content is only known after its layout
+        final Canvas measure = createCanvas(new PdfFormXObject(new Rectangle(width, MAX_TEMPLATE_HEIGHT)));
+        measure.add(content.get());
+        final float height = MAX_TEMPLATE_HEIGHT - measure.getRenderer().getCurrentArea().getBBox().getHeight();
+
+        final PdfFormXObject template = new PdfFormXObject(new Rectangle(width, height));
+        final Canvas canvas = createCanvas(template);
+        canvas.add(content.get());
+        canvas.close();
+        return template;
+    }
+
+
+    private Canvas createCanvas(final PdfFormXObject form) {
+        final Canvas canvas = new Canvas(form, doc.getPdfDocument());
+        canvas.setFont(doc.<PdfFont>getDefaultProperty(Property.FONT));
+        return canvas;
+    }
+}
@@ -0,0 +1,92 @@
+package de.bogenliga.application.business.wettkampfdokument.impl.business;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
+import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
+import de.bogenliga.application.business.match.api.MatchComponent;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.vereine.api.VereinComponent;
+import de.bogenliga.application.business.vereine.api.types.VereinDO;
+import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.common.cache.BatchLoader;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * Implementation of {@link WettkampfDokumentComponent}
+ */
+@Component
+public class WettkampfDokumentComponentImpl implements WettkampfDokumentComponent {
+
+    private static final String PRECONDITION_WETTKAMPFID = "wettkampfid cannot be negative";
+
+    private final WettkampfComponent wettkampfComponent;
+    private final MatchComponent matchComponent;
+    private final DsbMannschaftComponent dsbMannschaftComponent;
+    private final VereinComponent vereinComponent;
+
+
+    @Autowired
+    public WettkampfDokumentComponentImpl(final WettkampfComponent wettkampfComponent,
+                                          final MatchComponent matchComponent,
+                                          final DsbMannschaftComponent dsbMannschaftComponent,
+                                          final VereinComponent vereinComponent) {
+        this.wettkampfComponent = wettkampfComponent;
+        this.matchComponent = matchComponent;
+        this.dsbMannschaftComponent = dsbMannschaftComponent;
+        this.vereinComponent = vereinComponent;
+    }
+
+
+    @Override
+    public WettkampfDokumentContextDO getContext(long wettkampfid) {
+        Preconditions.checkArgument(wettkampfid >= 0, PRECONDITION_WETTKAMPFID);
+
+        final WettkampfDO wettkampfDO = wettkampfComponent.findById(wettkampfid);
+        final List<MatchDO> matchDOList = matchComponent.findByWettkampfId(wettkampfid);
+
+        return new WettkampfDokumentContextDO(wettkampfDO, matchDOList, loadMannschaftsNamen(matchDOList));
+    }
+
+
+    /**
+     * help function to load the names of all teams of the matches with one query for the mannschaften
+     * and one query for the vereine
+     * @param matchDOList matches of the wettkampf
+     * @return names of the teams by their mannschaft id
+     */
+    private Map<Long, String> loadMannschaftsNamen(List<MatchDO> matchDOList) {
+        final Set<Long> mannschaftIds = matchDOList.stream()
+                .map(MatchDO::getMannschaftId).collect(Collectors.toSet());
+        final Map<Long, DsbMannschaftDO> mannschaften =
+                new BatchLoader<>(dsbMannschaftComponent::findByIds, DsbMannschaftDO::getId).getAll(mannschaftIds);
+        final Map<Long, VereinDO> vereine = new BatchLoader<>(vereinComponent::findByIds, VereinDO::getId)
+                .getAll(mannschaften.values().stream().map(DsbMannschaftDO::getVereinId).collect(Collectors.toList()));
+
+        final Map<Long, String> mannschaftsNamen = new HashMap<>();
+        for (Long mannschaftId : mannschaftIds) {
+            DsbMannschaftDO dsbMannschaftDO = mannschaften.get(mannschaftId);
+            VereinDO vereinDO = dsbMannschaftDO == null ? null : vereine.get(dsbMannschaftDO.getVereinId());
+            if (vereinDO == null) {
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
+                        String.format("No mannschaft or verein found for mannschaft with id '%s'", mannschaftId));
+            }
+            if (dsbMannschaftDO.getNummer() > 1) {
+                mannschaftsNamen.put(mannschaftId, vereinDO.getName() + " " + dsbMannschaftDO.getNummer());
+            } else {
+                mannschaftsNamen.put(mannschaftId, vereinDO.getName());
+            }
+        }
+        return mannschaftsNamen;
+    }
+}
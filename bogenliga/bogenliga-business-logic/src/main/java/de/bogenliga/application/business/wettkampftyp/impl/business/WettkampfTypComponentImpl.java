@@ -9,6 +9,9 @@ import de.bogenliga.application.business.wettkampftyp.api.types.WettkampfTypDO;
 import de.bogenliga.application.business.wettkampftyp.impl.dao.WettkampfTypDAO;
 import de.bogenliga.application.business.wettkampftyp.impl.entity.WettkampfTypBE;
 import de.bogenliga.application.business.wettkampftyp.impl.mapper.WettkampfTypMapper;
+import de.bogenliga.application.common.cache.ReferenceDataCache;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.common.validation.Preconditions;
@@ -22,10 +25,13 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
 
     private static final String PRECONDITION_MSG_WETTKAMPFTYP_ID = "wettkampftypID must not be null and must not be negative";
     private static final String PRECONDITION_MSG_WETTKAMPFTYP_NAME= "wettkampftypName must not be null";
+    private static final String CACHE_NAME = "wettkampftyp";
 
 
 
     private final WettkampfTypDAO wettkampftypDAO;
+    private final ReferenceDataCache<Long, WettkampfTypBE> wettkampftypCache;
+    private final TransactionManager transactionManager;
 
 
     /**
@@ -33,9 +39,17 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
      *
      * dependency injection with {@link Autowired}
      * @param wettkampftypDAO to access the database and return dsbmitglied representations
+     * @param referenceDataCacheManager to cache the wettkampftypen
+     * @param transactionManager to remove a changed wettkampftyp from the cache after the commit
      */
     @Autowired
-    public WettkampfTypComponentImpl(final WettkampfTypDAO wettkampftypDAO) { this.wettkampftypDAO = wettkampftypDAO;}
+    public WettkampfTypComponentImpl(final WettkampfTypDAO wettkampftypDAO,
+                                     final ReferenceDataCacheManager referenceDataCacheManager,
+                                     final TransactionManager transactionManager) {
+        this.wettkampftypDAO = wettkampftypDAO;
+        this.wettkampftypCache = referenceDataCacheManager.getCache(CACHE_NAME);
+        this.transactionManager = transactionManager;
+    }
 
 
     @Override
@@ -49,7 +63,7 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
     public WettkampfTypDO findById(final long id) {
         Preconditions.checkArgument(id >= 0, PRECONDITION_MSG_WETTKAMPFTYP_ID);
 
-        final WettkampfTypBE result = wettkampftypDAO.findById(id);
+        final WettkampfTypBE result = wettkampftypCache.get(id, wettkampftypDAO::findById);
 
         if (result == null) {
             throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR,
@@ -78,6 +92,7 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
 
         final WettkampfTypBE wettkampftypBE = WettkampfTypMapper.toWettkampfTypBE.apply(wettkampftypDO);
         final WettkampfTypBE persistedWettkampftypBe = wettkampftypDAO.update(wettkampftypBE, currentWettkampftypID);
+        transactionManager.afterCommit(() -> wettkampftypCache.invalidate(wettkampftypDO.getId()));
 
         return WettkampfTypMapper.toWettkampfTypDO.apply(persistedWettkampftypBe);
     }
@@ -92,6 +107,7 @@ public class WettkampfTypComponentImpl implements WettkampfTypComponent {
         final WettkampfTypBE wettkampftypBE = WettkampfTypMapper.toWettkampfTypBE.apply(wettkampftypDO);
 
         wettkampftypDAO.delete(wettkampftypBE, currentWettkampftypID);
+        transactionManager.afterCommit(() -> wettkampftypCache.invalidate(wettkampftypDO.getId()));
 
     }
 
@@ -4,10 +4,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import org.assertj.core.api.Assertions;
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import org.mockito.stubbing.Answer;
@@ -29,6 +31,8 @@ import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.business.VereinComponentImplTest;
 import de.bogenliga.application.business.wettkampf.impl.business.WettkampfComponentImplTest;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfPageRenderer;
+import de.bogenliga.application.common.configuration.PdfRenderConfiguration;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -55,9 +59,18 @@ public class RueckennummernComponentImplTest {
     @Mock
     private DsbMitgliedComponent dsbMitgliedComponent;
 
+    @Spy
+    private PdfPageRenderer pdfPageRenderer = new PdfPageRenderer(new PdfRenderConfiguration());
+
     @InjectMocks
     private RueckennummernComponentImpl underTest;
 
+
+    @After
+    public void close() {
+        pdfPageRenderer.close();
+    }
+
     @Test
     public void getRueckennummerPDFasByteArray() {
 
@@ -111,8 +111,8 @@ public class BasicComponentTest<T, B> {
             if (method.getName().contains("find")) {
                 this.method = method;
                 int count = method.getParameterCount();
-                // cant test parameters of methods without params
-                if (count != 0) {
+                // cant test parameters of methods without params or with other params than ids, e.g. lists of ids
+                if (count != 0 && hasOnlyIdParameters(method)) {
                     Long[] arr = new Long[count];
                     Arrays.fill(arr, 1L); //fills the array with Ones
                     assertExceptionPerMethod(arr);
@@ -122,6 +122,16 @@ public class BasicComponentTest<T, B> {
     }
 
 
+    /**
+     * @param method of the component
+     * @return true, if all parameters of the method are ids
+     */
+    static boolean hasOnlyIdParameters(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .allMatch(type -> type == Long.class || type == Long.TYPE);
+    }
+
+
     /**
      * Tests each single parameter if it throws the needed exception on negative and null
      *
@@ -52,7 +52,7 @@ public class BasicTest<T, B> {
     public void testAllFindMethods(
             Object component) throws InvocationTargetException, IllegalAccessException {
         for (Method m : component.getClass().getDeclaredMethods()) {
-            if (m.getName().contains("find")) {
+            if (m.getName().contains("find") && BasicComponentTest.hasOnlyIdParameters(m)) {
                 int count = m.getParameterCount();
                 Long[] arr = new Long[count];
                 Arrays.fill(arr, 1L);
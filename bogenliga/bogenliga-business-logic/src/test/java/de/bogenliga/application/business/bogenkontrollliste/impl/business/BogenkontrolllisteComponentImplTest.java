@@ -2,7 +2,6 @@ package de.bogenliga.application.business.bogenkontrollliste.impl.business;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 import org.assertj.core.api.Assertions;
 import org.junit.Rule;
 import org.junit.Test;
@@ -10,10 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
-import org.mockito.stubbing.Answer;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
-import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
-import de.bogenliga.application.business.dsbmannschaft.impl.business.DsbMannschaftComponentImplTest;
 import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
 import de.bogenliga.application.business.dsbmitglied.impl.business.DsbMitgliedComponentImplTest;
 import de.bogenliga.application.business.liga.api.LigaComponent;
@@ -22,15 +18,10 @@ import de.bogenliga.application.business.liga.impl.business.LigaComponentImplTes
 import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.mannschaftsmitglied.impl.business.MannschaftsmitgliedComponentImplTest;
-import de.bogenliga.application.business.match.api.MatchComponent;
-import de.bogenliga.application.business.match.impl.business.MatchComponentImplTest;
 import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
 import de.bogenliga.application.business.veranstaltung.impl.business.VeranstaltungComponentImplTest;
-import de.bogenliga.application.business.vereine.api.VereinComponent;
-import de.bogenliga.application.business.vereine.api.types.VereinDO;
-import de.bogenliga.application.business.vereine.impl.business.VereinComponentImplTest;
-import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
-import de.bogenliga.application.business.wettkampf.impl.business.WettkampfComponentImplTest;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.WettkampfDokumentComponentImplTest;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -50,18 +41,14 @@ public class BogenkontrolllisteComponentImplTest {
     @Mock
     private DsbMannschaftComponent dsbMannschaftComponent;
     @Mock
-    private VereinComponent vereinComponent;
-    @Mock
-    private WettkampfComponent wettkampfComponent;
-    @Mock
     private VeranstaltungComponent veranstaltungComponent;
     @Mock
-    private MatchComponent matchComponent;
-    @Mock
     private MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
     @Mock
     private DsbMitgliedComponent dsbMitgliedComponent;
     @Mock
+    private WettkampfDokumentComponent wettkampfDokumentComponent;
+    @Mock
     private LigaComponent ligaComponent;
 
     @InjectMocks
@@ -76,19 +63,8 @@ public class BogenkontrolllisteComponentImplTest {
 
         //configure Mocks
         when(mannschaftsmitgliedComponent.findAllSchuetzeInTeamEingesetzt(anyLong())).thenReturn(mannschaftsmitgliedDOList);
-        when(vereinComponent.findById(anyLong())).thenAnswer((Answer<VereinDO>) invocation -> {
-            VereinDO ret = VereinComponentImplTest.getVereinDO();
-            ret.setName("Verein " + UUID.randomUUID());
-            return ret;
-        });
-        when(matchComponent.findByWettkampfIDMatchNrScheibenNr(anyLong(), anyLong(), anyLong())).thenReturn(MatchComponentImplTest.getMatchDO());
-        when(wettkampfComponent.findById(anyLong())).thenReturn(WettkampfComponentImplTest.getWettkampfDO());
+        when(wettkampfDokumentComponent.getContext(anyLong())).thenReturn(WettkampfDokumentComponentImplTest.getWettkampfDokumentContextDO());
         when(veranstaltungComponent.findById(anyLong())).thenReturn(VeranstaltungComponentImplTest.getVeranstaltungDO());
-        when(dsbMannschaftComponent.findById(anyLong())).thenAnswer((Answer<DsbMannschaftDO>) invocation -> {
-            DsbMannschaftDO ret = DsbMannschaftComponentImplTest.getDsbMannschaftDO();
-            ret.setNummer((long)(Math.random() * 2 + 1));
-            return ret;
-        });
         List<LigaDO> ligen=new ArrayList<LigaDO>();
         ligen.add(LigaComponentImplTest.getLigaDO());
         when(ligaComponent.findAll()).thenReturn(ligen);
@@ -103,6 +79,6 @@ public class BogenkontrolllisteComponentImplTest {
         Assertions.assertThat(actual).isNotEmpty();
 
         //verify invocations
-        verify(matchComponent, atLeastOnce()).findByWettkampfIDMatchNrScheibenNr(anyLong(), anyLong(), anyLong());
+        verify(wettkampfDokumentComponent).getContext(WETTKAMPFID);
     }
 }
\ No newline at end of file
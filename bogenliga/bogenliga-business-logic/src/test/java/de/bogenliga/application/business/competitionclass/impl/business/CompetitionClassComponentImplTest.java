@@ -10,12 +10,16 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.competitionclass.api.types.CompetitionClassDO;
 import de.bogenliga.application.business.competitionclass.impl.dao.CompetitionClassDAO;
 import de.bogenliga.application.business.competitionclass.impl.entity.CompetitionClassBE;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import java.util.List;
 import static org.mockito.Mockito.*;
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -42,6 +46,11 @@ public class CompetitionClassComponentImplTest {
     public MockitoRule mockitoRule = MockitoJUnit.rule();
     @Mock
     private CompetitionClassDAO competitionClassDAO;
+    @Mock
+    private TransactionManager transactionManager;
+    @Spy
+    private ReferenceDataCacheManager referenceDataCacheManager =
+            new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration());
     @InjectMocks
     private CompetitionClassComponentImpl underTest;
     @Captor
@@ -0,0 +1,83 @@
+package de.bogenliga.application.business.datenstand.impl.business;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.datenstand.impl.dao.DatenstandDAO;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static de.bogenliga.application.business.datenstand.impl.dao.DatenstandDAOTest.getDatenstandBE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DatenstandComponentImplTest {
+
+    private static final long ID = 1337;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private DatenstandDAO datenstandDAO;
+    @InjectMocks
+    private DatenstandComponentImpl underTest;
+
+
+    @Test
+    public void getWettkampfDatenstand() {
+        // configure mocks
+        when(datenstandDAO.findWettkampfDatenstand(ID)).thenReturn(getDatenstandBE());
+
+        // call test method
+        final String actual = underTest.getWettkampfDatenstand(ID);
+
+        // assert result
+        assertThat(actual).isEqualTo(getDatenstandBE().getDatenstand());
+
+        // verify invocations
+        verify(datenstandDAO).findWettkampfDatenstand(ID);
+    }
+
+
+    @Test
+    public void getWettkampfDatenstand_withoutWettkampf_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.getWettkampfDatenstand(-1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("negative");
+
+        assertThatThrownBy(() -> underTest.getWettkampfDatenstand(ID))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("No Datenstand found");
+    }
+
+
+    @Test
+    public void getMannschaftDatenstand() {
+        // configure mocks
+        when(datenstandDAO.findMannschaftDatenstand(ID)).thenReturn(getDatenstandBE());
+
+        // call test method
+        final String actual = underTest.getMannschaftDatenstand(ID);
+
+        // assert result
+        assertThat(actual).isEqualTo(getDatenstandBE().getDatenstand());
+
+        // verify invocations
+        verify(datenstandDAO).findMannschaftDatenstand(ID);
+    }
+
+
+    @Test
+    public void getMannschaftDatenstand_withoutMannschaft_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.getMannschaftDatenstand(-1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("negative");
+
+        assertThatThrownBy(() -> underTest.getMannschaftDatenstand(ID))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("No Datenstand found");
+    }
+}
@@ -0,0 +1,70 @@
+package de.bogenliga.application.business.datenstand.impl.dao;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.datenstand.impl.entity.DatenstandBE;
+import de.bogenliga.application.common.component.dao.BasicDAO;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DatenstandDAOTest {
+
+    private static final long ID = 1337;
+    private static final String DATENSTAND = "0cc175b9c0f1b6a831c399e269772661";
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private BasicDAO basicDao;
+    @InjectMocks
+    private DatenstandDAO underTest;
+
+
+    public static DatenstandBE getDatenstandBE() {
+        final DatenstandBE datenstandBE = new DatenstandBE();
+        datenstandBE.setDatenstand(DATENSTAND);
+        return datenstandBE;
+    }
+
+
+    @Test
+    public void findWettkampfDatenstand() {
+        // configure mocks
+        when(basicDao.selectSingleEntity(any(), anyString(), eq(ID))).thenReturn(getDatenstandBE());
+
+        // call test method
+        final DatenstandBE actual = underTest.findWettkampfDatenstand(ID);
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(actual.getDatenstand()).isEqualTo(DATENSTAND);
+
+        // verify invocations
+        verify(basicDao).selectSingleEntity(any(), anyString(), eq(ID));
+    }
+
+
+    @Test
+    public void findMannschaftDatenstand() {
+        // configure mocks
+        when(basicDao.selectSingleEntity(any(), anyString(), eq(ID))).thenReturn(getDatenstandBE());
+
+        // call test method
+        final DatenstandBE actual = underTest.findMannschaftDatenstand(ID);
+
+        // assert result
+        assertThat(actual).isNotNull();
+        assertThat(actual.getDatenstand()).isEqualTo(DATENSTAND);
+
+        // verify invocations
+        verify(basicDao).selectSingleEntity(any(), anyString(), eq(ID));
+    }
+}
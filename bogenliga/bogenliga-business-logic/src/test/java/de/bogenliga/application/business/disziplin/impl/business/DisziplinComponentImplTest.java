@@ -5,11 +5,15 @@ import java.util.List;
 import org.junit.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import de.bogenliga.application.business.disziplin.api.types.DisziplinDO;
 import de.bogenliga.application.business.disziplin.impl.BaseDisziplinTest;
 import de.bogenliga.application.business.disziplin.impl.dao.DisziplinDAO;
 import de.bogenliga.application.business.disziplin.impl.entity.DisziplinBE;
 import de.bogenliga.application.business.disziplin.impl.mapper.DisziplinMapper;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -23,6 +27,11 @@ public class DisziplinComponentImplTest extends BaseDisziplinTest {
     @Mock
     private DisziplinDAO disziplinDAO;
 
+    @Mock
+    private TransactionManager transactionManager;
+    @Spy
+    private ReferenceDataCacheManager referenceDataCacheManager =
+            new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration());
     @InjectMocks
     private DisziplinComponentImpl underTest;
 
@@ -3,11 +3,10 @@ package de.bogenliga.application.business.dsbmannschaft.impl.business;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
 import de.bogenliga.application.business.dsbmannschaft.impl.dao.DsbMannschaftDAO;
 import de.bogenliga.application.business.dsbmannschaft.impl.entity.DsbMannschaftBE;
-import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
-import de.bogenliga.application.business.mannschaftsmitglied.impl.business.MannschaftsmitgliedComponentImpl;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
+import de.bogenliga.application.common.component.types.KeysetPage;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import org.junit.Rule;
@@ -22,6 +21,7 @@ import org.mockito.junit.MockitoRule;
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -57,8 +57,6 @@ public class DsbMannschaftComponentImplTest {
     private DsbMannschaftDAO dsbMannschaftDAO ;
     @Mock
     private VereinComponent vereinComponent;
-    @Mock
-    private MannschaftsmitgliedComponentImpl mannschaftsmitgliedComponent;
     @InjectMocks
     private DsbMannschaftComponentImpl underTest;
     @Captor
@@ -151,9 +149,36 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAll();
-        verify(vereinComponent).findById(anyLong());
+        verify(vereinComponent).findByIds(anyCollection());
     }
 
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final DsbMannschaftBE firstBE = getDsbMannschaftBE();
+        firstBE.setId(10L);
+        final DsbMannschaftBE secondBE = getDsbMannschaftBE();
+        secondBE.setId(11L);
+
+        // configure mocks
+        when(dsbMannschaftDAO.getPage(anyLong(), anyInt())).thenReturn(Arrays.asList(firstBE, secondBE));
+
+        // call test method
+        final KeysetPage<DsbMannschaftDO> actual = underTest.getPage(null, 1);
+
+        // assert result
+        assertThat(actual.getItems()).hasSize(1);
+        assertThat(actual.getItems().get(0).getId()).isEqualTo(10L);
+        assertThat(actual.getNextCursor()).isEqualTo(10L);
+
+        // verify invocations
+        // one additional row shows, whether there is a next page
+        verify(dsbMannschaftDAO).getPage(0L, 2);
+        verify(vereinComponent).findByIds(anyCollection());
+    }
+
+
     @Test
     public void findAllByVereinsId() {
         // prepare test data
@@ -201,7 +226,7 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAllByVereinsId(VEREIN_ID);
-        verify(vereinComponent).findById(anyLong());
+        verify(vereinComponent).findByIds(anyCollection());
     }
 
     @Test
@@ -251,7 +276,7 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAllByVeranstaltungsId(VERANSTALTUNG_ID);
-        verify(vereinComponent).findById(anyLong());
+        verify(vereinComponent).findByIds(anyCollection());
     }
 
     @Test
@@ -301,7 +326,7 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAllByWettkampfId(WETTKAMPF_ID);
-        verify(vereinComponent).findById(anyLong());
+        verify(vereinComponent).findByIds(anyCollection());
     }
 
     @Test
@@ -765,7 +790,7 @@ public class DsbMannschaftComponentImplTest {
 
         // configure mocks
         when(dsbMannschaftDAO.findAll()).thenReturn(expectedBEList);
-        when(vereinComponent.findById(VEREIN_ID)).thenReturn(expectedVerein);
+        when(vereinComponent.findByIds(Collections.singletonList(VEREIN_ID))).thenReturn(Collections.singletonList(expectedVerein));
 
         // call test method
         final List<DsbMannschaftDO> actual = underTest.findAll();
@@ -796,7 +821,32 @@ public class DsbMannschaftComponentImplTest {
 
         // verify invocations
         verify(dsbMannschaftDAO).findAll();
-        verify(vereinComponent).findById(VEREIN_ID);
+        verify(vereinComponent).findByIds(Collections.singletonList(VEREIN_ID));
+    }
+
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final DsbMannschaftBE expectedBE = getDsbMannschaftBE();
+        final List<Long> ids = Collections.singletonList(ID);
+
+        // configure mocks
+        when(dsbMannschaftDAO.findByIds(ids)).thenReturn(Collections.singletonList(expectedBE));
+        when(vereinComponent.findByIds(Collections.singletonList(VEREIN_ID)))
+                .thenReturn(Collections.singletonList(getVereinDO()));
+
+        // call test method
+        final List<DsbMannschaftDO> actual = underTest.findByIds(ids);
+
+        // assert result
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getId()).isEqualTo(ID);
+        assertThat(actual.get(0).getName()).isEqualTo(MA_NAME);
+
+        // verify invocations
+        verify(dsbMannschaftDAO).findByIds(ids);
+        verify(vereinComponent).findByIds(Collections.singletonList(VEREIN_ID));
+        verify(vereinComponent, never()).findById(anyLong());
     }
 
     @Test
@@ -839,35 +889,47 @@ public class DsbMannschaftComponentImplTest {
     public void copyMannschaftFromVeranstaltung_new(){
         // prepare test data
         DsbMannschaftBE mannschaft1 = getDsbMannschaftBE();
-        final  List<DsbMannschaftBE> lastMannschaftList = new ArrayList<>();
-        lastMannschaftList.add(mannschaft1);
-
-        MannschaftsmitgliedDO mannschaftsmitgliedDO = new MannschaftsmitgliedDO(1L);
-        final List<MannschaftsmitgliedDO> mitglieder = new ArrayList<>();
-        mitglieder.add(mannschaftsmitgliedDO);
+        mannschaft1.setVeranstaltungId(CURRENT_VERANSTALTUNG_ID);
+        final  List<DsbMannschaftBE> addedMannschaftList = new ArrayList<>();
+        addedMannschaftList.add(mannschaft1);
 
         // configure mocks
-        when(dsbMannschaftDAO.findAllByVeranstaltungsId(VERANSTALTUNG_ID)).thenReturn(lastMannschaftList);
-        when(dsbMannschaftDAO.create(any(DsbMannschaftBE.class), anyLong())).thenReturn(mannschaft1);
-        when(mannschaftsmitgliedComponent.findByTeamId(anyLong())).thenReturn(mitglieder);
-        when(mannschaftsmitgliedComponent.create(any(), anyLong())).thenReturn(null);
+        when(dsbMannschaftDAO.copyFromVeranstaltung(VERANSTALTUNG_ID, CURRENT_VERANSTALTUNG_ID, BENUTZER_ID))
+                .thenReturn(addedMannschaftList);
+        when(vereinComponent.findByIds(anyCollection())).thenReturn(Collections.singletonList(getVereinDO()));
 
         //call test method
         final List<DsbMannschaftDO> actual = underTest.copyMannschaftFromVeranstaltung
-                (VERANSTALTUNG_ID, CURRENT_VERANSTALTUNG_ID, ID);
+                (VERANSTALTUNG_ID, CURRENT_VERANSTALTUNG_ID, BENUTZER_ID);
 
         //asserting returns
-        assertThat(actual).isNotNull();
+        assertThat(actual).isNotNull().hasSize(1);
         DsbMannschaftDO actualM = actual.get(0);
         assertThat(actualM.getVereinId()).isEqualTo(mannschaft1.getVereinId());
         assertThat(actualM.getId()).isEqualTo(mannschaft1.getId());
+        assertThat(actualM.getVeranstaltungId()).isEqualTo(CURRENT_VERANSTALTUNG_ID);
+        assertThat(actualM.getName()).isEqualTo(MA_NAME);
 
         // verify invocations
-        verify(dsbMannschaftDAO).findAllByVeranstaltungsId(VERANSTALTUNG_ID);
-        verify(dsbMannschaftDAO).create(dsbMannschaftBEArgumentCaptor.capture(), anyLong());
-        verify(vereinComponent).findById(anyLong());
-        verify(mannschaftsmitgliedComponent).findByTeamId(anyLong());
-        verify(mannschaftsmitgliedComponent).create(any(), anyLong());
+        // the mannschaften and their mitglieder are copied with one statement
+        verify(dsbMannschaftDAO).copyFromVeranstaltung(VERANSTALTUNG_ID, CURRENT_VERANSTALTUNG_ID, BENUTZER_ID);
+        verify(dsbMannschaftDAO, never()).create(any(), anyLong());
+        verify(vereinComponent).findByIds(anyCollection());
+    }
+
+
+    @Test
+    public void copyMannschaftFromVeranstaltung_withNegativeId_shouldThrowException(){
+        assertThatThrownBy(() -> underTest.copyMannschaftFromVeranstaltung(-1, CURRENT_VERANSTALTUNG_ID, BENUTZER_ID))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("must not be negative");
+        assertThatThrownBy(() -> underTest.copyMannschaftFromVeranstaltung(VERANSTALTUNG_ID, CURRENT_VERANSTALTUNG_ID,
+                -1))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("User ID must not be negative");
+
+        // verify invocations
+        verifyZeroInteractions(dsbMannschaftDAO);
     }
 
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ import java.util.List;
 import static de.bogenliga.application.business.dsbmannschaft.impl.business.DsbMannschaftComponentImplTest.getDsbMannschaftBE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -68,6 +70,27 @@ public class DsbMannschaftBasicDAOTest {
 
     }
 
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final DsbMannschaftBE expectedBE = getDsbMannschaftBE();
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), anyString(), eq(10L), eq(3)))
+                .thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<DsbMannschaftBE> actual = underTest.getPage(10L, 3);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("LIMIT"), eq(10L), eq(3));
+    }
+
+
     @Test
     public void findAllByVereinsId() {
         // prepare test data
@@ -192,6 +215,50 @@ public class DsbMannschaftBasicDAOTest {
     }
 
 
+    @Test
+    public void copyFromVeranstaltung() {
+        // prepare test data
+        final DsbMannschaftBE expectedBE = new DsbMannschaftBE();
+        expectedBE.setId(id);
+        expectedBE.setVeranstaltungId(2L);
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), eq(1L), eq(2L), eq(3L), eq(3L)))
+                .thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<DsbMannschaftBE> actual = underTest.copyFromVeranstaltung(1L, 2L, 3L);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), any(), eq(1L), eq(2L), eq(3L), eq(3L));
+    }
+
+
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final DsbMannschaftBE expectedBE = new DsbMannschaftBE();
+        expectedBE.setId(id);
+        expectedBE.setNummer(nummer);
+        final List<Long> ids = Collections.singletonList(id);
+
+        // configure mocks
+        when(basicDao.selectEntityListByIds(any(), any(), eq(ids))).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<DsbMannschaftBE> actual = underTest.findByIds(ids);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityListByIds(any(), any(), eq(ids));
+    }
+
+
     @Test
     public void create() {
         // prepare test data
@@ -3,8 +3,11 @@ package de.bogenliga.application.business.dsbmitglied.impl.business;
 import java.sql.Date;
 import java.sql.Timestamp;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -18,6 +21,7 @@ import de.bogenliga.application.business.dsbmitglied.impl.dao.DsbMitgliedDAO;
 import de.bogenliga.application.business.dsbmitglied.impl.entity.DsbMitgliedBE;
 import de.bogenliga.application.business.lizenz.impl.dao.LizenzDAO;
 import de.bogenliga.application.business.lizenz.impl.entity.LizenzBE;
+import de.bogenliga.application.common.component.types.KeysetPage;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -146,6 +150,88 @@ public class DsbMitgliedComponentImplTest {
         verify(dsbMitgliedDAO).findAll();
     }
 
+
+    @Test
+    public void streamAll() {
+        // prepare test data
+        final DsbMitgliedBE expectedBE = getDsbMitgliedBE();
+        final List<DsbMitgliedDO> actual = new ArrayList<>();
+
+        // configure mocks
+        when(dsbMitgliedDAO.streamAll(any())).thenAnswer(invocation -> {
+            final Consumer<DsbMitgliedBE> consumer = invocation.getArgument(0);
+            consumer.accept(expectedBE);
+            return 1;
+        });
+
+        // call test method
+        final int actualCount = underTest.streamAll(actual::add);
+
+        // assert result
+        assertThat(actualCount).isEqualTo(1);
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getId()).isEqualTo(expectedBE.getDsbMitgliedId());
+        assertThat(actual.get(0).getVorname()).isEqualTo(expectedBE.getDsbMitgliedVorname());
+
+        // verify invocations
+        verify(dsbMitgliedDAO).streamAll(any());
+        verify(dsbMitgliedDAO, never()).findAll();
+    }
+
+
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final DsbMitgliedBE firstBE = getDsbMitgliedBE();
+        firstBE.setDsbMitgliedId(10L);
+        final DsbMitgliedBE secondBE = getDsbMitgliedBE();
+        secondBE.setDsbMitgliedId(11L);
+
+        // configure mocks
+        when(dsbMitgliedDAO.getPage(anyLong(), anyInt())).thenReturn(Arrays.asList(firstBE, secondBE));
+
+        // call test method
+        final KeysetPage<DsbMitgliedDO> actual = underTest.getPage(null, 1);
+
+        // assert result
+        assertThat(actual.getItems()).hasSize(1);
+        assertThat(actual.getItems().get(0).getId()).isEqualTo(10L);
+        assertThat(actual.getNextCursor()).isEqualTo(10L);
+
+        // verify invocations
+        // one additional row shows, whether there is a next page
+        verify(dsbMitgliedDAO).getPage(0L, 2);
+    }
+
+
+    @Test
+    public void findPage_withInvalidLimit_shouldThrowException() {
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.getPage(null, 0));
+
+        // verify invocations
+        verify(dsbMitgliedDAO, never()).getPage(anyLong(), anyInt());
+    }
+
+
+    @Test
+    public void findPage_withTooLargeLimit_shouldCapLimit() {
+        // configure mocks
+        when(dsbMitgliedDAO.getPage(anyLong(), anyInt())).thenReturn(Collections.emptyList());
+
+        // call test method
+        final KeysetPage<DsbMitgliedDO> actual = underTest.getPage(null, KeysetPage.MAX_LIMIT + 1);
+
+        // assert result
+        assertThat(actual.getItems()).isEmpty();
+        assertThat(actual.hasNext()).isFalse();
+
+        // verify invocations
+        verify(dsbMitgliedDAO).getPage(0L, KeysetPage.MAX_LIMIT + 1);
+    }
+
+
     @Test
     public void findBySearch() {
         // prepare test data
@@ -2,19 +2,25 @@ package de.bogenliga.application.business.dsbmitglied.impl.dao;
 
 import de.bogenliga.application.business.dsbmitglied.impl.entity.DsbMitgliedBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.database.queries.SearchQuery;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static de.bogenliga.application.business.dsbmitglied.impl.business.DsbMitgliedComponentImplTest.getDsbMitgliedBE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -78,6 +84,54 @@ public class DsbMitgliedBasicDAOTest {
 
 
     }
+
+    @Test
+    public void streamAll() {
+        // prepare test data
+        final DsbMitgliedBE expectedBE = getDsbMitgliedBE();
+        final List<DsbMitgliedBE> actual = new ArrayList<>();
+
+        // configure mocks
+        when(basicDao.selectEntityStream(any(), anyString(), any())).thenAnswer(invocation -> {
+            final Consumer<DsbMitgliedBE> consumer = invocation.getArgument(2);
+            consumer.accept(expectedBE);
+            return 1;
+        });
+
+        // call test method
+        final int actualCount = underTest.streamAll(actual::add);
+
+        // assert result
+        assertThat(actualCount).isEqualTo(1);
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityStream(any(), anyString(), any());
+        verify(basicDao, never()).selectEntityList(any(), any(), any());
+    }
+
+
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final DsbMitgliedBE expectedBE = getDsbMitgliedBE();
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), anyString(), eq(10L), eq(3)))
+                .thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<DsbMitgliedBE> actual = underTest.getPage(10L, 3);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("LIMIT"), eq(10L), eq(3));
+    }
+
+
     @Test
     public void findBySearch() {
         // prepare test data
@@ -96,7 +150,32 @@ public class DsbMitgliedBasicDAOTest {
                 .hasSize(1);
 
         // verify invocations
-        verify(basicDao).selectEntityList(any(), any(), any());
+        final String term = expectedBE.getDsbMitgliedVorname().toLowerCase();
+        verify(basicDao).selectEntityList(any(), contains("<%"), eq("%" + term + "%"), eq(term), eq(term),
+                eq(SearchQuery.RESULT_LIMIT));
+    }
+
+
+    @Test
+    public void findBySearch_shouldLogSQL() {
+        // prepare test data
+        final ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        final ArgumentCaptor<Object> parameter = ArgumentCaptor.forClass(Object.class);
+        final BasicDAO loggingDao = new BasicDAO(null, null);
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), any(), any())).thenReturn(Collections.emptyList());
+
+        // call test method
+        underTest.findBySearch(VORNAME);
+        verify(basicDao).selectEntityList(any(), sql.capture(), parameter.capture());
+
+        // assert result
+        // the search uses the pg_trgm operator <%, which is logged unchanged and without an exception
+        assertThat(sql.getValue()).contains("<%");
+        assertThat(loggingDao.logSQL(LoggerFactory.getLogger(DsbMitgliedDAO.class), sql.getValue(),
+                parameter.getAllValues().toArray()))
+                .isEqualTo(sql.getValue());
     }
 
     @Test
@@ -125,6 +204,27 @@ public class DsbMitgliedBasicDAOTest {
     }
 
 
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final DsbMitgliedBE expectedBE = new DsbMitgliedBE();
+        expectedBE.setDsbMitgliedId(ID);
+        final List<Long> ids = Collections.singletonList(ID);
+
+        // configure mocks
+        when(basicDao.selectEntityListByIds(any(), any(), eq(ids))).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<DsbMitgliedBE> actual = underTest.findByIds(ids);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityListByIds(any(), contains("ANY(?)"), eq(ids));
+    }
+
+
     @Test
     public void create() {
         // prepare test data
@@ -8,6 +8,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.liga.api.types.LigaDO;
@@ -18,11 +19,15 @@ import de.bogenliga.application.business.regionen.impl.business.RegionenComponen
 import de.bogenliga.application.business.user.api.types.UserDO;
 import de.bogenliga.application.business.user.impl.business.UserComponentImpl;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import static de.bogenliga.application.business.regionen.impl.business.RegionenComponentImplTest.getRegionenDO;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -60,6 +65,11 @@ public class LigaComponentImplTest {
 
 
 
+    @Mock
+    private TransactionManager transactionManager;
+    @Spy
+    private ReferenceDataCacheManager referenceDataCacheManager =
+            new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration());
     @InjectMocks
     private LigaComponentImpl underTest;
 
@@ -289,6 +299,37 @@ public class LigaComponentImplTest {
         verify(userComponentImpl).findById(expectedLigaBE.getLigaVerantwortlichId());
     }
 
+    @Test
+    public void findById_withCachedLiga_shouldNotQueryAgain() {
+        // prepare test data
+        final LigaBE expectedLigaBE = getLigaBE();
+
+        // configure mocks
+        when(ligaDao.findById(anyLong())).thenReturn(expectedLigaBE);
+        when(ligaDao.update(any(LigaBE.class), anyLong())).thenReturn(expectedLigaBE);
+        when(regionenComponentImpl.findById(anyLong())).thenReturn(getRegionenDO());
+        when(userComponentImpl.findById(anyLong())).thenReturn(getUserDO());
+
+        // call test method: the uebergeordnete liga is the liga itself
+        underTest.findById(LIGAID);
+        final LigaDO actual = underTest.findById(LIGAID);
+
+        // assert result
+        assertThat(actual.getLigaUebergeordnetName()).isEqualTo(expectedLigaBE.getLigaName());
+
+        // verify invocations
+        verify(ligaDao, times(1)).findById(LIGAID);
+
+        // the cached liga is read again after the update is committed
+        final ArgumentCaptor<Runnable> afterCommitCaptor = ArgumentCaptor.forClass(Runnable.class);
+        underTest.update(actual, USER);
+        verify(transactionManager).afterCommit(afterCommitCaptor.capture());
+        afterCommitCaptor.getValue().run();
+        underTest.findById(LIGAID);
+
+        verify(ligaDao, times(2)).findById(LIGAID);
+    }
+
     @Test
     public void findById_whenNoResult_shouldThrowException() {
         // call test method
@@ -511,4 +552,33 @@ public class LigaComponentImplTest {
 
         assertThat(persistedLigaBE.getLigaId()).isEqualTo(input.getId());
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void delete_shouldInvalidateCacheAfterCommit() {
+        // prepare test data
+        final LigaDO input = getLigaDO();
+        final LigaBE expectedLigaBE = getLigaBE();
+        final ArgumentCaptor<Runnable> afterCommitCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // configure mocks
+        when(ligaDao.findById(anyLong())).thenReturn(expectedLigaBE);
+        when(regionenComponentImpl.findById(anyLong())).thenReturn(getRegionenDO());
+        when(userComponentImpl.findById(anyLong())).thenReturn(getUserDO());
+
+        // call test method
+        underTest.findById(LIGAID);
+        underTest.delete(input, USER);
+
+        // a lookup before the commit still reads the cached liga
+        underTest.findById(LIGAID);
+        verify(ligaDao, times(1)).findById(LIGAID);
+
+        verify(transactionManager).afterCommit(afterCommitCaptor.capture());
+        afterCommitCaptor.getValue().run();
+        underTest.findById(LIGAID);
+
+        // verify invocations
+        verify(ligaDao, times(2)).findById(LIGAID);
+    }
+}
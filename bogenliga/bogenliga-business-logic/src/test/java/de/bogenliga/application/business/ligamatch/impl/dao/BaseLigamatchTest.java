@@ -14,7 +14,10 @@ import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.baseClass.impl.BasicTest;
 import de.bogenliga.application.business.ligamatch.impl.entity.LigamatchBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -184,5 +187,21 @@ public class BaseLigamatchTest {
         }
     }
 
+    @Test
+    public void checkIfLigamatch(){
+        assertThat(underTest.checkIfLigamatch(WETTKAMPF_ID)).isTrue();
+
+        when(basicDAO.selectEntityList(any(),any(),any())).thenReturn(Collections.emptyList());
+        assertThat(underTest.checkIfLigamatch(WETTKAMPF_ID)).isFalse();
+    }
+
+    @Test
+    public void checkIfLigamatch_withSQLError_shouldThrowException(){
+        when(basicDAO.selectEntityList(any(),any(),any()))
+                .thenThrow(new TechnicalException(ErrorCode.DATABASE_ERROR, "current transaction is aborted"));
+
+        assertThatThrownBy(() -> underTest.checkIfLigamatch(WETTKAMPF_ID)).isInstanceOf(TechnicalException.class);
+    }
+
 
 }
@@ -17,6 +17,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -109,4 +111,14 @@ public class LigatabelleDAOTest {
         // verify invocations
         verify(basicDao).selectEntityList(any(), any(), any());
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void refreshLigatabelleWettkampf() {
+        // call test method
+        underTest.refreshLigatabelleWettkampf(ID);
+
+        // verify invocations
+        verify(basicDao).executeUpdate(any(), anyString(), eq(ID), eq(ID));
+    }
+}
@@ -15,12 +15,14 @@ import de.bogenliga.application.business.mannschaftsmitglied.api.Mannschaftsmitg
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import org.assertj.core.api.Assertions;
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
@@ -38,6 +40,8 @@ import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfPageRenderer;
+import de.bogenliga.application.common.configuration.PdfRenderConfiguration;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -73,12 +77,21 @@ public class LizenzComponentImplTest {
     @Mock
     private VereinComponent vereinComponent;
 
+    @Spy
+    private PdfPageRenderer pdfPageRenderer = new PdfPageRenderer(new PdfRenderConfiguration());
+
     @InjectMocks
     private LizenzComponentImpl underTest;
     @Captor
     private ArgumentCaptor<LizenzBE> lizenzBEArgumentCaptor;
 
 
+    @After
+    public void close() {
+        pdfPageRenderer.close();
+    }
+
+
     public static LizenzBE getLizenzBE() {
         final LizenzBE expectedBE = new LizenzBE();
         expectedBE.setLizenzId(lizenzId);
@@ -1,5 +1,7 @@
 package de.bogenliga.application.business.mannschaftsmitglied.impl.business;
 
+import java.util.function.Consumer;
+import java.util.ArrayList;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -109,6 +111,35 @@ public class MannschaftsmitgliedComponentImplTest {
     }
 
 
+
+    @Test
+    public void streamAll() {
+        // prepare test data
+        final MannschaftsmitgliedExtendedBE expectedBE = getMannschatfsmitgliedExtendedBE();
+        final List<MannschaftsmitgliedDO> actual = new ArrayList<>();
+
+        // configure mocks
+        when(mannschaftsmitgliedDAO.streamAll(any())).thenAnswer(invocation -> {
+            final Consumer<MannschaftsmitgliedExtendedBE> consumer = invocation.getArgument(0);
+            consumer.accept(expectedBE);
+            return 1;
+        });
+
+        // call test method
+        final int actualCount = underTest.streamAll(actual::add);
+
+        // assert result
+        assertThat(actualCount).isEqualTo(1);
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getMannschaftId()).isEqualTo(expectedBE.getMannschaftId());
+        assertThat(actual.get(0).getDsbMitgliedId()).isEqualTo(expectedBE.getDsbMitgliedId());
+
+        // verify invocations
+        verify(mannschaftsmitgliedDAO).streamAll(any());
+        verify(mannschaftsmitgliedDAO, never()).findAll();
+    }
+
+
     @Test
     public void findAllSchuetzeInTeam() {
 
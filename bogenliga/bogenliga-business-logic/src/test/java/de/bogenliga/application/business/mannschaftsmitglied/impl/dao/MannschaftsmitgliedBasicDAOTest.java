@@ -1,5 +1,7 @@
 package de.bogenliga.application.business.mannschaftsmitglied.impl.dao;
 
+import java.util.function.Consumer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import org.assertj.core.api.Java6Assertions;
@@ -63,6 +65,33 @@ public class MannschaftsmitgliedBasicDAOTest {
     }
 
 
+
+    @Test
+    public void streamAll() {
+        // prepare test data
+        final MannschaftsmitgliedExtendedBE expectedBE = getMannschatfsmitgliedExtendedBE();
+        final List<MannschaftsmitgliedExtendedBE> actual = new ArrayList<>();
+
+        // configure mocks
+        when(basicDao.selectEntityStream(any(), anyString(), any())).thenAnswer(invocation -> {
+            final Consumer<MannschaftsmitgliedExtendedBE> consumer = invocation.getArgument(2);
+            consumer.accept(expectedBE);
+            return 1;
+        });
+
+        // call test method
+        final int actualCount = underTest.streamAll(actual::add);
+
+        // assert result
+        assertThat(actualCount).isEqualTo(1);
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityStream(any(), anyString(), any());
+        verify(basicDao, never()).selectEntityList(any(), any(), any());
+    }
+
+
     @Test
     public void findByMemberAndTeamId() {
         final MannschaftsmitgliedExtendedBE expectedBE = new MannschaftsmitgliedExtendedBE();
@@ -115,6 +144,28 @@ public class MannschaftsmitgliedBasicDAOTest {
     }
 
 
+    @Test
+    public void findByMemberIds() {
+        // prepare test data
+        final MannschaftsmitgliedExtendedBE expectedBE = getMannschatfsmitgliedExtendedBE();
+        expectedBE.setMannschaftId(MANNSCHHAFT_ID);
+        expectedBE.setDsbMitgliedId(DSB_MITGLIED_ID);
+        final List<Long> memberIds = Collections.singletonList(DSB_MITGLIED_ID);
+
+        // configure mocks
+        when(basicDao.selectEntityListByIds(any(), any(), eq(memberIds))).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<MannschaftsmitgliedExtendedBE> actual = underTest.findByMemberIds(memberIds);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityListByIds(any(), contains("ANY(?)"), eq(memberIds));
+    }
+
+
     @Test
     public void checkExistingSchuetze() {
         // prepare test data
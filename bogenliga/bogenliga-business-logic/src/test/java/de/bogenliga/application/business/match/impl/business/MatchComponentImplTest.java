@@ -1,9 +1,11 @@
 package de.bogenliga.application.business.match.impl.business;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
@@ -11,13 +13,17 @@ import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO
 import de.bogenliga.application.business.ligamatch.impl.dao.BaseLigamatchTest;
 import de.bogenliga.application.business.ligamatch.impl.dao.LigamatchDAO;
 import de.bogenliga.application.business.ligamatch.impl.entity.LigamatchBE;
+import de.bogenliga.application.business.ligatabelle.impl.dao.LigatabelleDAO;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.match.impl.BaseMatchTest;
 import de.bogenliga.application.business.match.impl.dao.MatchDAO;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.business.match.impl.mapper.MatchMapper;
+import de.bogenliga.application.business.schuetzenstatistik.api.SchuetzenstatistikComponent;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.common.component.types.KeysetPage;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
@@ -34,14 +40,31 @@ public class MatchComponentImplTest extends BaseMatchTest {
     @Mock
     private LigamatchDAO ligamatchDAO;
     @Mock
+    private LigatabelleDAO ligatabelleDAO;
+    @Mock
+    private SchuetzenstatistikComponent schuetzenstatistikComponent;
+    @Mock
     private DsbMannschaftComponent mannschaftComponent;
     @Mock
     private WettkampfComponent wettkampfComponent;
+    @Mock
+    private TransactionManager transactionManager;
 
     @InjectMocks
     private MatchComponentImpl underTest;
 
 
+    /**
+     * execute the actions registered before the commit of the unit of work
+     */
+    private void commitUnitOfWork() {
+        final ArgumentCaptor<Runnable> actionCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        verify(transactionManager, atLeastOnce()).beforeCommit(anyString(), actionCaptor.capture());
+        actionCaptor.getAllValues().forEach(Runnable::run);
+    }
+
+
     private void validateObjectList (List<MatchDO> actual) {
         assertThat(actual)
                 .isNotNull()
@@ -93,6 +116,32 @@ public class MatchComponentImplTest extends BaseMatchTest {
     }
 
 
+
+    @Test
+    public void getPage() {
+        // prepare test data
+        final MatchBE firstBE = getMatchBE();
+        firstBE.setId(10L);
+        final MatchBE secondBE = getMatchBE();
+        secondBE.setId(11L);
+
+        // configure mocks
+        when(matchDAO.getPage(anyLong(), anyInt())).thenReturn(Arrays.asList(firstBE, secondBE));
+
+        // call test method
+        final KeysetPage<MatchDO> actual = underTest.getPage(null, 1);
+
+        // assert result
+        assertThat(actual.getItems()).hasSize(1);
+        assertThat(actual.getItems().get(0).getId()).isEqualTo(10L);
+        assertThat(actual.getNextCursor()).isEqualTo(10L);
+
+        // verify invocations
+        // one additional row shows, whether there is a next page
+        verify(matchDAO).getPage(0L, 2);
+    }
+
+
     @Test
     public void findById() {
         MatchBE expectedMatchBE = getMatchBE();
@@ -308,6 +357,10 @@ public class MatchComponentImplTest extends BaseMatchTest {
         assertValid(expectedMatchBE, actual);
 
         // cannot verify invocation as BE is different in component impl method (from mapper)
+        verify(ligatabelleDAO, never()).refreshLigatabelleWettkampf(anyLong());
+        commitUnitOfWork();
+        verify(ligatabelleDAO).refreshLigatabelleWettkampf(MATCH_WETTKAMPF_ID);
+        verify(schuetzenstatistikComponent).refreshSchuetzenstatistikWettkampf(MATCH_WETTKAMPF_ID);
     }
 
 
@@ -324,6 +377,50 @@ public class MatchComponentImplTest extends BaseMatchTest {
         assertValid(expectedMatchBE, actual);
 
         // cannot verify invocation as BE is different in component impl method (from mapper)
+        verify(ligatabelleDAO, never()).refreshLigatabelleWettkampf(anyLong());
+        commitUnitOfWork();
+        verify(ligatabelleDAO).refreshLigatabelleWettkampf(MATCH_WETTKAMPF_ID);
+        verify(schuetzenstatistikComponent).refreshSchuetzenstatistikWettkampf(MATCH_WETTKAMPF_ID);
+    }
+
+
+    @Test
+    public void update_withOtherWettkampf_shouldRefreshPreviousWettkampf() {
+        final long previousWettkampfId = MATCH_WETTKAMPF_ID + 1;
+        MatchBE storedMatchBE = getMatchBE();
+        storedMatchBE.setWettkampfId(previousWettkampfId);
+        MatchBE expectedMatchBE = getMatchBE();
+        when(matchDAO.findById(anyLong())).thenReturn(storedMatchBE);
+        when(matchDAO.update(any(MatchBE.class), anyLong())).thenReturn(expectedMatchBE);
+        MatchDO matchDO = MatchMapper.toMatchDO.apply(expectedMatchBE);
+
+        // call test method
+        underTest.update(matchDO, CURRENT_USER_ID);
+
+        // verify invocations
+        verify(matchDAO).findById(MATCH_ID);
+        commitUnitOfWork();
+        verify(ligatabelleDAO).refreshLigatabelleWettkampf(MATCH_WETTKAMPF_ID);
+        verify(ligatabelleDAO).refreshLigatabelleWettkampf(previousWettkampfId);
+        verify(schuetzenstatistikComponent).refreshSchuetzenstatistikWettkampf(MATCH_WETTKAMPF_ID);
+        verify(schuetzenstatistikComponent).refreshSchuetzenstatistikWettkampf(previousWettkampfId);
+    }
+
+
+    @Test
+    public void update_withMatchesOfSameWettkampf_shouldRefreshLigatabelleOnce() {
+        MatchBE expectedMatchBE = getMatchBE();
+        when(matchDAO.update(any(MatchBE.class), anyLong())).thenReturn(expectedMatchBE);
+        MatchDO matchDO = MatchMapper.toMatchDO.apply(expectedMatchBE);
+
+        // call test method
+        underTest.update(matchDO, CURRENT_USER_ID);
+        underTest.update(matchDO, CURRENT_USER_ID);
+
+        // verify invocations
+        verify(transactionManager, times(2)).beforeCommit(eq("ligatabelle/wettkampf/" + MATCH_WETTKAMPF_ID),
+                any(Runnable.class));
+        verify(ligatabelleDAO, never()).refreshLigatabelleWettkampf(anyLong());
     }
 
 
@@ -587,5 +684,8 @@ public class MatchComponentImplTest extends BaseMatchTest {
 
         verify(wettkampfComponent).findWT0byVeranstaltungsId(1L);
         verify(mannschaftComponent).findAllByVeranstaltungsId(1L);
+        commitUnitOfWork();
+        verify(ligatabelleDAO).refreshLigatabelleWettkampf(1L);
+        verify(schuetzenstatistikComponent).refreshSchuetzenstatistikWettkampf(1L);
     }
 }
\ No newline at end of file
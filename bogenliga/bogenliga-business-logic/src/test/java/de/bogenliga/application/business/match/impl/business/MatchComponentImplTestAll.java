@@ -5,6 +5,8 @@ import java.util.Collections;
 
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.ligamatch.impl.dao.LigamatchDAO;
+import de.bogenliga.application.business.ligatabelle.impl.dao.LigatabelleDAO;
+import de.bogenliga.application.business.schuetzenstatistik.api.SchuetzenstatistikComponent;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.impl.dao.WettkampfDAO;
@@ -22,6 +24,7 @@ import de.bogenliga.application.business.match.impl.BaseMatchTest;
 import de.bogenliga.application.business.match.impl.dao.MatchDAO;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -52,6 +55,15 @@ public class MatchComponentImplTestAll extends BaseMatchTest {
 
     private LigamatchDAO ligamatchDAO;
 
+    @Mock
+    private LigatabelleDAO ligatabelleDAO;
+
+    @Mock
+    private SchuetzenstatistikComponent schuetzenstatistikComponent;
+
+    @Mock
+    private TransactionManager transactionManager;
+
 
     private BasicComponentTest<MatchComponentImpl, MatchDO> basicComponentTest;
     private BasicTest<MatchBE, MatchDO> basicTest;
@@ -60,7 +72,8 @@ public class MatchComponentImplTestAll extends BaseMatchTest {
     @Before
     public void testSetup() {
         expectedBE = getMatchBE();
-        underTest = new MatchComponentImpl(matchDAO,dsbMannschaftComponent, vereinComponent, ligamatchDAO);
+        underTest = new MatchComponentImpl(matchDAO,dsbMannschaftComponent, vereinComponent, ligamatchDAO, ligatabelleDAO,
+                schuetzenstatistikComponent, transactionManager);
         basicComponentTest = new BasicComponentTest<>(underTest);
         basicTest = new BasicTest<>(expectedBE, getValuesToMethodMap());
     }
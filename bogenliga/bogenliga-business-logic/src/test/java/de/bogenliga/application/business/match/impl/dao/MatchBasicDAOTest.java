@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.match.impl.dao;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -12,7 +14,9 @@ import de.bogenliga.application.business.baseClass.impl.BasicTest;
 import de.bogenliga.application.business.match.impl.BaseMatchTest;
 import de.bogenliga.application.business.match.impl.entity.MatchBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -64,6 +68,26 @@ public class MatchBasicDAOTest extends BaseMatchTest {
     }
 
 
+
+    @Test
+    public void getPage() {
+        // prepare test data
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), anyString(), eq(10L), eq(3)))
+                .thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<MatchBE> actual = underTest.getPage(10L, 3);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("LIMIT"), eq(10L), eq(3));
+    }
+
+
     @Test
     public void update() {
         when(basicDao.updateEntity(any(), any(), any())).thenReturn(expectedBE);
@@ -1,12 +1,17 @@
 package de.bogenliga.application.business.passe.impl.business;
 
+import java.util.function.Consumer;
+import java.util.ArrayList;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
@@ -19,6 +24,7 @@ import de.bogenliga.application.business.passe.api.types.PasseDO;
 import de.bogenliga.application.business.passe.impl.dao.PasseBaseDAOTest;
 import de.bogenliga.application.business.passe.impl.dao.PasseDAO;
 import de.bogenliga.application.business.passe.impl.entity.PasseBE;
+import de.bogenliga.application.business.schuetzenstatistik.api.SchuetzenstatistikComponent;
 import de.bogenliga.application.business.baseClass.impl.BasicComponentTest;
 import de.bogenliga.application.business.baseClass.impl.BasicTest;
 import de.bogenliga.application.common.component.dao.BasicDAO;
@@ -42,9 +48,15 @@ public class PasseComponentImplTest extends PasseBaseDAOTest {
     @Mock
     private LigapasseDAO ligapasseDAO;
 
+    @Mock
+    private SchuetzenstatistikComponent schuetzenstatistikComponent;
+
     @InjectMocks
     private PasseDAO passeDAO;
 
+    @Captor
+    private ArgumentCaptor<List<PasseBE>> passeBEListArgumentCaptor;
+
     private PasseBE expectedBE;
 
     private PasseComponentImpl underTest;
@@ -59,7 +71,7 @@ public class PasseComponentImplTest extends PasseBaseDAOTest {
     @Before
     public void testSetup() {
         expectedBE = getPasseBE();
-        underTest = new PasseComponentImpl(passeDAO, ligapasseDAO);
+        underTest = new PasseComponentImpl(passeDAO, ligapasseDAO, schuetzenstatistikComponent);
         basicComponentTest = new BasicComponentTest<>(underTest);
         basicTest = new BasicTest<>(expectedBE, getValuesToMethodMap());
     }
@@ -96,6 +108,33 @@ public class PasseComponentImplTest extends PasseBaseDAOTest {
     }
 
 
+
+    @Test
+    public void streamAll() {
+        // prepare test data
+        final List<PasseDO> actual = new ArrayList<>();
+
+        // configure mocks
+        when(basicDAO.selectEntityStream(any(), anyString(), any())).thenAnswer(invocation -> {
+            final Consumer<PasseBE> consumer = invocation.getArgument(2);
+            consumer.accept(expectedBE);
+            return 1;
+        });
+
+        // call test method
+        final int actualCount = underTest.streamAll(actual::add);
+
+        // assert result
+        assertThat(actualCount).isEqualTo(1);
+        validateObjectList(actual);
+        assertThat(actual.get(0).getId()).isEqualTo(expectedBE.getId());
+
+        // verify invocations
+        verify(basicDAO).selectEntityStream(any(), anyString(), any());
+        verify(basicDAO, never()).selectEntityList(any(), any(), any());
+    }
+
+
     @Test
     public void testCreateOnCorrectness() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
         when(basicDAO.insertEntity(any(), any())).thenReturn(expectedBE);
@@ -114,6 +153,44 @@ public class PasseComponentImplTest extends PasseBaseDAOTest {
     }
 
 
+    @Test
+    public void saveAll() {
+        // prepare test data
+        final PasseDO existingPasseDO = getPasseDO();
+        final PasseDO newPasseDO = getPasseDO();
+        newPasseDO.setId(null);
+
+        final Long existingPasseId = existingPasseDO.getId();
+        final Long createdPasseId = existingPasseId + 1;
+        final PasseBE createdPasseBE = getPasseBE();
+        createdPasseBE.setId(createdPasseId);
+
+        // configure mocks
+        when(basicDAO.insertEntityBatch(any(), any())).thenReturn(Collections.singletonList(createdPasseBE));
+
+        // call test method
+        final List<PasseDO> actual = underTest.saveAll(Arrays.asList(newPasseDO, existingPasseDO), 1L);
+
+        // assert result
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getId()).isEqualTo(createdPasseId);
+        assertThat(actual.get(1).getId()).isEqualTo(existingPasseId);
+
+        // verify invocations
+        verify(basicDAO).updateEntityBatch(any(), passeBEListArgumentCaptor.capture(), eq("passe_id"));
+        assertThat(passeBEListArgumentCaptor.getValue()).extracting(PasseBE::getId).containsExactly(existingPasseId);
+
+        verify(basicDAO).insertEntityBatch(any(), passeBEListArgumentCaptor.capture());
+        assertThat(passeBEListArgumentCaptor.getValue()).extracting(PasseBE::getId).containsExactly((Long) null);
+
+        verify(basicDAO, never()).updateEntity(any(), any(), any());
+        verify(basicDAO, never()).insertEntity(any(), any());
+
+        // both passen belong to the same wettkampf
+        verify(schuetzenstatistikComponent).refreshSchuetzenstatistikWettkampf(existingPasseDO.getPasseWettkampfId());
+    }
+
+
     @Test
     public void testDelete() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
         basicComponentTest.testDeleteMethod(getPasseDO());
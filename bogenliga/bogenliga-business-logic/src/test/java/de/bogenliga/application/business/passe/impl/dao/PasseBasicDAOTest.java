@@ -1,6 +1,9 @@
 package de.bogenliga.application.business.passe.impl.dao;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -11,6 +14,7 @@ import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.passe.impl.entity.PasseBE;
 import de.bogenliga.application.business.baseClass.impl.BasicTest;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -58,6 +62,61 @@ public class PasseBasicDAOTest extends PasseBaseDAOTest{
     }
 
 
+
+    @Test
+    public void getPage() {
+        // prepare test data
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), anyString(), eq(10L), eq(3)))
+                .thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<PasseBE> actual = underTest.getPage(10L, 3);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("LIMIT"), eq(10L), eq(3));
+    }
+
+
+    @Test
+    public void findByWettkampfIdsAndMitgliedIds() {
+        // prepare test data
+        final List<Long> wettkampfIds = Arrays.asList(1L, 2L);
+        final List<Long> mitgliedIds = Collections.singletonList(3L);
+
+        // configure mocks
+        when(basicDao.selectEntityList(any(), anyString(), any(long[].class), any(long[].class)))
+                .thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<PasseBE> actual = underTest.findByWettkampfIdsAndMitgliedIds(wettkampfIds, mitgliedIds);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityList(any(), contains("ANY(?)"), eq(new long[]{1L, 2L}), eq(new long[]{3L}));
+    }
+
+
+    @Test
+    public void findByWettkampfIdsAndMitgliedIds_withoutWettkaempfe() {
+        // call test method
+        final List<PasseBE> actual = underTest.findByWettkampfIdsAndMitgliedIds(Collections.emptyList(),
+                Collections.singletonList(3L));
+
+        // assert result
+        assertThat(actual).isEmpty();
+
+        // verify invocations
+        verifyZeroInteractions(basicDao);
+    }
+
+
     @Test
     public void update() {
         when(basicDao.updateEntity(any(), any(), any())).thenReturn(expectedBE);
@@ -10,6 +10,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.liga.api.LigaComponent;
@@ -24,6 +25,9 @@ import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -55,6 +59,11 @@ public class RegionenComponentImplTest {
     private LigaComponent ligaComponent;
     @Mock
     private LizenzComponent lizenzComponent;
+    @Mock
+    private TransactionManager transactionManager;
+    @Spy
+    private ReferenceDataCacheManager referenceDataCacheManager =
+            new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration());
     @InjectMocks
     private RegionenComponentImpl underTest;
     @Captor
@@ -390,6 +399,35 @@ public class RegionenComponentImplTest {
     }
 
 
+    @Test
+    public void update_shouldInvalidateCacheAfterCommit() {
+        // prepare test data
+        final RegionenDO input = getRegionenDO();
+        final RegionenBE expectedBE = getRegionenBE();
+        final ArgumentCaptor<Runnable> afterCommitCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        // configure mocks
+        when(regionenDAO.findById(anyLong())).thenReturn(expectedBE);
+        when(regionenDAO.findAll()).thenReturn(Collections.singletonList(expectedBE));
+        when(regionenDAO.update(any(RegionenBE.class), anyLong())).thenReturn(expectedBE);
+
+        // call test method
+        underTest.findById(REGION_ID);
+        underTest.update(input, USER);
+
+        // a lookup before the commit still reads the cached region
+        underTest.findById(REGION_ID);
+        verify(regionenDAO, times(1)).findById(REGION_ID);
+
+        verify(transactionManager).afterCommit(afterCommitCaptor.capture());
+        afterCommitCaptor.getValue().run();
+        underTest.findById(REGION_ID);
+
+        // verify invocations
+        verify(regionenDAO, times(2)).findById(REGION_ID);
+    }
+
+
     @Test
     public void delete() {
         // prepare test data
@@ -2,6 +2,7 @@ package de.bogenliga.application.business.regionen.impl.dao;
 
 import de.bogenliga.application.business.regionen.impl.entity.RegionenBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.database.queries.SearchQuery;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -15,6 +16,7 @@ import java.util.List;
 import static de.bogenliga.application.business.regionen.impl.business.RegionenComponentImplTest.getRegionenBE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -90,7 +92,9 @@ public class RegionenDAOTest {
                 .isEqualTo(expectedBE.getRegionName());
 
         // verify invocations
-        verify(basicDao).selectEntityList(any(), any(), any());
+        final String term = expectedBE.getRegionName().toLowerCase();
+        verify(basicDao).selectEntityList(any(), contains("<%"), eq("%" + term + "%"), eq(term), eq(term),
+                eq(SearchQuery.RESULT_LIMIT));
     }
 
 
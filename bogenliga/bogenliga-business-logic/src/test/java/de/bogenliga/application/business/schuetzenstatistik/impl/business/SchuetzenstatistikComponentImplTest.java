@@ -2,6 +2,9 @@ package de.bogenliga.application.business.schuetzenstatistik.impl.business;
 
 import de.bogenliga.application.business.schuetzenstatistik.api.types.SchuetzenstatistikDO;
 import de.bogenliga.application.business.schuetzenstatistik.impl.entity.SchuetzenstatistikBE;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import org.junit.Rule;
 import org.junit.Test;
@@ -9,6 +12,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
@@ -17,7 +21,11 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -47,6 +55,12 @@ public class SchuetzenstatistikComponentImplTest {
     @Mock
     private de.bogenliga.application.business.schuetzenstatistik.impl.dao.SchuetzenstatistikDAO SchuetzenstatistikDAO;
 
+    @Mock
+    private TransactionManager transactionManager;
+
+    @Spy
+    private ReferenceDataCacheManager referenceDataCacheManager = new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration());
+
     @InjectMocks
     private SchuetzenstatistikComponentImpl underTest;
 
@@ -222,5 +236,152 @@ public class SchuetzenstatistikComponentImplTest {
         verify(SchuetzenstatistikDAO).getSchuetzenstatistikWettkampf(0L, 0L);
     }
 
-}
 
+    @Test
+    public void getSchuetzenstatistikWettkampf_withCachedResult_shouldNotReadAgain() {
+        // prepare test data
+        final SchuetzenstatistikBE expectedSchuetzenstatistikBE = getSchuetzenstatistikBE();
+        final List<SchuetzenstatistikBE> expectedBEList = Collections.singletonList(expectedSchuetzenstatistikBE);
+
+        // configure mocks
+        when(SchuetzenstatistikDAO.getSchuetzenstatistikWettkampf(anyLong(), anyLong())).thenReturn(expectedBEList);
+
+        // call test method
+        underTest.getSchuetzenstatistikWettkampf(wettkampfId, vereinId);
+        final List<SchuetzenstatistikDO> actual = underTest.getSchuetzenstatistikWettkampf(wettkampfId, vereinId);
+
+        // assert result
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getDsbMitgliedId()).isEqualTo(dsbMitgliedId);
+
+        // verify invocations
+        verify(SchuetzenstatistikDAO).getSchuetzenstatistikWettkampf(wettkampfId, vereinId);
+    }
+
+
+    @Test
+    public void refreshSchuetzenstatistikWettkampf_shouldInvalidateCache() {
+        // prepare test data
+        final SchuetzenstatistikBE expectedSchuetzenstatistikBE = getSchuetzenstatistikBE();
+        final List<SchuetzenstatistikBE> expectedBEList = Collections.singletonList(expectedSchuetzenstatistikBE);
+
+        // configure mocks
+        when(SchuetzenstatistikDAO.getSchuetzenstatistikVeranstaltung(anyLong(), anyLong())).thenReturn(expectedBEList);
+
+        // call test method
+        underTest.getSchuetzenstatistikVeranstaltung(veranstaltungId, vereinId);
+        underTest.refreshSchuetzenstatistikWettkampf(wettkampfId);
+        runBeforeCommitAction();
+        runAfterCommitAction();
+        final List<SchuetzenstatistikDO> actual = underTest.getSchuetzenstatistikVeranstaltung(veranstaltungId,
+                vereinId);
+
+        // assert result
+        assertThat(actual).hasSize(1);
+
+        // verify invocations
+        verify(SchuetzenstatistikDAO).refreshSchuetzenstatistikWettkampf(wettkampfId);
+        verify(SchuetzenstatistikDAO, times(2)).getSchuetzenstatistikVeranstaltung(veranstaltungId, vereinId);
+    }
+
+
+    @Test
+    public void refreshSchuetzenstatistikWettkampf_withLookupBeforeCommit_shouldInvalidateCacheAfterCommit() {
+        // prepare test data
+        final SchuetzenstatistikBE committedSchuetzenstatistikBE = getSchuetzenstatistikBE();
+        final SchuetzenstatistikBE refreshedSchuetzenstatistikBE = getSchuetzenstatistikBE();
+        refreshedSchuetzenstatistikBE.setPfeilpunkteSchnitt(9.1f);
+
+        // configure mocks
+        when(SchuetzenstatistikDAO.getSchuetzenstatistikWettkampf(anyLong(), anyLong()))
+                .thenReturn(Collections.singletonList(committedSchuetzenstatistikBE))
+                .thenReturn(Collections.singletonList(refreshedSchuetzenstatistikBE));
+
+        // call test method
+        underTest.refreshSchuetzenstatistikWettkampf(wettkampfId);
+        runBeforeCommitAction();
+
+        // a concurrent lookup before the commit reads and caches the committed statistics
+        final List<SchuetzenstatistikDO> beforeCommit = underTest.getSchuetzenstatistikWettkampf(wettkampfId,
+                vereinId);
+        runAfterCommitAction();
+        final List<SchuetzenstatistikDO> afterCommit = underTest.getSchuetzenstatistikWettkampf(wettkampfId,
+                vereinId);
+
+        // assert result
+        assertThat(beforeCommit.get(0).getPfeilpunkteSchnitt()).isEqualTo(pfeilpunkteSchnitt);
+        assertThat(afterCommit.get(0).getPfeilpunkteSchnitt()).isEqualTo(9.1f);
+
+        // verify invocations
+        verify(SchuetzenstatistikDAO, times(2)).getSchuetzenstatistikWettkampf(wettkampfId, vereinId);
+    }
+
+
+    @Test
+    public void refreshSchuetzenstatistikWettkampf_withLookupOnReplicaAfterCommit_shouldNotCacheOutdatedStatistics() {
+        // prepare test data
+        final SchuetzenstatistikBE outdatedSchuetzenstatistikBE = getSchuetzenstatistikBE();
+        final SchuetzenstatistikBE refreshedSchuetzenstatistikBE = getSchuetzenstatistikBE();
+        refreshedSchuetzenstatistikBE.setPfeilpunkteSchnitt(9.1f);
+        underTest = new SchuetzenstatistikComponentImpl(SchuetzenstatistikDAO,
+                new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration(), transactionManager),
+                transactionManager);
+
+        // configure mocks: the replica lags behind the primary database and returns the outdated statistics
+        when(transactionManager.isOnReplica()).thenReturn(true, false, true);
+        when(SchuetzenstatistikDAO.getSchuetzenstatistikWettkampf(anyLong(), anyLong()))
+                .thenReturn(Collections.singletonList(outdatedSchuetzenstatistikBE))
+                .thenReturn(Collections.singletonList(refreshedSchuetzenstatistikBE));
+
+        // call test method
+        underTest.refreshSchuetzenstatistikWettkampf(wettkampfId);
+        runBeforeCommitAction();
+        runAfterCommitAction();
+        final List<SchuetzenstatistikDO> onReplica = underTest.getSchuetzenstatistikWettkampf(wettkampfId,
+                vereinId);
+        final List<SchuetzenstatistikDO> onPrimary = underTest.getSchuetzenstatistikWettkampf(wettkampfId,
+                vereinId);
+        final List<SchuetzenstatistikDO> cached = underTest.getSchuetzenstatistikWettkampf(wettkampfId,
+                vereinId);
+
+        // assert result
+        assertThat(onReplica.get(0).getPfeilpunkteSchnitt()).isEqualTo(pfeilpunkteSchnitt);
+        assertThat(onPrimary.get(0).getPfeilpunkteSchnitt()).isEqualTo(9.1f);
+        assertThat(cached.get(0).getPfeilpunkteSchnitt()).isEqualTo(9.1f);
+
+        // verify invocations
+        verify(SchuetzenstatistikDAO, times(2)).getSchuetzenstatistikWettkampf(wettkampfId, vereinId);
+    }
+
+
+    @Test
+    public void refreshSchuetzenstatistikWettkampf_shouldRefreshBeforeCommit() {
+        // call test method
+        underTest.refreshSchuetzenstatistikWettkampf(wettkampfId);
+        underTest.refreshSchuetzenstatistikWettkampf(wettkampfId);
+
+        // verify invocations
+        verify(transactionManager, times(2)).beforeCommit(eq("schuetzenstatistik/wettkampf/" + wettkampfId),
+                any(Runnable.class));
+        verify(SchuetzenstatistikDAO, never()).refreshSchuetzenstatistikWettkampf(anyLong());
+        verify(transactionManager, never()).afterCommit(any(Runnable.class));
+    }
+
+
+    private void runBeforeCommitAction() {
+        final ArgumentCaptor<Runnable> actionCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        verify(transactionManager).beforeCommit(eq("schuetzenstatistik/wettkampf/" + wettkampfId),
+                actionCaptor.capture());
+        actionCaptor.getValue().run();
+        verify(SchuetzenstatistikDAO).refreshSchuetzenstatistikWettkampf(wettkampfId);
+    }
+
+
+    private void runAfterCommitAction() {
+        final ArgumentCaptor<Runnable> actionCaptor = ArgumentCaptor.forClass(Runnable.class);
+
+        verify(transactionManager).afterCommit(actionCaptor.capture());
+        actionCaptor.getValue().run();
+    }
+}
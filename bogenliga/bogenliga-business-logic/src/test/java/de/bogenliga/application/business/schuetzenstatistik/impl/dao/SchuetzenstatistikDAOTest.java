@@ -15,6 +15,8 @@ import java.util.List;
 import static de.bogenliga.application.business.schuetzenstatistik.impl.business.SchuetzenstatistikComponentImplTest.getSchuetzenstatistikBE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -105,4 +107,14 @@ public class SchuetzenstatistikDAOTest {
         // verify invocations
         verify(basicDao).selectEntityList(any(), any(), any());
     }
+
+
+    @Test
+    public void refreshSchuetzenstatistikWettkampf() {
+        // call test method
+        underTest.refreshSchuetzenstatistikWettkampf(ID);
+
+        // verify invocations
+        verify(basicDao).executeUpdate(any(), anyString(), eq(ID), eq(ID));
+    }
 }
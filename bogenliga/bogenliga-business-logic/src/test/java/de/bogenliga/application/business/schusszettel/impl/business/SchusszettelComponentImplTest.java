@@ -2,17 +2,20 @@ package de.bogenliga.application.business.schusszettel.impl.business;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
 import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import org.assertj.core.api.Assertions;
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
@@ -29,6 +32,10 @@ import de.bogenliga.application.business.vereine.impl.business.VereinComponentIm
 import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
 import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
 import de.bogenliga.application.business.wettkampf.impl.business.WettkampfComponentImplTest;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.PdfPageRenderer;
+import de.bogenliga.application.common.configuration.PdfRenderConfiguration;
 import de.bogenliga.application.common.errorhandling.exception.BusinessException;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
 
@@ -62,24 +69,32 @@ public class SchusszettelComponentImplTest {
     private MannschaftsmitgliedComponent MannschaftsmitgliedComponent;
     @Mock
     private VereinComponent vereinComponent;
+    @Mock
+    private WettkampfDokumentComponent wettkampfDokumentComponent;
 
+    @Spy
+    private PdfPageRenderer pdfPageRenderer = new PdfPageRenderer(new PdfRenderConfiguration());
 
     @InjectMocks
     private SchusszettelComponentImpl underTest;
 
+
+    @After
+    public void close() {
+        pdfPageRenderer.close();
+    }
+
     @Test
     public void getAllSchusszettelPDFasByteArray() {
         final List<MatchDO> matchDOList = getMatchesForWettkampf();
 
         WettkampfDO wettkampfDO = WettkampfComponentImplTest.getWettkampfDO();
-        DsbMannschaftDO dsbMannschaftDO = DsbMannschaftComponentImplTest.getDsbMannschaftDO();
         VereinDO vereinDO = VereinComponentImplTest.getVereinDO();
+        WettkampfDokumentContextDO contextDO = new WettkampfDokumentContextDO(wettkampfDO, matchDOList,
+                Collections.singletonMap(MANNSCHAFTSID, vereinDO.getName()));
 
         //configure Mocks
-        when(matchComponent.findByWettkampfId(anyLong())).thenReturn(matchDOList);
-        when(wettkampfComponent.findById(anyLong())).thenReturn(wettkampfDO);
-        when(dsbMannschaftComponent.findById(anyLong())).thenReturn(dsbMannschaftDO);
-        when(vereinComponent.findById(anyLong())).thenReturn(vereinDO);
+        when(wettkampfDokumentComponent.getContext(anyLong())).thenReturn(contextDO);
 
 
         //call test method
@@ -89,28 +104,18 @@ public class SchusszettelComponentImplTest {
         Assertions.assertThat(actual).isNotEmpty();
 
         //verify invocations
-        verify(matchComponent).findByWettkampfId(anyLong());
+        verify(wettkampfDokumentComponent).getContext(WETTKAMPFID);
+        // all pages use the loaded wettkampf and team names
+        verifyZeroInteractions(matchComponent, wettkampfComponent, dsbMannschaftComponent, vereinComponent);
     }
 
     @Test
     public void getAllSchusszettelPDFasByteArray_ShouldThrowException() {
         final String PRECONDITION_WETTKAMPFID = "wettkampfid cannot be negative";
 
-        final List<MatchDO> matchDOList = getMatchesForWettkampf();
-
-        WettkampfDO wettkampfDO = WettkampfComponentImplTest.getWettkampfDO();
-        DsbMannschaftDO dsbMannschaftDO = DsbMannschaftComponentImplTest.getDsbMannschaftDO();
-        VereinDO vereinDO = VereinComponentImplTest.getVereinDO();
-
-        when(wettkampfComponent.findById(anyLong())).thenReturn(wettkampfDO);
-        when(dsbMannschaftComponent.findById(anyLong())).thenReturn(dsbMannschaftDO);
-        when(vereinComponent.findById(anyLong())).thenReturn(vereinDO);
-
         thrown.expect(BusinessException.class);
         thrown.expectMessage(PRECONDITION_WETTKAMPFID);
 
-        when(matchComponent.findByWettkampfId(anyLong())).thenReturn(matchDOList);
-
         underTest.getAllSchusszettelPDFasByteArray(WETTKAMPFID_FALSE);
 
     }
@@ -122,7 +127,8 @@ public class SchusszettelComponentImplTest {
         thrown.expect(BusinessException.class);
         thrown.expectMessage(ELSE_CONDITION_WETTKAMPFID);
 
-        when(matchComponent.findByWettkampfId(anyLong())).thenReturn(lokaleListe);
+        when(wettkampfDokumentComponent.getContext(anyLong())).thenReturn(new WettkampfDokumentContextDO(
+                WettkampfComponentImplTest.getWettkampfDO(), lokaleListe, Collections.emptyMap()));
 
         underTest.getAllSchusszettelPDFasByteArray(WETTKAMPFID);
 
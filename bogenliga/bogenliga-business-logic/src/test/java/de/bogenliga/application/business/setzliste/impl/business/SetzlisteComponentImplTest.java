@@ -1,6 +1,8 @@
 package de.bogenliga.application.business.setzliste.impl.business;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import org.assertj.core.api.Assertions;
 import org.junit.Rule;
@@ -77,8 +79,16 @@ public class SetzlisteComponentImplTest {
         when(SetzlisteDAO.getTableByWettkampfID(WETTKAMPFID)).thenReturn(setzlisteBEList);
         when(wettkampfComponent.findById(setzlisteBEList.get(0).getWettkampfid())).thenReturn(wettkampfDO);
         when(veranstaltungComponent.findById(wettkampfDO.getWettkampfVeranstaltungsId())).thenReturn(veranstaltungDO);
-        when(dsbMannschaftComponent.findById(anyLong())).thenReturn(dsbMannschaftDO);
-        when(vereinComponent.findById(anyLong())).thenReturn(vereinDO);
+        when(dsbMannschaftComponent.findByIds(anyCollection())).thenAnswer(invocation -> {
+            final List<DsbMannschaftDO> mannschaften = new ArrayList<>();
+            for (Object id : (Collection<?>) invocation.getArgument(0)) {
+                mannschaften.add(new DsbMannschaftDO((Long) id, dsbMannschaftDO.getName(), vereinDO.getId(),
+                        dsbMannschaftDO.getNummer(), dsbMannschaftDO.getBenutzerId(),
+                        dsbMannschaftDO.getVeranstaltungId(), dsbMannschaftDO.getSortierung()));
+            }
+            return mannschaften;
+        });
+        when(vereinComponent.findByIds(anyCollection())).thenReturn(Collections.singletonList(vereinDO));
 
         //call test method
         final byte[] actual = underTest.getPDFasByteArray(WETTKAMPFID);
@@ -88,6 +98,11 @@ public class SetzlisteComponentImplTest {
 
         //verify invocations
         verify(SetzlisteDAO).getTableByWettkampfID(WETTKAMPFID);
+        // the names of all teams are loaded with one query each
+        verify(dsbMannschaftComponent).findByIds(anyCollection());
+        verify(vereinComponent).findByIds(anyCollection());
+        verify(dsbMannschaftComponent, never()).findById(anyLong());
+        verify(vereinComponent, never()).findById(anyLong());
     }
 
     @Test(expected = BusinessException.class)
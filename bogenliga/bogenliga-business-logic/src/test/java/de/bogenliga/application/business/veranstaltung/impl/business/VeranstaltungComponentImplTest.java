@@ -1,6 +1,7 @@
 package de.bogenliga.application.business.veranstaltung.impl.business;
 
 import java.sql.Date;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -163,6 +164,32 @@ public class VeranstaltungComponentImplTest {
     }
 
 
+    @Test
+    public void findAll_withSameLiga_shouldReadNamesOnce() {
+        // prepare test data
+        final List<VeranstaltungBE> expectedVeranstaltungBEList = Arrays.asList(getVeranstaltungBE(),
+                getVeranstaltungBE());
+
+        // configure mocks
+        when(veranstaltungDAO.findAll()).thenReturn(expectedVeranstaltungBEList);
+        when(ligaComponent.findById(anyLong())).thenReturn(getLigaDO());
+        when(wettkampfTypComponent.findById(anyLong())).thenReturn(getWettkampfTypDO());
+        when(userComponent.findById(anyLong())).thenReturn(getUserDO());
+
+        // call test method
+        final List<VeranstaltungDO> actual = underTest.findAll();
+
+        // assert result
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(1).getVeranstaltungLigaName()).isEqualTo(getLigaDO().getName());
+
+        // verify invocations
+        verify(ligaComponent, times(1)).findById(VERANSTALTUNG_LIGA_ID);
+        verify(wettkampfTypComponent, times(1)).findById(VERANSTALTUNG_WETTKAMPFTYP_ID);
+        verify(userComponent, times(1)).findById(VERANSTALTUNG_LIGALEITER_ID);
+    }
+
+
     //TODO Fix
    @Test
     public void findAll() {
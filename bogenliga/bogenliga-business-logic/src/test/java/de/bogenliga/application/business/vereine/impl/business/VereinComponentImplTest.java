@@ -6,12 +6,16 @@ import de.bogenliga.application.business.regionen.api.types.RegionenDO;
 import de.bogenliga.application.business.vereine.api.types.VereinDO;
 import de.bogenliga.application.business.vereine.impl.dao.VereinDAO;
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
+import de.bogenliga.application.common.cache.ReferenceDataCacheManager;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import de.bogenliga.application.common.database.tx.TransactionManager;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
@@ -54,6 +58,11 @@ public class VereinComponentImplTest {
     private VereinDAO vereinDAO;
     @Mock
     private RegionenComponent regionenComponent;
+    @Mock
+    private TransactionManager transactionManager;
+    @Spy
+    private ReferenceDataCacheManager referenceDataCacheManager =
+            new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration());
     @InjectMocks
     private VereinComponentImpl underTest;
     @Captor
@@ -224,6 +233,30 @@ public class VereinComponentImplTest {
         verify(regionenComponent).findById(expectedBE.getVereinRegionId());
     }
 
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final VereinBE expectedBE = getVereinBE();
+        final RegionenDO regionenDO = getRegionenDO();
+        final List<Long> vereinIds = Collections.singletonList(VEREIN_ID);
+
+        // configure mocks
+        when(vereinDAO.findByIds(vereinIds)).thenReturn(Collections.singletonList(expectedBE));
+        when(regionenComponent.findAll()).thenReturn(Collections.singletonList(regionenDO));
+
+        // call test method
+        final List<VereinDO> actual = underTest.findByIds(vereinIds);
+
+        // assert result
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getId()).isEqualTo(expectedBE.getVereinId());
+        assertThat(actual.get(0).getRegionName()).isEqualTo(regionenDO.getRegionName());
+
+        // verify invocations
+        verify(vereinDAO).findByIds(vereinIds);
+        verify(regionenComponent).findAll();
+    }
+
     @Test
     public void update() {
         // prepare test data
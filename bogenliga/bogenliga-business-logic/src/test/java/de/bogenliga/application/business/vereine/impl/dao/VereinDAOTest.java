@@ -2,6 +2,7 @@ package de.bogenliga.application.business.vereine.impl.dao;
 
 import de.bogenliga.application.business.vereine.impl.entity.VereinBE;
 import de.bogenliga.application.common.component.dao.BasicDAO;
+import de.bogenliga.application.common.database.queries.SearchQuery;
 import org.junit.Rule;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -99,7 +100,9 @@ public class VereinDAOTest {
                 .isEqualTo(expectedBE.getVereinName());
 
         // verify invocations
-        verify(basicDao).selectEntityList(any(), any(), any());
+        final String term = expectedBE.getVereinName().toLowerCase();
+        verify(basicDao).selectEntityList(any(), contains("<%"), eq("%" + term + "%"), eq(term),
+                eq("%" + term + "%"), eq(term), eq(term), eq(term), eq(SearchQuery.RESULT_LIMIT));
     }
 
     @Test
@@ -127,6 +130,25 @@ public class VereinDAOTest {
         verify(basicDao).selectSingleEntity(any(), any(), any());
     }
 
+    @Test
+    public void findByIds() {
+        // prepare test data
+        final VereinBE expectedBE = getVereinBE();
+        final List<Long> vereinIds = Collections.singletonList(VEREIN_ID);
+
+        // configure mocks
+        when(basicDao.selectEntityListByIds(any(), any(), eq(vereinIds))).thenReturn(Collections.singletonList(expectedBE));
+
+        // call test method
+        final List<VereinBE> actual = underTest.findByIds(vereinIds);
+
+        // assert result
+        assertThat(actual).containsExactly(expectedBE);
+
+        // verify invocations
+        verify(basicDao).selectEntityListByIds(any(), any(), eq(vereinIds));
+    }
+
     @Test
     public void create() {
         // prepare test data
@@ -7,6 +7,7 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.sql.Date;
@@ -23,14 +24,22 @@ import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
 import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
 import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
+import de.bogenliga.application.business.dsbmitglied.api.DsbMitgliedComponent;
+import de.bogenliga.application.business.dsbmitglied.api.types.DsbMitgliedDO;
+import de.bogenliga.application.business.liga.api.LigaComponent;
+import de.bogenliga.application.business.liga.api.types.LigaDO;
 import de.bogenliga.application.business.ligatabelle.api.LigatabelleComponent;
 import de.bogenliga.application.business.ligatabelle.api.types.LigatabelleDO;
+import de.bogenliga.application.business.mannschaftsmitglied.api.MannschaftsmitgliedComponent;
+import de.bogenliga.application.business.mannschaftsmitglied.api.types.MannschaftsmitgliedDO;
 import de.bogenliga.application.business.mannschaftsmitglied.impl.dao.MannschaftsmitgliedDAO;
 import de.bogenliga.application.business.mannschaftsmitglied.impl.entity.MannschaftsmitgliedExtendedBE;
 import de.bogenliga.application.business.match.api.MatchComponent;
 import de.bogenliga.application.business.match.api.types.MatchDO;
 import de.bogenliga.application.business.passe.api.PasseComponent;
 import de.bogenliga.application.business.passe.api.types.PasseDO;
+import de.bogenliga.application.business.veranstaltung.api.VeranstaltungComponent;
+import de.bogenliga.application.business.veranstaltung.api.types.VeranstaltungDO;
 import de.bogenliga.application.business.veranstaltung.impl.dao.VeranstaltungDAO;
 import de.bogenliga.application.business.veranstaltung.impl.entity.VeranstaltungBE;
 import de.bogenliga.application.business.vereine.api.VereinComponent;
@@ -96,6 +105,14 @@ public class WettkampfComponentImplTest {
     private MatchComponent matchComponent;
     @Mock
     private LigatabelleComponent ligatabelleComponent;
+    @Mock
+    private LigaComponent ligaComponent;
+    @Mock
+    private DsbMitgliedComponent dsbMitgliedComponent;
+    @Mock
+    private MannschaftsmitgliedComponent mannschaftsmitgliedComponent;
+    @Mock
+    private VeranstaltungComponent veranstaltungComponent;
     @InjectMocks
     private WettkampfComponentImpl underTest;
     @Captor
@@ -541,6 +558,61 @@ public class WettkampfComponentImplTest {
         Assertions.assertThat(actual).isEqualTo(8.5f);
     }
 
+    @Test
+    public void getAllowedMitgliederList_shouldLoadMitgliederAndPassenOnce() {
+        // prepare test data
+        final long schuetzeAmWettkampftag = 101L;
+        final long schuetze = 102L;
+        final long wettkampfAmWettkampftag = 400L;
+
+        final WettkampfBE andererWettkampfAmWettkampftag = getWettkampfBE();
+        andererWettkampfAmWettkampftag.setId(wettkampfAmWettkampftag);
+        final WettkampfBE wettkampfAnderemTag = getWettkampfBE();
+        wettkampfAnderemTag.setId(500L);
+        wettkampfAnderemTag.setWettkampfTag(3L);
+
+        final VeranstaltungDO veranstaltung = new VeranstaltungDO(wettkampf_Veranstaltung_Id);
+        veranstaltung.setVeranstaltungSportJahr(2019L);
+        veranstaltung.setVeranstaltungLigaID(1L);
+
+        final List<MannschaftsmitgliedDO> mannschaftsmitglieder = Arrays.asList(
+                new MannschaftsmitgliedDO(1L, mannschaft_id, schuetzeAmWettkampftag, 1, null, null, 1L),
+                new MannschaftsmitgliedDO(2L, mannschaft_id, schuetze, 1, null, null, 2L));
+        final PasseDO passeAmWettkampftag = new PasseDO(null, mannschaft_id, wettkampfAmWettkampftag, 1L, null, 1L,
+                schuetzeAmWettkampftag, PFEIL1, PFEIL2, null, null, null, null);
+
+        // configure mocks
+        when(ligaComponent.findAll()).thenReturn(Collections.singletonList(new LigaDO(1L)));
+        when(wettkampfDAO.findById(wettkampf_Id)).thenReturn(getWettkampfBE());
+        when(wettkampfDAO.findAllWettkaempfeByMannschaftsId(mannschaft_id)).thenReturn(
+                Arrays.asList(getWettkampfBE(), andererWettkampfAmWettkampftag, wettkampfAnderemTag));
+        when(veranstaltungComponent.findById(wettkampf_Veranstaltung_Id)).thenReturn(veranstaltung);
+        when(dsbMitgliedComponent.findByIds(anyCollection())).thenReturn(
+                Arrays.asList(new DsbMitgliedDO(schuetzeAmWettkampftag), new DsbMitgliedDO(schuetze)));
+        when(mannschaftsmitgliedComponent.findByMemberIds(anyCollection())).thenReturn(mannschaftsmitglieder);
+        when(passeComponent.findByWettkampfIdsAndMitgliedIds(anyCollection(), anyCollection()))
+                .thenReturn(Collections.singletonList(passeAmWettkampftag));
+        underTest.setVeranstaltungComponent(veranstaltungComponent);
+
+        // call test method
+        final List<Long> actual = underTest.getAllowedMitgliederList(mannschaftsmitglieder, new ArrayList<>(),
+                wettkampf_Id);
+
+        // assert result
+        assertThat(actual).containsExactly(schuetze);
+
+        // verify invocations
+        final List<Long> mitgliedIds = Arrays.asList(schuetzeAmWettkampftag, schuetze);
+        verify(dsbMitgliedComponent).findByIds(mitgliedIds);
+        verify(mannschaftsmitgliedComponent).findByMemberIds(mitgliedIds);
+        verify(passeComponent).findByWettkampfIdsAndMitgliedIds(
+                new HashSet<>(Arrays.asList(wettkampf_Id, wettkampfAmWettkampftag)), mitgliedIds);
+        verify(wettkampfDAO).findAllWettkaempfeByMannschaftsId(mannschaft_id);
+        verify(dsbMitgliedComponent, never()).findById(anyLong());
+        verify(mannschaftsmitgliedComponent, never()).findByMemberId(anyLong());
+        verify(passeComponent, never()).findByWettkampfIdAndMitgliedId(anyLong(), anyLong());
+    }
+
     @Test
     public void testEinzelstatistik() throws IOException
     {
@@ -559,6 +631,10 @@ public class WettkampfComponentImplTest {
 
             prepare2ndMocksForPDFTest();
         }
+
+        // the passen of all wettkaempfe are loaded once per pdf
+        verify(passeComponent, times(2)).findByMannschaftsmitgliederInWettkaempfen(mannschaft_id);
+        verify(passeComponent, never()).findByWettkampfIdAndMitgliedId(anyLong(), anyLong());
     }
 
     @Test
@@ -597,12 +673,23 @@ public class WettkampfComponentImplTest {
         when(veranstaltungDAO.findById(anyLong())).thenReturn(getVeranstaltungBE());
         when(mannschaftsmitgliedDAO.findAllSchuetzeInTeamEingesetzt(anyLong())).thenReturn(Arrays.asList(exampleMitglied));
         when(dsbManschaftComponent.findById(anyLong())).thenReturn(getDsbMannschaftDO());
-        when(passeComponent.findByWettkampfIdAndMitgliedId(anyLong(),anyLong())).thenReturn(getPassenDO());
+        when(passeComponent.findByMannschaftsmitgliederInWettkaempfen(anyLong())).thenReturn(getPassenDOOfMitglied(exampleMitglied));
         when(vereinComponent.findById(anyLong())).thenReturn(getVereinDO());
     }
     private void prepare2ndMocksForPDFTest()
     {
-        when(passeComponent.findByWettkampfIdAndMitgliedId(anyLong(),anyLong())).thenReturn(new ArrayList());
+        when(passeComponent.findByMannschaftsmitgliederInWettkaempfen(anyLong())).thenReturn(new ArrayList());
+    }
+
+    private static List<PasseDO> getPassenDOOfMitglied(MannschaftsmitgliedExtendedBE mitglied)
+    {
+        List<PasseDO> passen = getPassenDO();
+        for(PasseDO passe : passen)
+        {
+            passe.setPasseWettkampfId(wettkampf_Id);
+            passe.setPasseDsbMitgliedId(mitglied.getDsbMitgliedId());
+        }
+        return passen;
     }
 
     @Test
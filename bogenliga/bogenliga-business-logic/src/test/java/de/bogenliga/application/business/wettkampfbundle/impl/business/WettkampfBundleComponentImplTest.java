@@ -0,0 +1,328 @@
+package de.bogenliga.application.business.wettkampfbundle.impl.business;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.stubbing.Answer;
+import de.bogenliga.application.business.bogenkontrollliste.api.BogenkontrolllisteComponent;
+import de.bogenliga.application.business.lizenz.api.LizenzComponent;
+import de.bogenliga.application.business.meldezettel.api.MeldezettelComponent;
+import de.bogenliga.application.business.rueckennummern.api.RueckennummernComponent;
+import de.bogenliga.application.business.schusszettel.api.SchusszettelComponent;
+import de.bogenliga.application.business.setzliste.api.SetzlisteComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.WettkampfDokumentComponent;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.business.wettkampfdokument.impl.business.WettkampfDokumentComponentImplTest;
+import de.bogenliga.application.common.configuration.PdfRenderConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WettkampfBundleComponentImplTest {
+
+    private static final WettkampfDokumentContextDO CONTEXT =
+            WettkampfDokumentComponentImplTest.getWettkampfDokumentContextDO();
+    private static final long WETTKAMPFID = CONTEXT.getWettkampf().getId();
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private WettkampfDokumentComponent wettkampfDokumentComponent;
+    @Mock
+    private SetzlisteComponent setzlisteComponent;
+    @Mock
+    private SchusszettelComponent schusszettelComponent;
+    @Mock
+    private MeldezettelComponent meldezettelComponent;
+    @Mock
+    private BogenkontrolllisteComponent bogenkontrolllisteComponent;
+    @Mock
+    private RueckennummernComponent rueckennummernComponent;
+    @Mock
+    private LizenzComponent lizenzComponent;
+
+    private WettkampfBundleComponentImpl underTest;
+
+
+    /**
+     * writes the given text as document into the output stream, which is the argument at the given index
+     */
+    private static Answer<Void> writeDocument(final int outputStreamIndex, final String text) {
+        return invocation -> {
+            ((OutputStream) invocation.getArgument(outputStreamIndex)).write(text.getBytes(StandardCharsets.UTF_8));
+            return null;
+        };
+    }
+
+
+    private static Map<String, String> getEntries(final byte[] archive) throws IOException {
+        final Map<String, String> result = new LinkedHashMap<>();
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                final ByteArrayOutputStream content = new ByteArrayOutputStream();
+                final byte[] buffer = new byte[1024];
+                int length;
+                while ((length = zipInputStream.read(buffer)) > 0) {
+                    content.write(buffer, 0, length);
+                }
+                result.put(entry.getName(), new String(content.toByteArray(), StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+
+
+    @Before
+    public void initUnderTest() {
+        final PdfRenderConfiguration pdfRenderConfiguration = new PdfRenderConfiguration();
+        pdfRenderConfiguration.setBundleParallelism(2);
+        underTest = new WettkampfBundleComponentImpl(wettkampfDokumentComponent, setzlisteComponent,
+                schusszettelComponent, meldezettelComponent, bogenkontrolllisteComponent, rueckennummernComponent,
+                lizenzComponent, pdfRenderConfiguration);
+    }
+
+
+    @After
+    public void close() {
+        underTest.close();
+    }
+
+
+    @Test
+    public void writeWettkampfBundle() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        // configure mocks
+        when(wettkampfDokumentComponent.getContext(WETTKAMPFID)).thenReturn(CONTEXT);
+        doAnswer(writeDocument(1, "Setzliste")).when(setzlisteComponent).writePDF(eq(WETTKAMPFID), any());
+        doAnswer(writeDocument(1, "Schusszettel")).when(schusszettelComponent)
+                .writeAllSchusszettelPDF(eq(CONTEXT), any());
+        doAnswer(writeDocument(1, "Meldezettel")).when(meldezettelComponent)
+                .writeMeldezettelPDF(eq(CONTEXT), any());
+        doAnswer(writeDocument(1, "Bogenkontrollliste")).when(bogenkontrolllisteComponent)
+                .writeBogenkontrolllistePDF(eq(CONTEXT), any());
+        doAnswer(writeDocument(1, "Rueckennummern")).when(rueckennummernComponent)
+                .writeMannschaftsRueckennummernPDF(anyLong(), any());
+        doAnswer(writeDocument(1, "Lizenzen")).when(lizenzComponent)
+                .writeMannschaftsLizenzenPDF(anyLong(), any());
+
+        // call test method
+        underTest.writeWettkampfBundle(WETTKAMPFID, result);
+
+        // assert result
+        final Map<String, String> actual = getEntries(result.toByteArray());
+
+        assertThat(actual).hasSize(4 + 2 * 8);
+        assertThat(actual.keySet()).startsWith("setzliste.pdf", "schusszettel.pdf", "meldezettel.pdf",
+                "bogenkontrollliste.pdf", "rueckennummern/Verein 1_1.pdf", "lizenzen/Verein 1_1.pdf");
+        assertThat(actual).containsEntry("schusszettel.pdf", "Schusszettel")
+                .containsEntry("lizenzen/Verein 8_8.pdf", "Lizenzen")
+                .doesNotContainKey(WettkampfBundleComponentImpl.ERROR_REPORT);
+
+        // verify invocations
+        verify(wettkampfDokumentComponent).getContext(WETTKAMPFID);
+        verify(rueckennummernComponent, times(8)).writeMannschaftsRueckennummernPDF(anyLong(), any());
+        verify(lizenzComponent).writeMannschaftsLizenzenPDF(eq(8L), any());
+    }
+
+
+    @Test
+    public void writeWettkampfBundle_shouldWriteEachDocumentWhenItIsGenerated() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final AtomicInteger archiveSizeBeforeLastDocument = new AtomicInteger();
+
+        // configure mocks
+        doAnswer(writeDocument(1, "Setzliste")).when(setzlisteComponent).writePDF(eq(WETTKAMPFID), any());
+        doAnswer(writeDocument(1, "Lizenzen")).when(lizenzComponent)
+                .writeMannschaftsLizenzenPDF(anyLong(), any());
+        doAnswer(invocation -> {
+            archiveSizeBeforeLastDocument.set(result.size());
+            return writeDocument(1, "Lizenzen").answer(invocation);
+        }).when(lizenzComponent).writeMannschaftsLizenzenPDF(eq(8L), any());
+
+        // call test method
+        underTest.writeWettkampfBundle(CONTEXT, result);
+
+        // assert result
+        assertThat(archiveSizeBeforeLastDocument.get()).isPositive();
+        assertThat(getEntries(result.toByteArray())).hasSize(4 + 2 * 8)
+                .containsEntry("setzliste.pdf", "Setzliste")
+                .containsEntry("lizenzen/Verein 8_8.pdf", "Lizenzen");
+    }
+
+
+    @Test
+    public void writeWettkampfBundle_withFullQueue_shouldGenerateDocumentsOnCallingThread() throws Exception {
+        // prepare test data
+        final PdfRenderConfiguration pdfRenderConfiguration = new PdfRenderConfiguration();
+        pdfRenderConfiguration.setBundleParallelism(1);
+        pdfRenderConfiguration.setBundleQueueCapacity(1);
+        underTest.close();
+        underTest = new WettkampfBundleComponentImpl(wettkampfDokumentComponent, setzlisteComponent,
+                schusszettelComponent, meldezettelComponent, bogenkontrolllisteComponent, rueckennummernComponent,
+                lizenzComponent, pdfRenderConfiguration);
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> setzlisteThreads = new CopyOnWriteArrayList<>();
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        // configure mocks: the first Setzliste blocks the only bundle thread
+        doAnswer(invocation -> {
+            setzlisteThreads.add(Thread.currentThread().getName());
+            if (Thread.currentThread().getName().startsWith("pdf-bundle")) {
+                started.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+            return writeDocument(1, "Setzliste").answer(invocation);
+        }).when(setzlisteComponent).writePDF(eq(WETTKAMPFID), any());
+
+        // call test method
+        final Thread blockingBundle = new Thread(
+                () -> underTest.writeWettkampfBundle(CONTEXT, new ByteArrayOutputStream()));
+        blockingBundle.start();
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // the Setzliste of the second bundle waits in the queue
+        final Thread queuedBundle = new Thread(
+                () -> underTest.writeWettkampfBundle(CONTEXT, new ByteArrayOutputStream()));
+        queuedBundle.start();
+        while (queuedBundle.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+
+        underTest.writeWettkampfBundle(CONTEXT, result);
+        release.countDown();
+        blockingBundle.join(10000);
+        queuedBundle.join(10000);
+
+        // assert result
+        assertThat(getEntries(result.toByteArray())).hasSize(4 + 2 * 8)
+                .containsEntry("setzliste.pdf", "Setzliste");
+        assertThat(setzlisteThreads).hasSize(3)
+                .contains(Thread.currentThread().getName());
+    }
+
+
+    @Test
+    public void writeWettkampfBundle_withSameMannschaftsNames_shouldUseUniqueFileNames() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        final Map<Long, String> mannschaftsNamen = new HashMap<>();
+        for (long mannschaftId = 1; mannschaftId <= 8; mannschaftId++) {
+            mannschaftsNamen.put(mannschaftId, "Verein");
+        }
+        final WettkampfDokumentContextDO context = new WettkampfDokumentContextDO(CONTEXT.getWettkampf(),
+                CONTEXT.getMatches(), mannschaftsNamen);
+
+        // configure mocks
+        doAnswer(writeDocument(1, "Rueckennummern")).when(rueckennummernComponent)
+                .writeMannschaftsRueckennummernPDF(anyLong(), any());
+        doAnswer(writeDocument(1, "Lizenzen")).when(lizenzComponent)
+                .writeMannschaftsLizenzenPDF(anyLong(), any());
+
+        // call test method
+        underTest.writeWettkampfBundle(context, result);
+
+        // assert result
+        final Map<String, String> actual = getEntries(result.toByteArray());
+
+        assertThat(actual).hasSize(4 + 2 * 8)
+                .containsKeys("rueckennummern/Verein_1.pdf", "rueckennummern/Verein_8.pdf", "lizenzen/Verein_2.pdf");
+    }
+
+
+    @Test
+    public void writeWettkampfBundle_withFailingMannschaftsDocument_shouldReportError() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        // configure mocks
+        when(wettkampfDokumentComponent.getContext(WETTKAMPFID)).thenReturn(CONTEXT);
+        doAnswer(writeDocument(1, "Setzliste")).when(setzlisteComponent).writePDF(eq(WETTKAMPFID), any());
+        doAnswer(writeDocument(1, "Rueckennummern")).when(rueckennummernComponent)
+                .writeMannschaftsRueckennummernPDF(anyLong(), any());
+        doThrow(new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Document has no pages"))
+                .when(rueckennummernComponent).writeMannschaftsRueckennummernPDF(eq(3L), any());
+        doAnswer(writeDocument(1, "Lizenzen")).when(lizenzComponent)
+                .writeMannschaftsLizenzenPDF(anyLong(), any());
+        doThrow(new NullPointerException())
+                .when(lizenzComponent).writeMannschaftsLizenzenPDF(eq(5L), any());
+
+        // call test method
+        underTest.writeWettkampfBundle(WETTKAMPFID, result);
+
+        // assert result
+        final Map<String, String> actual = getEntries(result.toByteArray());
+
+        // the failed documents are skipped and reported at the end of the archive
+        assertThat(actual).hasSize(4 + 2 * 8 - 2 + 1)
+                .containsEntry("setzliste.pdf", "Setzliste")
+                .containsEntry("lizenzen/Verein 3_3.pdf", "Lizenzen")
+                .containsEntry("rueckennummern/Verein 5_5.pdf", "Rueckennummern")
+                .doesNotContainKeys("rueckennummern/Verein 3_3.pdf", "lizenzen/Verein 5_5.pdf");
+        assertThat(actual.keySet()).endsWith(WettkampfBundleComponentImpl.ERROR_REPORT);
+        assertThat(actual.get(WettkampfBundleComponentImpl.ERROR_REPORT))
+                .contains("rueckennummern/Verein 3_3.pdf", "Document has no pages")
+                .contains("lizenzen/Verein 5_5.pdf", "NullPointerException");
+    }
+
+
+    @Test
+    public void writeWettkampfBundle_withFailingDocument_shouldThrowException() {
+        // prepare test data
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+
+        // configure mocks
+        when(wettkampfDokumentComponent.getContext(WETTKAMPFID)).thenReturn(CONTEXT);
+        doThrow(new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Setzliste fehlt"))
+                .when(setzlisteComponent).writePDF(eq(WETTKAMPFID), any());
+
+        // call test method
+        assertThatThrownBy(() -> underTest.writeWettkampfBundle(WETTKAMPFID, result))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Setzliste fehlt");
+
+        // assert result: the Setzliste is the first entry, so no entry is written
+        assertThat(result.toByteArray()).isEmpty();
+    }
+
+
+    @Test
+    public void writeWettkampfBundle_withNegativeId_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.writeWettkampfBundle(-1, new ByteArrayOutputStream()))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package de.bogenliga.application.business.wettkampfdokument.impl.business;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import de.bogenliga.application.common.configuration.PdfRenderConfiguration;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PdfPageRendererTest {
+
+    private static final List<String> PAGES = Arrays.asList("Seite 1", "Seite 2", "Seite 3", "Seite 4", "Seite 5");
+
+    private final PdfPageRenderer underTest = new PdfPageRenderer(getPdfRenderConfiguration());
+
+
+    private static PdfRenderConfiguration getPdfRenderConfiguration() {
+        final PdfRenderConfiguration pdfRenderConfiguration = new PdfRenderConfiguration();
+        pdfRenderConfiguration.setParallelism(2);
+        return pdfRenderConfiguration;
+    }
+
+
+    private static List<String> getPageTexts(final byte[] document) throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            final String[] result = new String[pdfDocument.getNumberOfPages()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i + 1)).trim();
+            }
+            return Arrays.asList(result);
+        }
+    }
+
+
+    private void writeDocument(final List<String> pages, final ByteArrayOutputStream out) {
+        underTest.writeDocument(pages, PdfPageRendererTest::writePages, out);
+    }
+
+
+    private static void writePages(final Document doc, final List<String> group) {
+        for (int i = 0; i < group.size(); i++) {
+            if (i > 0) {
+                doc.add(new AreaBreak());
+            }
+            doc.add(new Paragraph(group.get(i)));
+        }
+    }
+
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+
+    @After
+    public void close() {
+        underTest.close();
+    }
+
+
+    @Test
+    public void writeDocument() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // call test method
+        writeDocument(PAGES, out);
+
+        // assert result
+        assertThat(getPageTexts(out.toByteArray())).containsExactlyElementsOf(PAGES);
+    }
+
+
+    @Test
+    public void writeDocument_withSinglePage() throws IOException {
+        // prepare test data
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // call test method
+        writeDocument(Collections.singletonList("Seite 1"), out);
+
+        // assert result
+        assertThat(getPageTexts(out.toByteArray())).containsExactly("Seite 1");
+    }
+
+
+    @Test
+    public void writeDocument_withFullQueue_shouldRenderOnCallingThread() throws Exception {
+        // prepare test data
+        final PdfRenderConfiguration pdfRenderConfiguration = getPdfRenderConfiguration();
+        pdfRenderConfiguration.setQueueCapacity(1);
+        final PdfPageRenderer renderer = new PdfPageRenderer(pdfRenderConfiguration);
+        final CountDownLatch busy = new CountDownLatch(2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<String> threads = new CopyOnWriteArrayList<>();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // a concurrent download blocks both render threads
+        final Thread concurrentDownload = new Thread(() -> renderer.writeDocument(PAGES, (doc, group) -> {
+            busy.countDown();
+            await(release);
+            writePages(doc, group);
+        }, new ByteArrayOutputStream()));
+        concurrentDownload.start();
+        await(busy);
+
+        try {
+            // call test method: the first group fills the queue, the second group is rendered by this thread
+            renderer.writeDocument(PAGES, (doc, group) -> {
+                threads.add(Thread.currentThread().getName());
+                release.countDown();
+                writePages(doc, group);
+            }, out);
+            concurrentDownload.join(10000);
+
+        } finally {
+            release.countDown();
+            renderer.close();
+        }
+
+        // assert result
+        assertThat(getPageTexts(out.toByteArray())).containsExactlyElementsOf(PAGES);
+        assertThat(threads).contains(Thread.currentThread().getName());
+        assertThat(concurrentDownload.isAlive()).isFalse();
+    }
+
+
+    @Test
+    public void writeDocument_withFailingPage_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.writeDocument(PAGES, (doc, group) -> {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND_ERROR, "Seite fehlt");
+        }, new ByteArrayOutputStream()))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Seite fehlt");
+    }
+
+
+    @Test
+    public void getGroups() {
+        // call test method
+        final List<List<String>> actual = underTest.getGroups(PAGES);
+
+        // assert result
+        assertThat(actual).containsExactly(PAGES.subList(0, 2), PAGES.subList(2, 5));
+        assertThat(underTest.getGroups(Collections.emptyList())).isEmpty();
+    }
+}
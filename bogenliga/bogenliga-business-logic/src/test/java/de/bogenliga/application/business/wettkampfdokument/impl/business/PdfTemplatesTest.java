@@ -0,0 +1,66 @@
+package de.bogenliga.application.business.wettkampfdokument.impl.business;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Div;
+import com.itextpdf.layout.element.Image;
+import com.itextpdf.layout.element.Paragraph;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PdfTemplatesTest {
+
+    private static final String TEMPLATE = "test.template";
+    private static final float WIDTH = 200.0F;
+    private static final float HEIGHT = 50.0F;
+
+    private final Document doc = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())),
+            PageSize.A4);
+    private final AtomicInteger createdContents = new AtomicInteger();
+
+    private final PdfTemplates underTest = new PdfTemplates(doc);
+
+
+    private Div createContent() {
+        createdContents.incrementAndGet();
+        return new Div().setHeight(HEIGHT).add(new Paragraph("Statischer Inhalt"));
+    }
+
+
+    @After
+    public void close() {
+        doc.close();
+    }
+
+
+    @Test
+    public void getTemplate() {
+        // call test method
+        final Image actual = underTest.getTemplate(TEMPLATE, WIDTH, this::createContent);
+        doc.add(actual);
+
+        // assert result
+        assertThat(actual.getImageWidth()).isEqualTo(WIDTH);
+        assertThat(actual.getImageHeight()).isEqualTo(HEIGHT);
+        // the content is measured and drawn once
+        assertThat(createdContents.get()).isEqualTo(2);
+    }
+
+
+    @Test
+    public void getTemplate_shouldReuseForm() {
+        // call test method
+        final Image first = underTest.getTemplate(TEMPLATE, WIDTH, this::createContent);
+        final Image second = underTest.getTemplate(TEMPLATE, WIDTH, this::createContent);
+        doc.add(first).add(second);
+
+        // assert result
+        assertThat(second.getXObject()).isSameAs(first.getXObject());
+        assertThat(createdContents.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,157 @@
+package de.bogenliga.application.business.wettkampfdokument.impl.business;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.business.dsbmannschaft.api.DsbMannschaftComponent;
+import de.bogenliga.application.business.dsbmannschaft.api.types.DsbMannschaftDO;
+import de.bogenliga.application.business.match.api.MatchComponent;
+import de.bogenliga.application.business.match.api.types.MatchDO;
+import de.bogenliga.application.business.match.impl.business.MatchComponentImplTest;
+import de.bogenliga.application.business.vereine.api.VereinComponent;
+import de.bogenliga.application.business.vereine.api.types.VereinDO;
+import de.bogenliga.application.business.vereine.impl.business.VereinComponentImplTest;
+import de.bogenliga.application.business.wettkampf.api.WettkampfComponent;
+import de.bogenliga.application.business.wettkampf.api.types.WettkampfDO;
+import de.bogenliga.application.business.wettkampf.impl.business.WettkampfComponentImplTest;
+import de.bogenliga.application.business.wettkampfdokument.api.types.WettkampfDokumentContextDO;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WettkampfDokumentComponentImplTest {
+
+    private static final long WETTKAMPFID = 30;
+    private static final long VEREIN_ID = 7;
+    private static final String VEREIN_NAME = "BSC Stuttgart";
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private WettkampfComponent wettkampfComponent;
+    @Mock
+    private MatchComponent matchComponent;
+    @Mock
+    private DsbMannschaftComponent dsbMannschaftComponent;
+    @Mock
+    private VereinComponent vereinComponent;
+
+    @InjectMocks
+    private WettkampfDokumentComponentImpl underTest;
+
+
+    /**
+     * Test data for the document generators: 7 matches of 8 teams, each team shoots all matches on its own Scheibe
+     */
+    public static WettkampfDokumentContextDO getWettkampfDokumentContextDO() {
+        final Map<Long, String> mannschaftsNamen = new HashMap<>();
+        for (long mannschaftId = 1; mannschaftId <= 8; mannschaftId++) {
+            mannschaftsNamen.put(mannschaftId, "Verein " + mannschaftId);
+        }
+        return new WettkampfDokumentContextDO(WettkampfComponentImplTest.getWettkampfDO(), getMatchesForWettkampf(),
+                mannschaftsNamen);
+    }
+
+
+    private static List<MatchDO> getMatchesForWettkampf() {
+        final List<MatchDO> result = new ArrayList<>();
+        for (long nr = 1; nr <= 7; nr++) {
+            for (long scheibe = 1; scheibe <= 8; scheibe++) {
+                final MatchDO matchDO = MatchComponentImplTest.getMatchDO();
+                matchDO.setId(nr * 10 + scheibe);
+                matchDO.setWettkampfId(WETTKAMPFID);
+                matchDO.setNr(nr);
+                matchDO.setBegegnung((scheibe + 1) / 2);
+                matchDO.setScheibenNummer(scheibe);
+                matchDO.setMannschaftId(scheibe);
+                result.add(matchDO);
+            }
+        }
+        return result;
+    }
+
+
+    private static VereinDO getVereinDO() {
+        final VereinDO vereinDO = VereinComponentImplTest.getVereinDO();
+        vereinDO.setId(VEREIN_ID);
+        vereinDO.setName(VEREIN_NAME);
+        return vereinDO;
+    }
+
+
+    @Test
+    public void getContext() {
+        // prepare test data
+        final WettkampfDO wettkampfDO = WettkampfComponentImplTest.getWettkampfDO();
+        final List<MatchDO> matchDOList = getMatchesForWettkampf();
+        final List<DsbMannschaftDO> mannschaften = new ArrayList<>();
+        for (long mannschaftId = 1; mannschaftId <= 8; mannschaftId++) {
+            mannschaften.add(new DsbMannschaftDO(mannschaftId, "Team", VEREIN_ID, mannschaftId, 1L, 1L, null));
+        }
+
+        // configure mocks
+        when(wettkampfComponent.findById(WETTKAMPFID)).thenReturn(wettkampfDO);
+        when(matchComponent.findByWettkampfId(WETTKAMPFID)).thenReturn(matchDOList);
+        when(dsbMannschaftComponent.findByIds(any())).thenReturn(mannschaften);
+        when(vereinComponent.findByIds(any())).thenReturn(Collections.singletonList(getVereinDO()));
+
+        // call test method
+        final WettkampfDokumentContextDO actual = underTest.getContext(WETTKAMPFID);
+
+        // assert result
+        assertThat(actual.getWettkampf()).isEqualTo(wettkampfDO);
+        assertThat(actual.getMatches()).hasSize(56);
+        assertThat(actual.getMatch(3L, 5L).getId()).isEqualTo(35L);
+        assertThat(actual.getMatch(8L, 1L)).isNull();
+        assertThat(actual.getBegegnung(2L, 3L)).extracting(MatchDO::getScheibenNummer).containsExactly(5L, 6L);
+        assertThat(actual.getMannschaftsName(1L)).isEqualTo(VEREIN_NAME);
+        assertThat(actual.getMannschaftsName(2L)).isEqualTo(VEREIN_NAME + " 2");
+
+        // verify invocations
+        @SuppressWarnings("unchecked") final ArgumentCaptor<Collection<Long>> mannschaftIds =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(dsbMannschaftComponent).findByIds(mannschaftIds.capture());
+        verify(vereinComponent).findByIds(any());
+        verify(dsbMannschaftComponent, never()).findById(anyLong());
+        verify(vereinComponent, never()).findById(anyLong());
+
+        assertThat(mannschaftIds.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+    }
+
+
+    @Test
+    public void getContext_withoutVerein_shouldThrowException() {
+        // configure mocks
+        when(matchComponent.findByWettkampfId(WETTKAMPFID)).thenReturn(getMatchesForWettkampf());
+        when(dsbMannschaftComponent.findByIds(any())).thenReturn(
+                Arrays.asList(new DsbMannschaftDO(1L, VEREIN_ID)));
+
+        // call test method
+        assertThatThrownBy(() -> underTest.getContext(WETTKAMPFID))
+                .isInstanceOf(BusinessException.class);
+    }
+
+
+    @Test
+    public void getContext_withNegativeId_shouldThrowException() {
+        assertThatThrownBy(() -> underTest.getContext(-1))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package de.bogenliga.application.common.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * I coalesce the lookups of entities by their id into a single batch query.
+ *
+ * The ids of a list are registered first and are loaded with one query on the first lookup. Every id is loaded
+ * only once, later lookups of the same id are answered from memory. A loader is created for a single request or
+ * result list and is not thread-safe.
+ *
+ * @param <K> type of the id
+ * @param <V> type of the loaded entity
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, List<V>> batchFunction;
+    private final Function<V, K> keyFunction;
+
+    private final Set<K> pendingKeys = new LinkedHashSet<>();
+    private final Map<K, V> loadedValues = new HashMap<>();
+    // ids without an entity, they are not queried again
+    private final Set<K> missingKeys = new HashSet<>();
+
+
+    /**
+     * Constructor
+     *
+     * @param batchFunction to load all entities of the given ids with one query, e.g. {@code dao::findByIds}
+     * @param keyFunction   to get the id of a loaded entity
+     */
+    public BatchLoader(final Function<Collection<K>, List<V>> batchFunction, final Function<V, K> keyFunction) {
+        this.batchFunction = batchFunction;
+        this.keyFunction = keyFunction;
+    }
+
+
+    /**
+     * Register the id for the next batch query, without loading it now.
+     *
+     * @param key id of the entity
+     *
+     * @return this loader
+     */
+    public BatchLoader<K, V> register(final K key) {
+        if (key != null && !isKnown(key)) {
+            pendingKeys.add(key);
+        }
+        return this;
+    }
+
+
+    /**
+     * Register the ids for the next batch query, without loading them now.
+     *
+     * @param keys ids of the entities
+     *
+     * @return this loader
+     */
+    public BatchLoader<K, V> registerAll(final Collection<K> keys) {
+        keys.forEach(this::register);
+        return this;
+    }
+
+
+    /**
+     * Return the entity of the id and load all registered ids with one query, if the id is not loaded yet.
+     *
+     * @param key id of the entity
+     *
+     * @return entity of the id or null, if there is no entity with the id
+     */
+    public V get(final K key) {
+        register(key);
+        dispatch();
+        return loadedValues.get(key);
+    }
+
+
+    /**
+     * Return the entities of the ids and load all unknown ids with one query.
+     *
+     * @param keys ids of the entities
+     *
+     * @return entities by their id in the order of the given ids, without ids of missing entities
+     */
+    public Map<K, V> getAll(final Collection<K> keys) {
+        registerAll(keys);
+        dispatch();
+
+        final Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            final V value = loadedValues.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+
+    private boolean isKnown(final K key) {
+        return loadedValues.containsKey(key) || missingKeys.contains(key);
+    }
+
+
+    private void dispatch() {
+        if (pendingKeys.isEmpty()) {
+            return;
+        }
+
+        final List<K> keys = new ArrayList<>(pendingKeys);
+        pendingKeys.clear();
+
+        for (V value : batchFunction.apply(keys)) {
+            loadedValues.put(keyFunction.apply(value), value);
+        }
+        for (K key : keys) {
+            if (!loadedValues.containsKey(key)) {
+                missingKeys.add(key);
+            }
+        }
+    }
+}
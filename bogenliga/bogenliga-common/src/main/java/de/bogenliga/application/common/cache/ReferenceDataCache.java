@@ -0,0 +1,289 @@
+package de.bogenliga.application.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * I keep slow-changing reference data, e.g. ligen or regionen, in memory to avoid a database query for every
+ * lookup of the same entity.
+ *
+ * An entry is loaded on the first access (read-through) and reused until its time to live has expired or it is
+ * invalidated after a change. The least recently used entries are removed if the maximum number of entries or the
+ * maximum weight, e.g. the size of generated documents, is exceeded. The hits and misses are counted for the actuator
+ * metrics.
+ *
+ * A value loaded in a transaction on a replica of the database is returned, but not cached. The replica may not yet
+ * contain a change, whose commit has cleared the cache, and the outdated value would be kept until its time to live
+ * has expired.
+ *
+ * @param <K> type of the key, e.g. the id of the entity
+ * @param <V> type of the cached value
+ */
+public class ReferenceDataCache<K, V> {
+
+    private final String name;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final long timeToLive;
+    private final ToLongFunction<? super V> weigher;
+    private final BooleanSupplier onReplica;
+    private final LongSupplier clock;
+
+    // access ordered map to remove the least recently used entry
+    private final Map<K, CachedValue<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    // incremented with every invalidation, so a value loaded before the invalidation is not cached afterwards
+    private long generation;
+    private long weight;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+
+
+    /**
+     * Constructor
+     *
+     * @param name       of the cache for the metrics
+     * @param maxEntries maximum number of cached entries
+     * @param timeToLive time in ms until an entry is loaded again
+     */
+    public ReferenceDataCache(final String name, final int maxEntries, final long timeToLive) {
+        this(name, maxEntries, Long.MAX_VALUE, timeToLive, value -> 0L);
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param name       of the cache for the metrics
+     * @param maxEntries maximum number of cached entries
+     * @param maxWeight  maximum summed weight of the cached entries
+     * @param timeToLive time in ms until an entry is loaded again, Long.MAX_VALUE if an entry does not expire
+     * @param weigher    to calculate the weight of a value, e.g. its size in bytes
+     */
+    public ReferenceDataCache(final String name, final int maxEntries, final long maxWeight, final long timeToLive,
+                              final ToLongFunction<? super V> weigher) {
+        this(name, maxEntries, maxWeight, timeToLive, weigher, () -> false);
+    }
+
+
+    /**
+     * Constructor
+     *
+     * @param name       of the cache for the metrics
+     * @param maxEntries maximum number of cached entries
+     * @param maxWeight  maximum summed weight of the cached entries
+     * @param timeToLive time in ms until an entry is loaded again, Long.MAX_VALUE if an entry does not expire
+     * @param weigher    to calculate the weight of a value, e.g. its size in bytes
+     * @param onReplica  true, if the current thread reads from a replica of the database
+     */
+    public ReferenceDataCache(final String name, final int maxEntries, final long maxWeight, final long timeToLive,
+                              final ToLongFunction<? super V> weigher, final BooleanSupplier onReplica) {
+        this(name, maxEntries, maxWeight, timeToLive, weigher, onReplica, System::currentTimeMillis);
+    }
+
+
+    ReferenceDataCache(final String name, final int maxEntries, final long maxWeight, final long timeToLive,
+                       final ToLongFunction<? super V> weigher, final BooleanSupplier onReplica,
+                       final LongSupplier clock) {
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.timeToLive = timeToLive;
+        this.weigher = weigher;
+        this.onReplica = onReplica;
+        this.clock = clock;
+    }
+
+
+    /**
+     * Return the cached value or load it, if the key is unknown or the entry has expired.
+     * <p>
+     * The value is loaded outside of the lock, so concurrent lookups of other keys are not blocked. A missing value
+     * (null) and a value loaded from a replica are not cached.
+     *
+     * @param key    of the value
+     * @param loader to read the value from the database
+     *
+     * @return cached or loaded value, null if the loader does not find a value
+     */
+    public V get(final K key, final Function<K, V> loader) {
+        final long loadGeneration;
+
+        synchronized (entries) {
+            final CachedValue<V> cachedValue = entries.get(key);
+
+            if (cachedValue != null && cachedValue.expiresAt > clock.getAsLong()) {
+                hitCount.incrementAndGet();
+                return cachedValue.value;
+            }
+            loadGeneration = generation;
+        }
+
+        missCount.incrementAndGet();
+        final V value = loader.apply(key);
+
+        if (value != null && !onReplica.getAsBoolean()) {
+            synchronized (entries) {
+                if (loadGeneration == generation) {
+                    putEntry(key, value);
+                }
+            }
+        }
+        return value;
+    }
+
+
+    /**
+     * Return the cached value without loading it.
+     *
+     * @param key of the value
+     *
+     * @return cached value or null, if the key is unknown or the entry has expired
+     */
+    public V getIfPresent(final K key) {
+        synchronized (entries) {
+            final CachedValue<V> cachedValue = entries.get(key);
+
+            if (cachedValue != null && cachedValue.expiresAt > clock.getAsLong()) {
+                hitCount.incrementAndGet();
+                return cachedValue.value;
+            }
+        }
+        missCount.incrementAndGet();
+        return null;
+    }
+
+
+    /**
+     * Cache a value, which was created by the caller, e.g. a generated document.
+     * <p>
+     * A previous value of the key is replaced. A value exceeding the maximum weight is not cached.
+     *
+     * @param key   of the value
+     * @param value to cache
+     *
+     * @return true, if the value is cached
+     */
+    public boolean put(final K key, final V value) {
+        if (weigher.applyAsLong(value) > maxWeight) {
+            return false;
+        }
+
+        synchronized (entries) {
+            putEntry(key, value);
+        }
+        return true;
+    }
+
+
+    /**
+     * Remove the entry of a changed or deleted entity.
+     * <p>
+     * The entry has to be removed after the change is committed, e.g. with
+     * {@link de.bogenliga.application.common.database.tx.TransactionManager#afterCommit(Runnable)}. Otherwise a
+     * concurrent lookup may cache the entity before the change again.
+     *
+     * @param key of the value
+     */
+    public void invalidate(final K key) {
+        synchronized (entries) {
+            generation++;
+            removeEntry(entries.remove(key));
+        }
+    }
+
+
+    /**
+     * Remove all entries, e.g. after a change of several entities.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+
+    public String getName() {
+        return name;
+    }
+
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+
+    /**
+     * @return number of lookups loaded from the database
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+
+    /**
+     * @return number of cached entries, including expired entries which are not yet removed
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+
+    private void putEntry(final K key, final V value) {
+        final long now = clock.getAsLong();
+        // an entry without time to live must not overflow its expiration time
+        final long expiresAt = timeToLive > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + timeToLive;
+        final CachedValue<V> cachedValue = new CachedValue<>(value, expiresAt, weigher.applyAsLong(value));
+
+        removeEntry(entries.put(key, cachedValue));
+        weight += cachedValue.weight;
+        removeLeastRecentlyUsed();
+    }
+
+
+    private void removeEntry(final CachedValue<V> cachedValue) {
+        if (cachedValue != null) {
+            weight -= cachedValue.weight;
+        }
+    }
+
+
+    private void removeLeastRecentlyUsed() {
+        final Iterator<CachedValue<V>> leastRecentlyUsed = entries.values().iterator();
+
+        while (entries.size() > maxEntries || weight > maxWeight) {
+            removeEntry(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+
+    /**
+     * cached value with its expiration time and weight
+     */
+    private static final class CachedValue<V> {
+        private final V value;
+        private final long expiresAt;
+        private final long weight;
+
+
+        private CachedValue(final V value, final long expiresAt, final long weight) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+            this.weight = weight;
+        }
+    }
+}
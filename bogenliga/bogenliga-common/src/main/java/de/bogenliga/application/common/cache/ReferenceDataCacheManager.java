@@ -0,0 +1,119 @@
+package de.bogenliga.application.common.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import de.bogenliga.application.common.database.tx.TransactionManager;
+
+/**
+ * I create the {@link ReferenceDataCache}s of the business components with the configured size and time to live.
+ *
+ * The caches are registered by their name, so the metrics of all caches can be exported. The caches do not keep
+ * values loaded in a transaction on a replica of the database.
+ */
+@Component
+public class ReferenceDataCacheManager {
+
+    private final int maxEntries;
+    private final long timeToLive;
+    private final BooleanSupplier onReplica;
+
+    private final Map<String, ReferenceDataCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final List<Consumer<ReferenceDataCache<?, ?>>> listeners = new CopyOnWriteArrayList<>();
+
+
+    /**
+     * Constructor without replica, e.g. for tests
+     *
+     * @param referenceDataCacheConfiguration with the size and time to live of the caches
+     */
+    public ReferenceDataCacheManager(final ReferenceDataCacheConfiguration referenceDataCacheConfiguration) {
+        this(referenceDataCacheConfiguration, () -> false);
+    }
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param referenceDataCacheConfiguration with the size and time to live of the caches
+     * @param transactionManager              to detect a transaction on a replica of the database
+     */
+    @Autowired
+    public ReferenceDataCacheManager(final ReferenceDataCacheConfiguration referenceDataCacheConfiguration,
+                                     final TransactionManager transactionManager) {
+        this(referenceDataCacheConfiguration, transactionManager::isOnReplica);
+    }
+
+
+    private ReferenceDataCacheManager(final ReferenceDataCacheConfiguration referenceDataCacheConfiguration,
+                                      final BooleanSupplier onReplica) {
+        this.maxEntries = referenceDataCacheConfiguration.getMaxEntries();
+        this.timeToLive = referenceDataCacheConfiguration.getTimeToLive();
+        this.onReplica = onReplica;
+    }
+
+
+    /**
+     * Return the cache with the given name or create it.
+     *
+     * @param name of the cache, e.g. "liga"
+     * @param <K>  type of the key
+     * @param <V>  type of the cached value
+     *
+     * @return cache of the name
+     */
+    public <K, V> ReferenceDataCache<K, V> getCache(final String name) {
+        return getCache(name, maxEntries, Long.MAX_VALUE, timeToLive, value -> 0L);
+    }
+
+
+    /**
+     * Return the cache with the given name or create it with its own limits, e.g. for generated documents.
+     * <p>
+     * The limits are only used, if the cache is created.
+     *
+     * @param name       of the cache, e.g. "pdf"
+     * @param maxEntries maximum number of cached entries
+     * @param maxWeight  maximum summed weight of the cached entries
+     * @param timeToLive time in ms until an entry expires, Long.MAX_VALUE if an entry does not expire
+     * @param weigher    to calculate the weight of a value, e.g. its size in bytes
+     * @param <K>        type of the key
+     * @param <V>        type of the cached value
+     *
+     * @return cache of the name
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> ReferenceDataCache<K, V> getCache(final String name, final int maxEntries, final long maxWeight,
+                                                    final long timeToLive, final ToLongFunction<? super V> weigher) {
+        final ReferenceDataCache<?, ?>[] created = new ReferenceDataCache<?, ?>[1];
+
+        final ReferenceDataCache<?, ?> cache = caches.computeIfAbsent(name, key -> {
+            created[0] = new ReferenceDataCache<K, V>(key, maxEntries, maxWeight, timeToLive, weigher, onReplica);
+            return created[0];
+        });
+
+        if (created[0] != null) {
+            listeners.forEach(listener -> listener.accept(created[0]));
+        }
+        return (ReferenceDataCache<K, V>) cache;
+    }
+
+
+    /**
+     * Call the consumer for all existing caches and for all caches created later.
+     *
+     * @param consumer e.g. to register the metrics of a cache
+     */
+    public void forEachCache(final Consumer<ReferenceDataCache<?, ?>> consumer) {
+        listeners.add(consumer);
+        new ArrayList<>(caches.values()).forEach(consumer);
+    }
+}
@@ -1,11 +1,20 @@
 package de.bogenliga.application.common.component.dao;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import org.apache.commons.dbutils.QueryRunner;
 import org.apache.commons.dbutils.ResultSetHandler;
 import org.slf4j.Logger;
@@ -23,6 +32,8 @@ import de.bogenliga.application.common.time.DateProvider;
 
 /**
  * Basic data access object implementation for CRUD operations.
+ * <p>
+ * The duration and row count of every query are recorded by the {@link QueryMonitor}.
  *
  * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
  * @see <a href="https://www.baeldung.com/apache-commons-dbutils">A Guide to Apache Commons DbUtils</a>
@@ -40,21 +51,26 @@ public class BasicDAO implements DataAccessObject {
     private static final String DEFAULT_TABLE_MODIFIED_AT = "last_modified_at_utc";
     private static final String DEFAULT_TABLE_MODIFIED_BY = "last_modified_by";
     private static final String DEFAULT_TABLE_VERSION = "version";
+    // number of rows fetched with one round trip by the cursor of a streamed query
+    static final int STREAM_FETCH_SIZE = 500;
     private final TransactionManager transactionManager;
+    private final QueryMonitor queryMonitor;
     private QueryRunner run = new QueryRunner();
 
 
     @Autowired
-    public BasicDAO(TransactionManager transactionManager) {
+    public BasicDAO(TransactionManager transactionManager, QueryMonitor queryMonitor) {
         this.transactionManager = transactionManager;
+        this.queryMonitor = queryMonitor;
     }
 
 
     /**
      * Package-protected constructor with all dependencies
      */
-    BasicDAO(TransactionManager transactionManager, QueryRunner queryRunner) {
+    BasicDAO(TransactionManager transactionManager, QueryRunner queryRunner, QueryMonitor queryMonitor) {
         this.transactionManager = transactionManager;
+        this.queryMonitor = queryMonitor;
         run = queryRunner;
     }
 
@@ -135,9 +151,13 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
-            return run.query(getConnection(), logSQL(businessEntityConfiguration.getLogger(), sqlQuery, params),
-                    new BasicBeanHandler<>(businessEntityConfiguration.getBusinessEntity(),
-                            businessEntityConfiguration.getColumnToFieldMapping()), params);
+            final long start = System.nanoTime();
+            final T businessEntity = run.query(getConnection(),
+                    logSQL(businessEntityConfiguration.getLogger(), sqlQuery, params),
+                    businessEntityConfiguration.getBeanHandler(), params);
+            queryMonitor.record(businessEntityConfiguration, sqlQuery, params, start, businessEntity == null ? 0 : 1);
+
+            return businessEntity;
 
         } catch (SQLException e) {
             error = true;
@@ -190,10 +210,12 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
+            final long start = System.nanoTime();
             businessEntityList = run.query(getConnection(),
                     logSQL(businessEntityConfiguration.getLogger(), sqlQuery, params),
-                    new BasicBeanListHandler<>(businessEntityConfiguration.getBusinessEntity(),
-                            businessEntityConfiguration.getColumnToFieldMapping()), params);
+                    businessEntityConfiguration.getBeanListHandler(), params);
+            queryMonitor.record(businessEntityConfiguration, sqlQuery, params, start,
+                    businessEntityList == null ? 0 : businessEntityList.size());
 
             return businessEntityList == null ? Collections.emptyList() : businessEntityList;
 
@@ -220,6 +242,124 @@ public class BasicDAO implements DataAccessObject {
     }
 
 
+    /**
+     * I pass each {@link BusinessEntity} of the given sql SELECT query to the consumer, without loading the whole
+     * result into the memory.
+     * <p>
+     * The rows are fetched in chunks of {@value #STREAM_FETCH_SIZE} rows by a database cursor. The cursor is only
+     * valid in the transaction, so the consumer is called while the transaction is active and must not keep the
+     * business entities longer than necessary, e.g. write them directly to a response.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the "
+     *                                    object-relational" mapping between the business entity and the database
+     *                                    table.
+     * @param sqlQuery                    to request the business entities
+     * @param consumer                    of each business entity in the order of the result
+     * @param params                      The parameter(s) are used to identify the business entities in the WHERE
+     *                                    clause.
+     *
+     * @return number of business entities passed to the consumer
+     */
+    public <T> int selectEntityStream(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                      String sqlQuery,
+                                      Consumer<T> consumer,
+                                      Object... params) {
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            final long start = System.nanoTime();
+            int rows = 0;
+
+            // the PostgreSQL driver uses a cursor only with a fetch size and without auto commit
+            try (PreparedStatement statement = getConnection().prepareStatement(
+                    logSQL(businessEntityConfiguration.getLogger(), sqlQuery, params),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(STREAM_FETCH_SIZE);
+                run.fillStatement(statement, params);
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        consumer.accept(businessEntityConfiguration.getRowProcessor()
+                                .toBean(resultSet, businessEntityConfiguration.getBusinessEntity()));
+                        rows++;
+                    }
+                }
+            }
+            queryMonitor.record(businessEntityConfiguration, sqlQuery, params, start, rows);
+
+            return rows;
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } catch (RuntimeException e) {
+            // e.g. the consumer could not write the business entity
+            error = true;
+            throw e;
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+    }
+
+
+    /**
+     * I return the list of {@link BusinessEntity} with the given ids for the given sql SELECT query.
+     * <p>
+     * The ids are passed as a single array parameter, so all business entities are selected with one query
+     * regardless of the number of ids, e.g. {@code SELECT * FROM verein WHERE verein_id = ANY(?)}.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param sqlQuery                    to request the list of business entities with a single ?-parameter for
+     *                                    the ids
+     * @param ids                         of the business entities, duplicates and null values are ignored
+     *
+     * @return list of business entities, the order is defined by the sql query
+     */
+    public <T> List<T> selectEntityListByIds(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                             String sqlQuery,
+                                             Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // a primitive array is passed as bigint[] by the PostgreSQL driver
+        final long[] idArray = ids.stream()
+                .filter(Objects::nonNull)
+                .mapToLong(Long::longValue)
+                .distinct()
+                .toArray();
+
+        if (idArray.length == 0) {
+            return Collections.emptyList();
+        }
+
+        return selectEntityList(businessEntityConfiguration, sqlQuery, (Object) idArray);
+    }
+
+
     /**
      * I persist a single {@link BusinessEntity}
      * <p>
@@ -234,8 +374,8 @@ public class BasicDAO implements DataAccessObject {
      */
     public <T> T insertEntity(BusinessEntityConfiguration<T> businessEntityConfiguration,
                               T insertBusinessEntity) {
-        SQL.SQLWithParameter sql = SQL.insertSQL(insertBusinessEntity, businessEntityConfiguration.getTable(),
-                businessEntityConfiguration.getColumnToFieldMapping());
+        SQL.SQLWithParameter sql = SQL.insertSQL(insertBusinessEntity,
+                businessEntityConfiguration.getEntityMetadata());
 
         T businessEntityAfterInsert;
         boolean error = false;
@@ -248,12 +388,13 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
+            final long start = System.nanoTime();
             businessEntityAfterInsert = run.insert(getConnection(),
                     logSQL(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter()),
-                    new BasicBeanHandler<>(
-                            businessEntityConfiguration.getBusinessEntity(),
-                            businessEntityConfiguration.getColumnToFieldMapping()),
+                    businessEntityConfiguration.getBeanHandler(),
                     sql.getParameter());
+            queryMonitor.record(businessEntityConfiguration, sql.getSql(), sql.getParameter(), start,
+                    businessEntityAfterInsert == null ? 0 : 1);
 
         } catch (SQLException e) {
             error = true;
@@ -280,6 +421,181 @@ public class BasicDAO implements DataAccessObject {
     }
 
 
+    /**
+     * I persist a list of {@link BusinessEntity} objects with JDBC batches.
+     * <p>
+     * Business entities with the same set of non-null parameters share the same INSERT query and are sent to the
+     * database in one batch. The inserted rows are returned by the database (RETURNING), so no additional SELECT
+     * query is necessary.
+     * <p>
+     * Encapsulate all INSERT queries into one transaction.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param insertBusinessEntities      business entities to persist the INSERT sql queries are automatically
+     *                                    generated
+     *
+     * @return instances of the persisted business entities in the order of {@code insertBusinessEntities}
+     */
+    public <T> List<T> insertEntityBatch(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                         List<T> insertBusinessEntities) {
+        if (insertBusinessEntities.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // group the business entities by the generated query
+        final Map<String, List<Integer>> batchIndexes = new LinkedHashMap<>();
+        final Map<String, List<Object[]>> batchParameters = new LinkedHashMap<>();
+
+        for (int i = 0; i < insertBusinessEntities.size(); i++) {
+            SQL.SQLWithParameter sql = SQL.insertSQL(insertBusinessEntities.get(i),
+                    businessEntityConfiguration.getEntityMetadata());
+
+            batchIndexes.computeIfAbsent(sql.getSql(), key -> new ArrayList<>()).add(i);
+            batchParameters.computeIfAbsent(sql.getSql(), key -> new ArrayList<>()).add(sql.getParameter());
+        }
+
+        final List<T> businessEntitiesAfterInsert = new ArrayList<>(
+                Collections.nCopies(insertBusinessEntities.size(), null));
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            for (Map.Entry<String, List<Object[]>> batch : batchParameters.entrySet()) {
+                final List<Integer> indexes = batchIndexes.get(batch.getKey());
+                final long start = System.nanoTime();
+                final List<T> insertedBatch = run.insertBatch(getConnection(),
+                        logSQL(businessEntityConfiguration.getLogger(), batch.getKey()),
+                        businessEntityConfiguration.getBeanListHandler(),
+                        batch.getValue().toArray(new Object[0][]));
+                queryMonitor.record(businessEntityConfiguration, batch.getKey(), new Object[0], start,
+                        insertedBatch == null ? 0 : insertedBatch.size());
+
+                if (insertedBatch == null || insertedBatch.size() != indexes.size()) {
+                    error = true;
+                    throw new TechnicalException(ErrorCode.DATABASE_ERROR,
+                            String.format("Batch insert of %d business entities returned %d rows",
+                                    indexes.size(), insertedBatch == null ? 0 : insertedBatch.size()));
+                }
+
+                for (int i = 0; i < indexes.size(); i++) {
+                    businessEntitiesAfterInsert.set(indexes.get(i), insertedBatch.get(i));
+                }
+            }
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+
+        return businessEntitiesAfterInsert;
+    }
+
+
+    /**
+     * I update a list of {@link BusinessEntity} objects with one JDBC batch.
+     * <p>
+     * All business entities share the same UPDATE query. In contrast to
+     * {@link #updateEntity(BusinessEntityConfiguration, Object, String...)} the updated rows are not selected again.
+     * <p>
+     * Encapsulate the batch into one transaction.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
+     *                                    "object-relational" mapping between the business entity and the database
+     *                                    table
+     * @param updateBusinessEntities      business entities to persist the UPDATE sql query is automatically generated
+     * @param fieldSelector               to identify the target table row of each business entity in the WHERE clause
+     *
+     * @throws BusinessException if no or more than 1 row is affected by the update of a business entity
+     */
+    public <T> void updateEntityBatch(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                      List<T> updateBusinessEntities, String... fieldSelector) {
+        if (updateBusinessEntities.isEmpty()) {
+            return;
+        }
+
+        String sqlQuery = null;
+        final Object[][] params = new Object[updateBusinessEntities.size()][];
+
+        for (int i = 0; i < updateBusinessEntities.size(); i++) {
+            SQL.SQLWithParameter sql = SQL.updateSQL(updateBusinessEntities.get(i),
+                    businessEntityConfiguration.getEntityMetadata(), fieldSelector);
+            sqlQuery = sql.getSql();
+            params[i] = sql.getParameter();
+        }
+
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            final long start = System.nanoTime();
+            int[] affectedRows = run.batch(getConnection(),
+                    logSQL(businessEntityConfiguration.getLogger(), sqlQuery), params);
+            queryMonitor.record(businessEntityConfiguration, sqlQuery, new Object[0], start, affectedRows.length);
+
+            for (int i = 0; i < affectedRows.length; i++) {
+                // the driver may not know the exact count of a successful statement
+                if (affectedRows[i] != 1 && affectedRows[i] != Statement.SUCCESS_NO_INFO) {
+                    error = true;
+                    throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
+                            String.format("Update of business entity '%s' affected %d rows",
+                                    updateBusinessEntities.get(i).toString(), affectedRows[i]),
+                            params[i][params[i].length - 1]);
+                }
+            }
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+    }
+
+
     /**
      * I update one or more {@link BusinessEntity} objects in the database.
      * <p>
@@ -295,9 +611,8 @@ public class BasicDAO implements DataAccessObject {
      */
     <T> int updateEntities(BusinessEntityConfiguration<T> businessEntityConfiguration,
                            T updateBusinessEntity, String... fieldSelector) {
-        SQL.SQLWithParameter sql = SQL.updateSQL(updateBusinessEntity, businessEntityConfiguration.getTable(),
-                fieldSelector,
-                businessEntityConfiguration.getColumnToFieldMapping());
+        SQL.SQLWithParameter sql = SQL.updateSQL(updateBusinessEntity,
+                businessEntityConfiguration.getEntityMetadata(), fieldSelector);
         boolean error = false;
         boolean activeTX = false;
 
@@ -337,9 +652,11 @@ public class BasicDAO implements DataAccessObject {
     /**
      * I update a single {@link CommonBusinessEntity} object in the database.
      * <p>
-     * I validate the version of the given object and detect concurrent modification conflicts.
+     * I validate the version of the given object and detect concurrent modification conflicts. The version check,
+     * the update and the version increment are done by a single UPDATE ... RETURNING query: if the row was modified
+     * by an other user, the query does not affect any row.
      * <p>
-     * I encapsulate the UPDATE and SELECT query into a transaction.
+     * I encapsulate the UPDATE query into a transaction.
      *
      * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
      *                                    "object-relational" mapping between the business entity and the database
@@ -352,31 +669,74 @@ public class BasicDAO implements DataAccessObject {
      *
      * @throws BusinessException if no or more than 1 row is affected by the update
      */
-    <T extends CommonBusinessEntity> T updateVersionedEntity(BusinessEntityConfiguration<T>
-                                                                     businessEntityConfiguration,
-                                                             T updateBusinessEntity,
-                                                             String... fieldSelector) {
-        // check concurrent modification
-        SQL.SQLWithParameter selectSql = SQL.selectSQL(updateBusinessEntity,
-                businessEntityConfiguration.getTable(), fieldSelector,
-                businessEntityConfiguration.getColumnToFieldMapping());
-
-        T objectBeforeUpdate = selectSingleEntity(businessEntityConfiguration, selectSql.getSql(),
-                selectSql.getParameter());
-
-        if (objectBeforeUpdate.getVersion() != null &&  !objectBeforeUpdate.getVersion().equals(updateBusinessEntity.getVersion()) ) {
-            throw new BusinessException(ErrorCode.ENTITY_CONFLICT_ERROR,
-                    "The business entity was modified by an other user.");
-        } // else: do update
-
-        return updateEntity(businessEntityConfiguration, updateBusinessEntity, fieldSelector);
+    public <T extends CommonBusinessEntity> T updateVersionedEntity(BusinessEntityConfiguration<T>
+                                                                            businessEntityConfiguration,
+                                                                    T updateBusinessEntity,
+                                                                    String... fieldSelector) {
+        SQL.SQLWithParameter sql = SQL.updateVersionedSQL(updateBusinessEntity,
+                businessEntityConfiguration.getEntityMetadata(), fieldSelector);
+
+        List<T> businessEntitiesAfterUpdate;
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            final long start = System.nanoTime();
+            businessEntitiesAfterUpdate = run.query(getConnection(),
+                    logSQL(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter()),
+                    businessEntityConfiguration.getBeanListHandler(), sql.getParameter());
+
+            final int affectedRows = businessEntitiesAfterUpdate == null ? 0 : businessEntitiesAfterUpdate.size();
+            queryMonitor.record(businessEntityConfiguration, sql.getSql(), sql.getParameter(), start, affectedRows);
+
+            if (affectedRows == 0) {
+                error = true;
+                throw new BusinessException(ErrorCode.ENTITY_CONFLICT_ERROR,
+                        "The business entity was modified by an other user.");
+            } else if (affectedRows > 1) {
+                error = true;
+                throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
+                        String.format("Update of business entity '%s' affected %d rows",
+                                updateBusinessEntity.toString(), affectedRows));
+            }
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+
+        return businessEntitiesAfterUpdate.get(0);
     }
 
 
     /**
      * I update a single {@link BusinessEntity} object in the database.
      * <p>
-     * Encapsulate the UPDATE and SELECT query into a transaction.
+     * The updated row is returned by the UPDATE ... RETURNING query itself and is not selected again.
+     * <p>
+     * Encapsulate the UPDATE query into a transaction.
      *
      * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to process the
      *                                    "object-relational" mapping between the business entity and the database
@@ -390,11 +750,10 @@ public class BasicDAO implements DataAccessObject {
      */
     public <T> T updateEntity(BusinessEntityConfiguration<T> businessEntityConfiguration,
                               T updateBusinessEntity, String... fieldSelector) {
-        SQL.SQLWithParameter sql = SQL.updateSQL(updateBusinessEntity, businessEntityConfiguration.getTable(),
-                fieldSelector,
-                businessEntityConfiguration.getColumnToFieldMapping());
+        SQL.SQLWithParameter sql = SQL.updateReturningSQL(updateBusinessEntity,
+                businessEntityConfiguration.getEntityMetadata(), fieldSelector);
 
-        T businessEntityAfterUpdate;
+        List<T> businessEntitiesAfterUpdate;
 
         boolean error = false;
         boolean activeTX = false;
@@ -406,31 +765,27 @@ public class BasicDAO implements DataAccessObject {
                 transactionManager.begin();
             }
 
-            int affectedRows = run.update(getConnection(),
+            final long start = System.nanoTime();
+            businessEntitiesAfterUpdate = run.query(getConnection(),
                     logSQL(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter()),
-                    sql.getParameter());
+                    businessEntityConfiguration.getBeanListHandler(), sql.getParameter());
 
-            SQL.SQLWithParameter selectSql = SQL.selectSQL(updateBusinessEntity,
-                    businessEntityConfiguration.getTable(), fieldSelector,
-                    businessEntityConfiguration.getColumnToFieldMapping());
+            final int affectedRows = businessEntitiesAfterUpdate == null ? 0 : businessEntitiesAfterUpdate.size();
+            queryMonitor.record(businessEntityConfiguration, sql.getSql(), sql.getParameter(), start, affectedRows);
 
-            if (affectedRows == 1) {
-                businessEntityAfterUpdate = selectSingleEntity(businessEntityConfiguration, selectSql.getSql(),
-                        selectSql.getParameter());
-
-            } else if (affectedRows == 0) {
+            if (affectedRows == 0) {
                 error = true;
                 throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
                         String.format("Update of business entity '%s' does not affect any row",
-                                updateBusinessEntity.toString()), selectSql.getParameter()[0]);
-            } else {
+                                updateBusinessEntity.toString()));
+            } else if (affectedRows > 1) {
                 error = true;
                 throw new BusinessException(ErrorCode.INVALID_ARGUMENT_ERROR,
                         String.format("Update of business entity '%s' affected %d rows",
-                                updateBusinessEntity.toString(), affectedRows), selectSql.getParameter()[0]);
+                                updateBusinessEntity.toString(), affectedRows));
             }
 
-        } catch (SQLException | TechnicalException | IndexOutOfBoundsException e) {
+        } catch (SQLException | TechnicalException e) {
             error = true;
             throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
         } finally {
@@ -451,7 +806,7 @@ public class BasicDAO implements DataAccessObject {
             }
         }
 
-        return businessEntityAfterUpdate;
+        return businessEntitiesAfterUpdate.get(0);
     }
 
 
@@ -468,9 +823,8 @@ public class BasicDAO implements DataAccessObject {
      */
     public <T> void deleteEntity(BusinessEntityConfiguration<T> businessEntityConfiguration,
                                  T deleteBusinessEntity, String... fieldSelector) {
-        SQL.SQLWithParameter sql = SQL.deleteSQL(deleteBusinessEntity, businessEntityConfiguration.getTable(),
-                fieldSelector,
-                businessEntityConfiguration.getColumnToFieldMapping());
+        SQL.SQLWithParameter sql = SQL.deleteSQL(deleteBusinessEntity,
+                businessEntityConfiguration.getEntityMetadata(), fieldSelector);
         boolean error = false;
         boolean activeTX = false;
 
@@ -515,20 +869,78 @@ public class BasicDAO implements DataAccessObject {
     }
 
 
+    /**
+     * I execute a given sql INSERT, UPDATE or DELETE query, which is not generated from a business entity.
+     * <p>
+     * Encapsulate the query into a transaction.
+     *
+     * @param businessEntityConfiguration The {@code businessEntityConfiguration} is used to log the query with the
+     *                                    logger of the data access object
+     * @param sql                         the sql query with ?-parameters
+     * @param sqlQueryParameter           the ?-parameters are replaced with the {@code sqlQueryParameter}
+     *
+     * @return number of modified table rows
+     */
+    public <T> int executeUpdate(BusinessEntityConfiguration<T> businessEntityConfiguration,
+                                 String sql, Object... sqlQueryParameter) {
+        boolean error = false;
+        boolean activeTX = false;
+
+        try {
+            if (transactionManager.isActive()) {
+                activeTX = true;
+            } else {
+                transactionManager.begin();
+            }
+
+            final long start = System.nanoTime();
+            final int affectedRows = run.update(getConnection(),
+                    logSQL(businessEntityConfiguration.getLogger(), sql, sqlQueryParameter),
+                    sqlQueryParameter);
+            queryMonitor.record(businessEntityConfiguration, sql, sqlQueryParameter, start, affectedRows);
+
+            return affectedRows;
+
+        } catch (SQLException e) {
+            error = true;
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+
+        } finally {
+            try {
+                if (!activeTX) {
+                    // leaving business code with commit only when no sub-TX is
+                    // active, in case of an error just rollback transaction
+                    if (error) {
+                        transactionManager.rollback();
+                    } else {
+                        transactionManager.commit();
+                    }
+                }
+            } finally {
+                if (!activeTX) {
+                    transactionManager.release();
+                }
+            }
+        }
+    }
+
+
     /**
      * I log the sql query with the given logger instance and return the query to the query runner.
+     * <p>
+     * The query is logged on DEBUG level, because it is called for every statement. The query is logged unchanged,
+     * e.g. the pg_trgm operator {@code <%} must not be interpreted as format specifier.
      *
      * @param logger            specific {@link DataAccessObject} logger to log the logging message source in the log
      *                          output
      * @param sql               query with ?-parameters to log
-     * @param sqlQueryParameter the ?-parameters are replaced with the {@code sqlQueryParameter}
+     * @param sqlQueryParameter the ?-parameters, which are logged after the query
      *
      * @return sql query with parameters
      */
     public final String logSQL(Logger logger, String sql, Object... sqlQueryParameter) {
-        if (logger.isInfoEnabled()) {
-            String formatString = sql.replace("?", "%s");
-            logger.info(String.format(formatString, sqlQueryParameter));
+        if (logger.isDebugEnabled()) {
+            logger.debug("{} {}", sql, Arrays.toString(sqlQueryParameter));
         }
         return sql;
     }
@@ -548,9 +960,11 @@ public class BasicDAO implements DataAccessObject {
                               SQL.SQLWithParameter sql) throws SQLException {
         int affectedRows = 0;
 
+        final long start = System.nanoTime();
         affectedRows = run.update(getConnection(),
                 logSQL(businessEntityConfiguration.getLogger(), sql.getSql(), sql.getParameter()),
                 sql.getParameter());
+        queryMonitor.record(businessEntityConfiguration, sql.getSql(), sql.getParameter(), start, affectedRows);
 
         return affectedRows;
     }
@@ -565,9 +979,7 @@ public class BasicDAO implements DataAccessObject {
      * @return sql query
      */
     final String logSQL(Logger logger, String sql) {
-        if (logger.isInfoEnabled()) {
-            logger.info(sql);
-        }
+        logger.debug(sql);
         return sql;
     }
 }
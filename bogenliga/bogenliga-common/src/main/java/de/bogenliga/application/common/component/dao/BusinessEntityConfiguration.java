@@ -2,12 +2,18 @@ package de.bogenliga.application.common.component.dao;
 
 import java.util.Collections;
 import java.util.Map;
+import org.apache.commons.dbutils.BasicRowProcessor;
+import org.apache.commons.dbutils.BeanProcessor;
+import org.apache.commons.dbutils.RowProcessor;
 import org.slf4j.Logger;
+import de.bogenliga.application.common.database.EntityMetadata;
 
 /**
  * I contain the configuration for the business entity mapping between database table and java object.
  *
  * The configuration is used by the {@link BasicDAO} to perform the "object-relational-mapping".
+ * I create the mapping metadata and the result set handlers once, because the configurations are static
+ * constants of the data access objects and are shared by all queries.
  *
  * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
  */
@@ -18,6 +24,11 @@ public class BusinessEntityConfiguration<T> {
 
     private final Logger logger;
 
+    private final EntityMetadata entityMetadata;
+    private final BasicBeanHandler<T> beanHandler;
+    private final BasicBeanListHandler<T> beanListHandler;
+    private final RowProcessor rowProcessor;
+
 
     /**
      * Constructor with mandatory parameter
@@ -33,6 +44,11 @@ public class BusinessEntityConfiguration<T> {
         this.table = table;
         this.columnToFieldMapping = columnToFieldMapping;
         this.logger = logger;
+
+        this.entityMetadata = EntityMetadata.of(businessEntity, table, columnToFieldMapping);
+        this.beanHandler = new BasicBeanHandler<>(businessEntity, columnToFieldMapping);
+        this.beanListHandler = new BasicBeanListHandler<>(businessEntity, columnToFieldMapping);
+        this.rowProcessor = new BasicRowProcessor(new BeanProcessor(columnToFieldMapping));
     }
 
 
@@ -54,4 +70,24 @@ public class BusinessEntityConfiguration<T> {
     Logger getLogger() {
         return logger;
     }
+
+
+    EntityMetadata getEntityMetadata() {
+        return entityMetadata;
+    }
+
+
+    BasicBeanHandler<T> getBeanHandler() {
+        return beanHandler;
+    }
+
+
+    BasicBeanListHandler<T> getBeanListHandler() {
+        return beanListHandler;
+    }
+
+
+    RowProcessor getRowProcessor() {
+        return rowProcessor;
+    }
 }
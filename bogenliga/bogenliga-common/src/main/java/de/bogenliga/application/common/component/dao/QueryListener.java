@@ -0,0 +1,20 @@
+package de.bogenliga.application.common.component.dao;
+
+/**
+ * I am notified after each query of the {@link BasicDAO}, e.g. to record the query metrics.
+ *
+ * @see QueryMonitor#addListener(QueryListener)
+ */
+@FunctionalInterface
+public interface QueryListener {
+
+    /**
+     * Called after the successful execution of a query.
+     *
+     * @param table     of the business entity configuration
+     * @param operation of the query, i.e. "select", "insert", "update", "delete" or "other"
+     * @param duration  of the query in ns
+     * @param rows      number of selected or modified rows
+     */
+    void queryExecuted(String table, String operation, long duration, int rows);
+}
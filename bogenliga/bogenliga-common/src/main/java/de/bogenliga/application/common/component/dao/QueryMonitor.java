@@ -0,0 +1,163 @@
+package de.bogenliga.application.common.component.dao;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import de.bogenliga.application.common.configuration.DatabaseConfiguration;
+
+/**
+ * I measure the queries of the {@link BasicDAO}.
+ *
+ * The duration and row count of each query are passed to the registered {@link QueryListener}s with the table and the
+ * operation of the query, which have a fixed number of values. Queries slower than the configured threshold are logged
+ * with the logger of the data access object and a stable query id of the table and the hash of the sql query.
+ *
+ * The operation of a sql query is determined once and kept in memory. Only a limited number of sql queries is kept,
+ * because queries with dynamic conditions, e.g. IN-lists, are not reused.
+ */
+@Component
+public class QueryMonitor {
+
+    static final String OTHER_OPERATION = "other";
+    private static final List<String> OPERATIONS = Arrays.asList("select", "insert", "update", "delete");
+    // brackets and words of a sql query
+    private static final Pattern SQL_TOKEN = Pattern.compile("[()]|\\w+");
+    static final int MAX_CACHED_OPERATIONS = 1000;
+
+    private final long slowQueryThreshold; // ns, Long.MAX_VALUE = disabled
+    private final List<QueryListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<String, String> operations = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor with dependency injection
+     *
+     * @param databaseConfiguration with the slow query threshold
+     */
+    @Autowired
+    public QueryMonitor(final DatabaseConfiguration databaseConfiguration) {
+        final long threshold = databaseConfiguration.getSlowQueryThreshold();
+        // a negative threshold disables the log of slow queries
+        this.slowQueryThreshold = threshold < 0 ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(threshold);
+    }
+
+
+    /**
+     * Register a listener for all following queries.
+     *
+     * @param listener e.g. to record the query metrics
+     */
+    public void addListener(final QueryListener listener) {
+        listeners.add(listener);
+    }
+
+
+    /**
+     * Return the stable id of a query, e.g. "mannschaft-1a2b3c4d".
+     *
+     * @param businessEntityConfiguration with the table of the query
+     * @param sql                         query with ?-parameters
+     *
+     * @return table and hash of the sql query
+     */
+    public String getQueryId(final BusinessEntityConfiguration<?> businessEntityConfiguration, final String sql) {
+        // the hash of a string is defined by the java specification and does not change with a restart
+        return String.format("%s-%08x", businessEntityConfiguration.getTable(), sql.hashCode());
+    }
+
+
+    /**
+     * Return the operation of a query.
+     *
+     * The operation is the first sql command outside of brackets, so the operation of a common table expression, e.g.
+     * "WITH aktuell AS (SELECT ...) INSERT INTO ...", is its final statement.
+     *
+     * @param sql query with ?-parameters
+     *
+     * @return "select", "insert", "update", "delete" or "other"
+     */
+    public String getOperation(final String sql) {
+        final String operation = operations.get(sql);
+
+        if (operation != null) {
+            return operation;
+        }
+
+        final String parsedOperation = parseOperation(sql);
+        // the limit may be exceeded by concurrent queries, but the number of cached queries does not grow further
+        if (operations.size() < MAX_CACHED_OPERATIONS) {
+            operations.put(sql, parsedOperation);
+        }
+        return parsedOperation;
+    }
+
+
+    /**
+     * @return number of sql queries with a cached operation
+     */
+    int getCachedOperationCount() {
+        return operations.size();
+    }
+
+
+    private static String parseOperation(final String sql) {
+        final Matcher token = SQL_TOKEN.matcher(sql);
+        int depth = 0;
+
+        while (token.find()) {
+            final String word = token.group().toLowerCase(Locale.ROOT);
+
+            if ("(".equals(word)) {
+                depth++;
+            } else if (")".equals(word)) {
+                depth--;
+            } else if (depth == 0 && OPERATIONS.contains(word)) {
+                return word;
+            }
+        }
+        return OTHER_OPERATION;
+    }
+
+
+    /**
+     * Record an executed query.
+     *
+     * @param businessEntityConfiguration with the table and the logger of the data access object
+     * @param sql                         query with ?-parameters
+     * @param sqlQueryParameter           the ?-parameters, only used to log a slow query
+     * @param start                       time of {@link System#nanoTime()} before the query was executed
+     * @param rows                        number of selected or modified rows
+     */
+    public void record(final BusinessEntityConfiguration<?> businessEntityConfiguration, final String sql,
+                       final Object[] sqlQueryParameter, final long start, final int rows) {
+        final long duration = System.nanoTime() - start;
+
+        if (!listeners.isEmpty()) {
+            final String operation = getOperation(sql);
+
+            for (QueryListener listener : listeners) {
+                listener.queryExecuted(businessEntityConfiguration.getTable(), operation, duration, rows);
+            }
+        }
+
+        if (duration >= slowQueryThreshold) {
+            final Logger logger = businessEntityConfiguration.getLogger();
+
+            if (logger.isWarnEnabled()) {
+                logger.warn("Slow query {} took {} ms for {} rows: {} with parameters {}",
+                        getQueryId(businessEntityConfiguration, sql),
+                        TimeUnit.NANOSECONDS.toMillis(duration), rows, sql,
+                        Arrays.deepToString(sqlQueryParameter));
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package de.bogenliga.application.common.component.types;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import de.bogenliga.application.common.validation.Preconditions;
+
+/**
+ * I contain one page of a list, which is paged with the keyset of its ids.
+ *
+ * The cursor of the next page is the id of the last entry of this page. The next page is selected with
+ * {@code WHERE id > cursor ORDER BY id LIMIT limit + 1}, so the database seeks the start of the page with the primary
+ * key index and every page is selected with the same costs. The additional row is not returned, it shows only whether
+ * there is a next page.
+ *
+ * @param <T> type of the entries
+ * @see de.bogenliga.application.common.database.queries.QueryBuilder#whereKeysetAfter(String)
+ */
+public class KeysetPage<T> {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final String PRECONDITION_MSG_LIMIT = "The limit of a page must be positive";
+
+    // all ids are positive, so the first page starts after 0
+    private static final long FIRST_KEY = 0L;
+
+    private final List<T> items;
+    private final Long nextCursor;
+
+
+    /**
+     * Constructor
+     *
+     * @param items      of the page
+     * @param nextCursor id of the last entry or null, if this is the last page
+     */
+    public KeysetPage(final List<T> items, final Long nextCursor) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextCursor = nextCursor;
+    }
+
+
+    /**
+     * Create the page from the selected rows.
+     *
+     * @param rows        selected with the limit of {@link #getQueryLimit(int)}
+     * @param limit       of the page
+     * @param keyFunction to get the id of an entry
+     * @param <T>         type of the entries
+     *
+     * @return page with at most limit entries
+     */
+    public static <T> KeysetPage<T> of(final List<T> rows, final int limit, final Function<T, Long> keyFunction) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(new ArrayList<>(rows), null);
+        }
+
+        final List<T> items = new ArrayList<>(rows.subList(0, limit));
+        return new KeysetPage<>(items, keyFunction.apply(items.get(limit - 1)));
+    }
+
+
+    /**
+     * Check the limit of a requested page and cap it at {@link #MAX_LIMIT}.
+     *
+     * @param limit number of entries of the page
+     *
+     * @return the limit, but at most {@link #MAX_LIMIT}
+     *
+     * @throws de.bogenliga.application.common.errorhandling.exception.BusinessException if the limit is not positive
+     */
+    public static int checkLimit(final int limit) {
+        Preconditions.checkArgument(limit > 0, PRECONDITION_MSG_LIMIT);
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+
+    /**
+     * Return the id to start the page after.
+     *
+     * @param cursor of the previous page or null for the first page
+     *
+     * @return the first id of the page is greater than the returned id
+     */
+    public static long getStartKey(final Long cursor) {
+        return cursor == null ? FIRST_KEY : cursor;
+    }
+
+
+    /**
+     * Return the limit of the query for a page, with one additional row to detect the next page.
+     *
+     * @param limit of the page
+     *
+     * @return limit of the query
+     */
+    public static int getQueryLimit(final int limit) {
+        return limit + 1;
+    }
+
+
+    /**
+     * Convert the entries of the page, e.g. from business entities to data objects.
+     *
+     * @param mapper for each entry
+     * @param <R>    type of the converted entries
+     *
+     * @return page with the same cursor
+     */
+    public <R> KeysetPage<R> map(final Function<T, R> mapper) {
+        return new KeysetPage<>(items.stream().map(mapper).collect(Collectors.toList()), nextCursor);
+    }
+
+
+    public List<T> getItems() {
+        return items;
+    }
+
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
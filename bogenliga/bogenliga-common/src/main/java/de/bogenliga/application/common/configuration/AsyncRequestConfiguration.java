@@ -0,0 +1,58 @@
+package de.bogenliga.application.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "async.request."
+ */
+@Component
+@ConfigurationProperties("async.request")
+public class AsyncRequestConfiguration {
+
+    static final int DEFAULT_THREADS = 8; // threads
+    static final int DEFAULT_QUEUE_CAPACITY = 50; // responses
+
+    private int threads;
+    private int queueCapacity;
+
+
+    /**
+     * Getter
+     *
+     * @return number of threads, which write the streamed responses
+     */
+    public int getThreads() {
+        return threads <= 0 ? DEFAULT_THREADS : threads;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param threads
+     */
+    public void setThreads(final int threads) {
+        this.threads = threads;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of streamed responses waiting for a thread, further requests are rejected
+     */
+    public int getQueueCapacity() {
+        return queueCapacity <= 0 ? DEFAULT_QUEUE_CAPACITY : queueCapacity;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+}
@@ -11,12 +11,38 @@ import org.springframework.stereotype.Component;
 @Component
 @ConfigurationProperties("database")
 public class DatabaseConfiguration {
+
+    static final int DEFAULT_POOL_MINIMUM_IDLE = 2;
+    static final int DEFAULT_POOL_MAXIMUM_SIZE = 10;
+    static final long DEFAULT_POOL_IDLE_TIMEOUT = 600000; // ms
+    static final long DEFAULT_POOL_CONNECTION_TIMEOUT = 30000; // ms
+    static final String DEFAULT_POOL_VALIDATION_QUERY = "SELECT 1";
+    static final long DEFAULT_SLOW_QUERY_THRESHOLD = 500; // ms
+    static final long DEFAULT_REPLICA_MAX_LAG = 5000; // ms
+    static final long DEFAULT_REPLICA_LAG_CHECK_INTERVAL = 10000; // ms
+    static final long DEFAULT_REPLICA_CONNECTION_TIMEOUT = 1000; // ms
+
     private String host;
     private int port;
     private String databaseName;
     private String user;
     private String password;
 
+    private boolean poolEnabled = true;
+    private int poolMinimumIdle;
+    private int poolMaximumSize;
+    private long poolIdleTimeout; // ms
+    private long poolConnectionTimeout; // ms
+    private String poolValidationQuery;
+    private long poolLeakDetectionThreshold; // ms, 0 = disabled
+    private long slowQueryThreshold = DEFAULT_SLOW_QUERY_THRESHOLD; // ms, 0 = all queries, < 0 = disabled
+
+    private String replicaHost; // null = disabled
+    private int replicaPort;
+    private long replicaMaxLag; // ms
+    private long replicaLagCheckInterval; // ms
+    private long replicaConnectionTimeout; // ms
+
 
     /**
      * Getter
@@ -116,4 +142,275 @@ public class DatabaseConfiguration {
     public void setPassword(final String password) {
         this.password = password;
     }
-}
\ No newline at end of file
+
+
+    /**
+     * Getter
+     *
+     * @return true, if the connections are provided by a connection pool
+     */
+    public boolean isPoolEnabled() {
+        return poolEnabled;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolEnabled
+     */
+    public void setPoolEnabled(final boolean poolEnabled) {
+        this.poolEnabled = poolEnabled;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return minimum number of idle connections in the pool
+     */
+    public int getPoolMinimumIdle() {
+        return poolMinimumIdle <= 0 ? DEFAULT_POOL_MINIMUM_IDLE : poolMinimumIdle;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolMinimumIdle
+     */
+    public void setPoolMinimumIdle(final int poolMinimumIdle) {
+        this.poolMinimumIdle = poolMinimumIdle;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of connections in the pool
+     */
+    public int getPoolMaximumSize() {
+        return poolMaximumSize <= 0 ? DEFAULT_POOL_MAXIMUM_SIZE : poolMaximumSize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolMaximumSize
+     */
+    public void setPoolMaximumSize(final int poolMaximumSize) {
+        this.poolMaximumSize = poolMaximumSize;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms after which an idle connection is retired
+     */
+    public long getPoolIdleTimeout() {
+        return poolIdleTimeout <= 0 ? DEFAULT_POOL_IDLE_TIMEOUT : poolIdleTimeout;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolIdleTimeout
+     */
+    public void setPoolIdleTimeout(final long poolIdleTimeout) {
+        this.poolIdleTimeout = poolIdleTimeout;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms to wait for a free connection before the request fails
+     */
+    public long getPoolConnectionTimeout() {
+        return poolConnectionTimeout <= 0 ? DEFAULT_POOL_CONNECTION_TIMEOUT : poolConnectionTimeout;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolConnectionTimeout
+     */
+    public void setPoolConnectionTimeout(final long poolConnectionTimeout) {
+        this.poolConnectionTimeout = poolConnectionTimeout;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return query to validate a pooled connection before it is handed out
+     */
+    public String getPoolValidationQuery() {
+        return poolValidationQuery == null ? DEFAULT_POOL_VALIDATION_QUERY : poolValidationQuery;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolValidationQuery
+     */
+    public void setPoolValidationQuery(final String poolValidationQuery) {
+        this.poolValidationQuery = poolValidationQuery;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms a connection can be out of the pool before a possible leak is logged, 0 disables the check
+     */
+    public long getPoolLeakDetectionThreshold() {
+        return poolLeakDetectionThreshold;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param poolLeakDetectionThreshold
+     */
+    public void setPoolLeakDetectionThreshold(final long poolLeakDetectionThreshold) {
+        this.poolLeakDetectionThreshold = poolLeakDetectionThreshold;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms a query can take before it is logged as a slow query, 0 logs all queries and a negative
+     * value disables the log
+     */
+    public long getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param slowQueryThreshold
+     */
+    public void setSlowQueryThreshold(final long slowQueryThreshold) {
+        this.slowQueryThreshold = slowQueryThreshold;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return true, if a read-only replica of the database is configured
+     */
+    public boolean isReplicaEnabled() {
+        return replicaHost != null && !replicaHost.trim().isEmpty();
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return host of the read-only replica or null, if read-only transactions use the primary database
+     */
+    public String getReplicaHost() {
+        return replicaHost;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param replicaHost
+     */
+    public void setReplicaHost(final String replicaHost) {
+        this.replicaHost = replicaHost;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return port of the read-only replica, the port of the primary database by default
+     */
+    public int getReplicaPort() {
+        return replicaPort <= 0 ? getPort() : replicaPort;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param replicaPort
+     */
+    public void setReplicaPort(final int replicaPort) {
+        this.replicaPort = replicaPort;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum replication lag in ms, read-only transactions use the primary database if the replica lags behind
+     */
+    public long getReplicaMaxLag() {
+        return replicaMaxLag <= 0 ? DEFAULT_REPLICA_MAX_LAG : replicaMaxLag;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param replicaMaxLag
+     */
+    public void setReplicaMaxLag(final long replicaMaxLag) {
+        this.replicaMaxLag = replicaMaxLag;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms between two checks of the replication lag
+     */
+    public long getReplicaLagCheckInterval() {
+        return replicaLagCheckInterval <= 0 ? DEFAULT_REPLICA_LAG_CHECK_INTERVAL : replicaLagCheckInterval;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param replicaLagCheckInterval
+     */
+    public void setReplicaLagCheckInterval(final long replicaLagCheckInterval) {
+        this.replicaLagCheckInterval = replicaLagCheckInterval;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms to wait for a replica connection before the primary database is used
+     */
+    public long getReplicaConnectionTimeout() {
+        return replicaConnectionTimeout <= 0 ? DEFAULT_REPLICA_CONNECTION_TIMEOUT : replicaConnectionTimeout;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param replicaConnectionTimeout
+     */
+    public void setReplicaConnectionTimeout(final long replicaConnectionTimeout) {
+        this.replicaConnectionTimeout = replicaConnectionTimeout;
+    }
+}
@@ -0,0 +1,101 @@
+package de.bogenliga.application.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "pdf.cache."
+ */
+@Component
+@ConfigurationProperties("pdf.cache")
+public class PdfCacheConfiguration {
+
+    static final int DEFAULT_MAX_ENTRIES = 200; // documents
+    static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024; // bytes
+    static final int DEFAULT_MAX_DOCUMENT_BYTES = 4 * 1024 * 1024; // bytes
+
+    private int maxEntries;
+    private long maxBytes;
+    private int maxDocumentBytes;
+    private String version;
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of generated documents kept in memory
+     */
+    public int getMaxEntries() {
+        return maxEntries <= 0 ? DEFAULT_MAX_ENTRIES : maxEntries;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxEntries
+     */
+    public void setMaxEntries(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum size of all generated documents kept in memory
+     */
+    public long getMaxBytes() {
+        return maxBytes <= 0 ? DEFAULT_MAX_BYTES : maxBytes;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxBytes
+     */
+    public void setMaxBytes(final long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum size of a single document, which is buffered while it is streamed to the client
+     */
+    public int getMaxDocumentBytes() {
+        return maxDocumentBytes <= 0 ? DEFAULT_MAX_DOCUMENT_BYTES : maxDocumentBytes;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxDocumentBytes
+     */
+    public void setMaxDocumentBytes(final int maxDocumentBytes) {
+        this.maxDocumentBytes = maxDocumentBytes;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return version of the documents in their entity tags or null, if the version of the build is used
+     */
+    public String getVersion() {
+        return version;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param version
+     */
+    public void setVersion(final String version) {
+        this.version = version;
+    }
+}
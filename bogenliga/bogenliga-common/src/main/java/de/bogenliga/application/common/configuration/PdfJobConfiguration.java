@@ -0,0 +1,104 @@
+package de.bogenliga.application.common.configuration;
+
+import java.io.File;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "pdf.job."
+ */
+@Component
+@ConfigurationProperties("pdf.job")
+public class PdfJobConfiguration {
+
+    static final int DEFAULT_WORKERS = 2; // threads
+    static final int DEFAULT_QUEUE_CAPACITY = 20; // jobs
+    static final long DEFAULT_TIME_TO_LIVE = 3600000; // ms
+    static final String DEFAULT_DIRECTORY = new File(System.getProperty("java.io.tmpdir"), "bogenliga-pdf-jobs")
+            .getPath();
+
+    private int workers;
+    private int queueCapacity;
+    private long timeToLive; // ms
+    private String directory;
+
+
+    /**
+     * Getter
+     *
+     * @return number of threads, which generate the documents of the jobs
+     */
+    public int getWorkers() {
+        return workers <= 0 ? DEFAULT_WORKERS : workers;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param workers
+     */
+    public void setWorkers(final int workers) {
+        this.workers = workers;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of jobs waiting for a worker, further jobs are rejected
+     */
+    public int getQueueCapacity() {
+        return queueCapacity <= 0 ? DEFAULT_QUEUE_CAPACITY : queueCapacity;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time after the end of a job, until the job and its document are deleted
+     */
+    public long getTimeToLive() {
+        return timeToLive <= 0 ? DEFAULT_TIME_TO_LIVE : timeToLive;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param timeToLive
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return directory of the generated documents
+     */
+    public String getDirectory() {
+        return directory == null || directory.isEmpty() ? DEFAULT_DIRECTORY : directory;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param directory
+     */
+    public void setDirectory(final String directory) {
+        this.directory = directory;
+    }
+}
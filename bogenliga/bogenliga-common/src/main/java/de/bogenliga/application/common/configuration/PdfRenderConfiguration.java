@@ -0,0 +1,102 @@
+package de.bogenliga.application.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "pdf.render."
+ */
+@Component
+@ConfigurationProperties("pdf.render")
+public class PdfRenderConfiguration {
+
+    static final int DEFAULT_PARALLELISM = 4; // threads
+    static final int DEFAULT_QUEUE_CAPACITY = 16; // page groups
+    static final int DEFAULT_BUNDLE_PARALLELISM = 2; // threads
+    static final int DEFAULT_BUNDLE_QUEUE_CAPACITY = 8; // documents
+
+    private int parallelism;
+    private int queueCapacity;
+    private int bundleParallelism;
+    private int bundleQueueCapacity;
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of page groups of all documents rendered at the same time
+     */
+    public int getParallelism() {
+        return parallelism <= 0 ? DEFAULT_PARALLELISM : parallelism;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param parallelism
+     */
+    public void setParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of page groups of all documents waiting for a render thread
+     */
+    public int getQueueCapacity() {
+        return queueCapacity <= 0 ? DEFAULT_QUEUE_CAPACITY : queueCapacity;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of documents of all bundles generated at the same time
+     */
+    public int getBundleParallelism() {
+        return bundleParallelism <= 0 ? DEFAULT_BUNDLE_PARALLELISM : bundleParallelism;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param bundleParallelism
+     */
+    public void setBundleParallelism(final int bundleParallelism) {
+        this.bundleParallelism = bundleParallelism;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of documents of all bundles waiting for a bundle thread
+     */
+    public int getBundleQueueCapacity() {
+        return bundleQueueCapacity <= 0 ? DEFAULT_BUNDLE_QUEUE_CAPACITY : bundleQueueCapacity;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param bundleQueueCapacity
+     */
+    public void setBundleQueueCapacity(final int bundleQueueCapacity) {
+        this.bundleQueueCapacity = bundleQueueCapacity;
+    }
+}
@@ -0,0 +1,58 @@
+package de.bogenliga.application.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * I contain the type-safe values of the application properties with the prefix "cache.referencedata."
+ */
+@Component
+@ConfigurationProperties("cache.referencedata")
+public class ReferenceDataCacheConfiguration {
+
+    static final int DEFAULT_MAX_ENTRIES = 1000; // entities per cache
+    static final long DEFAULT_TIME_TO_LIVE = 600000; // ms
+
+    private int maxEntries;
+    private long timeToLive;
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of entities kept per cache
+     */
+    public int getMaxEntries() {
+        return maxEntries <= 0 ? DEFAULT_MAX_ENTRIES : maxEntries;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param maxEntries
+     */
+    public void setMaxEntries(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+
+    /**
+     * Getter
+     *
+     * @return time in ms until a cached entity is read from the database again
+     */
+    public long getTimeToLive() {
+        return timeToLive <= 0 ? DEFAULT_TIME_TO_LIVE : timeToLive;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param timeToLive
+     */
+    public void setTimeToLive(final long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+}
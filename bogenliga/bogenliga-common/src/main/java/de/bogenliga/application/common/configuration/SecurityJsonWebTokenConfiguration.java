@@ -15,10 +15,12 @@ public class SecurityJsonWebTokenConfiguration {
     static final long DEFAULT_EXPIRATION_TIME = 3600000; // ms
     static final String DEFAULT_SECRET = "default-secret-key";
     static final int DEFAULT_REFRESH_COUNT = 3; // x times
+    static final int DEFAULT_CACHE_SIZE = 1000; // tokens
 
     private String secret;
     private long expiration; // ms
     private int refresh;
+    private int cacheSize;
 
 
     /**
@@ -79,4 +81,24 @@ public class SecurityJsonWebTokenConfiguration {
     public void setRefresh(final int refresh) {
         this.refresh = refresh;
     }
+
+
+    /**
+     * Getter
+     *
+     * @return maximum number of verified tokens kept in memory
+     */
+    public int getCacheSize() {
+        return cacheSize <= 0 ? DEFAULT_CACHE_SIZE : cacheSize;
+    }
+
+
+    /**
+     * Setter
+     *
+     * @param cacheSize
+     */
+    public void setCacheSize(final int cacheSize) {
+        this.cacheSize = cacheSize;
+    }
 }
\ No newline at end of file
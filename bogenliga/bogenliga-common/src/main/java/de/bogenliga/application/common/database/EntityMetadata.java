@@ -0,0 +1,342 @@
+package de.bogenliga.application.common.database;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import de.bogenliga.application.common.component.entity.CommonBusinessEntity;
+import de.bogenliga.application.common.errorhandling.ErrorCode;
+import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
+
+/**
+ * Vorberechnete Mapping-Informationen einer Business Entity fuer die SQL-Generierung in {@link SQL}.
+ * <p>
+ * Die Felder und Getter einer Klasse werden nur einmal per Reflection ermittelt und als {@link MethodHandle}
+ * zwischengespeichert. Die Spaltennamen werden beim Erzeugen aufgeloest und die generierten SQL-Statements werden je
+ * Feld-Selektor zwischengespeichert.
+ * <p>
+ * Eine Instanz wird pro Tabelle und Spalten-Mapping einmal erzeugt und wiederverwendet, z.B. von der
+ * BusinessEntityConfiguration.
+ */
+public final class EntityMetadata {
+
+    private static final String VERSION = "version";
+    private static final String ID = "id";
+
+    /**
+     * Reflection-Ergebnis je Klasse, unabhaengig von Tabelle und Spalten-Mapping
+     */
+    private static final Map<Class<?>, ClassProperties> CLASS_PROPERTIES = new ConcurrentHashMap<>();
+
+    private final String table;
+    private final List<Property> declaredProperties;
+    private final List<Property> allProperties;
+    private final Map<String, String> columnToFieldMapping;
+    private final Map<String, String> fieldToColumn = new ConcurrentHashMap<>();
+
+    private final Map<List<String>, Statement> selectStatements = new ConcurrentHashMap<>();
+    private final Map<List<String>, Statement> updateStatements = new ConcurrentHashMap<>();
+    private final Map<List<String>, Statement> updateReturningStatements = new ConcurrentHashMap<>();
+    private final Map<List<String>, Statement> updateVersionedStatements = new ConcurrentHashMap<>();
+    private final Map<List<String>, Statement> deleteStatements = new ConcurrentHashMap<>();
+    private final Map<BitSet, String> insertStatements = new ConcurrentHashMap<>();
+
+
+    private EntityMetadata(final Class<?> entityClass, final String tableName,
+                           final Map<String, String> columnToFieldMapping) {
+        final ClassProperties classProperties = CLASS_PROPERTIES.computeIfAbsent(entityClass, ClassProperties::new);
+
+        this.table = tableName != null ? tableName : entityClass.getSimpleName();
+        this.declaredProperties = classProperties.declaredProperties;
+        this.allProperties = classProperties.allProperties;
+        this.columnToFieldMapping = columnToFieldMapping == null
+                ? Collections.emptyMap()
+                : new HashMap<>(columnToFieldMapping);
+    }
+
+
+    /**
+     * Erzeugt die Mapping-Informationen fuer eine Business Entity.
+     *
+     * @param entityClass          Klasse der Business Entity
+     * @param tableName            Tabellenname, falls abweichend vom Klassennamen
+     * @param columnToFieldMapping Mapping zwischen Tabellen-Spaltennamen und Object-Parameternamen
+     *
+     * @return Mapping-Informationen
+     */
+    public static EntityMetadata of(final Class<?> entityClass, final String tableName,
+                                    final Map<String, String> columnToFieldMapping) {
+        return new EntityMetadata(entityClass, tableName, columnToFieldMapping);
+    }
+
+
+    String getTable() {
+        return table;
+    }
+
+
+    /**
+     * @return Felder der Klasse ohne Felder der Oberklasse
+     */
+    List<Property> getDeclaredProperties() {
+        return declaredProperties;
+    }
+
+
+    /**
+     * @return Felder der Klasse und der Oberklasse {@link CommonBusinessEntity}
+     */
+    List<Property> getAllProperties() {
+        return allProperties;
+    }
+
+
+    /**
+     * @param fieldName Name des Attributs
+     *
+     * @return der Name aus der Datenbank durch das Mapping
+     */
+    String resolveColumnName(final String fieldName) {
+        return fieldToColumn.computeIfAbsent(fieldName, this::lookupColumnName);
+    }
+
+
+    Statement selectStatement(final String[] fieldSelector, final Function<String[], Statement> factory) {
+        return cachedStatement(selectStatements, fieldSelector, factory);
+    }
+
+
+    Statement updateStatement(final String[] fieldSelector, final Function<String[], Statement> factory) {
+        return cachedStatement(updateStatements, fieldSelector, factory);
+    }
+
+
+    Statement updateVersionedStatement(final String[] fieldSelector,
+                                       final Function<String[], Statement> factory) {
+        return cachedStatement(updateVersionedStatements, fieldSelector, factory);
+    }
+
+
+    Statement updateReturningStatement(final String[] fieldSelector,
+                                       final Function<String[], Statement> factory) {
+        return cachedStatement(updateReturningStatements, fieldSelector, factory);
+    }
+
+
+    Statement deleteStatement(final String[] fieldSelector, final Function<String[], Statement> factory) {
+        return cachedStatement(deleteStatements, fieldSelector, factory);
+    }
+
+
+    String insertStatement(final BitSet presentProperties, final Function<BitSet, String> factory) {
+        return insertStatements.computeIfAbsent(presentProperties, factory);
+    }
+
+
+    private static Statement cachedStatement(final Map<List<String>, Statement> cache, final String[] fieldSelector,
+                                             final Function<String[], Statement> factory) {
+        return cache.computeIfAbsent(Collections.unmodifiableList(Arrays.asList(fieldSelector.clone())),
+                key -> factory.apply(fieldSelector));
+    }
+
+
+    private String lookupColumnName(final String fieldName) {
+        for (final Map.Entry<String, String> entry : columnToFieldMapping.entrySet()) {
+            if (fieldName.equals(entry.getValue())) {
+                return entry.getKey();
+            }
+        }
+
+        return fieldName;
+    }
+
+
+    /**
+     * Generiertes SQL-Statement mit den Feldern, deren Werte in der Reihenfolge der ?-Parameter gelesen werden.
+     */
+    static final class Statement {
+        private final String sql;
+        private final List<Property> setParameters;
+        private final List<Property> whereParameters;
+
+
+        Statement(final String sql, final List<Property> setParameters, final List<Property> whereParameters) {
+            this.sql = sql;
+            this.setParameters = Collections.unmodifiableList(setParameters);
+            this.whereParameters = Collections.unmodifiableList(whereParameters);
+        }
+
+
+        String getSql() {
+            return sql;
+        }
+
+
+        List<Property> getSetParameters() {
+            return setParameters;
+        }
+
+
+        List<Property> getWhereParameters() {
+            return whereParameters;
+        }
+    }
+
+
+    /**
+     * Ein auf die Datenbank abbildbares Feld mit vorberechnetem Getter.
+     */
+    static final class Property {
+        private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+        private final String name;
+        private final String getterName;
+        private final MethodHandle declaredGetter;
+        private final MethodHandle getter;
+
+
+        private Property(final Class<?> entityClass, final Field field) {
+            this.name = field.getName();
+            this.getterName = retrieveGetterName(field);
+            this.declaredGetter = findGetter(entityClass, getterName);
+
+            // if it's a method of the superclass CommonBusinessEntity
+            if (declaredGetter == null && entityClass.getSuperclass() == CommonBusinessEntity.class) {
+                this.getter = findGetter(CommonBusinessEntity.class, getterName);
+            } else {
+                this.getter = declaredGetter;
+            }
+        }
+
+
+        String getName() {
+            return name;
+        }
+
+
+        boolean isVersion() {
+            return VERSION.equals(name);
+        }
+
+
+        boolean isId() {
+            return ID.equals(name);
+        }
+
+
+        /**
+         * Liest den Wert ueber den in der Klasse deklarierten Getter oder den Getter der Oberklasse
+         * {@link CommonBusinessEntity}.
+         */
+        Object getValue(final Object entity) {
+            return invoke(getter, entity);
+        }
+
+
+        /**
+         * Liest den Wert nur ueber den in der Klasse deklarierten Getter.
+         */
+        Object getDeclaredValue(final Object entity) {
+            return invoke(declaredGetter, entity);
+        }
+
+
+        private Object invoke(final MethodHandle methodHandle, final Object entity) {
+            if (methodHandle == null) {
+                throw new TechnicalException(ErrorCode.DATABASE_ERROR, new NoSuchMethodException(getterName));
+            }
+
+            try {
+                return (Object) methodHandle.invokeExact(entity);
+            } catch (final Throwable e) {
+                throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+            }
+        }
+
+
+        private static MethodHandle findGetter(final Class<?> entityClass, final String getterName) {
+            try {
+                final Method method = entityClass.getDeclaredMethod(getterName);
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+            } catch (final NoSuchMethodException | IllegalAccessException | SecurityException e) {
+                // reported as NoSuchMethodException, if the value is read
+                return null;
+            }
+        }
+
+
+        /**
+         * @param field Das Feld von welchem der Getter gesucht wird
+         *
+         * @return den String des Getters
+         */
+        private static String retrieveGetterName(final Field field) {
+            final String fName = field.getName();
+            final String suffix;
+            if (boolean.class.isAssignableFrom(field.getType())
+                    || Boolean.class.isAssignableFrom(field.getType())) {
+                suffix = "is";
+            } else {
+                suffix = "get";
+            }
+
+            return suffix + fName.substring(0, 1).toUpperCase() + fName.substring(1);
+        }
+    }
+
+
+    /**
+     * Die per Reflection ermittelten Felder einer Klasse.
+     */
+    private static final class ClassProperties {
+        private final List<Property> declaredProperties;
+        private final List<Property> allProperties;
+
+
+        private ClassProperties(final Class<?> entityClass) {
+            final List<Property> declared = toProperties(entityClass, entityClass.getDeclaredFields());
+            final List<Property> all = new ArrayList<>(declared);
+
+            final Class<?> superclass = entityClass.getSuperclass();
+            if (superclass != null && superclass == CommonBusinessEntity.class) {
+                all.addAll(toProperties(entityClass, superclass.getDeclaredFields()));
+            }
+
+            this.declaredProperties = Collections.unmodifiableList(declared);
+            this.allProperties = Collections.unmodifiableList(all);
+        }
+
+
+        private static List<Property> toProperties(final Class<?> entityClass, final Field[] fields) {
+            final List<Property> properties = new ArrayList<>();
+
+            for (final Field field : fields) {
+                if (isMappableField(field)) {
+                    properties.add(new Property(entityClass, field));
+                }
+            }
+
+            return properties;
+        }
+
+
+        /**
+         * Only non-transient non-static fields can be mapped to the data base.
+         */
+        private static boolean isMappableField(final Field field) {
+            return !Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers());
+        }
+    }
+}
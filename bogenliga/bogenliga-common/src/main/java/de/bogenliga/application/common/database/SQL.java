@@ -1,30 +1,30 @@
 package de.bogenliga.application.common.database;
 
-import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import de.bogenliga.application.common.component.entity.CommonBusinessEntity;
+import de.bogenliga.application.common.database.EntityMetadata.Property;
+import de.bogenliga.application.common.database.EntityMetadata.Statement;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 
 /**
  * Helper-Klasse um fuer komplexe SQL Spalten-Eindeutigkeit herzustellen, indem jeder Spalte der zugehoerige
  * Tabellenname mit _ vorangestellt wird.
+ * <p>
+ * Die Reflection-Informationen und die generierten Statements werden in den {@link EntityMetadata} zwischengespeichert.
+ * Aufrufer mit einer festen Konfiguration sollten die Methoden mit {@link EntityMetadata} verwenden.
  *
  * @author Alexander Jost
  */
 public final class SQL {
 
 
-    private static final String VERSION = "version";
+    private static final String ID = "id";
 
 
     /**
@@ -41,160 +41,26 @@ public final class SQL {
     public static SQLWithParameter selectSQL(final Object selectObj, final String tableName,
                                              final String[] fieldSelector,
                                              final Map<String, String> columnToFieldMapping) {
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        final StringBuilder sql = new StringBuilder();
-        final List<Object> para = new ArrayList<>();
-
-        sql.append("SELECT *");
-
-        try {
-
-            sql.append(" FROM ");
-
-            final Field[] fields = getAllFields(selectObj);
-            for (String selector : fieldSelector) {
-                para.add(findFieldSelectorValue(selectObj, selector, fields));
-            }
-
-            final String tName = selectObj.getClass().getSimpleName();
-
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
-
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
-        }
-
-        sqlWithParameter.setParameter(para.toArray());
-        return appendWhereStatements(sql, fieldSelector, columnToFieldMapping, sqlWithParameter);
-    }
-
-
-    /**
-     * @param updateObj das objekt in welchem die Felder gesucht werden
-     *
-     * @return alle felder und felder der oberklasse
-     */
-    private static Field[] getAllFields(Object updateObj) {
-        Class startClass = updateObj.getClass();
-        List<Field> currentClassFields = new ArrayList<>();
-        currentClassFields.addAll(Arrays.asList(startClass.getDeclaredFields()));
-
-        Class superclass = startClass.getSuperclass();
-        if (superclass != null && superclass == CommonBusinessEntity.class) {
-            currentClassFields.addAll(Arrays.asList(superclass.getDeclaredFields()));
-        }
-        Field[] fields = new Field[currentClassFields.size()];
-        return currentClassFields.toArray(fields);
-    }
-
-
-    /**
-     * Überprüft ob die Felder der Tabelle geupdatet werden dürfen
-     *
-     * @param fName name des feldes
-     *
-     * @return checkt ob das Feld geupdatet werden darf
-     */
-    private static boolean isUpdatableField(String fName) {
-        return !fName.equals("createdAtUtc")
-                && !fName.equals("createdByUserId")
-                && !fName.equals(VERSION);
+        return selectSQL(selectObj, EntityMetadata.of(selectObj.getClass(), tableName, columnToFieldMapping),
+                fieldSelector);
     }
 
 
     /**
-     * searchs for a method, including the first super class
-     *
-     * @param obj   the object to look for the method
-     * @param field the of which the getter is searched
-     * @param name  the name of the field
+     * Baut ein SELECT * FROM table_name WHERE <fieldSelector> = ?; mit den vorberechneten Mapping-Informationen.
      *
-     * @return
+     * @param selectObj     Object, fuer das das Statement gebaut wird
+     * @param metadata      Mapping-Informationen der Klasse des Objects
+     * @param fieldSelector Selektor für eine Zeile, falls abweichend von "id"
      *
-     * @throws NoSuchMethodException
+     * @return SELECT SQL und zugehoerige Parameterliste
      */
-    private static Method getGetterMethod(Object obj, Field field, String name) throws NoSuchMethodException {
-
-        final String getterName = retrieveGetterName(field, name);
-        Method getter;
-        try {
-            getter = obj.getClass().getDeclaredMethod(getterName);
-        } catch (NoSuchMethodException e) {
-            // if it's a method of the superclass CommonBusinessEntity
-            if (obj.getClass().getSuperclass() == CommonBusinessEntity.class) {
-                getter = obj.getClass().getSuperclass().getDeclaredMethod(getterName);
-            } else {
-                throw new NoSuchMethodException(Arrays.toString(e.getStackTrace()));
-            }
-
-        }
+    public static SQLWithParameter selectSQL(final Object selectObj, final EntityMetadata metadata,
+                                             final String[] fieldSelector) {
+        final Statement statement = metadata.selectStatement(fieldSelector,
+                selectors -> buildSelectStatement(metadata, selectors));
 
-        return getter;
-    }
-
-
-    /**
-     * @param selectObj     das Objekt  von welchem der Wert genommen wird
-     * @param fieldSelector das Feld nach welchem die Entität genommen wird
-     * @param fields        Alle Felder die durchsucht werden
-     *
-     * @return der Wert des Feldes
-     *
-     * @throws NoSuchMethodException
-     * @throws InvocationTargetException
-     * @throws IllegalAccessException
-     */
-    private static Object findFieldSelectorValue(final Object selectObj, final String fieldSelector,
-                                                 final Field[] fields) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
-                if (fName.equals("id") || fName.equals(fieldSelector)) {
-                    final Method getter = getGetterMethod(selectObj, field, fName);
-                    final Object value = getter.invoke(selectObj);
-                    return value;
-                }
-            }
-
-        }
-        throw new NoSuchMethodException("fieldSelector doesn't exist");
-    }
-
-
-    private static Object appendFieldsToSelectStatement(final Object selectObj, final String fieldSelector,
-                                                        final Map<String, String> columnToFieldMapping,
-                                                        final StringBuilder sql,
-                                                        final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        boolean first = true;
-        Object idValue = null;
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
-                final Method getter = getGetterMethod(selectObj, field, fName);
-                final Object value = getter.invoke(selectObj);
-
-                if (fName.equals("id") || fName.equals(fieldSelector)) {
-                    idValue = value;
-                }
-
-                if (first) {
-                    first = false;
-                } else {
-                    sql.append(", ");
-                }
-
-                final String columnName = resolveColumName(fName, columnToFieldMapping);
-
-                sql.append(columnName);
-            }
-        }
-        return idValue;
+        return toSQLWithParameter(statement, selectObj);
     }
 
 
@@ -229,37 +95,40 @@ public final class SQL {
      */
     public static SQLWithParameter insertSQL(final Object insertObj, final String tableName,
                                              final Map<String, String> columnToFieldMapping) {
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        final StringBuilder sql = new StringBuilder();
-        final StringBuilder values = new StringBuilder();
-        final List<Object> para = new ArrayList<>();
-
-        sql.append("INSERT INTO ");
-        values.append(") VALUES (");
+        return insertSQL(insertObj, EntityMetadata.of(insertObj.getClass(), tableName, columnToFieldMapping));
+    }
 
-        try {
-            final String tName = insertObj.getClass().getSimpleName();
 
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
+    /**
+     * Baut ein INSERT INTO {table_name} ({column1}, {column2}, {column3},...) VALUES (?, ?, ?,...); mit den
+     * vorberechneten Mapping-Informationen. Felder mit dem Wert null und das Feld "id" werden nicht eingefuegt.
+     *
+     * @param insertObj Object, fuer das das Statement gebaut wird
+     * @param metadata  Mapping-Informationen der Klasse des Objects
+     *
+     * @return INSERT SQL und zugehoerige Parameterliste
+     */
+    public static SQLWithParameter insertSQL(final Object insertObj, final EntityMetadata metadata) {
+        final List<Property> properties = metadata.getDeclaredProperties();
+        final BitSet insertedProperties = new BitSet(properties.size());
+        final List<Object> para = new ArrayList<>();
 
-            sql.append(" (");
-            final Field[] fields = insertObj.getClass().getDeclaredFields();
+        for (int i = 0; i < properties.size(); i++) {
+            final Property property = properties.get(i);
 
-            appendFieldsToInsertStatement(insertObj, columnToFieldMapping, sql, values, para, fields);
+            if (!property.isVersion()) {
+                final Object value = property.getDeclaredValue(insertObj);
 
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+                if (!property.isId() && !Objects.isNull(value)) {
+                    insertedProperties.set(i);
+                    para.add(toParameter(value));
+                }
+            }
         }
 
-        sql.append(values);
-        sql.append(");");
-
-        sqlWithParameter.setSql(sql.toString());
+        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
+        sqlWithParameter.setSql(metadata.insertStatement(insertedProperties,
+                inserted -> buildInsertStatement(metadata, inserted)));
         sqlWithParameter.setParameter(para.toArray());
 
         return sqlWithParameter;
@@ -300,79 +169,71 @@ public final class SQL {
     public static SQLWithParameter updateSQL(final Object updateObj, final String tableName,
                                              final String fieldSelector[],
                                              final Map<String, String> columnToFieldMapping) {
-        final StringBuilder sql = new StringBuilder();
-        final List<Object> para = new ArrayList<>();
-        sql.append("UPDATE ");
-
-        try {
-            final String tName = updateObj.getClass().getSimpleName();
-
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
-
-            sql.append(" SET ");
-            final Field[] fields = getAllFields(updateObj);
-
-            return appendFieldsToUpdateStatement(updateObj, fieldSelector, columnToFieldMapping, sql, para, fields);
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
-        }
+        return updateSQL(updateObj, EntityMetadata.of(updateObj.getClass(), tableName, columnToFieldMapping),
+                fieldSelector);
     }
 
 
     /**
-     * @param sql der sql string
-     * @param fieldSelector Felder welche beim where statement gesucht werden
-     * @param columnToFieldMapping Felder mapper um auf die Datenbank zu mappen
-     * @param sqlWithParameter der schlussendlicher SQL mit String und Parametern
+     * Baut ein UPDATE {table_name} SET {column1}=?, {column2}=?, {column3}=?, ...) WHERE {fieldSelector} = ?; mit den
+     * vorberechneten Mapping-Informationen.
      *
-     * @return
+     * @param updateObj     Object, fuer das das Statement gebaut wird
+     * @param metadata      Mapping-Informationen der Klasse des Objects
+     * @param fieldSelector Definiert den Identifier fuer die betroffene Zeile
+     *
+     * @return UPDATE SQL und zugehoerige Parameterliste
      */
-    private static SQLWithParameter appendWhereStatements(StringBuilder sql, String[] fieldSelector,
-                                                          Map<String, String> columnToFieldMapping,
-                                                          SQLWithParameter sqlWithParameter) {
-        sql.append(" WHERE ");
-        int i = 0;
-        for (String selector : fieldSelector) {
-            if (i > 0) {
-                sql.append(" AND ");
-            }
+    public static SQLWithParameter updateSQL(final Object updateObj, final EntityMetadata metadata,
+                                             final String[] fieldSelector) {
+        final Statement statement = metadata.updateStatement(fieldSelector,
+                selectors -> buildUpdateStatement(metadata, selectors));
 
-            if (selector != null) {
-                sql.append(resolveColumName(selector, columnToFieldMapping));
-            } else {
-                throw new TechnicalException(ErrorCode.DATABASE_ERROR, "Field selector specified not found");
-            }
-            sql.append(" = ? ");
-            i++;
-        }
+        return toSQLWithParameter(statement, updateObj);
+    }
 
-        sql.append(";");
 
-        sqlWithParameter.setSql(sql.toString());
+    /**
+     * Baut ein UPDATE {table_name} SET {column1}=?, ..., version = version + 1 WHERE {fieldSelector} = ? AND (version
+     * IS NULL OR version = ?) RETURNING *; mit den vorberechneten Mapping-Informationen.
+     * <p>
+     * Die optimistische Sperre wird damit in einem Statement geprueft: Wurde die Zeile zwischenzeitlich geaendert,
+     * liefert das Statement keine Zeile zurueck. Zeilen ohne Version werden wie bisher ohne Pruefung aktualisiert.
+     *
+     * @param updateObj     Object mit Version, fuer das das Statement gebaut wird
+     * @param metadata      Mapping-Informationen der Klasse des Objects
+     * @param fieldSelector Definiert den Identifier fuer die betroffene Zeile
+     *
+     * @return UPDATE SQL und zugehoerige Parameterliste, der letzte Parameter ist die erwartete Version
+     */
+    public static SQLWithParameter updateVersionedSQL(final Object updateObj, final EntityMetadata metadata,
+                                                      final String[] fieldSelector) {
+        final Statement statement = metadata.updateVersionedStatement(fieldSelector,
+                selectors -> buildUpdateVersionedStatement(metadata, selectors));
 
-        return sqlWithParameter;
+        return toSQLWithParameter(statement, updateObj);
     }
 
 
     /**
-     * Das hier sollte nie wieder verwendet werden. Die wenigsten Tabellen verwenden ein die wirklich ID heißt
-     *
-     * Baut ein DELETE FROM table_name WHERE id = ?; aus dem uebergebenen Object. Fuer die ?-Parameter werden auch die
-     * Werte in der richtigen Reihenfolge ermittelt.
+     * Baut ein UPDATE {table_name} SET {column1}=?, {column2}=?, ... WHERE {fieldSelector} = ? RETURNING *; mit den
+     * vorberechneten Mapping-Informationen.
+     * <p>
+     * Die aktualisierte Zeile wird von demselben Statement zurueckgeliefert und muss nicht erneut gelesen werden.
      *
-     * @param updateObj Object, fuer das das Statement gebaut wird
+     * @param updateObj     Object, fuer das das Statement gebaut wird
+     * @param metadata      Mapping-Informationen der Klasse des Objects
+     * @param fieldSelector Definiert den Identifier fuer die betroffene Zeile
      *
-     * @return DELETE SQL und zugehoerige Parameterliste
+     * @return UPDATE SQL und zugehoerige Parameterliste
+     */
+    public static SQLWithParameter updateReturningSQL(final Object updateObj, final EntityMetadata metadata,
+                                                      final String[] fieldSelector) {
+        final Statement statement = metadata.updateReturningStatement(fieldSelector,
+                selectors -> buildUpdateReturningStatement(metadata, selectors));
 
-    public static SQLWithParameter deleteSQL(final Object updateObj) {
-        return deleteSQL(updateObj, null, null, null);
+        return toSQLWithParameter(statement, updateObj);
     }
-    */
 
 
     /**
@@ -396,223 +257,304 @@ public final class SQL {
     public static SQLWithParameter deleteSQL(final Object updateObj, final String tableName,
                                              final String[] fieldSelector,
                                              final Map<String, String> columnToFieldMapping) {
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        final StringBuilder sql = new StringBuilder();
-        final List<Object> para;
+        return deleteSQL(updateObj, EntityMetadata.of(updateObj.getClass(), tableName, columnToFieldMapping),
+                fieldSelector);
+    }
 
-        sql.append("DELETE FROM ");
 
-        try {
-            final String tName = updateObj.getClass().getSimpleName();
+    /**
+     * Baut ein DELETE FROM {table_name} WHERE {fieldSelector} = ?; mit den vorberechneten Mapping-Informationen.
+     *
+     * @param deleteObj     Object, fuer das das Statement gebaut wird
+     * @param metadata      Mapping-Informationen der Klasse des Objects
+     * @param fieldSelector Definiert den Identifier fuer die betroffene Zeile
+     *
+     * @return DELETE SQL und zugehoerige Parameterliste
+     */
+    public static SQLWithParameter deleteSQL(final Object deleteObj, final EntityMetadata metadata,
+                                             final String[] fieldSelector) {
+        final Statement statement = metadata.deleteStatement(fieldSelector,
+                selectors -> buildDeleteStatement(metadata, selectors));
 
-            if (tableName != null) {
-                sql.append(tableName);
-            } else {
-                sql.append(tName);
-            }
+        return toSQLWithParameter(statement, deleteObj);
+    }
 
-            final Field[] fields = updateObj.getClass().getDeclaredFields();
 
-            para = appendFieldsToDeleteStatement(updateObj, fieldSelector, fields);
-        } catch (final SecurityException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException
-                | InvocationTargetException e) {
-            throw new TechnicalException(ErrorCode.DATABASE_ERROR, e);
+    /**
+     * Liest die Werte fuer die ?-Parameter eines vorberechneten Statements aus dem Object.
+     * <p>
+     * Enums in den SET-Parametern werden mit ihrem Namen gespeichert, die WHERE-Parameter werden unveraendert
+     * uebergeben.
+     */
+    private static SQLWithParameter toSQLWithParameter(final Statement statement, final Object obj) {
+        final List<Object> para = new ArrayList<>();
+
+        for (final Property property : statement.getSetParameters()) {
+            para.add(toParameter(property.getValue(obj)));
+        }
+
+        for (final Property property : statement.getWhereParameters()) {
+            para.add(property.getValue(obj));
         }
 
+        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
+        sqlWithParameter.setSql(statement.getSql());
         sqlWithParameter.setParameter(para.toArray());
-        return appendWhereStatements(sql, fieldSelector, columnToFieldMapping, sqlWithParameter);
+        return sqlWithParameter;
     }
 
 
     /**
-     * Checks if the given field can be mapped. Only non-transient non-static fields can be mapped types the data base.
+     * @param metadata      Mapping-Informationen
+     * @param fieldSelector das Feld nach welchem die Entität genommen wird
      *
-     * @param field a field
+     * @return SELECT mit den Feldern, deren Werte als Selektor verwendet werden
+     */
+    private static Statement buildSelectStatement(final EntityMetadata metadata, final String[] fieldSelector) {
+        final List<Property> whereParameters = new ArrayList<>();
+
+        for (final String selector : fieldSelector) {
+            whereParameters.add(findFieldSelector(metadata.getAllProperties(), selector));
+        }
+
+        final StringBuilder sql = new StringBuilder();
+        sql.append("SELECT * FROM ").append(metadata.getTable());
+        appendWhereStatements(sql, fieldSelector, metadata);
+
+        return new Statement(sql.toString(), Collections.emptyList(), whereParameters);
+    }
+
+
+    /**
+     * @param properties    Alle Felder die durchsucht werden
+     * @param fieldSelector das Feld nach welchem die Entität genommen wird
      *
-     * @return <code>true</code> if the field can be mapped, <code>false</code> otherwise
+     * @return das erste Feld "id" oder das Feld mit dem Namen des Selektors
      */
-    private static boolean isMappableField(final Field field) {
-        return !Modifier.isTransient(field.getModifiers()) && !Modifier.isStatic(field.getModifiers());
+    private static Property findFieldSelector(final List<Property> properties, final String fieldSelector) {
+        for (final Property property : properties) {
+            if (property.isId() || property.getName().equals(fieldSelector)) {
+                return property;
+            }
+        }
+
+        throw new TechnicalException(ErrorCode.DATABASE_ERROR,
+                new NoSuchMethodException("fieldSelector doesn't exist"));
     }
 
 
-    private static void appendFieldsToInsertStatement(final Object insertObj,
-                                                      final Map<String, String> columnToFieldMapping,
-                                                      final StringBuilder sql, final StringBuilder values,
-                                                      final List<Object> para,
-                                                      final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+    private static String buildInsertStatement(final EntityMetadata metadata, final BitSet insertedProperties) {
+        final List<Property> properties = metadata.getDeclaredProperties();
+        final StringBuilder sql = new StringBuilder();
+        final StringBuilder values = new StringBuilder();
+
+        sql.append("INSERT INTO ").append(metadata.getTable()).append(" (");
+        values.append(") VALUES (");
+
         boolean first = true;
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
-
-                if (!VERSION.equals(fName)) {
-                    final String getterName = retrieveGetterName(field, fName);
-                    final Method getter = insertObj.getClass().getDeclaredMethod(getterName);
-                    Object value = getter.invoke(insertObj);
-
-                    if (fName.equals("id") || Objects.isNull(value)) {
-                        continue;
-                    } else if (value.getClass().isEnum()) {
-                        value = ((Enum) value).name();
-                    }
-
-                    if (first) {
-                        first = false;
-                    } else {
-                        sql.append(", ");
-                        values.append(", ");
-                    }
-
-                    final String columnName = resolveColumName(fName, columnToFieldMapping);
-
-                    sql.append(columnName);
-                    values.append("?");
-                    para.add(value);
-                }
+        for (int i = insertedProperties.nextSetBit(0); i >= 0; i = insertedProperties.nextSetBit(i + 1)) {
+            if (first) {
+                first = false;
+            } else {
+                sql.append(", ");
+                values.append(", ");
             }
+
+            sql.append(metadata.resolveColumnName(properties.get(i).getName()));
+            values.append("?");
         }
+
+        sql.append(values);
+        sql.append(");");
+
+        return sql.toString();
     }
 
 
     /**
+     * @param metadata      Mapping-Informationen
+     * @param fieldSelector die Felder, welche nicht geupdatet werden, sondern die Zeile identifizieren
      *
-     * @param field Das Feld von welchem der Getter gesucht wird
-     * @param fName Name des Attributs
-     * @return den String des Getters
+     * @return UPDATE mit den Feldern fuer die SET- und WHERE-Parameter
      */
-    private static String retrieveGetterName(final Field field, final String fName) {
-        final String suffix;
-        if (boolean.class.isAssignableFrom(field.getType())
-                || Boolean.class.isAssignableFrom(field.getType())) {
-            suffix = "is";
-        } else {
-            suffix = "get";
+    private static Statement buildUpdateStatement(final EntityMetadata metadata, final String[] fieldSelector) {
+        final List<String> selectors = Arrays.asList(fieldSelector);
+        final List<Property> setParameters = new ArrayList<>();
+        final List<Property> whereParameters = new ArrayList<>();
+        final StringBuilder sql = new StringBuilder();
+
+        sql.append("UPDATE ").append(metadata.getTable()).append(" SET ");
+
+        boolean first = true;
+        for (final Property property : metadata.getAllProperties()) {
+            if (!isUpdatableField(property.getName())) {
+                continue;
+            }
+
+            if (property.isId() || selectors.contains(property.getName())) {
+                whereParameters.add(property);
+                continue;
+            }
+
+            if (first) {
+                first = false;
+            } else {
+                sql.append(", ");
+            }
+
+            sql.append(metadata.resolveColumnName(property.getName())).append("=").append("?");
+            setParameters.add(property);
         }
 
-        return suffix + fName.substring(0, 1).toUpperCase() + fName.substring(1);
+        appendWhereStatements(sql, fieldSelector, metadata);
+
+        return new Statement(sql.toString(), setParameters, whereParameters);
     }
 
 
     /**
+     * @param metadata      Mapping-Informationen
+     * @param fieldSelector die Felder, welche nicht geupdatet werden, sondern die Zeile identifizieren
      *
-     * @param fieldName das feld
-     * @param columnToFieldMapping das mapping
-     * @return der Name aus der Datenbank durch das mapping
+     * @return UPDATE mit RETURNING
      */
-    private static String resolveColumName(final String fieldName, final Map<String, String> columnToFieldMapping) {
-        for (final Map.Entry<String, String> entry : columnToFieldMapping.entrySet()) {
-            if (fieldName.equals(entry.getValue())) {
-                return entry.getKey();
-            }
-        }
+    private static Statement buildUpdateReturningStatement(final EntityMetadata metadata,
+                                                           final String[] fieldSelector) {
+        final Statement update = buildUpdateStatement(metadata, fieldSelector);
+        final String sql = update.getSql().substring(0, update.getSql().lastIndexOf(';')) + "RETURNING *;";
 
-        return fieldName;
+        return new Statement(sql, update.getSetParameters(), update.getWhereParameters());
     }
 
 
     /**
+     * @param metadata      Mapping-Informationen
+     * @param fieldSelector die Felder, welche nicht geupdatet werden, sondern die Zeile identifizieren
      *
-     * @param updateObj das Objekt in welchem gesucht wird
-     * @param fieldSelector die Felder in welchen gesucht wird
-     * @param columnToFieldMapping das mapping
-     * @param sql der StringBuilder um den SQL aufzubauen
-     * @param para die Parameter welche erweitert werden müssen
-     * @param fields die Felder in welchen gesucht werden soll
-     * @return
-     * @throws NoSuchMethodException
-     * @throws IllegalAccessException
-     * @throws InvocationTargetException
+     * @return UPDATE mit Versionspruefung und RETURNING
      */
-    private static SQLWithParameter appendFieldsToUpdateStatement(final Object updateObj, final String[] fieldSelector,
-                                                                  final Map<String, String> columnToFieldMapping,
-                                                                  final StringBuilder sql,
-                                                                  final List<Object> para,
-                                                                  final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        ArrayList<String> fieldselector = new ArrayList<>(Arrays.asList(fieldSelector));
-        ArrayList<Object> params = new ArrayList<>();
-        boolean first = true;
-        for (final Field field : fields) {
-            if (isMappableField(field)) {
-                final String fName = field.getName();
+    private static Statement buildUpdateVersionedStatement(final EntityMetadata metadata,
+                                                           final String[] fieldSelector) {
+        final Statement update = buildUpdateStatement(metadata, fieldSelector);
+
+        Property version = null;
+        for (final Property property : metadata.getAllProperties()) {
+            if (property.isVersion()) {
+                version = property;
+            }
+        }
+
+        if (version == null) {
+            throw new TechnicalException(ErrorCode.DATABASE_ERROR,
+                    new NoSuchMethodException("version field doesn't exist"));
+        }
 
-                if (!VERSION.equals(fName) && isUpdatableField(fName)) {
+        final String versionColumn = metadata.resolveColumnName(version.getName());
+        final String setClause = update.getSql().substring(0, update.getSql().indexOf(" WHERE "));
 
-                    final Method getter = getGetterMethod(updateObj, field, fName);
-                    Object value = getter.invoke(updateObj);
+        final StringBuilder sql = new StringBuilder(setClause);
+        sql.append(", ").append(versionColumn).append(" = ").append(versionColumn).append(" + 1");
+        appendWhereConditions(sql, fieldSelector, metadata);
+        sql.append("AND (").append(versionColumn).append(" IS NULL OR ").append(versionColumn).append(" = ?) ");
+        sql.append("RETURNING *;");
 
-                    if (fName.equals("id") || fieldselector.contains(fName)) {
-                        params.add(value);
-                        continue;
-                    } else if (value != null && value.getClass().isEnum()) {
-                        value = ((Enum) value).name();
-                    }
+        final List<Property> whereParameters = new ArrayList<>(update.getWhereParameters());
+        whereParameters.add(version);
+
+        return new Statement(sql.toString(), update.getSetParameters(), whereParameters);
+    }
 
-                    if (first) {
-                        first = false;
-                    } else {
-                        sql.append(", ");
-                    }
 
-                    final String columnName = resolveColumName(fName, columnToFieldMapping);
+    /**
+     * @param metadata  Mapping-Informationen
+     * @param selectors die Felder nach welchen die Entität gesucht wird
+     *
+     * @return DELETE mit allen Feldern, welche in den Feldselectoren im Objekt zu finden sind
+     */
+    private static Statement buildDeleteStatement(final EntityMetadata metadata, final String[] selectors) {
+        final List<Property> whereParameters = new ArrayList<>();
 
-                    sql.append(columnName).append("=").append("?");
-                    para.add(value);
+        for (final String fieldSelector : selectors) {
+            String identifier = ID;
+            if (fieldSelector != null && !fieldSelector.equals(identifier)) {
+                identifier = fieldSelector;
+            }
+
+            for (final Property property : metadata.getDeclaredProperties()) {
+                if (!property.isVersion() && property.getName().equals(identifier)) {
+                    whereParameters.add(property);
                 }
             }
         }
-        para.addAll(params);
 
-        final SQLWithParameter sqlWithParameter = new SQL().new SQLWithParameter();
-        sqlWithParameter.setSql(sql.toString());
-        sqlWithParameter.setParameter(para.toArray());
-        return appendWhereStatements(sql, fieldSelector, columnToFieldMapping, sqlWithParameter);
+        final StringBuilder sql = new StringBuilder();
+        sql.append("DELETE FROM ").append(metadata.getTable());
+        appendWhereStatements(sql, selectors, metadata);
+
+        // the values of the selectors are converted like the values of the set parameters
+        return new Statement(sql.toString(), whereParameters, Collections.emptyList());
     }
 
 
     /**
+     * Überprüft ob die Felder der Tabelle geupdatet werden dürfen
      *
-     * @param updateObj das Objekt das deletet werden soll
-     * @param selectors die Felder nach welchen die Entität gesucht wird
-     * @param fields die Felder welche durchsucht werden
-     * @return Alle Werte welche in den Feldselectoren im Objekt zu finden sind
-     * @throws NoSuchMethodException
-     * @throws IllegalAccessException
-     * @throws InvocationTargetException
+     * @param fName name des feldes
+     *
+     * @return checkt ob das Feld geupdatet werden darf
      */
-    private static List<Object> appendFieldsToDeleteStatement(final Object updateObj, final String[] selectors,
-                                                              final Field[] fields)
-            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
-        List<Object> idValue = new ArrayList<>();
-        for (String fieldSelector : selectors) {
-            String identifier = "id";
-            if (fieldSelector != null && !fieldSelector.equals(identifier)) {
-                identifier = fieldSelector;
-            }
-
-            for (final Field field : fields) {
-                if (isMappableField(field)) {
-                    final String fName = field.getName();
+    private static boolean isUpdatableField(String fName) {
+        return !fName.equals("createdAtUtc")
+                && !fName.equals("createdByUserId")
+                && !fName.equals("version");
+    }
 
-                    if (!VERSION.equals(fName) && fName.equals(identifier)) {
 
-                        final String getterName = retrieveGetterName(field, fName);
-                        final Method getter = updateObj.getClass().getDeclaredMethod(getterName);
+    /**
+     * @param sql           der sql string
+     * @param fieldSelector Felder welche beim where statement gesucht werden
+     * @param metadata      Mapping-Informationen um auf die Datenbank zu mappen
+     */
+    private static void appendWhereStatements(StringBuilder sql, String[] fieldSelector,
+                                              EntityMetadata metadata) {
+        appendWhereConditions(sql, fieldSelector, metadata);
+        sql.append(";");
+    }
 
-                        Object value = getter.invoke(updateObj);
 
-                        if (value != null && value.getClass().isEnum()) {
-                            value = ((Enum) value).name();
-                        }
+    /**
+     * Haengt die WHERE-Bedingungen ohne abschliessendes ; an.
+     */
+    private static void appendWhereConditions(StringBuilder sql, String[] fieldSelector,
+                                              EntityMetadata metadata) {
+        sql.append(" WHERE ");
+        int i = 0;
+        for (String selector : fieldSelector) {
+            if (i > 0) {
+                sql.append(" AND ");
+            }
 
-                        idValue.add(value);
-                    }
-                }
+            if (selector != null) {
+                sql.append(metadata.resolveColumnName(selector));
+            } else {
+                throw new TechnicalException(ErrorCode.DATABASE_ERROR, "Field selector specified not found");
             }
+            sql.append(" = ? ");
+            i++;
+        }
+    }
+
+
+    /**
+     * @param value Wert eines Feldes
+     *
+     * @return der Name bei Enums, sonst der unveraenderte Wert
+     */
+    private static Object toParameter(final Object value) {
+        if (value != null && value.getClass().isEnum()) {
+            return ((Enum) value).name();
         }
-        return idValue;
+        return value;
     }
 
 
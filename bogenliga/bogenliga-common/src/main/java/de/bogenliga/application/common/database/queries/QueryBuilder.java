@@ -9,7 +9,8 @@ import de.bogenliga.application.common.validation.Preconditions;
  * don't want those unhandy raw SQL strings inside your DAO.
  *
  * Does support:
- * Simple queries, subselects, simple joins with equality, aliases for table names and fields, grouping and ordering.
+ * Simple queries, subselects, simple joins with equality, aliases for table names and fields, grouping and ordering,
+ * keyset pagination.
  *
  * Best practice:
  * Define constants for your table, table columns and required aliases and use them in the query builder api. -> DRY
@@ -77,6 +78,8 @@ public class QueryBuilder {
     public static final String SQL_ORDER_BY = " ORDER BY ";
     public static final String SQL_ORDER_ASC = " ASC ";
     public static final String SQL_ORDER_DESC = " DESC ";
+    public static final String SQL_LIMIT = " LIMIT ";
+    public static final String SQL_LIMIT_VALUE = SQL_LIMIT + SQL_VALUE_PLACEHOLDER;
 
     // Comparators
     public static final String SQL_EQUALS = " = ";
@@ -675,6 +678,49 @@ public class QueryBuilder {
     }
 
 
+    /**
+     * LIMIT operations
+     */
+
+    public QueryBuilder limit() {
+        this.queryValidator.validateLimit();
+
+        this.queryString += SQL_LIMIT_VALUE;
+        return this;
+    }
+
+
+    /**
+     * Keyset pagination
+     *
+     * Usage: [...].from(TABLE).whereKeysetAfter(ID_FIELD) with the parameters (lastIdOfPreviousPage, pageSize)
+     * Result: [...] FROM table WHERE id_field > ? ORDER BY id_field ASC LIMIT ?
+     *
+     * The next page starts after the last key of the previous page, so the database seeks the start of the page with
+     * the index of the key instead of skipping all previous rows like an OFFSET. The key must be unique, e.g. the id.
+     *
+     * @param keyFieldName unique and indexed column
+     *
+     * @return
+     */
+    public QueryBuilder whereKeysetAfter(final String keyFieldName) {
+        return this.whereGt(keyFieldName).orderByAsc(keyFieldName).limit();
+    }
+
+
+    /**
+     * Keyset pagination of a filtered query, e.g. [...].whereEquals(FIELD).andKeysetAfter(ID_FIELD)
+     *
+     * @param keyFieldName unique and indexed column
+     *
+     * @return
+     * @see #whereKeysetAfter(String)
+     */
+    public QueryBuilder andKeysetAfter(final String keyFieldName) {
+        return this.andGt(keyFieldName).orderByAsc(keyFieldName).limit();
+    }
+
+
     /**
      * Query composition
      */
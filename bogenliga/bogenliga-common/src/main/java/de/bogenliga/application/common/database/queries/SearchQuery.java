@@ -0,0 +1,63 @@
+package de.bogenliga.application.common.database.queries;
+
+import java.util.Locale;
+
+/**
+ * I prepare the parameters of the search queries.
+ *
+ * The search queries match the lowercase search expression of a table with {@code LIKE '%term%'} and with the word
+ * similarity operator {@code <%} of the pg_trgm extension. Both are supported by a trigram index on the search
+ * expression. The results are ranked by the word similarity and limited to {@link #RESULT_LIMIT} entries.
+ */
+public final class SearchQuery {
+
+    public static final int RESULT_LIMIT = 100;
+
+    private static final char LIKE_WILDCARD = '%';
+    private static final char LIKE_SINGLE_CHARACTER = '_';
+    private static final char LIKE_ESCAPE = '\\';
+
+
+    /**
+     * Constructor
+     */
+    private SearchQuery() {
+        // empty private constructor
+    }
+
+
+    /**
+     * Return the search term for the similarity operators.
+     *
+     * @param searchTerm of the user
+     *
+     * @return trimmed and lowercase search term
+     */
+    public static String getTerm(final String searchTerm) {
+        return searchTerm.trim().toLowerCase(Locale.GERMAN);
+    }
+
+
+    /**
+     * Return the pattern to find the search term anywhere in the search expression.
+     *
+     * The wildcards of the search term are escaped, so "%" and "_" are matched literally.
+     *
+     * @param searchTerm of the user
+     *
+     * @return LIKE pattern, e.g. "%term%"
+     */
+    public static String getContainsPattern(final String searchTerm) {
+        final String term = getTerm(searchTerm);
+        final StringBuilder pattern = new StringBuilder(term.length() + 2).append(LIKE_WILDCARD);
+
+        for (char character : term.toCharArray()) {
+            if (character == LIKE_WILDCARD || character == LIKE_SINGLE_CHARACTER || character == LIKE_ESCAPE) {
+                pattern.append(LIKE_ESCAPE);
+            }
+            pattern.append(character);
+        }
+
+        return pattern.append(LIKE_WILDCARD).toString();
+    }
+}
@@ -2,7 +2,14 @@ package de.bogenliga.application.common.database.tx;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
 import javax.sql.DataSource;
 import org.postgresql.ds.PGSimpleDataSource;
 import org.slf4j.Logger;
@@ -10,11 +17,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
+import com.zaxxer.hikari.HikariDataSource;
 import de.bogenliga.application.common.configuration.DatabaseConfiguration;
 import de.bogenliga.application.common.errorhandling.ErrorCode;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 
 /**
+ * I manage the transactions of the current thread with one connection of the primary database.
+ *
+ * If a read-only replica is configured, transactions started with {@link #beginOnReplica()} use a connection of the
+ * replica as long as its replication lag is below the configured maximum. Otherwise and if the replica is not reachable,
+ * the primary database is used.
+ *
  * @author Andre Lehnert, eXXcellent solutions consulting & software gmbh
  * @see <a href="https://www.baeldung.com/properties-with-spring">Properties with Spring and Spring Boot</a>
  */
@@ -23,8 +37,17 @@ import de.bogenliga.application.common.errorhandling.exception.TechnicalExceptio
 public class PostgresqlTransactionManager implements TransactionManager {
 
     private static final Logger LOG = LoggerFactory.getLogger(PostgresqlTransactionManager.class);
+    private static final String POOL_NAME = "bogenliga-pool";
+    private static final String REPLICA_POOL_NAME = "bogenliga-replica-pool";
+    // Verzoegerung der Replikation in ms, 0 auf dem Primaerserver
+    static final String REPLICA_LAG_QUERY = "SELECT CASE WHEN pg_is_in_recovery()"
+            + " THEN COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)"
+            + " ELSE 0 END";
     private DataSource ds;
+    private DataSource replicaDs;
     private DatabaseConfiguration databaseConfiguration;
+    private final AtomicLong replicaCheckedAt = new AtomicLong(); // ms
+    private volatile boolean replicaAvailable;
 
 
     /**
@@ -48,6 +71,21 @@ public class PostgresqlTransactionManager implements TransactionManager {
     }
 
 
+    /**
+     * Package-private constructor with all dependencies and a read-only replica
+     *
+     * @param databaseConfiguration with the replication lag settings
+     * @param dataSource            with the database connection
+     * @param replicaDataSource     with the connection of the read-only replica
+     */
+    PostgresqlTransactionManager(DatabaseConfiguration databaseConfiguration, DataSource dataSource,
+                                 DataSource replicaDataSource) {
+        this.databaseConfiguration = databaseConfiguration;
+        ds = dataSource;
+        replicaDs = replicaDataSource;
+    }
+
+
     @Override
     public boolean isActive() {
         return SessionHandler.isActive();
@@ -59,23 +97,67 @@ public class PostgresqlTransactionManager implements TransactionManager {
      */
     @Override
     public void begin() {
-        LOG.debug("Starting transaction.");
+        begin(false);
+    }
+
+
+    /**
+     * Start transaction on the primary database
+     *
+     * The read-only flag of a pooled connection is reset by the pool, when the connection is released.
+     *
+     * @param readOnly true, if the transaction only reads data
+     */
+    @Override
+    public void begin(boolean readOnly) {
+        begin(readOnly, false);
+    }
+
+
+    /**
+     * Start a read-only transaction, which uses the replica, if it is available
+     */
+    @Override
+    public void beginOnReplica() {
+        begin(true, true);
+    }
+
+
+    private void begin(final boolean readOnly, final boolean replica) {
+        LOG.debug("Starting {} transaction{}.", readOnly ? "read-only" : "read-write", replica ? " on replica" : "");
         Connection connection;
+        Connection replicaConnection = null;
 
         try {
-            connection = getDataSource().getConnection();
+            if (replica) {
+                replicaConnection = getReplicaConnection();
+            }
+            connection = replicaConnection != null ? replicaConnection : getDataSource().getConnection();
             connection.setAutoCommit(false);
             connection.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            if (readOnly) {
+                connection.setReadOnly(true);
+            }
             LOG.debug("Created new connection from Datasource.");
         } catch (SQLException e) {
             throw new TechnicalException(ErrorCode.DATABASE_TRANSACTION_ERROR, e);
         }
 
         SessionHandler.setConnection(connection);
+        SessionHandler.setOnReplica(replicaConnection != null);
         SessionHandler.setIsActive(true);
     }
 
 
+    /**
+     * A read-only transaction falls back to the primary database, if the replica is not available.
+     */
+    @Override
+    public boolean isOnReplica() {
+        return isActive() && SessionHandler.isOnReplica();
+    }
+
+
     @Override
     public void rollback() {
         if (isActive()) {
@@ -86,6 +168,7 @@ public class PostgresqlTransactionManager implements TransactionManager {
                 throw new TechnicalException(ErrorCode.DATABASE_TRANSACTION_ERROR, e);
             } finally {
                 SessionHandler.setIsActive(false);
+                SessionHandler.removeCommitActions();
             }
         } else {
             LOG.warn("Trying types rollback inactive transaction.");
@@ -99,6 +182,10 @@ public class PostgresqlTransactionManager implements TransactionManager {
     @Override
     public void commit() {
         if (isActive()) {
+            // an exception of an action is thrown with the transaction still active, so the caller can rollback
+            runBeforeCommitActions();
+
+            final List<Runnable> afterCommitActions;
             try {
                 SessionHandler.getConnection().commit();
                 LOG.debug("Commit transaction.");
@@ -106,13 +193,42 @@ public class PostgresqlTransactionManager implements TransactionManager {
                 throw new TechnicalException(ErrorCode.DATABASE_TRANSACTION_ERROR, e);
             } finally {
                 SessionHandler.setIsActive(false);
+                afterCommitActions = SessionHandler.removeCommitActions();
             }
+
+            runAfterCommitActions(afterCommitActions);
         } else {
             LOG.warn("Trying types commit inactive transaction.");
         }
     }
 
 
+    /**
+     * The action is executed once with the changes of the transaction, even if several changes register it.
+     */
+    @Override
+    public void beforeCommit(final String key, final Runnable action) {
+        if (isActive()) {
+            SessionHandler.getBeforeCommitActions().putIfAbsent(key, action);
+        } else {
+            action.run();
+        }
+    }
+
+
+    /**
+     * The action is executed after the changes are visible to other transactions.
+     */
+    @Override
+    public void afterCommit(final Runnable action) {
+        if (isActive()) {
+            SessionHandler.getAfterCommitActions().add(action);
+        } else {
+            action.run();
+        }
+    }
+
+
     /**
      * Release database connection and rollback all uncommited changes
      */
@@ -148,27 +264,41 @@ public class PostgresqlTransactionManager implements TransactionManager {
     }
 
 
-    public DataSource getDataSource() {
+    private void runBeforeCommitActions() {
+        final Map<String, Runnable> beforeCommitActions = SessionHandler.getBeforeCommitActions();
+
+        // an action may register further actions
+        while (!beforeCommitActions.isEmpty()) {
+            final Iterator<Runnable> iterator = beforeCommitActions.values().iterator();
+            final Runnable action = iterator.next();
+            iterator.remove();
+            action.run();
+        }
+    }
+
+
+    private void runAfterCommitActions(final List<Runnable> afterCommitActions) {
+        for (final Runnable action : afterCommitActions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                // the changes are already committed
+                LOG.warn("Failed to execute action after commit: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+
+    /**
+     * The connection pool is created with the first transaction, concurrent first requests create only one pool.
+     *
+     * @return data source of the primary database
+     */
+    public synchronized DataSource getDataSource() {
         if (ds == null) {
             try {
-                LOG.debug("Database connection: jdbc:postgresql://{}:{}/{} with user '{}' and password length '{}'",
-                        databaseConfiguration.getHost(), databaseConfiguration.getPort(),
-                        databaseConfiguration.getDatabaseName(), databaseConfiguration.getUser(),
-                        databaseConfiguration.getPassword().length());
-
-                PGSimpleDataSource postgresqlDatasource = new PGSimpleDataSource();  // Empty instance.
-                // The value `localhost` means the Postgres cluster running locally on the same machine.
-                postgresqlDatasource.setServerName(databaseConfiguration.getHost());
-                postgresqlDatasource.setPortNumber(databaseConfiguration.getPort());
-                // A connection to Postgres must be made to a specific database rather than to the server as a whole.
-                // You likely have an initial database created named `public`.
-                postgresqlDatasource.setDatabaseName(databaseConfiguration.getDatabaseName());
-                // Or use the super-user 'postgres' for user name if you installed Postgres with defaults and
-                // have not yet created user(s) for your application.
-                postgresqlDatasource.setUser(databaseConfiguration.getUser());
-                postgresqlDatasource.setPassword(databaseConfiguration.getPassword());
-
-                ds = postgresqlDatasource;
+                ds = createDataSource(databaseConfiguration.getHost(), databaseConfiguration.getPort(), POOL_NAME,
+                        databaseConfiguration.getPoolConnectionTimeout());
 
                 testConnection();
             } catch (SQLException | NullPointerException e) {
@@ -180,6 +310,172 @@ public class PostgresqlTransactionManager implements TransactionManager {
     }
 
 
+    /**
+     * The connections of the replica are opened on demand, a missing replica does not prevent the start.
+     *
+     * @return data source of the read-only replica or null, if no replica is configured
+     */
+    public synchronized DataSource getReplicaDataSource() {
+        if (replicaDs == null && databaseConfiguration != null && databaseConfiguration.isReplicaEnabled()) {
+            replicaDs = createDataSource(databaseConfiguration.getReplicaHost(),
+                    databaseConfiguration.getReplicaPort(), REPLICA_POOL_NAME,
+                    databaseConfiguration.getReplicaConnectionTimeout());
+        }
+
+        return replicaDs;
+    }
+
+
+    /**
+     * Return a connection of the replica, if the replica is available.
+     *
+     * @return connection for a read-only transaction or null, if the primary database has to be used
+     */
+    Connection getReplicaConnection() {
+        if (isReplicaAvailable()) {
+            try {
+                return getReplicaDataSource().getConnection();
+            } catch (SQLException e) {
+                LOG.warn("Replica is not available, read-only transaction uses the primary database: {}",
+                        e.getMessage());
+                replicaAvailable = false;
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * I check the replication lag of the replica at most once per configured interval.
+     *
+     * Only one thread checks the lag, all other threads use the last result in the meantime.
+     *
+     * @return true, if the replica is reachable and its replication lag is below the configured maximum
+     */
+    boolean isReplicaAvailable() {
+        if (getReplicaDataSource() == null) {
+            return false;
+        }
+
+        final long now = System.currentTimeMillis();
+        final long checkedAt = replicaCheckedAt.get();
+
+        if (now - checkedAt >= databaseConfiguration.getReplicaLagCheckInterval()
+                && replicaCheckedAt.compareAndSet(checkedAt, now)) {
+            replicaAvailable = checkReplicaLag();
+        }
+
+        return replicaAvailable;
+    }
+
+
+    /**
+     * Query the replication lag of the replica
+     *
+     * @return true, if the replication lag is below the configured maximum
+     */
+    boolean checkReplicaLag() {
+        try (Connection connection = getReplicaDataSource().getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_LAG_QUERY)) {
+
+            final long lag = resultSet.next() ? resultSet.getLong(1) : Long.MAX_VALUE;
+
+            if (lag > databaseConfiguration.getReplicaMaxLag()) {
+                LOG.warn("Replication lag of {} ms exceeds {} ms, read-only transactions use the primary database.",
+                        lag, databaseConfiguration.getReplicaMaxLag());
+                return false;
+            }
+
+            LOG.debug("Replication lag of {} ms.", lag);
+            return true;
+
+        } catch (SQLException e) {
+            LOG.warn("Replica is not available, read-only transactions use the primary database: {}",
+                    e.getMessage());
+            return false;
+        }
+    }
+
+
+    private DataSource createDataSource(String host, int port, String poolName, long connectionTimeout) {
+        LOG.debug("Database connection: jdbc:postgresql://{}:{}/{} with user '{}' and password length '{}'",
+                host, port, databaseConfiguration.getDatabaseName(), databaseConfiguration.getUser(),
+                databaseConfiguration.getPassword().length());
+
+        PGSimpleDataSource postgresqlDatasource = new PGSimpleDataSource();  // Empty instance.
+        // The value `localhost` means the Postgres cluster running locally on the same machine.
+        postgresqlDatasource.setServerName(host);
+        postgresqlDatasource.setPortNumber(port);
+        // A connection to Postgres must be made to a specific database rather than to the server as a whole.
+        // You likely have an initial database created named `public`.
+        postgresqlDatasource.setDatabaseName(databaseConfiguration.getDatabaseName());
+        // Or use the super-user 'postgres' for user name if you installed Postgres with defaults and
+        // have not yet created user(s) for your application.
+        postgresqlDatasource.setUser(databaseConfiguration.getUser());
+        postgresqlDatasource.setPassword(databaseConfiguration.getPassword());
+
+        if (databaseConfiguration.isPoolEnabled()) {
+            return createPooledDataSource(postgresqlDatasource, poolName, connectionTimeout);
+        } else {
+            return postgresqlDatasource;
+        }
+    }
+
+
+    /**
+     * Close all pooled connections on shutdown
+     */
+    @PreDestroy
+    public void close() {
+        if (ds instanceof HikariDataSource) {
+            LOG.info("Close connection pool.");
+            ((HikariDataSource) ds).close();
+        }
+        if (replicaDs instanceof HikariDataSource) {
+            LOG.info("Close replica connection pool.");
+            ((HikariDataSource) replicaDs).close();
+        }
+    }
+
+
+    /**
+     * I wrap the given data source into a connection pool configured by the {@link DatabaseConfiguration}.
+     *
+     * The pool is started lazily with the first requested connection.
+     *
+     * @param dataSource to create the physical database connections
+     *
+     * @return pooled data source
+     */
+    HikariDataSource createPooledDataSource(DataSource dataSource) {
+        return createPooledDataSource(dataSource, POOL_NAME, databaseConfiguration.getPoolConnectionTimeout());
+    }
+
+
+    private HikariDataSource createPooledDataSource(DataSource dataSource, String poolName, long connectionTimeout) {
+        LOG.debug("Connection pool: min idle '{}', max size '{}', idle timeout '{}' ms, leak detection '{}' ms",
+                databaseConfiguration.getPoolMinimumIdle(), databaseConfiguration.getPoolMaximumSize(),
+                databaseConfiguration.getPoolIdleTimeout(), databaseConfiguration.getPoolLeakDetectionThreshold());
+
+        HikariDataSource pooledDataSource = new HikariDataSource();
+        pooledDataSource.setPoolName(poolName);
+        pooledDataSource.setDataSource(dataSource);
+        pooledDataSource.setMinimumIdle(databaseConfiguration.getPoolMinimumIdle());
+        pooledDataSource.setMaximumPoolSize(databaseConfiguration.getPoolMaximumSize());
+        pooledDataSource.setIdleTimeout(databaseConfiguration.getPoolIdleTimeout());
+        pooledDataSource.setConnectionTimeout(connectionTimeout);
+        pooledDataSource.setConnectionTestQuery(databaseConfiguration.getPoolValidationQuery());
+        pooledDataSource.setLeakDetectionThreshold(databaseConfiguration.getPoolLeakDetectionThreshold());
+        // the transaction manager starts every transaction with these settings
+        pooledDataSource.setAutoCommit(false);
+        pooledDataSource.setTransactionIsolation("TRANSACTION_READ_COMMITTED");
+
+        return pooledDataSource;
+    }
+
+
     /**
      * Initial database connection check
      *
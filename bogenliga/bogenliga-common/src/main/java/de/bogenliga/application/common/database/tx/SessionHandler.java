@@ -1,7 +1,11 @@
 package de.bogenliga.application.common.database.tx;
 
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +24,9 @@ final class SessionHandler {
 
     private static final String CONNECTION = "CONNECTION";
     private static final String IS_ACTIVE = "IS_ACTIVE";
+    private static final String ON_REPLICA = "ON_REPLICA";
+    private static final String BEFORE_COMMIT_ACTIONS = "BEFORE_COMMIT_ACTIONS";
+    private static final String AFTER_COMMIT_ACTIONS = "AFTER_COMMIT_ACTIONS";
     private static final String UNEXPECTED_EMPTY_THREAD_LOCAL_FOR_CONNECTION =
             "unexpected empty ThreadLocal for Connection";
 
@@ -104,4 +111,62 @@ final class SessionHandler {
     static void setIsActive(final Boolean active) {
         THREAD_LOCAL.get().put(IS_ACTIVE, active);
     }
+
+
+    /**
+     * Reflects, if the connection in ThreadLocal belongs to a replica of the database.
+     *
+     * @return true, if the connection reads from a replica, false else
+     */
+    static boolean isOnReplica() {
+        return Boolean.TRUE.equals(THREAD_LOCAL.get().get(ON_REPLICA));
+    }
+
+
+    /**
+     * Set, if the connection in ThreadLocal belongs to a replica of the database.
+     *
+     * @param onReplica true, if the connection reads from a replica, false else
+     */
+    static void setOnReplica(final boolean onReplica) {
+        THREAD_LOCAL.get().put(ON_REPLICA, onReplica);
+    }
+
+
+    /**
+     * Return the actions, which are executed before the transaction is committed.
+     *
+     * @return modifiable map of the actions by their key in the order of registration
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Runnable> getBeforeCommitActions() {
+        return (Map<String, Runnable>) THREAD_LOCAL.get()
+                .computeIfAbsent(BEFORE_COMMIT_ACTIONS, key -> new LinkedHashMap<String, Runnable>());
+    }
+
+
+    /**
+     * Return the actions, which are executed after the transaction is committed.
+     *
+     * @return modifiable list of the actions in the order of registration
+     */
+    @SuppressWarnings("unchecked")
+    static List<Runnable> getAfterCommitActions() {
+        return (List<Runnable>) THREAD_LOCAL.get()
+                .computeIfAbsent(AFTER_COMMIT_ACTIONS, key -> new ArrayList<Runnable>());
+    }
+
+
+    /**
+     * Remove the actions registered for the transaction from ThreadLocal.
+     *
+     * @return removed actions, which are executed after the transaction is committed
+     */
+    @SuppressWarnings("unchecked")
+    static List<Runnable> removeCommitActions() {
+        THREAD_LOCAL.get().remove(BEFORE_COMMIT_ACTIONS);
+        final List<Runnable> afterCommitActions = (List<Runnable>) THREAD_LOCAL.get().remove(AFTER_COMMIT_ACTIONS);
+
+        return afterCommitActions == null ? Collections.emptyList() : afterCommitActions;
+    }
 }
@@ -18,6 +18,52 @@ public interface TransactionManager {
      */
     void begin();
 
+    /**
+     * Start a transaction
+     *
+     * A read-only transaction can not modify data. The database may use the hint to optimize the queries.
+     *
+     * @param readOnly true, if the transaction only reads data
+     */
+    void begin(boolean readOnly);
+
+
+    /**
+     * Start a read-only transaction on a replica of the database, if a replica is available
+     *
+     * The replica may lag behind the primary database, so the transaction may not see the latest changes.
+     */
+    void beginOnReplica();
+
+    /**
+     * The replica may lag behind the primary database, so values read in such a transaction must not be kept in
+     * shared caches, e.g. after the cache has been cleared with the commit of a change.
+     *
+     * @return true, if the active transaction reads from a replica of the database
+     */
+    boolean isOnReplica();
+
+    /**
+     * Execute an action once before the transaction is committed, e.g. to update derived data after several changes
+     *
+     * An action with the key of an already registered action is ignored. Without an active transaction the action is
+     * executed immediately.
+     *
+     * @param key    to register the action only once per transaction, e.g. the table and id of the derived data
+     * @param action to execute in the transaction
+     */
+    void beforeCommit(String key, Runnable action);
+
+    /**
+     * Execute an action after the transaction is committed, e.g. to invalidate cached data of the changed entities
+     *
+     * The action is discarded, if the transaction is rolled back. Without an active transaction the action is
+     * executed immediately.
+     *
+     * @param action to execute after the commit
+     */
+    void afterCommit(Runnable action);
+
     /**
      * Undo all changes while transaction (begin)
      */
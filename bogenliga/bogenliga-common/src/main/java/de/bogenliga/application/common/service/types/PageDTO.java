@@ -0,0 +1,80 @@
+package de.bogenliga.application.common.service.types;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import de.bogenliga.application.common.component.types.KeysetPage;
+
+/**
+ * I contain one page of a paged list endpoint.
+ *
+ * The client requests the next page with the {@code nextCursor} as {@code cursor} parameter, until the
+ * {@code nextCursor} is null.
+ *
+ * <pre>{@code
+ *  {
+ *    "items": [ ... ],
+ *    "nextCursor": 1234
+ *  }
+ * }</pre>
+ *
+ * @param <T> type of the data transfer objects
+ * @see KeysetPage
+ */
+public class PageDTO<T extends DataTransferObject> implements DataTransferObject {
+    private static final long serialVersionUID = -3529406581123517452L;
+
+    // default value of the limit request parameter, must be a constant
+    public static final String DEFAULT_LIMIT = "" + KeysetPage.DEFAULT_LIMIT;
+
+    private List<T> items;
+    private Long nextCursor;
+
+
+    public PageDTO() {
+        // empty constructor for the json deserialization
+    }
+
+
+    public PageDTO(final List<T> items, final Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+
+    /**
+     * Convert a page of data objects.
+     *
+     * @param page   of data objects
+     * @param mapper from the data object to the data transfer object
+     * @param <D>    type of the data objects
+     * @param <T>    type of the data transfer objects
+     *
+     * @return page with the same cursor
+     */
+    public static <D, T extends DataTransferObject> PageDTO<T> of(final KeysetPage<D> page,
+                                                                 final Function<D, T> mapper) {
+        return new PageDTO<>(page.getItems().stream().map(mapper).collect(Collectors.toList()),
+                page.getNextCursor());
+    }
+
+
+    public List<T> getItems() {
+        return items;
+    }
+
+
+    public void setItems(final List<T> items) {
+        this.items = items;
+    }
+
+
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+
+    public void setNextCursor(final Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
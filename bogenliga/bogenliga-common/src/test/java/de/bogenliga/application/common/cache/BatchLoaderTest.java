@@ -0,0 +1,114 @@
+package de.bogenliga.application.common.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchLoaderTest {
+
+    private static final String PREFIX = "verein";
+    private static final long MISSING_ID = 99L;
+
+    // ids of every batch query
+    private final List<List<Long>> queries = new ArrayList<>();
+
+
+    private List<String> findByIds(final Collection<Long> ids) {
+        queries.add(new ArrayList<>(ids));
+        return ids.stream().filter(id -> id != MISSING_ID).map(id -> PREFIX + id).collect(Collectors.toList());
+    }
+
+
+    private BatchLoader<Long, String> createLoader() {
+        return new BatchLoader<>(this::findByIds, value -> Long.valueOf(value.substring(PREFIX.length())));
+    }
+
+
+    @Test
+    public void get_withRegisteredIds_shouldLoadAllWithOneQuery() {
+        // prepare test data
+        final BatchLoader<Long, String> underTest = createLoader();
+
+        // call test method
+        underTest.registerAll(Arrays.asList(1L, 2L, 1L)).register(3L);
+        final String first = underTest.get(1L);
+        final String second = underTest.get(2L);
+        final String third = underTest.get(3L);
+
+        // assert result
+        assertThat(first).isEqualTo("verein1");
+        assertThat(second).isEqualTo("verein2");
+        assertThat(third).isEqualTo("verein3");
+        assertThat(queries).containsExactly(Arrays.asList(1L, 2L, 3L));
+    }
+
+
+    @Test
+    public void get_withUnregisteredId_shouldLoadOnlyUnknownIds() {
+        // prepare test data
+        final BatchLoader<Long, String> underTest = createLoader();
+
+        // call test method
+        underTest.get(1L);
+        final String actual = underTest.get(2L);
+        underTest.get(1L);
+
+        // assert result
+        assertThat(actual).isEqualTo("verein2");
+        assertThat(queries).containsExactly(Collections.singletonList(1L), Collections.singletonList(2L));
+    }
+
+
+    @Test
+    public void get_withMissingEntity_shouldReturnNullAndNotQueryAgain() {
+        // prepare test data
+        final BatchLoader<Long, String> underTest = createLoader();
+
+        // call test method
+        final String actual = underTest.get(MISSING_ID);
+        underTest.register(MISSING_ID);
+        final String again = underTest.get(MISSING_ID);
+
+        // assert result
+        assertThat(actual).isNull();
+        assertThat(again).isNull();
+        assertThat(queries).hasSize(1);
+    }
+
+
+    @Test
+    public void getAll_shouldReturnEntitiesInOrderOfIds() {
+        // prepare test data
+        final BatchLoader<Long, String> underTest = createLoader();
+
+        // call test method
+        final Map<Long, String> actual = underTest.getAll(Arrays.asList(3L, MISSING_ID, 1L, 3L));
+
+        // assert result
+        assertThat(actual.keySet()).containsExactly(3L, 1L);
+        assertThat(actual.values()).containsExactly("verein3", "verein1");
+        assertThat(queries).containsExactly(Arrays.asList(3L, MISSING_ID, 1L));
+    }
+
+
+    @Test
+    public void getAll_withoutIds_shouldNotQuery() {
+        // prepare test data
+        final BatchLoader<Long, String> underTest = createLoader();
+
+        // call test method
+        final Map<Long, String> actual = underTest.getAll(Collections.emptyList());
+        final String nullKey = underTest.get(null);
+
+        // assert result
+        assertThat(actual).isEmpty();
+        assertThat(nullKey).isNull();
+        assertThat(queries).isEmpty();
+    }
+}
@@ -0,0 +1,266 @@
+package de.bogenliga.application.common.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import de.bogenliga.application.common.configuration.ReferenceDataCacheConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ReferenceDataCacheTest {
+
+    private static final String NAME = "liga";
+    private static final long ID = 2L;
+    private static final String VALUE = "Württembergliga";
+    private static final long TIME_TO_LIVE = 1000;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+
+    @Mock
+    private Function<Long, String> loader;
+
+    private final AtomicLong now = new AtomicLong(10000);
+    private final AtomicBoolean onReplica = new AtomicBoolean();
+
+
+    private ReferenceDataCache<Long, String> createCache(final int maxEntries) {
+        return new ReferenceDataCache<>(NAME, maxEntries, Long.MAX_VALUE, TIME_TO_LIVE, value -> 0L, onReplica::get,
+                now::get);
+    }
+
+
+    @Test
+    public void get_withCachedValue_shouldNotLoadAgain() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest = createCache(10);
+
+        // configure mocks
+        when(loader.apply(ID)).thenReturn(VALUE);
+
+        // call test method
+        final String first = underTest.get(ID, loader);
+        final String second = underTest.get(ID, loader);
+
+        // assert result
+        assertThat(first).isEqualTo(VALUE);
+        assertThat(second).isSameAs(first);
+        assertThat(underTest.getName()).isEqualTo(NAME);
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+        assertThat(underTest.getMissCount()).isEqualTo(1);
+        assertThat(underTest.size()).isEqualTo(1);
+
+        // verify invocations
+        verify(loader).apply(ID);
+    }
+
+
+    @Test
+    public void get_withExpiredValue_shouldLoadAgain() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest = createCache(10);
+
+        // configure mocks
+        when(loader.apply(ID)).thenReturn(VALUE);
+
+        // call test method
+        underTest.get(ID, loader);
+        now.addAndGet(TIME_TO_LIVE - 1);
+        underTest.get(ID, loader);
+        now.addAndGet(1);
+        underTest.get(ID, loader);
+
+        // assert result
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+        assertThat(underTest.getMissCount()).isEqualTo(2);
+
+        // verify invocations
+        verify(loader, times(2)).apply(ID);
+    }
+
+
+    @Test
+    public void get_withoutValue_shouldNotCacheNull() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest = createCache(10);
+
+        // call test method
+        final String first = underTest.get(ID, loader);
+        final String second = underTest.get(ID, loader);
+
+        // assert result
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(underTest.size()).isZero();
+
+        // verify invocations
+        verify(loader, times(2)).apply(ID);
+    }
+
+
+    @Test
+    public void get_exceedingMaxEntries_shouldRemoveLeastRecentlyUsedValue() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest = createCache(2);
+
+        // configure mocks
+        when(loader.apply(anyLong())).thenReturn(VALUE);
+
+        // call test method
+        underTest.get(1L, loader);
+        underTest.get(2L, loader);
+        underTest.get(1L, loader);
+        underTest.get(3L, loader);
+        underTest.get(1L, loader);
+        underTest.get(2L, loader);
+
+        // assert result
+        assertThat(underTest.size()).isEqualTo(2);
+
+        // verify invocations: 2 was the least recently used value
+        verify(loader, times(1)).apply(1L);
+        verify(loader, times(2)).apply(2L);
+        verify(loader, times(1)).apply(3L);
+    }
+
+
+    @Test
+    public void put_exceedingMaxWeight_shouldRemoveLeastRecentlyUsedValue() {
+        // prepare test data: the weight of a value is its length
+        final ReferenceDataCache<Long, String> underTest =
+                new ReferenceDataCache<>(NAME, 10, 5, Long.MAX_VALUE, String::length, onReplica::get, now::get);
+
+        // call test method: 3 + 3 exceed the maximum weight of 5
+        final boolean cached = underTest.put(1L, "abc");
+        underTest.put(2L, "def");
+        final boolean tooHeavy = underTest.put(3L, "abcdef");
+
+        // assert result
+        assertThat(cached).isTrue();
+        assertThat(tooHeavy).isFalse();
+        assertThat(underTest.getIfPresent(1L)).isNull();
+        assertThat(underTest.getIfPresent(2L)).isEqualTo("def");
+        assertThat(underTest.getIfPresent(3L)).isNull();
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+        assertThat(underTest.getMissCount()).isEqualTo(2);
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+
+    @Test
+    public void put_withoutTimeToLive_shouldNotExpire() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest =
+                new ReferenceDataCache<>(NAME, 10, Long.MAX_VALUE, Long.MAX_VALUE, value -> 0L, onReplica::get,
+                        now::get);
+
+        // call test method
+        underTest.put(ID, VALUE);
+        now.addAndGet(TIME_TO_LIVE);
+
+        // assert result
+        assertThat(underTest.getIfPresent(ID)).isEqualTo(VALUE);
+    }
+
+
+    @Test
+    public void invalidate_shouldLoadAgain() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest = createCache(10);
+
+        // configure mocks
+        when(loader.apply(anyLong())).thenReturn(VALUE);
+
+        // call test method
+        underTest.get(ID, loader);
+        underTest.get(3L, loader);
+        underTest.invalidate(ID);
+        underTest.get(ID, loader);
+        underTest.get(3L, loader);
+        underTest.invalidateAll();
+        underTest.get(3L, loader);
+
+        // verify invocations
+        verify(loader, times(2)).apply(ID);
+        verify(loader, times(2)).apply(3L);
+    }
+
+
+    @Test
+    public void invalidate_whileLoading_shouldNotCacheLoadedValue() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest = createCache(10);
+
+        // configure mocks: the value is changed while the old value is loaded
+        when(loader.apply(ID)).thenAnswer(invocation -> {
+            underTest.invalidate(ID);
+            return VALUE;
+        });
+
+        // call test method
+        final String actual = underTest.get(ID, loader);
+
+        // assert result
+        assertThat(actual).isEqualTo(VALUE);
+        assertThat(underTest.size()).isZero();
+    }
+
+
+    @Test
+    public void get_onReplica_shouldNotCacheLoadedValue() {
+        // prepare test data
+        final ReferenceDataCache<Long, String> underTest = createCache(10);
+        final String changedValue = "Landesliga";
+
+        // configure mocks: the replica does not yet contain the change, which has cleared the cache
+        when(loader.apply(ID)).thenReturn(VALUE, VALUE, changedValue);
+
+        // call test method
+        underTest.get(ID, loader);
+        underTest.invalidateAll();
+        onReplica.set(true);
+        final String fromReplica = underTest.get(ID, loader);
+        onReplica.set(false);
+        final String fromPrimary = underTest.get(ID, loader);
+        onReplica.set(true);
+        final String cached = underTest.get(ID, loader);
+
+        // assert result
+        assertThat(fromReplica).isEqualTo(VALUE);
+        assertThat(fromPrimary).isEqualTo(changedValue);
+        assertThat(cached).isEqualTo(changedValue);
+        assertThat(underTest.getHitCount()).isEqualTo(1);
+
+        // verify invocations
+        verify(loader, times(3)).apply(ID);
+    }
+
+
+    @Test
+    public void getCache_shouldReturnSameCacheAndNotifyListeners() {
+        // prepare test data
+        final ReferenceDataCacheManager underTest =
+                new ReferenceDataCacheManager(new ReferenceDataCacheConfiguration());
+        final List<String> registeredCaches = new ArrayList<>();
+
+        // call test method
+        final ReferenceDataCache<Long, String> ligaCache = underTest.getCache(NAME);
+        underTest.forEachCache(cache -> registeredCaches.add(cache.getName()));
+        final ReferenceDataCache<Long, String> sameCache = underTest.getCache(NAME);
+        underTest.getCache("regionen");
+
+        // assert result
+        assertThat(sameCache).isSameAs(ligaCache);
+        assertThat(registeredCaches).containsExactly(NAME, "regionen");
+    }
+}
@@ -1,8 +1,13 @@
 package de.bogenliga.application.common.component.dao;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -56,6 +61,8 @@ public class BasicDAOTest {
     private PostgresqlTransactionManager transactionManager;
     @Mock
     private Logger logger;
+    @Mock
+    private QueryMonitor queryMonitor;
     @InjectMocks
     private BasicDAO underTest;
     @Captor
@@ -82,7 +89,7 @@ public class BasicDAOTest {
 
     @Before
     public void initUnderTest() {
-        underTest = new BasicDAO(transactionManager, queryRunner);
+        underTest = new BasicDAO(transactionManager, queryRunner, queryMonitor);
     }
 
 
@@ -114,6 +121,8 @@ public class BasicDAOTest {
         // verify invocations
         verify(queryRunner).query(eq(connection), eq(SQL_QUERY_WITH_PARAMETER), any(BasicBeanHandler.class),
                 eq(PARAMETER));
+        verify(queryMonitor).record(any(), eq(SQL_QUERY_WITH_PARAMETER), eq(new Object[]{PARAMETER}), anyLong(),
+                eq(1));
     }
 
 
@@ -175,6 +184,114 @@ public class BasicDAOTest {
         // verify invocations
         verify(queryRunner).query(eq(connection), eq(SQL_QUERY_WITH_PARAMETER), any(BasicBeanListHandler.class),
                 eq(PARAMETER));
+        verify(queryMonitor).record(any(), eq(SQL_QUERY_WITH_PARAMETER), eq(new Object[]{PARAMETER}), anyLong(),
+                eq(1));
+        // statements outside of a unit of work use the primary database
+        verify(transactionManager).begin();
+    }
+
+
+    private ResultSet configureResultSet(final PreparedStatement statement) throws SQLException {
+        final ResultSet resultSet = mock(ResultSet.class);
+        final ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SQL_QUERY_WITH_PARAMETER, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY)).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(metaData.getColumnLabel(1)).thenReturn(TABLE_COLUMN_ID);
+        when(metaData.getColumnLabel(2)).thenReturn(TABLE_COLUMN_NAME);
+        when(resultSet.getLong(1)).thenReturn(ID, ID + 1);
+        when(resultSet.getObject(2)).thenReturn(NAME);
+        when(resultSet.getString(2)).thenReturn(NAME);
+        return resultSet;
+    }
+
+
+    @Test
+    public void selectEntityStream() throws SQLException {
+        // prepare test data
+        final PreparedStatement statement = mock(PreparedStatement.class);
+        final List<TestBE> actual = new ArrayList<>();
+
+        // configure mocks
+        final ResultSet resultSet = configureResultSet(statement);
+        when(resultSet.next()).thenReturn(true, true, false);
+
+        // call test method
+        final int rows = underTest.selectEntityStream(createConfig(logger), SQL_QUERY_WITH_PARAMETER, actual::add,
+                PARAMETER);
+
+        // assert result
+        assertThat(rows).isEqualTo(2);
+        assertThat(actual).extracting(TestBE::getId).containsExactly(ID, ID + 1);
+        assertThat(actual).extracting(TestBE::getName).containsExactly(NAME, NAME);
+
+        // verify invocations
+        verify(statement).setFetchSize(BasicDAO.STREAM_FETCH_SIZE);
+        verify(queryRunner).fillStatement(statement, PARAMETER);
+        verify(resultSet).close();
+        verify(statement).close();
+        // statements outside of a unit of work use the primary database
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+        verify(queryMonitor).record(any(), eq(SQL_QUERY_WITH_PARAMETER), eq(new Object[]{PARAMETER}), anyLong(),
+                eq(2));
+    }
+
+
+    @Test
+    public void selectEntityStream_withConsumerError_shouldRollback() throws SQLException {
+        // prepare test data
+        final PreparedStatement statement = mock(PreparedStatement.class);
+
+        // configure mocks
+        final ResultSet resultSet = configureResultSet(statement);
+        when(resultSet.next()).thenReturn(true);
+
+        // call test method
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.selectEntityStream(createConfig(logger), SQL_QUERY_WITH_PARAMETER,
+                        entity -> {
+                            throw new IllegalStateException("client aborted");
+                        }, PARAMETER));
+
+        // assert result
+
+        // verify invocations
+        verify(resultSet).close();
+        verify(statement).close();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+        verify(transactionManager, never()).commit();
+    }
+
+
+    @Test
+    public void selectEntityStream_withSQLError_shouldThrowException() throws SQLException {
+        // prepare test data
+        final PreparedStatement statement = mock(PreparedStatement.class);
+
+        // configure mocks
+        configureResultSet(statement);
+        when(statement.executeQuery()).thenThrow(new SQLException("error"));
+
+        // call test method
+        assertThatExceptionOfType(TechnicalException.class)
+                .isThrownBy(() -> underTest.selectEntityStream(createConfig(logger), SQL_QUERY_WITH_PARAMETER,
+                        entity -> {
+                        }, PARAMETER));
+
+        // assert result
+
+        // verify invocations
+        verify(statement).close();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+        verifyZeroInteractions(queryMonitor);
     }
 
 
@@ -205,6 +322,56 @@ public class BasicDAOTest {
     }
 
 
+    @Test
+    public void selectEntityListByIds() throws SQLException {
+        // prepare test data
+        final TestBE expected = new TestBE();
+        expected.setId(ID);
+        expected.setName(NAME);
+
+        final List<TestBE> expectedList = Collections.singletonList(expected);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.query(
+                eq(connection),
+                anyString(),
+                any(),
+                eq(new long[]{ID, 124L})))
+                .thenReturn(expectedList);
+
+        // call test method: duplicates and null values are ignored
+        final List<TestBE> actual = underTest.selectEntityListByIds(createConfig(logger), SQL_QUERY_WITH_PARAMETER,
+                Arrays.asList(ID, null, 124L, ID));
+
+        // assert result
+        Assertions.assertThat(actual)
+                .isNotNull()
+                .hasSize(1);
+        assertThat(actual.get(0).getId()).isEqualTo(ID);
+
+        // verify invocations
+        verify(queryRunner).query(eq(connection), eq(SQL_QUERY_WITH_PARAMETER), any(BasicBeanListHandler.class),
+                eq(new long[]{ID, 124L}));
+    }
+
+
+    @Test
+    public void selectEntityListByIds_withoutIds_shouldNotQuery() throws SQLException {
+        // call test method
+        final List<TestBE> actual = underTest.selectEntityListByIds(createConfig(logger), SQL_QUERY_WITH_PARAMETER,
+                Collections.singletonList(null));
+
+        // assert result
+        Assertions.assertThat(actual).isEmpty();
+        Assertions.assertThat(underTest.selectEntityListByIds(createConfig(logger), SQL_QUERY_WITH_PARAMETER,
+                Collections.emptyList())).isEmpty();
+
+        // verify invocations
+        verifyZeroInteractions(queryRunner, transactionManager);
+    }
+
+
     @Test
     public void selectEntityList_withSQLError_shouldThrowException() throws SQLException {
         // prepare test data
@@ -392,6 +559,121 @@ public class BasicDAOTest {
     }
 
 
+    @Test
+    public void insertEntityBatch() throws SQLException {
+        // prepare test data
+        final TestBE first = new TestBE();
+        first.setName(NAME);
+        final TestBE second = new TestBE();
+        second.setName(NAME + "2");
+
+        final TestBE firstAfterInsert = new TestBE();
+        firstAfterInsert.setId(ID);
+        firstAfterInsert.setName(NAME);
+        final TestBE secondAfterInsert = new TestBE();
+        secondAfterInsert.setId(ID + 1);
+        secondAfterInsert.setName(NAME + "2");
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.insertBatch(
+                eq(connection),
+                anyString(),
+                any(BasicBeanListHandler.class),
+                any(Object[][].class)))
+                .thenReturn(Arrays.asList(firstAfterInsert, secondAfterInsert));
+
+        // call test method
+        final List<TestBE> actual = underTest.insertEntityBatch(createConfig(logger), Arrays.asList(first, second));
+
+        // assert result
+        assertThat(actual).containsExactly(firstAfterInsert, secondAfterInsert);
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+
+        verify(queryRunner).insertBatch(eq(connection), stringArgumentCaptor.capture(),
+                any(BasicBeanListHandler.class),
+                eq(new Object[][]{{NAME}, {NAME + "2"}}));
+
+        assertThat(stringArgumentCaptor.getValue())
+                .isEqualTo("INSERT INTO " + TABLE_NAME + " (" + TABLE_COLUMN_NAME + ") VALUES (?);");
+    }
+
+
+    @Test
+    public void updateEntityBatch() throws SQLException {
+        // prepare test data
+        final TestBE first = new TestBE();
+        first.setId(ID);
+        first.setName(NAME);
+        final TestBE second = new TestBE();
+        second.setId(ID + 1);
+        second.setName(NAME);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.batch(
+                eq(connection),
+                anyString(),
+                any(Object[][].class)))
+                .thenReturn(new int[]{1, 1});
+
+        // call test method
+        underTest.updateEntityBatch(createConfig(logger), Arrays.asList(first, second), BE_PARAMETER_ID);
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+
+        verify(queryRunner).batch(eq(connection), stringArgumentCaptor.capture(),
+                eq(new Object[][]{{NAME, ID}, {NAME, ID + 1}}));
+        verify(queryRunner, never()).query(any(Connection.class), anyString(), any(BasicBeanHandler.class),
+                any(Object[].class));
+
+        assertThat(stringArgumentCaptor.getValue())
+                .contains("UPDATE")
+                .contains(TABLE_NAME)
+                .contains(TABLE_COLUMN_ID)
+                .contains("WHERE");
+    }
+
+
+    @Test
+    public void updateEntityBatch_withoutAffectedRow_shouldThrowException() throws SQLException {
+        // prepare test data
+        final TestBE first = new TestBE();
+        first.setId(ID);
+        first.setName(NAME);
+        final TestBE second = new TestBE();
+        second.setId(ID + 1);
+        second.setName(NAME);
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.batch(
+                eq(connection),
+                anyString(),
+                any(Object[][].class)))
+                .thenReturn(new int[]{1, 0});
+
+        // call test method
+        assertThatExceptionOfType(BusinessException.class)
+                .isThrownBy(() -> underTest.updateEntityBatch(createConfig(logger), Arrays.asList(first, second),
+                        BE_PARAMETER_ID))
+                .withMessageContaining("affected 0 rows");
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+        verify(transactionManager, never()).commit();
+    }
+
+
     @Test
     public void updateEntity() throws SQLException {
         // prepare test data
@@ -399,51 +681,40 @@ public class BasicDAOTest {
         expected.setId(ID);
         expected.setName(NAME);
 
-        final int affectedRows = 1;
-
         // configure mocks
         when(transactionManager.getConnection()).thenReturn(connection);
-        when(queryRunner.update(
-                eq(connection),
-                anyString(),
-                any(),
-                any()))
-                .thenReturn(affectedRows);
         when(queryRunner.query(
                 eq(connection),
                 anyString(),
-                any(),
-                any(Object.class)))
-                .thenReturn(expected);
+                any(BasicBeanListHandler.class),
+                eq(NAME), eq(ID)))
+                .thenReturn(Collections.singletonList(expected));
 
 
         // call test method
         final TestBE actual = underTest.updateEntity(createConfig(logger), expected, BE_PARAMETER_ID);
 
         // assert result
-        assertThat(actual).isNotNull();
-        assertThat(actual.getId()).isEqualTo(expected.getId());
-        assertThat(actual.getName()).isEqualTo(expected.getName());
+        assertThat(actual).isSameAs(expected);
 
         // verify invocations
-        verify(transactionManager, times(2)).begin();
-        verify(transactionManager, times(2)).commit();
-        verify(transactionManager, times(2)).release();
-
-        verify(queryRunner).query(eq(connection), eq(SQL_QUERY_WITH_PARAMETER), any(BasicBeanHandler.class),
-                eq(ID));
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
 
-        verify(queryRunner).update(eq(connection), stringArgumentCaptor.capture(),
+        verify(queryRunner).query(eq(connection), stringArgumentCaptor.capture(), any(BasicBeanListHandler.class),
                 eq(NAME), eq(ID));
+        // the updated row is returned by the update, it is not selected again
+        verify(queryRunner, never()).update(any(Connection.class), anyString(), any());
+        verify(queryRunner, never()).query(any(Connection.class), anyString(), any(BasicBeanHandler.class),
+                any(Object[].class));
 
         final String query = stringArgumentCaptor.getValue();
 
         assertThat(query)
-                .contains("UPDATE")
-                .contains(TABLE_NAME)
-                .contains(TABLE_NAME)
-                .contains(TABLE_COLUMN_ID)
-                .contains("WHERE");
+                .startsWith("UPDATE " + TABLE_NAME + " SET ")
+                .contains("WHERE " + TABLE_COLUMN_ID + " = ?")
+                .endsWith("RETURNING *;");
     }
 
 
@@ -454,21 +725,13 @@ public class BasicDAOTest {
         expected.setId(ID);
         expected.setName(NAME);
 
-        final int affectedRows = 1;
-
         // configure mocks
         when(transactionManager.getConnection()).thenReturn(connection);
-        when(queryRunner.update(
-                eq(connection),
-                anyString(),
-                any(),
-                any()))
-                .thenReturn(affectedRows);
         doThrow(SQLException.class).when(queryRunner).query(
                 eq(connection),
                 anyString(),
-                any(),
-                any(Object.class));
+                any(BasicBeanListHandler.class),
+                eq(NAME), eq(ID));
 
 
         // call test method
@@ -477,24 +740,10 @@ public class BasicDAOTest {
 
         // assert result
         // verify invocations
-        verify(transactionManager, times(2)).begin();
-        verify(transactionManager, times(2)).rollback();
-        verify(transactionManager, times(2)).release();
-
-        verify(queryRunner).query(eq(connection), eq(SQL_QUERY_WITH_PARAMETER), any(BasicBeanHandler.class),
-                eq(ID));
-
-        verify(queryRunner).update(eq(connection), stringArgumentCaptor.capture(),
-                eq(NAME), eq(ID));
-
-        final String query = stringArgumentCaptor.getValue();
-
-        assertThat(query)
-                .contains("UPDATE")
-                .contains(TABLE_NAME)
-                .contains(TABLE_NAME)
-                .contains(TABLE_COLUMN_ID)
-                .contains("WHERE");
+        verify(transactionManager).begin();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+        verify(transactionManager, never()).commit();
     }
 
 
@@ -578,11 +827,63 @@ public class BasicDAOTest {
     }
 
 
+    @Test
+    public void executeUpdate() throws SQLException {
+        // prepare test data
+        final int affectedRows = 3;
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        when(queryRunner.update(
+                eq(connection),
+                anyString(),
+                eq(ID), eq(PARAMETER)))
+                .thenReturn(affectedRows);
+
+        // call test method
+        final int actual = underTest.executeUpdate(createConfig(logger), SQL_QUERY, ID, PARAMETER);
+
+        // assert result
+        assertThat(actual).isEqualTo(affectedRows);
+
+        // verify invocations
+        verify(queryRunner).update(eq(connection), eq(SQL_QUERY), eq(ID), eq(PARAMETER));
+        verify(queryMonitor).record(any(), eq(SQL_QUERY), eq(new Object[]{ID, PARAMETER}), anyLong(),
+                eq(affectedRows));
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+    }
+
+
+    @Test
+    public void executeUpdate_withSQLError_shouldThrowException() throws SQLException {
+        // prepare test data
+
+        // configure mocks
+        when(transactionManager.getConnection()).thenReturn(connection);
+        doThrow(SQLException.class).when(queryRunner).update(
+                eq(connection),
+                anyString(),
+                eq(ID), eq(PARAMETER));
+
+        // call test method
+        assertThatExceptionOfType(TechnicalException.class)
+                .isThrownBy(() -> underTest.executeUpdate(createConfig(logger), SQL_QUERY, ID, PARAMETER));
+
+        // assert result
+
+        // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+    }
+
+
     @Test
     public void logSQL() {
         // prepare test data
         // configure mocks
-        when(logger.isInfoEnabled()).thenReturn(true);
 
         // call test method
         final String actual = underTest.logSQL(logger, SQL_QUERY);
@@ -591,17 +892,32 @@ public class BasicDAOTest {
         assertThat(actual).isEqualTo(SQL_QUERY);
 
         // verify invocations
-        verify(logger).info(SQL_QUERY);
+        verify(logger).debug(SQL_QUERY);
     }
 
 
     @Test
     public void logSQL_withParameter() {
         // prepare test data
-        final String expected = SQL_QUERY_WITH_PARAMETER.replace("?", PARAMETER);
+        // configure mocks
+        when(logger.isDebugEnabled()).thenReturn(true);
+
+        // call test method
+        final String actual = underTest.logSQL(logger, SQL_QUERY_WITH_PARAMETER, PARAMETER);
+
+        // assert result
+        assertThat(actual).isEqualTo(SQL_QUERY_WITH_PARAMETER);
 
+        // verify invocations
+        verify(logger).debug("{} {}", SQL_QUERY_WITH_PARAMETER, "[" + PARAMETER + "]");
+        verify(logger, never()).info(anyString());
+    }
+
+
+    @Test
+    public void logSQL_withDebugDisabled() {
         // configure mocks
-        when(logger.isInfoEnabled()).thenReturn(true);
+        when(logger.isDebugEnabled()).thenReturn(false);
 
         // call test method
         final String actual = underTest.logSQL(logger, SQL_QUERY_WITH_PARAMETER, PARAMETER);
@@ -610,7 +926,7 @@ public class BasicDAOTest {
         assertThat(actual).isEqualTo(SQL_QUERY_WITH_PARAMETER);
 
         // verify invocations
-        verify(logger).info(expected);
+        verify(logger, never()).debug(anyString(), any(Object.class), any(Object.class));
     }
 
 
@@ -686,37 +1002,36 @@ public class BasicDAOTest {
         expected.setName(NAME);
         expected.setVersion(2L);
 
-        final int affectedRows = 1;
-
         // configure mocks
         when(transactionManager.getConnection()).thenReturn(connection);
-        when(queryRunner.update(
-                eq(connection),
-                anyString(),
-                any()))
-                .thenReturn(affectedRows);
-        when(queryRunner.query(
-                eq(connection),
-                anyString(),
-                any(),
-                any(Object.class)))
-                .thenReturn(input);
-
-        // select
         when(queryRunner.query(
                 eq(connection),
                 anyString(),
-                any(),
-                eq(PARAMETER)))
-                .thenReturn(input);
+                any(BasicBeanListHandler.class),
+                eq(NAME), isNull(), isNull(), eq(ID), eq(1L)))
+                .thenReturn(Collections.singletonList(expected));
 
         // call test method
         final VersionedTestBE actual = underTest.updateVersionedEntity(createConfigForVersionedBE(logger),
                 input, BE_PARAMETER_ID);
 
         // assert result
+        assertThat(actual).isSameAs(expected);
 
         // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).commit();
+        verify(transactionManager).release();
+
+        verify(queryRunner).query(eq(connection), stringArgumentCaptor.capture(), any(BasicBeanListHandler.class),
+                eq(NAME), isNull(), isNull(), eq(ID), eq(1L));
+        verify(queryRunner, never()).update(any(Connection.class), anyString(), any());
+
+        assertThat(stringArgumentCaptor.getValue())
+                .startsWith("UPDATE " + TABLE_NAME + " SET ")
+                .contains("version = version + 1")
+                .contains("WHERE " + TABLE_COLUMN_ID + " = ? AND (version IS NULL OR version = ?)")
+                .endsWith("RETURNING *;");
     }
 
 
@@ -728,35 +1043,14 @@ public class BasicDAOTest {
         input.setName(NAME);
         input.setVersion(1L);
 
-        final VersionedTestBE other = new VersionedTestBE();
-        other.setId(ID);
-        other.setName(NAME);
-        other.setVersion(2L);
-
-        final int affectedRows = 1;
-
         // configure mocks
         when(transactionManager.getConnection()).thenReturn(connection);
-        when(queryRunner.update(
-                eq(connection),
-                anyString(),
-                any(),
-                any()))
-                .thenReturn(affectedRows);
         when(queryRunner.query(
                 eq(connection),
                 anyString(),
-                any(),
-                any(Object.class)))
-                .thenReturn(other);
-
-        // select
-        when(queryRunner.query(
-                eq(connection),
-                anyString(),
-                any(),
-                eq(PARAMETER)))
-                .thenReturn(input);
+                any(BasicBeanListHandler.class),
+                eq(NAME), isNull(), isNull(), eq(ID), eq(1L)))
+                .thenReturn(Collections.emptyList());
 
         // call test method
         assertThatExceptionOfType(BusinessException.class)
@@ -764,9 +1058,11 @@ public class BasicDAOTest {
                         input, BE_PARAMETER_ID))
                 .withMessageContaining(ErrorCode.ENTITY_CONFLICT_ERROR.name());
 
-        // assert result
-
         // verify invocations
+        verify(transactionManager).begin();
+        verify(transactionManager).rollback();
+        verify(transactionManager).release();
+        verify(transactionManager, never()).commit();
     }
 
 
@@ -778,12 +1074,12 @@ public class BasicDAOTest {
 
         // configure mocks
         when(transactionManager.getConnection()).thenReturn(connection);
-        when(queryRunner.update(
+        when(queryRunner.query(
                 eq(connection),
                 anyString(),
-                any(),
-                any()))
-                .thenReturn(affectedRows);
+                any(BasicBeanListHandler.class),
+                eq(NAME), eq(ID)))
+                .thenReturn(Collections.nCopies(affectedRows, expected));
 
 
         // call test method
@@ -797,7 +1093,7 @@ public class BasicDAOTest {
         verify(transactionManager).rollback();
         verify(transactionManager).release();
 
-        verify(queryRunner).update(eq(connection), stringArgumentCaptor.capture(),
+        verify(queryRunner).query(eq(connection), stringArgumentCaptor.capture(), any(BasicBeanListHandler.class),
                 eq(NAME), eq(ID));
 
         final String query = stringArgumentCaptor.getValue();
@@ -805,7 +1101,6 @@ public class BasicDAOTest {
         assertThat(query)
                 .contains("UPDATE")
                 .contains(TABLE_NAME)
-                .contains(TABLE_NAME)
                 .contains(TABLE_COLUMN_ID)
                 .contains("WHERE");
     }
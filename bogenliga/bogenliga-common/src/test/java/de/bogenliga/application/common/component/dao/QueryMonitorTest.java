@@ -0,0 +1,155 @@
+package de.bogenliga.application.common.component.dao;
+
+import java.util.Collections;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.slf4j.Logger;
+import de.bogenliga.application.common.configuration.DatabaseConfiguration;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class QueryMonitorTest {
+
+    private static final String TABLE_NAME = "mannschaft";
+    private static final String SQL_QUERY = "SELECT * FROM mannschaft WHERE mannschaft_id = ?";
+    private static final long ID = 123L;
+
+    @Rule
+    public MockitoRule mockitoRule = MockitoJUnit.rule();
+    @Mock
+    private Logger logger;
+    @Mock
+    private QueryListener listener;
+
+
+    private BusinessEntityConfiguration<Object> createConfig() {
+        return new BusinessEntityConfiguration<>(Object.class, TABLE_NAME, Collections.emptyMap(), logger);
+    }
+
+
+    private QueryMonitor createMonitor(final long slowQueryThreshold) {
+        final DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration();
+        databaseConfiguration.setSlowQueryThreshold(slowQueryThreshold);
+        return new QueryMonitor(databaseConfiguration);
+    }
+
+
+    @Test
+    public void getQueryId_shouldBeStableForTableAndQuery() {
+        // prepare test data
+        final QueryMonitor underTest = createMonitor(1000);
+
+        // call test method
+        final String actual = underTest.getQueryId(createConfig(), SQL_QUERY);
+
+        // assert result
+        assertThat(actual)
+                .startsWith(TABLE_NAME + "-")
+                .isEqualTo(underTest.getQueryId(createConfig(), SQL_QUERY))
+                .isNotEqualTo(underTest.getQueryId(createConfig(), SQL_QUERY + " ORDER BY mannschaft_id"));
+    }
+
+
+    @Test
+    public void getOperation() {
+        // prepare test data
+        final QueryMonitor underTest = createMonitor(1000);
+
+        // call test method and assert result
+        assertThat(underTest.getOperation(SQL_QUERY)).isEqualTo("select");
+        assertThat(underTest.getOperation("insert into mannschaft (mannschaft_id) values (?) RETURNING *"))
+                .isEqualTo("insert");
+        assertThat(underTest.getOperation("UPDATE mannschaft SET version = version + 1 WHERE mannschaft_id IN "
+                + "(SELECT mannschaft_id FROM mannschaft)")).isEqualTo("update");
+        assertThat(underTest.getOperation("WITH aktuell AS (SELECT * FROM match) "
+                + "INSERT INTO ligatabelle SELECT * FROM aktuell ON CONFLICT DO NOTHING")).isEqualTo("insert");
+        assertThat(underTest.getOperation("DELETE FROM mannschaft WHERE mannschaft_id = ?")).isEqualTo("delete");
+        assertThat(underTest.getOperation("VACUUM mannschaft")).isEqualTo(QueryMonitor.OTHER_OPERATION);
+    }
+
+
+    @Test
+    public void getOperation_withManyQueries_shouldLimitCachedOperations() {
+        // prepare test data
+        final QueryMonitor underTest = createMonitor(1000);
+
+        // call test method
+        for (int i = 0; i <= QueryMonitor.MAX_CACHED_OPERATIONS; i++) {
+            underTest.getOperation(SQL_QUERY + " OR mannschaft_id = " + i);
+        }
+
+        // assert result
+        assertThat(underTest.getOperation(SQL_QUERY + " OR mannschaft_id = " + QueryMonitor.MAX_CACHED_OPERATIONS))
+                .isEqualTo("select");
+        assertThat(underTest.getCachedOperationCount()).isEqualTo(QueryMonitor.MAX_CACHED_OPERATIONS);
+    }
+
+
+    @Test
+    public void record_shouldNotifyListeners() {
+        // prepare test data
+        final QueryMonitor underTest = createMonitor(1000);
+        underTest.addListener(listener);
+
+        // call test method
+        underTest.record(createConfig(), SQL_QUERY, new Object[]{ID}, System.nanoTime(), 1);
+
+        // verify invocations
+        verify(listener).queryExecuted(eq(TABLE_NAME), eq("select"), anyLong(), eq(1));
+        verifyZeroInteractions(logger);
+    }
+
+
+    @Test
+    public void record_withSlowQuery_shouldLogQuery() {
+        // prepare test data
+        final QueryMonitor underTest = createMonitor(1);
+
+        // configure mocks
+        when(logger.isWarnEnabled()).thenReturn(true);
+
+        // call test method
+        underTest.record(createConfig(), SQL_QUERY, new Object[]{ID}, System.nanoTime() - 5000000, 0);
+
+        // verify invocations
+        verify(logger).warn(startsWith("Slow query"), eq(underTest.getQueryId(createConfig(), SQL_QUERY)),
+                anyLong(), eq(0), eq(SQL_QUERY), eq("[123]"));
+    }
+
+
+    @Test
+    public void record_withZeroThreshold_shouldLogAllQueries() {
+        // prepare test data
+        final QueryMonitor underTest = createMonitor(0);
+
+        // configure mocks
+        when(logger.isWarnEnabled()).thenReturn(true);
+
+        // call test method
+        underTest.record(createConfig(), SQL_QUERY, new Object[]{ID}, System.nanoTime(), 0);
+
+        // verify invocations
+        verify(logger).warn(startsWith("Slow query"), eq(underTest.getQueryId(createConfig(), SQL_QUERY)),
+                anyLong(), eq(0), eq(SQL_QUERY), eq("[123]"));
+    }
+
+
+    @Test
+    public void record_withNegativeThreshold_shouldNotLogQuery() {
+        // prepare test data
+        final QueryMonitor underTest = createMonitor(-1);
+
+        // configure mocks
+
+        // call test method
+        underTest.record(createConfig(), SQL_QUERY, new Object[]{ID}, System.nanoTime() - 5000000, 0);
+
+        // verify invocations
+        verifyZeroInteractions(logger);
+    }
+}
@@ -0,0 +1,75 @@
+package de.bogenliga.application.common.component.types;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
+import org.junit.Test;
+import de.bogenliga.application.common.errorhandling.exception.BusinessException;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KeysetPageTest {
+
+    private static final Function<Long, Long> KEY_FUNCTION = Function.identity();
+
+
+    @Test
+    public void of_withAdditionalRow_shouldReturnCursorOfLastItem() {
+        // call test method
+        final KeysetPage<Long> actual = KeysetPage.of(Arrays.asList(3L, 5L, 8L), 2, KEY_FUNCTION);
+
+        // assert result
+        assertThat(actual.getItems()).containsExactly(3L, 5L);
+        assertThat(actual.getNextCursor()).isEqualTo(5L);
+        assertThat(actual.hasNext()).isTrue();
+    }
+
+
+    @Test
+    public void of_withoutAdditionalRow_shouldBeLastPage() {
+        // call test method
+        final KeysetPage<Long> actual = KeysetPage.of(Arrays.asList(3L, 5L), 2, KEY_FUNCTION);
+        final KeysetPage<Long> empty = KeysetPage.of(Collections.emptyList(), 2, KEY_FUNCTION);
+
+        // assert result
+        assertThat(actual.getItems()).containsExactly(3L, 5L);
+        assertThat(actual.getNextCursor()).isNull();
+        assertThat(actual.hasNext()).isFalse();
+
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(empty.hasNext()).isFalse();
+    }
+
+
+    @Test
+    public void map_shouldKeepCursor() {
+        // prepare test data
+        final KeysetPage<Long> page = KeysetPage.of(Arrays.asList(3L, 5L, 8L), 2, KEY_FUNCTION);
+
+        // call test method
+        final KeysetPage<String> actual = page.map(id -> "passe" + id);
+
+        // assert result
+        assertThat(actual.getItems()).containsExactly("passe3", "passe5");
+        assertThat(actual.getNextCursor()).isEqualTo(5L);
+    }
+
+
+    @Test
+    public void getStartKey_andQueryLimit() {
+        assertThat(KeysetPage.getStartKey(null)).isZero();
+        assertThat(KeysetPage.getStartKey(42L)).isEqualTo(42L);
+        assertThat(KeysetPage.getQueryLimit(100)).isEqualTo(101);
+    }
+
+
+    @Test
+    public void checkLimit() {
+        assertThat(KeysetPage.checkLimit(1)).isEqualTo(1);
+        assertThat(KeysetPage.checkLimit(KeysetPage.MAX_LIMIT)).isEqualTo(KeysetPage.MAX_LIMIT);
+        // larger pages are capped
+        assertThat(KeysetPage.checkLimit(KeysetPage.MAX_LIMIT + 1)).isEqualTo(KeysetPage.MAX_LIMIT);
+
+        assertThatThrownBy(() -> KeysetPage.checkLimit(0)).isInstanceOf(BusinessException.class);
+    }
+}
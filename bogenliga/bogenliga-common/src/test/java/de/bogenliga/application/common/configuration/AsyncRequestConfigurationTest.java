@@ -0,0 +1,31 @@
+package de.bogenliga.application.common.configuration;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class AsyncRequestConfigurationTest {
+
+    @Test
+    public void getThreads() {
+        final AsyncRequestConfiguration underTest = new AsyncRequestConfiguration();
+        assertThat(underTest.getThreads()).isEqualTo(AsyncRequestConfiguration.DEFAULT_THREADS);
+
+        final int threads = 3;
+        underTest.setThreads(threads);
+
+        assertThat(underTest.getThreads()).isEqualTo(threads);
+    }
+
+
+    @Test
+    public void getQueueCapacity() {
+        final AsyncRequestConfiguration underTest = new AsyncRequestConfiguration();
+        assertThat(underTest.getQueueCapacity()).isEqualTo(AsyncRequestConfiguration.DEFAULT_QUEUE_CAPACITY);
+
+        final int queueCapacity = 5;
+        underTest.setQueueCapacity(queueCapacity);
+
+        assertThat(underTest.getQueueCapacity()).isEqualTo(queueCapacity);
+    }
+}
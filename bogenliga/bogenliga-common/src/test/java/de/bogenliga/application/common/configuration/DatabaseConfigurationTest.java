@@ -39,4 +39,81 @@ public class DatabaseConfigurationTest {
         assertThat(underTest.getPassword()).isEqualTo(PASSWORD);
     }
 
-}
\ No newline at end of file
+
+    @Test
+    public void pool_withoutValues_shouldUseDefaults() {
+        final DatabaseConfiguration underTest = new DatabaseConfiguration();
+
+        assertThat(underTest.isPoolEnabled()).isTrue();
+        assertThat(underTest.getPoolMinimumIdle()).isEqualTo(DatabaseConfiguration.DEFAULT_POOL_MINIMUM_IDLE);
+        assertThat(underTest.getPoolMaximumSize()).isEqualTo(DatabaseConfiguration.DEFAULT_POOL_MAXIMUM_SIZE);
+        assertThat(underTest.getPoolIdleTimeout()).isEqualTo(DatabaseConfiguration.DEFAULT_POOL_IDLE_TIMEOUT);
+        assertThat(underTest.getPoolConnectionTimeout()).isEqualTo(
+                DatabaseConfiguration.DEFAULT_POOL_CONNECTION_TIMEOUT);
+        assertThat(underTest.getPoolValidationQuery()).isEqualTo(DatabaseConfiguration.DEFAULT_POOL_VALIDATION_QUERY);
+        assertThat(underTest.getPoolLeakDetectionThreshold()).isZero();
+
+        underTest.setPoolEnabled(false);
+        underTest.setPoolMinimumIdle(1);
+        underTest.setPoolMaximumSize(20);
+        underTest.setPoolIdleTimeout(1000);
+        underTest.setPoolConnectionTimeout(2000);
+        underTest.setPoolValidationQuery("SELECT 2");
+        underTest.setPoolLeakDetectionThreshold(3000);
+
+        assertThat(underTest.isPoolEnabled()).isFalse();
+        assertThat(underTest.getPoolMinimumIdle()).isEqualTo(1);
+        assertThat(underTest.getPoolMaximumSize()).isEqualTo(20);
+        assertThat(underTest.getPoolIdleTimeout()).isEqualTo(1000);
+        assertThat(underTest.getPoolConnectionTimeout()).isEqualTo(2000);
+        assertThat(underTest.getPoolValidationQuery()).isEqualTo("SELECT 2");
+        assertThat(underTest.getPoolLeakDetectionThreshold()).isEqualTo(3000);
+    }
+
+
+    @Test
+    public void getSlowQueryThreshold() {
+        final DatabaseConfiguration underTest = new DatabaseConfiguration();
+        assertThat(underTest.getSlowQueryThreshold()).isEqualTo(DatabaseConfiguration.DEFAULT_SLOW_QUERY_THRESHOLD);
+
+        final long slowQueryThreshold = 100;
+        underTest.setSlowQueryThreshold(slowQueryThreshold);
+
+        assertThat(underTest.getSlowQueryThreshold()).isEqualTo(slowQueryThreshold);
+
+        underTest.setSlowQueryThreshold(0);
+        assertThat(underTest.getSlowQueryThreshold()).isZero();
+
+        underTest.setSlowQueryThreshold(-1);
+        assertThat(underTest.getSlowQueryThreshold()).isNegative();
+    }
+
+
+    @Test
+    public void replica_withoutValues_shouldUseDefaults() {
+        final DatabaseConfiguration underTest = new DatabaseConfiguration();
+        underTest.setPort(PORT);
+
+        assertThat(underTest.isReplicaEnabled()).isFalse();
+        assertThat(underTest.getReplicaHost()).isNull();
+        assertThat(underTest.getReplicaPort()).isEqualTo(PORT);
+        assertThat(underTest.getReplicaMaxLag()).isEqualTo(DatabaseConfiguration.DEFAULT_REPLICA_MAX_LAG);
+        assertThat(underTest.getReplicaLagCheckInterval()).isEqualTo(
+                DatabaseConfiguration.DEFAULT_REPLICA_LAG_CHECK_INTERVAL);
+        assertThat(underTest.getReplicaConnectionTimeout()).isEqualTo(
+                DatabaseConfiguration.DEFAULT_REPLICA_CONNECTION_TIMEOUT);
+
+        underTest.setReplicaHost("replica");
+        underTest.setReplicaPort(43);
+        underTest.setReplicaMaxLag(1000);
+        underTest.setReplicaLagCheckInterval(2000);
+        underTest.setReplicaConnectionTimeout(500);
+
+        assertThat(underTest.isReplicaEnabled()).isTrue();
+        assertThat(underTest.getReplicaHost()).isEqualTo("replica");
+        assertThat(underTest.getReplicaPort()).isEqualTo(43);
+        assertThat(underTest.getReplicaMaxLag()).isEqualTo(1000);
+        assertThat(underTest.getReplicaLagCheckInterval()).isEqualTo(2000);
+        assertThat(underTest.getReplicaConnectionTimeout()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,55 @@
+package de.bogenliga.application.common.configuration;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class PdfCacheConfigurationTest {
+
+    @Test
+    public void getMaxEntries() {
+        final PdfCacheConfiguration underTest = new PdfCacheConfiguration();
+        assertThat(underTest.getMaxEntries()).isEqualTo(PdfCacheConfiguration.DEFAULT_MAX_ENTRIES);
+
+        final int maxEntries = 42;
+        underTest.setMaxEntries(maxEntries);
+
+        assertThat(underTest.getMaxEntries()).isEqualTo(maxEntries);
+    }
+
+
+    @Test
+    public void getMaxBytes() {
+        final PdfCacheConfiguration underTest = new PdfCacheConfiguration();
+        assertThat(underTest.getMaxBytes()).isEqualTo(PdfCacheConfiguration.DEFAULT_MAX_BYTES);
+
+        final long maxBytes = 1024;
+        underTest.setMaxBytes(maxBytes);
+
+        assertThat(underTest.getMaxBytes()).isEqualTo(maxBytes);
+    }
+
+
+    @Test
+    public void getMaxDocumentBytes() {
+        final PdfCacheConfiguration underTest = new PdfCacheConfiguration();
+        assertThat(underTest.getMaxDocumentBytes()).isEqualTo(PdfCacheConfiguration.DEFAULT_MAX_DOCUMENT_BYTES);
+
+        final int maxDocumentBytes = 512;
+        underTest.setMaxDocumentBytes(maxDocumentBytes);
+
+        assertThat(underTest.getMaxDocumentBytes()).isEqualTo(maxDocumentBytes);
+    }
+
+
+    @Test
+    public void getVersion() {
+        final PdfCacheConfiguration underTest = new PdfCacheConfiguration();
+        assertThat(underTest.getVersion()).isNull();
+
+        final String version = "2";
+        underTest.setVersion(version);
+
+        assertThat(underTest.getVersion()).isEqualTo(version);
+    }
+}
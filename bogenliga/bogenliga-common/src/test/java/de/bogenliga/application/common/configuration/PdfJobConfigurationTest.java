@@ -0,0 +1,55 @@
+package de.bogenliga.application.common.configuration;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class PdfJobConfigurationTest {
+
+    @Test
+    public void getWorkers() {
+        final PdfJobConfiguration underTest = new PdfJobConfiguration();
+        assertThat(underTest.getWorkers()).isEqualTo(PdfJobConfiguration.DEFAULT_WORKERS);
+
+        final int workers = 4;
+        underTest.setWorkers(workers);
+
+        assertThat(underTest.getWorkers()).isEqualTo(workers);
+    }
+
+
+    @Test
+    public void getQueueCapacity() {
+        final PdfJobConfiguration underTest = new PdfJobConfiguration();
+        assertThat(underTest.getQueueCapacity()).isEqualTo(PdfJobConfiguration.DEFAULT_QUEUE_CAPACITY);
+
+        final int queueCapacity = 5;
+        underTest.setQueueCapacity(queueCapacity);
+
+        assertThat(underTest.getQueueCapacity()).isEqualTo(queueCapacity);
+    }
+
+
+    @Test
+    public void getTimeToLive() {
+        final PdfJobConfiguration underTest = new PdfJobConfiguration();
+        assertThat(underTest.getTimeToLive()).isEqualTo(PdfJobConfiguration.DEFAULT_TIME_TO_LIVE);
+
+        final long timeToLive = 60000;
+        underTest.setTimeToLive(timeToLive);
+
+        assertThat(underTest.getTimeToLive()).isEqualTo(timeToLive);
+    }
+
+
+    @Test
+    public void getDirectory() {
+        final PdfJobConfiguration underTest = new PdfJobConfiguration();
+        assertThat(underTest.getDirectory()).isEqualTo(PdfJobConfiguration.DEFAULT_DIRECTORY);
+
+        final String directory = "/var/lib/bogenliga/pdf";
+        underTest.setDirectory(directory);
+
+        assertThat(underTest.getDirectory()).isEqualTo(directory);
+    }
+}
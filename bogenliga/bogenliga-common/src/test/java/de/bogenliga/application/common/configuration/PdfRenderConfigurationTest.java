@@ -0,0 +1,56 @@
+package de.bogenliga.application.common.configuration;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class PdfRenderConfigurationTest {
+
+    @Test
+    public void getParallelism() {
+        final PdfRenderConfiguration underTest = new PdfRenderConfiguration();
+        assertThat(underTest.getParallelism()).isEqualTo(PdfRenderConfiguration.DEFAULT_PARALLELISM);
+
+        final int parallelism = 8;
+        underTest.setParallelism(parallelism);
+
+        assertThat(underTest.getParallelism()).isEqualTo(parallelism);
+    }
+
+
+    @Test
+    public void getQueueCapacity() {
+        final PdfRenderConfiguration underTest = new PdfRenderConfiguration();
+        assertThat(underTest.getQueueCapacity()).isEqualTo(PdfRenderConfiguration.DEFAULT_QUEUE_CAPACITY);
+
+        final int queueCapacity = 2;
+        underTest.setQueueCapacity(queueCapacity);
+
+        assertThat(underTest.getQueueCapacity()).isEqualTo(queueCapacity);
+    }
+
+
+    @Test
+    public void getBundleParallelism() {
+        final PdfRenderConfiguration underTest = new PdfRenderConfiguration();
+        assertThat(underTest.getBundleParallelism()).isEqualTo(PdfRenderConfiguration.DEFAULT_BUNDLE_PARALLELISM);
+
+        final int bundleParallelism = 3;
+        underTest.setBundleParallelism(bundleParallelism);
+
+        assertThat(underTest.getBundleParallelism()).isEqualTo(bundleParallelism);
+    }
+
+
+    @Test
+    public void getBundleQueueCapacity() {
+        final PdfRenderConfiguration underTest = new PdfRenderConfiguration();
+        assertThat(underTest.getBundleQueueCapacity())
+                .isEqualTo(PdfRenderConfiguration.DEFAULT_BUNDLE_QUEUE_CAPACITY);
+
+        final int bundleQueueCapacity = 1;
+        underTest.setBundleQueueCapacity(bundleQueueCapacity);
+
+        assertThat(underTest.getBundleQueueCapacity()).isEqualTo(bundleQueueCapacity);
+    }
+}
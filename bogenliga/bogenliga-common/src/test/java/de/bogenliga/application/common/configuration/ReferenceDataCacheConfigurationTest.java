@@ -0,0 +1,31 @@
+package de.bogenliga.application.common.configuration;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SuppressWarnings({"pmd-unit-tests:JUnitTestsShouldIncludeAssert", "squid:S2187"})
+public class ReferenceDataCacheConfigurationTest {
+
+    @Test
+    public void getMaxEntries() {
+        final ReferenceDataCacheConfiguration underTest = new ReferenceDataCacheConfiguration();
+        assertThat(underTest.getMaxEntries()).isEqualTo(ReferenceDataCacheConfiguration.DEFAULT_MAX_ENTRIES);
+
+        final int maxEntries = 42;
+        underTest.setMaxEntries(maxEntries);
+
+        assertThat(underTest.getMaxEntries()).isEqualTo(maxEntries);
+    }
+
+
+    @Test
+    public void getTimeToLive() {
+        final ReferenceDataCacheConfiguration underTest = new ReferenceDataCacheConfiguration();
+        assertThat(underTest.getTimeToLive()).isEqualTo(ReferenceDataCacheConfiguration.DEFAULT_TIME_TO_LIVE);
+
+        final long timeToLive = 1000;
+        underTest.setTimeToLive(timeToLive);
+
+        assertThat(underTest.getTimeToLive()).isEqualTo(timeToLive);
+    }
+}
@@ -43,4 +43,16 @@ public class SecurityJsonWebTokenConfigurationTest {
 
         assertThat(underTest.getRefresh()).isEqualTo(refresh);
     }
+
+
+    @Test
+    public void getCacheSize() {
+        final SecurityJsonWebTokenConfiguration underTest = new SecurityJsonWebTokenConfiguration();
+        assertThat(underTest.getCacheSize()).isEqualTo(SecurityJsonWebTokenConfiguration.DEFAULT_CACHE_SIZE);
+
+        final int cacheSize = 42;
+        underTest.setCacheSize(cacheSize);
+
+        assertThat(underTest.getCacheSize()).isEqualTo(cacheSize);
+    }
 }
\ No newline at end of file
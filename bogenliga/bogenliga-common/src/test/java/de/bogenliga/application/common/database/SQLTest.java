@@ -294,4 +294,65 @@ public class SQLTest {
 
         // verify invocations
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void updateSQL_withEntityMetadata_shouldReuseStatement() {
+        // prepare test data
+        final EntityMetadata metadata = EntityMetadata.of(TestBE.class, TABLE_NAME, FIELD_MAPPING);
+        final TestBE otherInput = createBE();
+        otherInput.setId(ID + 1);
+        otherInput.setName("other");
+
+        // configure mocks
+        // call test method
+        final SQL.SQLWithParameter actual = SQL.updateSQL(INPUT, metadata, new String[]{"id"});
+        final SQL.SQLWithParameter actualOther = SQL.updateSQL(otherInput, metadata, new String[]{"id"});
+
+        // assert result
+        assertThat(actual.getSql())
+                .isEqualTo("UPDATE test_table SET name=?, is_active=?, ready=?, quantity=?, entity_state=? WHERE pk = ? ;");
+        assertThat(actualOther.getSql()).isSameAs(actual.getSql());
+        assertThat(actual.getParameter()).containsExactly(NAME, ACTIVE, READY, NUMBER, STATE.name(), ID);
+        assertThat(actualOther.getParameter()).containsExactly("other", ACTIVE, READY, NUMBER, STATE.name(), ID + 1);
+    }
+
+
+    @Test
+    public void updateReturningSQL() {
+        // prepare test data
+        final EntityMetadata metadata = EntityMetadata.of(TestBE.class, TABLE_NAME, FIELD_MAPPING);
+
+        // configure mocks
+        // call test method
+        final SQL.SQLWithParameter actual = SQL.updateReturningSQL(INPUT, metadata, new String[]{"id"});
+
+        // assert result
+        assertThat(actual.getSql()).isEqualTo("UPDATE test_table SET name=?, is_active=?, ready=?, quantity=?, "
+                + "entity_state=? WHERE pk = ? RETURNING *;");
+        assertThat(actual.getParameter()).containsExactly(NAME, ACTIVE, READY, NUMBER, STATE.name(), ID);
+    }
+
+
+    @Test
+    public void insertSQL_withEntityMetadata_withNullValue_shouldBuildOtherStatement() {
+        // prepare test data
+        final EntityMetadata metadata = EntityMetadata.of(TestBE.class, TABLE_NAME, FIELD_MAPPING);
+        final TestBE inputWithoutName = createBE();
+        inputWithoutName.setName(null);
+
+        // configure mocks
+        // call test method
+        final SQL.SQLWithParameter actual = SQL.insertSQL(INPUT, metadata);
+        final SQL.SQLWithParameter actualAgain = SQL.insertSQL(INPUT, metadata);
+        final SQL.SQLWithParameter actualWithoutName = SQL.insertSQL(inputWithoutName, metadata);
+
+        // assert result
+        assertThat(actual.getSql())
+                .isEqualTo("INSERT INTO test_table (name, is_active, ready, quantity, entity_state) VALUES (?, ?, ?, ?, ?);");
+        assertThat(actualAgain.getSql()).isSameAs(actual.getSql());
+        assertThat(actualWithoutName.getSql())
+                .isEqualTo("INSERT INTO test_table (is_active, ready, quantity, entity_state) VALUES (?, ?, ?, ?);");
+        assertThat(actualWithoutName.getParameter()).containsExactly(ACTIVE, READY, NUMBER, STATE.name());
+    }
+}
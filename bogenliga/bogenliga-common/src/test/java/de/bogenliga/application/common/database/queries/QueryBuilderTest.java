@@ -341,6 +341,40 @@ public class QueryBuilderTest {
     }
 
 
+    @Test
+    public void limit() {
+        this.queryBuilder.selectAll().from(TABLE_NAME).orderBy(DEFAULT_FIELD).limit().compose();
+        String builtQuery = this.queryBuilder.toString();
+        assertThat(builtQuery).contains(QueryBuilder.SQL_LIMIT.trim());
+        assertThat(builtQuery).endsWith("LIMIT ? ;");
+
+        QueryBuilder otherQueryBuilder = new QueryBuilder().selectAll().from(TABLE_NAME).limit();
+        assertThatThrownBy(otherQueryBuilder::limit).isInstanceOf(BusinessException.class);
+    }
+
+
+    @Test
+    public void whereKeysetAfter() {
+        this.queryBuilder.selectAll().from(TABLE_NAME).whereKeysetAfter(DEFAULT_FIELD).compose();
+        String builtQuery = this.queryBuilder.toString();
+        assertThat(builtQuery).isEqualTo("SELECT * FROM table WHERE field >? ORDER BY field ASC LIMIT ? ;");
+    }
+
+
+    @Test
+    public void andKeysetAfter() {
+        this.queryBuilder.selectAll().from(TABLE_NAME).whereEquals(OTHER_DEFAULT_FIELD).andKeysetAfter(DEFAULT_FIELD)
+                .compose();
+        String builtQuery = this.queryBuilder.toString();
+        assertThat(builtQuery).isEqualTo(
+                "SELECT * FROM table WHERE field = ? AND field >? ORDER BY field ASC LIMIT ? ;");
+
+        QueryBuilder otherQueryBuilder = new QueryBuilder().selectAll().from(TABLE_NAME);
+        assertThatThrownBy(() -> otherQueryBuilder.andKeysetAfter(DEFAULT_FIELD))
+                .isInstanceOf(BusinessException.class);
+    }
+
+
     @Test
     public void join() {
         this.queryBuilder.selectAll().from(TABLE_NAME).join(OTHER_TABLE_NAME).on(DEFAULT_FIELD,
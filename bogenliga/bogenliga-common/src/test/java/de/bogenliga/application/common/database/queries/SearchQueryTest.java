@@ -0,0 +1,26 @@
+package de.bogenliga.application.common.database.queries;
+
+import org.junit.Test;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SearchQueryTest {
+
+    @Test
+    public void getTerm_shouldTrimAndLowercase() {
+        assertThat(SearchQuery.getTerm("  Müller ")).isEqualTo("müller");
+        assertThat(SearchQuery.getTerm("")).isEmpty();
+    }
+
+
+    @Test
+    public void getContainsPattern() {
+        assertThat(SearchQuery.getContainsPattern(" Bogen ")).isEqualTo("%bogen%");
+        assertThat(SearchQuery.getContainsPattern("")).isEqualTo("%%");
+    }
+
+
+    @Test
+    public void getContainsPattern_shouldEscapeWildcards() {
+        assertThat(SearchQuery.getContainsPattern("100%_a\\b")).isEqualTo("%100\\%\\_a\\\\b%");
+    }
+}
@@ -2,7 +2,11 @@ package de.bogenliga.application.common.database.tx;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 import javax.sql.DataSource;
 import org.junit.Before;
 import org.junit.Rule;
@@ -10,6 +14,8 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
+import com.zaxxer.hikari.HikariDataSource;
+import de.bogenliga.application.common.configuration.DatabaseConfiguration;
 import de.bogenliga.application.common.errorhandling.exception.TechnicalException;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -26,6 +32,14 @@ public class PostgresqlTransactionManagerTest {
     private DataSource dataSource;
     @Mock
     private Connection connection;
+    @Mock
+    private DataSource replicaDataSource;
+    @Mock
+    private Connection replicaConnection;
+    @Mock
+    private Statement statement;
+    @Mock
+    private ResultSet resultSet;
 
     private PostgresqlTransactionManager underTest;
 
@@ -70,6 +84,159 @@ public class PostgresqlTransactionManagerTest {
         // verify invocations
         verify(connection).setAutoCommit(false);
         verify(connection).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        verify(connection, never()).setReadOnly(anyBoolean());
+    }
+
+
+    @Test
+    public void begin_readOnly() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        underTest.begin(true);
+
+        // assert result
+        assertThat(SessionHandler.isActive()).isTrue();
+
+        // verify invocations
+        verify(connection).setAutoCommit(false);
+        verify(connection).setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        verify(connection).setReadOnly(true);
+    }
+
+
+    private PostgresqlTransactionManager createUnderTestWithReplica() {
+        final DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration();
+        databaseConfiguration.setReplicaHost("replica");
+        databaseConfiguration.setReplicaMaxLag(1000);
+
+        return new PostgresqlTransactionManager(databaseConfiguration, dataSource, replicaDataSource);
+    }
+
+
+    private void configureReplicaLag(final long lag) throws SQLException {
+        when(replicaDataSource.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(PostgresqlTransactionManager.REPLICA_LAG_QUERY)).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getLong(1)).thenReturn(lag);
+    }
+
+
+    @Test
+    public void beginOnReplica_shouldUseReplica() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        underTest = createUnderTestWithReplica();
+
+        // configure mocks
+        configureReplicaLag(200);
+
+        // call test method
+        underTest.beginOnReplica();
+
+        // assert result
+        assertThat(SessionHandler.getConnection()).isEqualTo(replicaConnection);
+        assertThat(underTest.isOnReplica()).isTrue();
+
+        // verify invocations
+        verify(replicaConnection).setReadOnly(true);
+        verify(replicaDataSource, times(2)).getConnection();
+        verifyZeroInteractions(dataSource);
+    }
+
+
+    @Test
+    public void beginOnReplica_withReplicaLag_shouldUsePrimary() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        underTest = createUnderTestWithReplica();
+
+        // configure mocks
+        configureReplicaLag(5000);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        underTest.beginOnReplica();
+        underTest.release();
+        underTest.beginOnReplica();
+
+        // assert result
+        assertThat(SessionHandler.getConnection()).isEqualTo(connection);
+        assertThat(underTest.isOnReplica()).isFalse();
+
+        // verify invocations
+        verify(connection, times(2)).setReadOnly(true);
+        // the lag is checked only once per interval
+        verify(statement).executeQuery(PostgresqlTransactionManager.REPLICA_LAG_QUERY);
+        verify(replicaDataSource).getConnection();
+    }
+
+
+    @Test
+    public void beginOnReplica_withUnavailableReplica_shouldUsePrimary() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        underTest = createUnderTestWithReplica();
+
+        // configure mocks
+        when(replicaDataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        underTest.beginOnReplica();
+
+        // assert result
+        assertThat(SessionHandler.getConnection()).isEqualTo(connection);
+        assertThat(underTest.isOnReplica()).isFalse();
+
+        // verify invocations
+        verify(connection).setReadOnly(true);
+    }
+
+
+    @Test
+    public void begin_readOnly_withReplica_shouldUsePrimary() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        underTest = createUnderTestWithReplica();
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        underTest.begin(true);
+
+        // assert result
+        assertThat(SessionHandler.getConnection()).isEqualTo(connection);
+
+        // verify invocations
+        verify(connection).setReadOnly(true);
+        verifyZeroInteractions(replicaDataSource);
+    }
+
+
+    @Test
+    public void begin_withReplica_shouldUsePrimary() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        underTest = createUnderTestWithReplica();
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        underTest.begin();
+
+        // assert result
+        assertThat(SessionHandler.getConnection()).isEqualTo(connection);
+
+        // verify invocations
+        verifyZeroInteractions(replicaDataSource);
     }
 
 
@@ -233,6 +400,137 @@ public class PostgresqlTransactionManagerTest {
     }
 
 
+    @Test
+    public void beforeCommit_shouldExecuteActionOnceBeforeCommit() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        final List<String> executed = new ArrayList<>();
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+        doAnswer(invocation -> executed.add("commit")).when(connection).commit();
+
+        // call test method
+        underTest.begin();
+        underTest.beforeCommit("wettkampf/1", () -> executed.add("refresh 1"));
+        underTest.beforeCommit("wettkampf/2", () -> executed.add("refresh 2"));
+        underTest.beforeCommit("wettkampf/1", () -> executed.add("refresh 1"));
+
+        assertThat(executed).isEmpty();
+
+        underTest.commit();
+
+        // assert result
+        assertThat(executed).containsExactly("refresh 1", "refresh 2", "commit");
+    }
+
+
+    @Test
+    public void beforeCommit_withError_shouldNotCommit() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        underTest.begin();
+        underTest.beforeCommit("wettkampf/1", () -> {
+            throw new IllegalStateException("refresh failed");
+        });
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> underTest.commit());
+
+        // assert result
+        assertThat(SessionHandler.isActive()).isTrue();
+
+        underTest.rollback();
+
+        // verify invocations
+        verify(connection, never()).commit();
+        verify(connection).rollback();
+    }
+
+
+    @Test
+    public void beforeCommit_withoutSession_shouldExecuteActionImmediately() {
+        // prepare test data
+        SessionHandler.removeConnection();
+        final List<String> executed = new ArrayList<>();
+
+        // call test method
+        underTest.beforeCommit("wettkampf/1", () -> executed.add("refresh 1"));
+
+        // assert result
+        assertThat(executed).containsExactly("refresh 1");
+    }
+
+
+    @Test
+    public void afterCommit_shouldExecuteActionAfterCommit() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        final List<String> executed = new ArrayList<>();
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+        doAnswer(invocation -> executed.add("commit")).when(connection).commit();
+
+        // call test method
+        underTest.begin();
+        underTest.afterCommit(() -> {
+            throw new IllegalStateException("invalidate failed");
+        });
+        underTest.afterCommit(() -> executed.add("invalidate"));
+
+        assertThat(executed).isEmpty();
+
+        underTest.commit();
+        underTest.release();
+
+        // assert result
+        assertThat(executed).containsExactly("commit", "invalidate");
+    }
+
+
+    @Test
+    public void afterCommit_withRollback_shouldDiscardAction() throws SQLException {
+        // prepare test data
+        SessionHandler.removeConnection();
+        final List<String> executed = new ArrayList<>();
+
+        // configure mocks
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        // call test method
+        underTest.begin();
+        underTest.afterCommit(() -> executed.add("invalidate"));
+        underTest.rollback();
+        underTest.release();
+
+        underTest.begin();
+        underTest.commit();
+
+        // assert result
+        assertThat(executed).isEmpty();
+    }
+
+
+    @Test
+    public void afterCommit_withoutSession_shouldExecuteActionImmediately() {
+        // prepare test data
+        SessionHandler.removeConnection();
+        final List<String> executed = new ArrayList<>();
+
+        // call test method
+        underTest.afterCommit(() -> executed.add("invalidate"));
+
+        // assert result
+        assertThat(executed).containsExactly("invalidate");
+    }
+
+
     @Test
     public void release_withSession() throws SQLException {
         // prepare test data
@@ -428,4 +726,32 @@ public class PostgresqlTransactionManagerTest {
         // assert result
         // verify invocations
     }
-}
\ No newline at end of file
+
+
+    @Test
+    public void createPooledDataSource() {
+        // prepare test data
+        final DatabaseConfiguration databaseConfiguration = new DatabaseConfiguration();
+        databaseConfiguration.setPoolMinimumIdle(1);
+        databaseConfiguration.setPoolMaximumSize(5);
+        databaseConfiguration.setPoolIdleTimeout(20000);
+        databaseConfiguration.setPoolLeakDetectionThreshold(5000);
+
+        underTest = new PostgresqlTransactionManager(databaseConfiguration);
+
+        // call test method
+        final HikariDataSource actual = underTest.createPooledDataSource(dataSource);
+
+        // assert result
+        assertThat(actual.getDataSource()).isEqualTo(dataSource);
+        assertThat(actual.getMinimumIdle()).isEqualTo(1);
+        assertThat(actual.getMaximumPoolSize()).isEqualTo(5);
+        assertThat(actual.getIdleTimeout()).isEqualTo(20000);
+        assertThat(actual.getConnectionTestQuery()).isEqualTo("SELECT 1");
+        assertThat(actual.getLeakDetectionThreshold()).isEqualTo(5000);
+        assertThat(actual.isAutoCommit()).isFalse();
+
+        // verify invocations
+        verifyZeroInteractions(dataSource);
+    }
+}